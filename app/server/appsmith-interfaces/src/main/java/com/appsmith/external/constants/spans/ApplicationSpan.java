@@ -0,0 +1,14 @@
+package com.appsmith.external.constants.spans;
+
+import static com.appsmith.external.constants.spans.BaseSpan.APPSMITH_SPAN_PREFIX;
+
+public final class ApplicationSpan {
+
+    // Application import spans
+    public static final String IMPORT_DATASOURCES = APPSMITH_SPAN_PREFIX + "import.datasources";
+    public static final String IMPORT_APPLICATION = APPSMITH_SPAN_PREFIX + "import.application";
+    public static final String IMPORT_PAGES = APPSMITH_SPAN_PREFIX + "import.pages";
+    public static final String IMPORT_ACTIONS = APPSMITH_SPAN_PREFIX + "import.actions";
+    public static final String IMPORT_ACTION_COLLECTIONS = APPSMITH_SPAN_PREFIX + "import.actionCollections";
+    public static final String IMPORT_PAGE_LAYOUTS = APPSMITH_SPAN_PREFIX + "import.pageLayouts";
+}
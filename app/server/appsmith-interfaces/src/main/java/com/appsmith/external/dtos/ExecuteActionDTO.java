@@ -22,6 +22,15 @@ public class ExecuteActionDTO {
 
     PaginationField paginationField;
 
+    /*
+     * Opts in to paginated execution, for the plugins that support it: only the first `pageSize` rows of the result
+     * are returned, along with a continuation token when there are more. The next page is read by executing the action
+     * again with that token.
+     */
+    Integer pageSize;
+
+    String continuationToken;
+
     Boolean viewMode = false;
 
     /* Sample value of paramProperties
@@ -9,31 +9,13 @@ import com.appsmith.external.models.Param;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonSyntaxException;
-import com.google.gson.TypeAdapter;
-import com.google.gson.stream.JsonReader;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
-import org.bson.BsonInvalidOperationException;
-import org.bson.Document;
-import org.bson.json.JsonParseException;
 import reactor.core.Exceptions;
 
-import java.io.IOException;
-import java.io.StringReader;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.List;
@@ -42,7 +24,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.APPSMITH_SUBSTITUTION_PLACEHOLDER;
-import static org.apache.commons.lang3.ClassUtils.isPrimitiveOrWrapper;
 
 @Slf4j
 public class DataTypeStringUtils {
@@ -55,137 +36,11 @@ public class DataTypeStringUtils {
 
     private static ObjectMapper objectMapper = new ObjectMapper();
 
-    private static final TypeAdapter<JsonObject> strictGsonObjectAdapter = new Gson().getAdapter(JsonObject.class);
-
     @Deprecated(
             since =
                     "With the implementation of Data Type handling this function is marked as deprecated and is discouraged for further use")
     public static DataType stringToKnownDataTypeConverter(String input) {
-
-        if (input == null) {
-            return DataType.NULL;
-        }
-
-        String strNumericValue = input.trim().replaceAll(",", "");
-
-        if (input.startsWith("[") && input.endsWith("]")) {
-            String betweenBraces = input.substring(1, input.length() - 1);
-            String trimmedInputBetweenBraces = betweenBraces.trim();
-            // In case of no values in the array, set this as null. Otherwise plugins like postgres and ms-sql
-            // would break while creating a SQL array.
-            if (trimmedInputBetweenBraces.isEmpty()) {
-                return DataType.NULL;
-            }
-            return DataType.ARRAY;
-        }
-
-        try {
-            Integer.parseInt(strNumericValue);
-            return DataType.INTEGER;
-        } catch (NumberFormatException e) {
-            // Not an integer
-        }
-
-        try {
-            Long.parseLong(strNumericValue);
-            return DataType.LONG;
-        } catch (NumberFormatException e1) {
-            // Not long
-        }
-
-        try {
-            Float.parseFloat(strNumericValue);
-            return DataType.FLOAT;
-        } catch (NumberFormatException e2) {
-            // Not float
-        }
-
-        try {
-            Double.parseDouble(strNumericValue);
-            return DataType.DOUBLE;
-        } catch (NumberFormatException e3) {
-            // Not double
-        }
-
-        // Creating a copy of the input in lower case form to do simple string equality to check for boolean/null types.
-        String copyInput = String.valueOf(input).toLowerCase().trim();
-        if (copyInput.equals("true") || copyInput.equals("false")) {
-            return DataType.BOOLEAN;
-        }
-
-        if (copyInput.equals("null")) {
-            return DataType.NULL;
-        }
-
-        try {
-            final DateTimeFormatter dateTimeFormatter = new DateTimeFormatterBuilder()
-                    //                    .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"))
-                    .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
-                    .toFormatter();
-            LocalDateTime.parse(input, dateTimeFormatter);
-            return DataType.TIMESTAMP;
-        } catch (DateTimeParseException ex) {
-            // Not timestamp
-        }
-
-        try {
-            final DateTimeFormatter dateFormatter = new DateTimeFormatterBuilder()
-                    .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE)
-                    .toFormatter();
-            LocalDate.parse(input, dateFormatter);
-            return DataType.DATE;
-        } catch (DateTimeParseException ex) {
-            // Not date
-        }
-
-        try {
-            final DateTimeFormatter timeFormatter = new DateTimeFormatterBuilder()
-                    .appendOptional(DateTimeFormatter.ISO_LOCAL_TIME)
-                    .toFormatter();
-            LocalTime.parse(input, timeFormatter);
-            return DataType.TIME;
-        } catch (DateTimeParseException ex) {
-            // Not time
-        }
-
-        try (JsonReader reader = new JsonReader(new StringReader(input))) {
-            strictGsonObjectAdapter.read(reader);
-            reader.hasNext(); // throws on multiple top level values
-            return DataType.JSON_OBJECT;
-        } catch (IOException | JsonSyntaxException e) {
-            // Not a strict JSON object
-        }
-
-        try {
-            Document.parse(input);
-            return DataType.BSON;
-        } catch (JsonParseException | BsonInvalidOperationException e) {
-            // Not BSON
-        }
-
-        /**
-         * TODO : ASCII, Binary and Bytes Array
-         */
-
-        //        // Check if unicode stream also gets handled as part of this since the destination SQL type is the
-        // same.
-        //        if(StandardCharsets.US_ASCII.newEncoder().canEncode(input)) {
-        //            return Ascii.class;
-        //        }
-        //        if (isBinary(input)) {
-        //            return Binary.class;
-        //        }
-
-        //        try
-        //        {
-        //            input.getBytes("UTF-8");
-        //            return Byte.class;
-        //        } catch (UnsupportedEncodingException e) {
-        //            // Not byte
-        //        }
-
-        // default return type if none of the above matches.
-        return DataType.STRING;
+        return ScalarTypeClassifier.classify(input);
     }
 
     /**
@@ -301,65 +156,28 @@ public class DataTypeStringUtils {
         return true;
     }
 
-    private static boolean isDisplayTypeTable(Object data) {
-        if (data instanceof List) {
-            // Check if the data is a list of json objects
-            return ((List) data).stream().allMatch(item -> item instanceof Map);
-        } else if (data instanceof JsonNode) {
-            // Check if the data is an array of json objects
-            try {
-                objectMapper.convertValue(data, new TypeReference<List<Map<String, Object>>>() {});
-                return true;
-            } catch (IllegalArgumentException e) {
-                return false;
-            }
-        } else if (data instanceof String) {
-            // Check if the data is an array of json objects
-            try {
-                objectMapper.readValue((String) data, new TypeReference<List<Map<String, Object>>>() {});
-                return true;
-            } catch (IOException e) {
-                return false;
-            }
-        }
-
-        return false;
-    }
-
-    private static boolean isDisplayTypeJson(Object data) {
-        /*
-         * - Any non string non primitive object is converted into a json when serializing.
-         * - https://stackoverflow.com/questions/25039080/java-how-to-determine-if-type-is-any-of-primitive-wrapper-string-or-something/25039320
-         */
-        if (!isPrimitiveOrWrapper(data.getClass()) && !(data instanceof String)) {
-            return true;
-        } else if (data instanceof String) {
-            try {
-                objectMapper.readTree((String) data);
-                return true;
-            } catch (IOException e) {
-                return false;
-            }
-        }
-
-        return false;
+    public static List<ParsedDataType> getDisplayDataTypes(Object data) {
+        return getDisplayDataTypes(ResultShape.analyze(data));
     }
 
-    public static List<ParsedDataType> getDisplayDataTypes(Object data) {
+    /**
+     * @param shape : shape of the data, as analyzed once for all the consumers of an action execution result
+     */
+    public static List<ParsedDataType> getDisplayDataTypes(ResultShape shape) {
 
-        if (data == null) {
+        if (shape.getKind() == ResultShape.Kind.NULL) {
             return new ArrayList<>();
         }
 
         List<ParsedDataType> dataTypes = new ArrayList<>();
 
         // Check if the data is a valid table.
-        if (isDisplayTypeTable(data)) {
+        if (shape.isTable()) {
             dataTypes.add(new ParsedDataType(DisplayDataType.TABLE));
         }
 
         // Check if the data is a valid json.
-        if (isDisplayTypeJson(data)) {
+        if (shape.isJson()) {
             dataTypes.add(new ParsedDataType(DisplayDataType.JSON));
         }
 
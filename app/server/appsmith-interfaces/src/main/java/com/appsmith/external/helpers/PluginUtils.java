@@ -5,6 +5,7 @@ import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
@@ -56,9 +57,124 @@ public class PluginUtils {
 
     public static final TypeReference<Object> OBJECT_TYPE = new TypeReference<>() {};
 
+    // Index of the prepared statement setting in the plugin specified templates of SQL plugins
+    private static final int PREPARED_STATEMENT_INDEX = 0;
+
     // Pattern to match all words in the text
     private static final Pattern WORD_PATTERN = Pattern.compile("\\w+");
 
+    // Statements and clauses that write data or take locks, even as part of a query that reads rows
+    private static final Pattern DATA_MODIFYING_SQL_PATTERN = Pattern.compile(
+            "\\b(?:insert|update|delete|merge|upsert|truncate|drop|alter|create|grant|revoke|into|call|exec"
+                    + "|execute|nextval|setval|lock|share)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    // A name followed by an opening parenthesis, i.e. a function call or a keyword that precedes a parenthesis
+    private static final Pattern SQL_CALL_PATTERN = Pattern.compile("([\\w$.\"`]+)\\s*\\(");
+
+    // String literals and mustache bindings, whose content is not part of the statement
+    private static final Pattern SQL_LITERAL_OR_BINDING_PATTERN = Pattern.compile("'(?:[^']|'')*'|\\{\\{.*?}}");
+
+    /*
+     * Keywords that may precede a parenthesis, and built-in functions that only compute values. A query that calls any
+     * other function, e.g. a user defined one, may write data or have other side effects.
+     */
+    private static final Set<String> READ_ONLY_SQL_CALLS = Set.of(
+            "select",
+            "from",
+            "where",
+            "in",
+            "exists",
+            "any",
+            "all",
+            "some",
+            "as",
+            "with",
+            "values",
+            "on",
+            "and",
+            "or",
+            "not",
+            "join",
+            "using",
+            "over",
+            "filter",
+            "within",
+            "when",
+            "then",
+            "else",
+            "lateral",
+            "union",
+            "intersect",
+            "except",
+            "by",
+            "having",
+            "count",
+            "sum",
+            "avg",
+            "min",
+            "max",
+            "coalesce",
+            "nullif",
+            "greatest",
+            "least",
+            "lower",
+            "upper",
+            "length",
+            "char_length",
+            "substring",
+            "substr",
+            "trim",
+            "concat",
+            "concat_ws",
+            "replace",
+            "left",
+            "right",
+            "position",
+            "round",
+            "floor",
+            "ceil",
+            "ceiling",
+            "abs",
+            "mod",
+            "now",
+            "date_trunc",
+            "date_part",
+            "extract",
+            "to_char",
+            "to_date",
+            "to_timestamp",
+            "to_number",
+            "cast",
+            "array_agg",
+            "string_agg",
+            "json_agg",
+            "jsonb_agg",
+            "json_build_object",
+            "jsonb_build_object",
+            "row_to_json",
+            "to_json",
+            "to_jsonb",
+            "row_number",
+            "rank",
+            "dense_rank",
+            "lag",
+            "lead",
+            "first_value",
+            "last_value",
+            "date",
+            "ifnull",
+            "if",
+            "date_format",
+            "group_concat",
+            "unnest",
+            "generate_series",
+            "varchar",
+            "char",
+            "numeric",
+            "decimal",
+            "timestamp");
+
     /**
      * - Regex to match everything inside double or single quotes, including the quotes.
      * - e.g. Earth "revolves'" '"around"' "the" 'sun' will match:
@@ -307,6 +423,50 @@ public class PluginUtils {
         return formData;
     }
 
+    /**
+     * Tells whether the action of an SQL plugin sends its mustache bindings as prepared statement parameters. The
+     * setting is the first plugin specified template and defaults to true when it is missing.
+     */
+    public static boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+        final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+        if (properties == null
+                || properties.size() <= PREPARED_STATEMENT_INDEX
+                || properties.get(PREPARED_STATEMENT_INDEX) == null) {
+            return true;
+        }
+
+        Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
+        if (psValue instanceof Boolean) {
+            return (Boolean) psValue;
+        } else if (psValue instanceof String) {
+            return Boolean.parseBoolean((String) psValue);
+        }
+        return true;
+    }
+
+    /**
+     * Tells whether the SQL query only reads rows, so that its results may be shared between identical executions.
+     * The mustache bindings of the query are expected to be sent as prepared statement parameters, as a binding
+     * substituted into the query text could turn it into any statement.
+     *
+     * @return true if the query reads rows, doesn't write or lock them and only calls built-in functions
+     */
+    public static boolean isReadOnlyQuery(String query) {
+        if (!ResultCursor.isPaginatable(query)
+                || DATA_MODIFYING_SQL_PATTERN.matcher(query).find()) {
+            return false;
+        }
+
+        Matcher callMatcher = SQL_CALL_PATTERN.matcher(
+                SQL_LITERAL_OR_BINDING_PATTERN.matcher(query).replaceAll("?"));
+        while (callMatcher.find()) {
+            if (!READ_ONLY_SQL_CALLS.contains(callMatcher.group(1).toLowerCase())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static boolean endpointContainsLocalhost(Endpoint endpoint) {
         if (endpoint == null || StringUtils.isEmpty(endpoint.getHost())) {
             return false;
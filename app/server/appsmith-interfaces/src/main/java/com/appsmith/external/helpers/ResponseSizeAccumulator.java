@@ -0,0 +1,234 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.TabularResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the rows of a query result while keeping a running estimate of the size of the response that would be sent
+ * back for these rows. The size of every row is computed only once, when the row is added, so that enforcing the
+ * maximum response size stays linear in the number of rows. This replaces the earlier approach of serializing the whole
+ * list of rows with {@link Sizeof} at regular intervals, which was quadratic for large result sets.
+ *
+ * The estimate is close to the size of the JSON representation of the rows, which is what eventually gets sent over
+ * the wire.
+ *
+ * Rows must only be added through this accumulator, so that all of them are accounted for in the size of the response.
+ */
+public class ResponseSizeAccumulator {
+
+    // Accounts for the braces of every row object and the comma separating it from the next row.
+    private static final int ROW_OVERHEAD_BYTES = 3;
+
+    // Accounts for the quotes around the key, the colon and the comma separating it from the next entry.
+    private static final int ENTRY_OVERHEAD_BYTES = 4;
+
+    private static final int NULL_SIZE_BYTES = 4;
+
+    private static final int BOOLEAN_SIZE_BYTES = 5;
+
+    private static final int NUMBER_SIZE_BYTES = 8;
+
+    private final List<Map<String, Object>> rows;
+
+    @Getter
+    private final long maxSizeInBytes;
+
+    @Getter
+    private long sizeInBytes;
+
+    public ResponseSizeAccumulator(long maxSizeInBytes) {
+        this(maxSizeInBytes, 50);
+    }
+
+    public ResponseSizeAccumulator(long maxSizeInBytes, int initialCapacity) {
+        this(maxSizeInBytes, new ArrayList<>(initialCapacity));
+    }
+
+    /**
+     * @param maxSizeInBytes : maximum supported size of the response
+     * @param rows           : list the rows are added to, e.g. a {@link TabularResult}
+     */
+    public ResponseSizeAccumulator(long maxSizeInBytes, List<Map<String, Object>> rows) {
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.rows = rows;
+    }
+
+    /**
+     * Adds the row to the accumulated result.
+     *
+     * @param row : row to be added
+     * @return false if the accumulated size has gone beyond the configured maximum after adding this row, true otherwise
+     */
+    public boolean add(Map<String, Object> row) {
+        rows.add(row);
+        sizeInBytes += estimateRowSize(row);
+        return !isSizeLimitExceeded();
+    }
+
+    /**
+     * Adds a row made of the given column values. Only supported when the accumulator was created with a
+     * {@link TabularResult}.
+     *
+     * @return false if the accumulated size has gone beyond the configured maximum after adding this row, true otherwise
+     */
+    public boolean add(TabularResult.Columns columns, Object[] columnValues) {
+        if (!(rows instanceof TabularResult tabularResult)) {
+            throw new IllegalStateException("Rows made of column values can only be added to a tabular result");
+        }
+        Map<String, Object> row = tabularResult.addRow(columns, columnValues);
+        sizeInBytes += estimateRowSize(row);
+        return !isSizeLimitExceeded();
+    }
+
+    public boolean isSizeLimitExceeded() {
+        return sizeInBytes > maxSizeInBytes;
+    }
+
+    /**
+     * @return read-only view of the accumulated rows, e.g. to be set as the body of the action execution result
+     */
+    public List<Map<String, Object>> getRows() {
+        if (rows instanceof TabularResult tabularResult) {
+            return tabularResult.unmodifiableView();
+        }
+        return Collections.unmodifiableList(rows);
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * @return maximum supported size in MB, in the form used by the `RESPONSE_SIZE_TOO_LARGE` plugin errors.
+     */
+    public float getMaxSizeInMB() {
+        return (float) maxSizeInBytes / (1024 * 1024);
+    }
+
+    public static long estimateRowSize(Map<String, ?> row) {
+        // Iterating with `forEach` lets row implementations such as `TabularResult.Row` skip creating entry objects.
+        long[] size = {ROW_OVERHEAD_BYTES};
+        row.forEach((key, value) -> size[0] += ENTRY_OVERHEAD_BYTES + lengthOf(key) + estimateSize(value));
+        return size[0];
+    }
+
+    public static long estimateSize(Object value) {
+        if (value == null) {
+            return NULL_SIZE_BYTES;
+        }
+
+        if (value instanceof CharSequence charSequence) {
+            // Account for the quotes around the string.
+            return charSequence.length() + 2L;
+        }
+
+        if (value instanceof Boolean) {
+            return BOOLEAN_SIZE_BYTES;
+        }
+
+        if (value instanceof BigDecimal bigDecimal) {
+            return bigDecimal.precision() + 2L;
+        }
+
+        if (value instanceof BigInteger bigInteger) {
+            return (bigInteger.bitLength() / 3) + 2L;
+        }
+
+        if (value instanceof Number) {
+            return NUMBER_SIZE_BYTES;
+        }
+
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+
+        if (value instanceof JsonNode jsonNode) {
+            return estimateJsonNodeSize(jsonNode);
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            long size = 2;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += ENTRY_OVERHEAD_BYTES + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+            }
+            return size;
+        }
+
+        if (value instanceof Collection<?> collection) {
+            long size = 2;
+            for (Object item : collection) {
+                size += 1 + estimateSize(item);
+            }
+            return size;
+        }
+
+        if (value instanceof Object[] array) {
+            long size = 2;
+            for (Object item : array) {
+                size += 1 + estimateSize(item);
+            }
+            return size;
+        }
+
+        if (value.getClass().isArray()) {
+            // Arrays of primitives, other than byte[] which is handled above.
+            return (long) Array.getLength(value) * (NUMBER_SIZE_BYTES + 1) + 2;
+        }
+
+        return lengthOf(value.toString()) + 2L;
+    }
+
+    private static long estimateJsonNodeSize(JsonNode node) {
+        if (node.isTextual()) {
+            return node.textValue().length() + 2L;
+        }
+
+        if (node.isObject()) {
+            long size = 2;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                size += ENTRY_OVERHEAD_BYTES + field.getKey().length() + estimateJsonNodeSize(field.getValue());
+            }
+            return size;
+        }
+
+        if (node.isArray()) {
+            long size = 2;
+            for (JsonNode item : node) {
+                size += 1 + estimateJsonNodeSize(item);
+            }
+            return size;
+        }
+
+        if (node.isBinary()) {
+            // Binary nodes are serialized as Base64 text.
+            return ((long) node.asText().length()) + 2;
+        }
+
+        if (node.isNull() || node.isMissingNode()) {
+            return NULL_SIZE_BYTES;
+        }
+
+        if (node.isBoolean()) {
+            return BOOLEAN_SIZE_BYTES;
+        }
+
+        return NUMBER_SIZE_BYTES;
+    }
+
+    private static int lengthOf(String value) {
+        return value == null ? NULL_SIZE_BYTES : value.length();
+    }
+}
@@ -0,0 +1,162 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.TabularResult;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A JDBC result set that is read one page at a time, across several executions of the same query.
+ *
+ * The cursor holds on to the connection, the statement and the result set of the query between pages. The statement is
+ * expected to have been executed with a fetch size and, for drivers like Postgres that only stream results inside a
+ * transaction, with auto-commit turned off, so that every page only fetches the rows it returns from the database.
+ *
+ * To know whether there is a next page without a separate count, the first row after a page is read ahead and kept
+ * for the next page.
+ */
+@Slf4j
+public class ResultCursor implements AutoCloseable {
+
+    /*
+     * Leading comments and parentheses are skipped, the first keyword tells whether the query reads rows. Other
+     * statements are not paginated, so that they are not left in an open transaction between pages.
+     */
+    private static final Pattern READ_QUERY_PATTERN = Pattern.compile(
+            "^(?:\\s|--[^\\n]*(?:\\n|$)|/\\*.*?\\*/|\\()*(?:select|with|table|values)\\b",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    /**
+     * Reads the values of the current row of a result set, in column order.
+     */
+    @FunctionalInterface
+    public interface RowReader {
+        Object[] readRow(ResultSet resultSet, ResultSetMetaData metaData) throws SQLException, IOException;
+    }
+
+    private final Connection connection;
+
+    private final Statement statement;
+
+    private final ResultSet resultSet;
+
+    private final ResultSetMetaData metaData;
+
+    @Getter
+    private final List<String> columnNames;
+
+    private final TabularResult.Columns columns;
+
+    /*
+     * Identifies the query the cursor was opened for, so that a continuation token can only be used to read the
+     * results of that query.
+     */
+    @Getter
+    private final String owner;
+
+    // Number of rows that have been returned so far
+    @Getter
+    private long rowsRead;
+
+    private Object[] pendingRow;
+
+    @Getter
+    private boolean exhausted;
+
+    public ResultCursor(Connection connection, Statement statement, ResultSet resultSet, String owner)
+            throws SQLException {
+        this.connection = connection;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.metaData = resultSet.getMetaData();
+        this.columnNames = PluginUtils.getColumnsListForJdbcPlugin(metaData);
+        this.columns = new TabularResult.Columns(columnNames);
+        this.owner = owner;
+    }
+
+    /**
+     * @return true if the query reads rows and can be executed page by page
+     */
+    public static boolean isPaginatable(String query) {
+        return query != null && READ_QUERY_PATTERN.matcher(query).find();
+    }
+
+    /**
+     * Reads the next page of rows into the given result.
+     *
+     * @param pageSize    : maximum number of rows of the page
+     * @param rowReader   : reads the values of a row
+     * @param accumulator : tabular result the rows are added to, which tracks its size
+     * @return false if the result grew over its maximum size before the page was complete
+     */
+    public boolean readPage(int pageSize, RowReader rowReader, ResponseSizeAccumulator accumulator)
+            throws SQLException, IOException {
+        int count = 0;
+        if (pendingRow != null) {
+            if (!accumulator.add(columns, pendingRow)) {
+                return false;
+            }
+            pendingRow = null;
+            count++;
+        }
+
+        boolean hasNext = true;
+        while (count < pageSize && (hasNext = resultSet.next())) {
+            if (!accumulator.add(columns, rowReader.readRow(resultSet, metaData))) {
+                return false;
+            }
+            count++;
+        }
+
+        if (hasNext && resultSet.next()) {
+            pendingRow = rowReader.readRow(resultSet, metaData);
+        } else {
+            exhausted = true;
+        }
+
+        rowsRead += count;
+        return true;
+    }
+
+    /**
+     * Releases the result set and the statement, and returns the connection to its pool.
+     */
+    @Override
+    public void close() {
+        try {
+            resultSet.close();
+        } catch (SQLException e) {
+            log.debug("Error closing the result set of a result cursor", e);
+        }
+
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            log.debug("Error closing the statement of a result cursor", e);
+        }
+
+        try {
+            // The query has run to completion, its transaction is ended the way auto-commit would have ended it
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            log.debug("Error ending the transaction of a result cursor", e);
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Error returning the connection of a result cursor to its pool", e);
+        }
+    }
+}
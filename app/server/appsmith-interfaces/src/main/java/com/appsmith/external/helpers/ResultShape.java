@@ -0,0 +1,261 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.commons.lang3.ClassUtils.isPrimitiveOrWrapper;
+
+/**
+ * Describes the shape of the body of an action execution result: whether it can be displayed as a table or as json,
+ * how many rows it has, and the string and numeric fields of its first row. It's collected in a single pass over the
+ * body, without converting or copying it, and is used both to pick the display data types of the result and to
+ * suggest widgets for it.
+ *
+ * Lists and json arrays are built by the plugin and are expected to be homogeneous, so only a sample of their first
+ * rows is checked for being objects. String bodies are streamed through in full without being read into objects, as a
+ * string that is not valid json until its very end must not be displayed as json.
+ */
+@Getter
+public class ResultShape {
+
+    public enum Kind {
+        NULL,
+        // A java list, e.g. the rows of a query
+        LIST,
+        JSON_ARRAY,
+        JSON_OBJECT,
+        // Any other json node, like a text or a number node
+        JSON_VALUE,
+        STRING,
+        OTHER
+    }
+
+    public static final int DEFAULT_MAX_SAMPLED_ROWS = 1000;
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final Kind kind;
+
+    private boolean table;
+
+    private boolean json;
+
+    // Number of elements of a list or array, or of fields of an object, -1 for other bodies
+    private int rowCount = -1;
+
+    // Type of the first element of a list or array, null if there is none
+    private JsonNodeType firstRowType;
+
+    // Fields of the first row that hold strings and numbers, if it's an object
+    private final List<String> fields = new ArrayList<>();
+
+    private final List<String> numericFields = new ArrayList<>();
+
+    // First field of a json object that holds an array, and the fields of the first element of that array
+    private String nestedArrayField;
+
+    private int nestedRowCount = -1;
+
+    private final List<String> nestedFields = new ArrayList<>();
+
+    private final List<String> nestedNumericFields = new ArrayList<>();
+
+    private ResultShape(Kind kind) {
+        this.kind = kind;
+    }
+
+    public static ResultShape analyze(Object data) {
+        return analyze(data, DEFAULT_MAX_SAMPLED_ROWS);
+    }
+
+    /**
+     * @param data           : body of an action execution result
+     * @param maxSampledRows : number of rows of a list or json array that are checked for being objects
+     */
+    public static ResultShape analyze(Object data, int maxSampledRows) {
+        if (data == null) {
+            return new ResultShape(Kind.NULL);
+        }
+
+        ResultShape shape;
+        if (data instanceof String string) {
+            shape = new ResultShape(Kind.STRING);
+            shape.analyzeString(string);
+            return shape;
+        }
+
+        if (data instanceof ArrayNode arrayNode) {
+            shape = new ResultShape(Kind.JSON_ARRAY);
+            shape.analyzeArrayNode(arrayNode, maxSampledRows);
+        } else if (data instanceof JsonNode jsonNode) {
+            shape = new ResultShape(jsonNode.isObject() ? Kind.JSON_OBJECT : Kind.JSON_VALUE);
+            shape.analyzeJsonNode(jsonNode);
+        } else if (data instanceof List<?> list) {
+            shape = new ResultShape(Kind.LIST);
+            shape.analyzeList(list, maxSampledRows);
+        } else {
+            shape = new ResultShape(Kind.OTHER);
+        }
+
+        // Any non string non primitive object is converted into a json when serializing
+        shape.json = !isPrimitiveOrWrapper(data.getClass());
+        return shape;
+    }
+
+    private void analyzeList(List<?> list, int maxSampledRows) {
+        rowCount = list.size();
+        table = true;
+        int sampled = 0;
+        for (Object row : list) {
+            if (sampled++ >= maxSampledRows) {
+                break;
+            }
+            if (!(row instanceof Map)) {
+                table = false;
+                break;
+            }
+        }
+
+        if (list.isEmpty()) {
+            return;
+        }
+
+        Object firstRow = list.get(0);
+        if (firstRow instanceof Map<?, ?> map) {
+            firstRowType = JsonNodeType.OBJECT;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (entry.getValue() instanceof String) {
+                    fields.add((String) entry.getKey());
+                }
+                if (entry.getValue() instanceof Number) {
+                    numericFields.add((String) entry.getKey());
+                }
+            }
+        } else if (firstRow == null) {
+            firstRowType = JsonNodeType.NULL;
+        } else if (firstRow instanceof String) {
+            firstRowType = JsonNodeType.STRING;
+        } else if (firstRow instanceof Number) {
+            firstRowType = JsonNodeType.NUMBER;
+        } else if (firstRow instanceof List) {
+            firstRowType = JsonNodeType.ARRAY;
+        } else {
+            firstRowType = JsonNodeType.POJO;
+        }
+    }
+
+    private void analyzeArrayNode(ArrayNode arrayNode, int maxSampledRows) {
+        rowCount = arrayNode.size();
+        table = true;
+        int sampled = 0;
+        for (JsonNode row : arrayNode) {
+            if (sampled++ >= maxSampledRows) {
+                break;
+            }
+            if (!row.isObject() && !row.isNull()) {
+                table = false;
+                break;
+            }
+        }
+
+        if (arrayNode.isEmpty()) {
+            return;
+        }
+
+        JsonNode firstRow = arrayNode.get(0);
+        firstRowType = firstRow.getNodeType();
+        collectFields(firstRow.fields(), fields, numericFields);
+    }
+
+    private void analyzeJsonNode(JsonNode jsonNode) {
+        rowCount = jsonNode.size();
+        // A null node converts to a null list of rows
+        table = jsonNode.isNull();
+        if (!jsonNode.isObject()) {
+            return;
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> iterator = jsonNode.fields();
+        while (iterator.hasNext()) {
+            Map.Entry<String, JsonNode> field = iterator.next();
+            JsonNodeType type = field.getValue().getNodeType();
+            if (JsonNodeType.STRING.equals(type)) {
+                fields.add(field.getKey());
+            } else if (JsonNodeType.NUMBER.equals(type)) {
+                numericFields.add(field.getKey());
+            } else if (JsonNodeType.ARRAY.equals(type) && nestedArrayField == null) {
+                nestedArrayField = field.getKey();
+                JsonNode nestedArray = field.getValue();
+                nestedRowCount = nestedArray.size();
+                if (!nestedArray.isEmpty()) {
+                    collectFields(nestedArray.get(0).fields(), nestedFields, nestedNumericFields);
+                }
+            }
+        }
+    }
+
+    private static void collectFields(
+            Iterator<Map.Entry<String, JsonNode>> iterator, List<String> fields, List<String> numericFields) {
+        while (iterator.hasNext()) {
+            Map.Entry<String, JsonNode> field = iterator.next();
+            JsonNodeType type = field.getValue().getNodeType();
+            if (JsonNodeType.STRING.equals(type)) {
+                fields.add(field.getKey());
+            } else if (JsonNodeType.NUMBER.equals(type)) {
+                numericFields.add(field.getKey());
+            }
+        }
+    }
+
+    /**
+     * Streams through the first json value of the string. The string is json if that value is valid, and a table if
+     * it's an array of objects. Like when reading it with an object mapper, anything after the first value is ignored.
+     */
+    private void analyzeString(String data) {
+        try (JsonParser parser = jsonFactory.createParser(data)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                // Empty content reads as a missing node, but not as a list of rows
+                json = true;
+                return;
+            }
+
+            if (token == JsonToken.START_ARRAY) {
+                boolean allObjects = true;
+                int rows = 0;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new IOException("Unexpected end of content");
+                    }
+                    if (token != JsonToken.START_OBJECT && token != JsonToken.VALUE_NULL) {
+                        allObjects = false;
+                    }
+                    parser.skipChildren();
+                    rows++;
+                }
+                rowCount = rows;
+                table = allObjects;
+            } else {
+                // A json null reads as a null list of rows
+                table = token == JsonToken.VALUE_NULL;
+                parser.skipChildren();
+            }
+            json = true;
+        } catch (IOException e) {
+            table = false;
+            json = false;
+            rowCount = -1;
+        }
+    }
+}
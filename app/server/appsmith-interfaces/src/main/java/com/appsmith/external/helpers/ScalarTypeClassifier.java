@@ -0,0 +1,457 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.constants.DataType;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import org.bson.BsonInvalidOperationException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Infers the data type of a value bound into a query, the same way as trying every known type's parser in turn, but
+ * with a single scan over the value which neither throws nor allocates for the usual integers, decimals, booleans,
+ * nulls, dates, times, timestamps and plain strings.
+ *
+ * The scan only hands a value to the parsers when it can't decide on it alone: numbers written in the rarer forms the
+ * parsers accept (hex, NaN, Infinity, type suffixes, non ascii digits), dates with out of range or unusual fields, and
+ * values that start like a json object.
+ */
+public class ScalarTypeClassifier {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = new DateTimeFormatterBuilder()
+            .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+            .toFormatter();
+
+    private static final DateTimeFormatter DATE_FORMATTER = new DateTimeFormatterBuilder()
+            .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE)
+            .toFormatter();
+
+    private static final DateTimeFormatter TIME_FORMATTER = new DateTimeFormatterBuilder()
+            .appendOptional(DateTimeFormatter.ISO_LOCAL_TIME)
+            .toFormatter();
+
+    private static final TypeAdapter<JsonObject> strictGsonObjectAdapter = new Gson().getAdapter(JsonObject.class);
+
+    // Letters that may appear in numbers in the rarer forms accepted by the number parsers
+    private static final String NUMBER_PARSER_LETTERS = "aAbBcCdDfFiInNpPtTxXyY";
+
+    private static final String TEMPORAL_CHARACTERS = "0123456789+-:. ";
+
+    public static DataType classify(String input) {
+
+        if (input == null) {
+            return DataType.NULL;
+        }
+
+        int length = input.length();
+        if (length >= 2 && input.charAt(0) == '[' && input.charAt(length - 1) == ']') {
+            // In case of no values in the array, set this as null. Otherwise plugins like postgres and ms-sql
+            // would break while creating a SQL array.
+            for (int i = 1; i < length - 1; i++) {
+                if (input.charAt(i) > ' ') {
+                    return DataType.ARRAY;
+                }
+            }
+            return DataType.NULL;
+        }
+
+        int start = 0;
+        int end = length;
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        DataType numberType = classifyNumber(input, start, end);
+        if (numberType != null) {
+            return numberType;
+        }
+
+        if (equalsIgnoreAsciiCase(input, start, end, "true") || equalsIgnoreAsciiCase(input, start, end, "false")) {
+            return DataType.BOOLEAN;
+        }
+
+        if (equalsIgnoreAsciiCase(input, start, end, "null")) {
+            return DataType.NULL;
+        }
+
+        DataType temporalType = classifyTemporal(input);
+        if (temporalType != null) {
+            return temporalType;
+        }
+
+        if (startsLikeObject(input)) {
+            try (JsonReader reader = new JsonReader(new StringReader(input))) {
+                strictGsonObjectAdapter.read(reader);
+                reader.hasNext(); // throws on multiple top level values
+                return DataType.JSON_OBJECT;
+            } catch (IOException | JsonSyntaxException e) {
+                // Not a strict JSON object
+            }
+
+            try {
+                Document.parse(input);
+                return DataType.BSON;
+            } catch (JsonParseException | BsonInvalidOperationException e) {
+                // Not BSON
+            }
+        }
+
+        // default return type if none of the above matches.
+        return DataType.STRING;
+    }
+
+    /**
+     * Infers the data type of a column from all its values. Empty and null values don't count, integers and longs
+     * widen into longs, and any of them along with decimals widen into the decimal type. Values of any other mix of
+     * types can only be handled as strings.
+     *
+     * @return NULL if the column has no values
+     */
+    public static DataType classifyColumn(Iterable<String> values) {
+        DataType columnType = DataType.NULL;
+        for (String value : values) {
+            if (value == null || value.isEmpty()) {
+                continue;
+            }
+
+            DataType valueType = classify(value);
+            if (valueType == DataType.NULL || valueType == columnType) {
+                continue;
+            }
+            if (columnType == DataType.NULL) {
+                columnType = valueType;
+            } else if (isNumber(columnType) && isNumber(valueType)) {
+                columnType = widerNumber(columnType, valueType);
+            } else {
+                return DataType.STRING;
+            }
+        }
+        return columnType;
+    }
+
+    private static boolean isNumber(DataType dataType) {
+        return dataType == DataType.INTEGER
+                || dataType == DataType.LONG
+                || dataType == DataType.FLOAT
+                || dataType == DataType.DOUBLE;
+    }
+
+    private static DataType widerNumber(DataType first, DataType second) {
+        // Numeric data types are declared from the narrowest to the widest
+        return first.ordinal() > second.ordinal() ? first : second;
+    }
+
+    /**
+     * Classifies the trimmed value as a number, ignoring commas like the integer and decimal parsers would after
+     * they've been removed.
+     *
+     * @return null if the value isn't a number
+     */
+    private static DataType classifyNumber(String input, int start, int end) {
+        boolean isFirst = true;
+        boolean isNegative = false;
+        boolean hasPoint = false;
+        boolean hasExponent = false;
+        boolean isAfterExponent = false;
+        int integerDigits = 0;
+        int fractionDigits = 0;
+        int exponentDigits = 0;
+        boolean needsParsing = false;
+        boolean isMalformed = false;
+        boolean overflows = false;
+        // Accumulated negatively, like Long.parseLong does, to reach Long.MIN_VALUE
+        long value = 0;
+
+        int last = end - 1;
+        while (last >= start && (input.charAt(last) == ',' || input.charAt(last) <= ' ')) {
+            last--;
+        }
+
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c == ',') {
+                continue;
+            }
+
+            if (c <= ' ') {
+                if (isFirst || i > last) {
+                    // Whitespace left at the ends once commas are removed, which only the decimal parsers trim
+                    needsParsing = true;
+                    continue;
+                }
+                return null;
+            }
+
+            if (needsParsing || isMalformed) {
+                // Only looking for characters that the parsers might still accept the value with
+                if (isParserOnlyCharacter(c)) {
+                    needsParsing = true;
+                } else if (!isNumberCharacter(c)) {
+                    return null;
+                }
+                continue;
+            }
+
+            boolean wasAfterExponent = isAfterExponent;
+            isAfterExponent = false;
+            if (c >= '0' && c <= '9') {
+                if (hasExponent) {
+                    exponentDigits++;
+                } else if (hasPoint) {
+                    fractionDigits++;
+                } else {
+                    integerDigits++;
+                    if (!overflows) {
+                        long limit = isNegative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+                        int digit = c - '0';
+                        if (value < limit / 10 || value * 10 < limit + digit) {
+                            overflows = true;
+                        } else {
+                            value = value * 10 - digit;
+                        }
+                    }
+                }
+            } else if ((c == '+' || c == '-') && (isFirst || wasAfterExponent)) {
+                if (isFirst) {
+                    isNegative = c == '-';
+                }
+            } else if (c == '.' && !hasPoint && !hasExponent) {
+                hasPoint = true;
+            } else if ((c == 'e' || c == 'E') && !hasExponent && integerDigits + fractionDigits > 0) {
+                hasExponent = true;
+                isAfterExponent = true;
+            } else if (isParserOnlyCharacter(c)) {
+                needsParsing = true;
+            } else if (isNumberCharacter(c)) {
+                isMalformed = true;
+            } else {
+                return null;
+            }
+            isFirst = false;
+        }
+
+        if (needsParsing) {
+            return parseNumber(input.substring(start, end).replace(",", ""));
+        }
+
+        if (isMalformed) {
+            return null;
+        }
+
+        if (integerDigits + fractionDigits == 0 || (hasExponent && exponentDigits == 0)) {
+            return null;
+        }
+
+        if (hasPoint || hasExponent || overflows) {
+            // Any decimal, or integer too large for a long, is read as a float
+            return DataType.FLOAT;
+        }
+
+        long number = isNegative ? value : -value;
+        if (number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+            return DataType.INTEGER;
+        }
+        return DataType.LONG;
+    }
+
+    private static boolean isNumberCharacter(char c) {
+        return (c >= '0' && c <= '9') || c == '+' || c == '-' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    /**
+     * Characters that are only found in numbers written in the rarer forms left to the parsers
+     */
+    private static boolean isParserOnlyCharacter(char c) {
+        return c > 127 || NUMBER_PARSER_LETTERS.indexOf(c) >= 0;
+    }
+
+    private static DataType parseNumber(String strNumericValue) {
+        try {
+            Integer.parseInt(strNumericValue);
+            return DataType.INTEGER;
+        } catch (NumberFormatException e) {
+            // Not an integer
+        }
+
+        try {
+            Long.parseLong(strNumericValue);
+            return DataType.LONG;
+        } catch (NumberFormatException e1) {
+            // Not long
+        }
+
+        try {
+            Float.parseFloat(strNumericValue);
+            return DataType.FLOAT;
+        } catch (NumberFormatException e2) {
+            // Not float
+        }
+
+        try {
+            Double.parseDouble(strNumericValue);
+            return DataType.DOUBLE;
+        } catch (NumberFormatException e3) {
+            // Not double
+        }
+
+        return null;
+    }
+
+    private static boolean equalsIgnoreAsciiCase(String input, int start, int end, String lowerCaseWord) {
+        if (end - start != lowerCaseWord.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (c != lowerCaseWord.charAt(i - start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Recognises the usual `yyyy-MM-dd HH:mm:ss` timestamps, ISO dates and ISO times by their shape. Values that only
+     * look like one of them, e.g. with out of range fields or signed years, are checked with the parsers.
+     *
+     * @return null if the value is none of them
+     */
+    private static DataType classifyTemporal(String input) {
+        int length = input.length();
+        if (length == 0) {
+            return null;
+        }
+
+        char first = input.charAt(0);
+        if (!(first >= '0' && first <= '9') && first != '+' && first != '-') {
+            return null;
+        }
+
+        if (length == 19 && isDate(input, 0) && input.charAt(10) == ' ' && isTime(input, 11, 8)) {
+            if (digits(input, 0, 4) > 0) {
+                return DataType.TIMESTAMP;
+            }
+        } else if (length == 10 && isDate(input, 0)) {
+            return DataType.DATE;
+        } else if ((length == 5 || length == 8 || (length >= 10 && length <= 18)) && isTime(input, 0, length)) {
+            return DataType.TIME;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (TEMPORAL_CHARACTERS.indexOf(input.charAt(i)) < 0) {
+                return null;
+            }
+        }
+        return parseTemporal(input);
+    }
+
+    private static DataType parseTemporal(String input) {
+        try {
+            LocalDateTime.parse(input, TIMESTAMP_FORMATTER);
+            return DataType.TIMESTAMP;
+        } catch (DateTimeParseException ex) {
+            // Not timestamp
+        }
+
+        try {
+            LocalDate.parse(input, DATE_FORMATTER);
+            return DataType.DATE;
+        } catch (DateTimeParseException ex) {
+            // Not date
+        }
+
+        try {
+            LocalTime.parse(input, TIME_FORMATTER);
+            return DataType.TIME;
+        } catch (DateTimeParseException ex) {
+            // Not time
+        }
+
+        return null;
+    }
+
+    /**
+     * Whether there is a `yyyy-MM-dd` date with a valid month and day at the offset
+     */
+    private static boolean isDate(String input, int offset) {
+        if (input.charAt(offset + 4) != '-' || input.charAt(offset + 7) != '-') {
+            return false;
+        }
+        int month = digits(input, offset + 5, 2);
+        int day = digits(input, offset + 8, 2);
+        return digits(input, offset, 4) >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= 31;
+    }
+
+    /**
+     * Whether the value at the offset is an `HH:mm`, `HH:mm:ss` or `HH:mm:ss.SSSSSSSSS` time with valid fields
+     */
+    private static boolean isTime(String input, int offset, int length) {
+        if (input.charAt(offset + 2) != ':') {
+            return false;
+        }
+        int hour = digits(input, offset, 2);
+        int minute = digits(input, offset + 3, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return false;
+        }
+        if (length == 5) {
+            return true;
+        }
+
+        if (input.charAt(offset + 5) != ':') {
+            return false;
+        }
+        int second = digits(input, offset + 6, 2);
+        if (second < 0 || second > 59) {
+            return false;
+        }
+        if (length == 8) {
+            return true;
+        }
+
+        return input.charAt(offset + 8) == '.' && digits(input, offset + 9, length - 9) >= 0;
+    }
+
+    /**
+     * @return the value of the ascii digits at the offset, or -1 if they are not all digits
+     */
+    private static int digits(String input, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean startsLikeObject(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{';
+            }
+        }
+        return false;
+    }
+}
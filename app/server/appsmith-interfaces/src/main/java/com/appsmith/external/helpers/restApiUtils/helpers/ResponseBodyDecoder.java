@@ -0,0 +1,252 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Decodes the body of an API response while it is being received, instead of first collecting it into a byte array
+ * and then copying that array into a String. JSON is tokenized with Jackson's non-blocking parser as the buffers
+ * arrive, and binary content is Base64 encoded chunk by chunk, so the network buffers are released as soon as they
+ * have been read rather than held until the whole response is in.
+ */
+public class ResponseBodyDecoder {
+
+    // Raw bytes of a JSON body kept to fall back to its text if it is malformed further on, e.g. a short error reply
+    private static final int MAX_RAW_JSON_BYTES = 16 * 1024;
+
+    private ResponseBodyDecoder() {}
+
+    /**
+     * The decoded JSON body, or the raw text of the body if it is not valid JSON.
+     */
+    public record JsonBody(JsonNode json, String text) {}
+
+    /**
+     * Fails the body as soon as more than the given number of bytes have been received, with the same exception that
+     * the codecs raise when their in memory limit is exceeded.
+     *
+     * @param body     The body of the response
+     * @param maxBytes The maximum size of the body, or -1 for no limit
+     * @return The body, failing once it grows over the limit
+     */
+    public static Flux<DataBuffer> limitSize(Flux<DataBuffer> body, int maxBytes) {
+        if (maxBytes < 0) {
+            return body;
+        }
+
+        return Flux.defer(() -> {
+            long[] received = {0};
+            return body.handle((buffer, sink) -> {
+                received[0] += buffer.readableByteCount();
+                if (received[0] > maxBytes) {
+                    DataBufferUtils.release(buffer);
+                    sink.error(new DataBufferLimitException("Exceeded limit on max bytes to buffer : " + maxBytes));
+                } else {
+                    sink.next(buffer);
+                }
+            });
+        });
+    }
+
+    /**
+     * Parses the body as JSON while it is received. Only the first JSON value of the body is read, any content after it
+     * is ignored. If the body is not valid JSON, its raw text is returned instead, unless it was valid JSON for more
+     * than {@link #MAX_RAW_JSON_BYTES}, in which case the decoding fails with a `PLUGIN_ERROR`.
+     *
+     * @return The decoded body, empty if the response has no body
+     */
+    public static Mono<JsonBody> decodeJson(Flux<DataBuffer> body, ObjectMapper objectMapper) {
+        return Mono.using(
+                () -> new JsonTreeBuilder(objectMapper),
+                builder -> body.doOnNext(builder::feed).then(Mono.fromCallable(builder::finish)),
+                JsonTreeBuilder::release);
+    }
+
+    /**
+     * Decodes the body as UTF-8 text, with leading and trailing whitespace removed.
+     *
+     * @return The text, empty if the response has no body
+     */
+    public static Mono<String> decodeText(Flux<DataBuffer> body) {
+        return DataBufferUtils.join(body).map(ResponseBodyDecoder::toText);
+    }
+
+    /**
+     * Base64 encodes the body while it is received, releasing every buffer as soon as it has been encoded.
+     *
+     * @param body          The body of the response
+     * @param contentLength The length of the body if known, or -1, used to size the encoded string up front
+     * @return The encoded body, empty if the response has no body
+     */
+    public static Mono<String> encodeBase64(Flux<DataBuffer> body, long contentLength) {
+        return Mono.defer(() -> {
+            long encodedLength = contentLength > 0 ? (contentLength + 2) / 3 * 4 : 0;
+            ByteArrayOutputStream encoded =
+                    new ByteArrayOutputStream((int) Math.min(encodedLength, Integer.MAX_VALUE - 8));
+            OutputStream encoder = Base64.getEncoder().wrap(encoded);
+            boolean[] received = {false};
+            return body.handle((DataBuffer buffer, SynchronousSink<Object> sink) -> {
+                        received[0] = true;
+                        try {
+                            writeTo(buffer, encoder);
+                        } catch (IOException e) {
+                            sink.error(e);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .then(Mono.fromCallable(() -> {
+                        if (!received[0]) {
+                            return null;
+                        }
+                        // Closing the encoder writes the last, padded, group
+                        encoder.close();
+                        return encoded.toString(StandardCharsets.US_ASCII);
+                    }));
+        });
+    }
+
+    private static void writeTo(DataBuffer buffer, OutputStream outputStream) throws IOException {
+        byte[] chunk = new byte[Math.min(buffer.readableByteCount(), 8192)];
+        int readable;
+        while ((readable = buffer.readableByteCount()) > 0) {
+            int length = Math.min(readable, chunk.length);
+            buffer.read(chunk, 0, length);
+            outputStream.write(chunk, 0, length);
+        }
+    }
+
+    private static String toText(DataBuffer buffer) {
+        try {
+            return buffer.toString(StandardCharsets.UTF_8).trim();
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * Copies the tokens of the first JSON value of the body into a token buffer as the body is received, and releases
+     * every buffer as soon as it has been parsed. The raw bytes are copied aside to fall back to the text of bodies that
+     * are not JSON, e.g. an HTML error page, but only until the body has started as JSON and grown over
+     * {@link #MAX_RAW_JSON_BYTES}, so that a large JSON body is not held in memory both as text and as tokens.
+     */
+    private static class JsonTreeBuilder {
+        private final ObjectMapper objectMapper;
+        private final JsonParser parser;
+        private final TokenBuffer tokens;
+        // Null once the body is a large JSON, whose raw text is not kept
+        private ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private long receivedBytes;
+        private boolean receivedAny;
+        private boolean invalid;
+        private boolean complete;
+
+        JsonTreeBuilder(ObjectMapper objectMapper) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.getFactory().createNonBlockingByteBufferParser();
+            this.tokens = new TokenBuffer(parser);
+            this.tokens.forceUseOfBigDecimal(objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+        }
+
+        private ByteBufferFeeder feeder() {
+            return (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        void feed(DataBuffer buffer) {
+            receivedAny = true;
+            receivedBytes += buffer.readableByteCount();
+            try {
+                if (!invalid && !complete) {
+                    try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                        while (iterator.hasNext() && !complete) {
+                            feeder().feedInput(iterator.next());
+                            copyAvailableTokens();
+                        }
+                    } catch (IOException e) {
+                        invalid = true;
+                    }
+                }
+
+                if (received != null && !invalid && receivedBytes > MAX_RAW_JSON_BYTES) {
+                    // The body is a large JSON, its raw text is not kept alongside the parsed tokens
+                    received = null;
+                } else if (received != null) {
+                    // Feeding the parser doesn't move the read position of the buffer
+                    writeTo(buffer, received);
+                }
+            } catch (IOException e) {
+                // Not thrown when writing to memory
+                throw new UncheckedIOException(e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        private void copyAvailableTokens() throws IOException {
+            JsonToken token;
+            while (!complete && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                tokens.copyCurrentEvent(parser);
+                // Back in the root context once the first value is closed, or right away for a scalar value
+                complete = parser.getParsingContext().inRoot();
+            }
+        }
+
+        JsonBody finish() {
+            if (!receivedAny) {
+                return null;
+            }
+
+            if (!invalid) {
+                try {
+                    if (!complete) {
+                        feeder().endOfInput();
+                        copyAvailableTokens();
+                    }
+                    JsonNode json = objectMapper.readTree(tokens.asParser(objectMapper));
+                    return new JsonBody(json == null ? MissingNode.getInstance() : json, null);
+                } catch (IOException e) {
+                    invalid = true;
+                }
+            }
+
+            if (received == null) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_ERROR,
+                        "The response is not valid JSON. It was only found to be malformed after its first "
+                                + MAX_RAW_JSON_BYTES / 1024
+                                + " KB, when its text was no longer kept, so it can't be returned as text either.");
+            }
+            return new JsonBody(null, received.toString(StandardCharsets.UTF_8).trim());
+        }
+
+        void release() {
+            try {
+                parser.close();
+                tokens.close();
+            } catch (IOException e) {
+                // Nothing to release
+            }
+        }
+    }
+}
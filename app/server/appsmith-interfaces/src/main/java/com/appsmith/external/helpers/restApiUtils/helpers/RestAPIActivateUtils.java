@@ -2,7 +2,6 @@ package com.appsmith.external.helpers.restApiUtils.helpers;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
-import com.appsmith.external.helpers.SSLHelper;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
 import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
 import com.appsmith.external.models.ActionConfiguration;
@@ -10,35 +9,34 @@ import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
+import com.appsmith.external.services.HttpConnectionProviderRegistry;
 import com.appsmith.util.WebClientUtils;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.NoArgsConstructor;
-import org.bson.internal.Base64;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
 
 import javax.crypto.SecretKey;
-import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
@@ -48,6 +46,7 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
 @NoArgsConstructor
+@Slf4j
 public class RestAPIActivateUtils {
 
     public static final String SIGNATURE_HEADER_NAME = "X-APPSMITH-SIGNATURE";
@@ -70,103 +69,116 @@ public class RestAPIActivateUtils {
             ObjectMapper objectMapper,
             Set<String> hintMessages,
             ActionExecutionResult errorResult,
-            RequestCaptureFilter requestCaptureFilter) {
-        return httpCall(client, httpMethod, uri, requestBody, 0)
-                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                .map(stringResponseEntity -> {
-                    HttpHeaders headers = stringResponseEntity.getHeaders();
-                    /*
-                       Find the media type of the response to parse the body as required. In case the content-type
-                       header is not present in the response then set it to our default i.e. "text/plain" although
-                       the RFC 7231 standard suggests assuming "application/octet-stream" content-type in case
-                       it's not present in response header.
-                    */
-                    MediaType contentType = headers.getContentType();
-                    if (contentType == null) {
-                        contentType = MediaType.TEXT_PLAIN;
-                    }
-                    byte[] body = stringResponseEntity.getBody();
-                    HttpStatusCode statusCode = stringResponseEntity.getStatusCode();
-
-                    ActionExecutionResult result = new ActionExecutionResult();
-
-                    // Set the request fields
-                    boolean isBodySentWithApiRequest = requestBody == null ? false : true;
-                    result.setRequest(requestCaptureFilter.populateRequestFields(
-                            actionExecutionRequest, isBodySentWithApiRequest));
-
-                    result.setStatusCode(statusCode.toString());
-                    result.setIsExecutionSuccess(statusCode.is2xxSuccessful());
-
-                    // Convert the headers into json tree to store in the results
-                    String headerInJsonString;
-                    try {
-                        headerInJsonString = objectMapper.writeValueAsString(headers);
-                    } catch (JsonProcessingException e) {
-                        throw Exceptions.propagate(e);
-                    }
-
-                    // Set headers in the result now
-                    try {
-                        result.setHeaders(objectMapper.readTree(headerInJsonString));
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR, headerInJsonString, e.getMessage()));
-                    }
-
-                    if (body != null) {
-
-                        ResponseDataType responseDataType = ResponseDataType.UNDEFINED;
-
-                        /**TODO
-                         * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
-                         * are kept as is and returned as a string.
-                         */
-                        if (contentType.includes(MediaType.APPLICATION_JSON)) {
-                            try {
-                                String jsonBody = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(objectMapper.readTree(jsonBody));
-                                responseDataType = ResponseDataType.JSON;
-                            } catch (IOException e) {
-                                System.out.println("Unable to parse response JSON. Setting response body as string.");
-                                String bodyString = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(bodyString.trim());
-
-                                // Warn user that the API response is not a valid JSON.
-                                hintMessages.add("The response returned by this API is not a valid JSON. Please "
-                                        + "be careful when using the API response anywhere a valid JSON is required"
-                                        + ". You may resolve this issue either by modifying the 'Content-Type' "
-                                        + "Header to indicate a non-JSON response or by modifying the API response "
-                                        + "to return a valid JSON.");
-                            }
-                        } else if (MediaType.IMAGE_GIF.equals(contentType)
-                                || MediaType.IMAGE_JPEG.equals(contentType)
-                                || MediaType.IMAGE_PNG.equals(contentType)) {
-                            String encode = Base64.encode(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.IMAGE;
-
-                        } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
-                            String encode = Base64.encode(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.BINARY;
-                        } else {
-                            // If the body is not of JSON type, just set it as is.
-                            String bodyString = new String(body, StandardCharsets.UTF_8);
-                            result.setBody(bodyString.trim());
-                            responseDataType = ResponseDataType.TEXT;
-                        }
+            RequestCaptureFilter requestCaptureFilter,
+            int maxResponseSize) {
+        return httpCall(client, httpMethod, uri, requestBody, 0).flatMap(clientResponse -> {
+            HttpHeaders headers = clientResponse.headers().asHttpHeaders();
+            /*
+               Find the media type of the response to parse the body as required. In case the content-type
+               header is not present in the response then set it to our default i.e. "text/plain" although
+               the RFC 7231 standard suggests assuming "application/octet-stream" content-type in case
+               it's not present in response header.
+            */
+            MediaType contentType = headers.getContentType();
+            if (contentType == null) {
+                contentType = MediaType.TEXT_PLAIN;
+            }
+            HttpStatusCode statusCode = clientResponse.statusCode();
+
+            ActionExecutionResult result = new ActionExecutionResult();
+
+            // Set the request fields
+            boolean isBodySentWithApiRequest = requestBody == null ? false : true;
+            result.setRequest(
+                    requestCaptureFilter.populateRequestFields(actionExecutionRequest, isBodySentWithApiRequest));
+
+            result.setStatusCode(statusCode.toString());
+            result.setIsExecutionSuccess(statusCode.is2xxSuccessful());
+
+            // Set headers in the result now
+            ObjectNode headersObjectNode = getHeadersNode(headers, objectMapper);
+            result.setHeaders(headersObjectNode);
+
+            // The body is decoded as it arrives, and fails as soon as it grows over the limit
+            Flux<DataBuffer> body =
+                    ResponseBodyDecoder.limitSize(clientResponse.body(BodyExtractors.toDataBuffers()), maxResponseSize);
+
+            return decodeBody(result, body, contentType, headers.getContentLength(), objectMapper, hintMessages)
+                    // Now add a new header which specifies the data type of the response as per Appsmith
+                    .doOnNext(responseDataType ->
+                            headersObjectNode.putArray(RESPONSE_DATA_TYPE).add(String.valueOf(responseDataType)))
+                    .then(Mono.fromSupplier(() -> {
+                        result.setMessages(hintMessages);
+                        return result;
+                    }));
+        });
+    }
 
-                        // Now add a new header which specifies the data type of the response as per Appsmith
-                        JsonNode headersJsonNode = result.getHeaders();
-                        ObjectNode headersObjectNode = (ObjectNode) headersJsonNode;
-                        headersObjectNode.putArray(RESPONSE_DATA_TYPE).add(String.valueOf(responseDataType));
-                        result.setHeaders(headersObjectNode);
-                    }
+    /**
+     * Builds the JSON form of the response headers, a list of values for every header name.
+     */
+    protected ObjectNode getHeadersNode(HttpHeaders headers, ObjectMapper objectMapper) {
+        ObjectNode headersObjectNode = objectMapper.createObjectNode();
+        headers.forEach((name, values) -> {
+            ArrayNode valuesNode = headersObjectNode.putArray(name);
+            values.forEach(valuesNode::add);
+        });
+        return headersObjectNode;
+    }
 
-                    result.setMessages(hintMessages);
-                    return result;
-                });
+    /**
+     * Sets the body of the response on the result, decoded as per its content type.
+     *
+     * @return The data type of the body, empty if the response has no body
+     */
+    protected Mono<ResponseDataType> decodeBody(
+            ActionExecutionResult result,
+            Flux<DataBuffer> body,
+            MediaType contentType,
+            long contentLength,
+            ObjectMapper objectMapper,
+            Set<String> hintMessages) {
+        /**TODO
+         * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
+         * are kept as is and returned as a string.
+         */
+        if (contentType.includes(MediaType.APPLICATION_JSON)) {
+            return ResponseBodyDecoder.decodeJson(body, objectMapper).map(jsonBody -> {
+                if (jsonBody.json() != null) {
+                    result.setBody(jsonBody.json());
+                    return ResponseDataType.JSON;
+                }
+
+                log.debug("Unable to parse response JSON. Setting response body as string.");
+                result.setBody(jsonBody.text());
+
+                // Warn user that the API response is not a valid JSON.
+                hintMessages.add("The response returned by this API is not a valid JSON. Please "
+                        + "be careful when using the API response anywhere a valid JSON is required"
+                        + ". You may resolve this issue either by modifying the 'Content-Type' "
+                        + "Header to indicate a non-JSON response or by modifying the API response "
+                        + "to return a valid JSON.");
+                return ResponseDataType.UNDEFINED;
+            });
+        } else if (MediaType.IMAGE_GIF.equals(contentType)
+                || MediaType.IMAGE_JPEG.equals(contentType)
+                || MediaType.IMAGE_PNG.equals(contentType)) {
+            return ResponseBodyDecoder.encodeBase64(body, contentLength).map(encoded -> {
+                result.setBody(encoded);
+                return ResponseDataType.IMAGE;
+            });
+        } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
+            return ResponseBodyDecoder.encodeBase64(body, contentLength).map(encoded -> {
+                result.setBody(encoded);
+                return ResponseDataType.BINARY;
+            });
+        } else {
+            // If the body is not of JSON type, just set it as is.
+            return ResponseBodyDecoder.decodeText(body).map(bodyString -> {
+                result.setBody(bodyString);
+                return ResponseDataType.TEXT;
+            });
+        }
     }
 
     protected Mono<ClientResponse> httpCall(
@@ -292,16 +304,9 @@ public class RestAPIActivateUtils {
     }
 
     protected HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration) {
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider.builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
-
-        HttpClient httpClient = HttpClient.create(provider)
-                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+        // Shared with the previous executions of the datasource, so that their open connections are reused
+        return HttpConnectionProviderRegistry.getInstance()
+                .getHttpClient(datasourceConfiguration)
                 .compress(true);
-
-        return httpClient;
     }
 }
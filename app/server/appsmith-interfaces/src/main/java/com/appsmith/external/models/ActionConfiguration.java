@@ -89,6 +89,15 @@ public class ActionConfiguration implements AppsmithDomain, ExecutableConfigurat
 
     Boolean isValid;
 
+    /*
+     * Opt-in sharing of results between executions with the same parameters, only for actions that read data.
+     * Concurrent identical executions are sent to the plugin once, and results are kept for the given number of
+     * seconds so that identical executions in that time don't reach the plugin at all, 0 to not keep them.
+     */
+    Boolean deduplicateExecutions;
+
+    Integer resultCacheTtlInSeconds;
+
     /*
      * Future plugins could require more fields that are not covered above.
      * They will have to represented in a key-value format where the plugin
@@ -42,6 +42,24 @@ public class ActionExecutionResult {
 
     PluginErrorDetails pluginErrorDetails;
 
+    /*
+     * Set on a paginated execution when the result has more rows than the returned page. Executing the action again
+     * with this token returns the next page.
+     */
+    String continuationToken;
+
+    /*
+     * Time in milliseconds the execution waited for the other executions of its datasource and workspace before it was
+     * sent to the plugin.
+     */
+    Long queueWaitTimeInMillisecond;
+
+    /*
+     * Set when the action shares its results between identical executions, tells whether the result was read from the
+     * cache, shared with a concurrent execution, or executed.
+     */
+    ResultCacheStatus resultCacheStatus;
+
     public void setErrorInfo(Throwable error, AppsmithPluginErrorUtils pluginErrorUtils) {
         this.body = error.getMessage();
 
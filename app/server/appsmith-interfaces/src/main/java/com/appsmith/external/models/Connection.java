@@ -34,4 +34,9 @@ public class Connection implements AppsmithDomain {
     SSLDetails ssl;
 
     String defaultDatabaseName;
+
+    // Bounds of the connection pool of the datasource, the plugin defaults are used when not set
+    Integer minimumPoolSize;
+
+    Integer maximumPoolSize;
 }
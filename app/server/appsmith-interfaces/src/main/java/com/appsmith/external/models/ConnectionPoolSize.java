@@ -0,0 +1,23 @@
+package com.appsmith.external.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Size of a connection pool, as resolved from the datasource configuration, the plugin defaults and the per node caps.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ConnectionPoolSize {
+
+    // Number of idle connections kept open by the pool
+    private final int minimumIdle;
+
+    // Maximum number of connections the pool is created with, and shrunk back to when it is idle
+    private final int maximumPoolSize;
+
+    // Maximum number of connections the pool may grow to when callers are waiting for a connection
+    private final int maximumPoolSizeLimit;
+}
@@ -0,0 +1,33 @@
+package com.appsmith.external.models;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Snapshot of the usage of a connection pool registered with the ConnectionPoolRegistry.
+ */
+@Data
+@NoArgsConstructor
+public class ConnectionPoolStats {
+
+    private String poolName;
+
+    private String pluginName;
+
+    private int activeConnections;
+
+    private int idleConnections;
+
+    private int totalConnections;
+
+    private int threadsAwaitingConnection;
+
+    private int minimumIdle;
+
+    private int maximumPoolSize;
+
+    private int maximumPoolSizeLimit;
+
+    // Number of times the maximum pool size was changed by the adaptive sizing
+    private long resizes;
+}
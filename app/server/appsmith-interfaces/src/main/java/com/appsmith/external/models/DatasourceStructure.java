@@ -2,6 +2,8 @@ package com.appsmith.external.models;
 
 import com.appsmith.external.exceptions.BaseException;
 import com.appsmith.external.exceptions.ErrorDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.google.gson.InstanceCreator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,6 +20,14 @@ public class DatasourceStructure {
 
     List<Table> tables;
 
+    // Fingerprint reported by the plugin when the structure was fetched, to tell whether it has changed since
+    @JsonIgnore
+    String fingerprint;
+
+    // Total number of tables matching the request, when only a page of the tables is returned
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Integer totalTables;
+
     public DatasourceStructure(List<Table> tables) {
         this.tables = tables;
     }
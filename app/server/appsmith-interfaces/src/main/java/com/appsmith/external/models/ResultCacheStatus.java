@@ -0,0 +1,12 @@
+package com.appsmith.external.models;
+
+public enum ResultCacheStatus {
+    // Executed, and kept for identical executions if the action caches its results
+    MISS,
+    // Read from the results kept for an earlier identical execution
+    HIT,
+    // Shared with an identical execution that was running at the same time
+    COALESCED,
+    // Executed without sharing, the action may write data
+    REFUSED
+}
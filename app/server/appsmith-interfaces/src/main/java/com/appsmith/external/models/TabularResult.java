@@ -0,0 +1,295 @@
+package com.appsmith.external.models;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Row oriented representation of a query result that is meant to be set as the body of an
+ * {@link ActionExecutionResult} instead of a `JsonNode` tree built with `objectMapper.valueToTree(rowsList)`.
+ *
+ * Every row only holds its column values in an array, while the column names are kept once per result set in a shared
+ * {@link Columns} instance. When the action execution result is sent back, the rows are written one by one to the
+ * response through Jackson's streaming {@link JsonGenerator}, reusing the pre-serialized column names, so that no
+ * intermediate copy of the result is made.
+ *
+ * For all other consumers, it behaves like the list of maps that plugins used to build, i.e. each row is a
+ * `Map<String, Object>` preserving the column order.
+ */
+@JsonSerialize(using = TabularResult.TabularResultSerializer.class)
+public class TabularResult extends AbstractList<Map<String, Object>> implements RandomAccess {
+
+    private final List<Map<String, Object>> rows;
+
+    /*
+     * Values that are not strings, numbers, booleans or json nodes are written with this mapper, so that the
+     * output matches the one of `valueToTree` with the plugin's object mapper.
+     */
+    private final ObjectMapper objectMapper;
+
+    public TabularResult(ObjectMapper objectMapper) {
+        this(objectMapper, 50);
+    }
+
+    public TabularResult(ObjectMapper objectMapper, int initialCapacity) {
+        this.objectMapper = objectMapper;
+        this.rows = new ArrayList<>(initialCapacity);
+    }
+
+    private TabularResult(ObjectMapper objectMapper, List<Map<String, Object>> rows) {
+        this.objectMapper = objectMapper;
+        this.rows = rows;
+    }
+
+    /**
+     * @return read-only view over the rows of this result, which is serialized the same way as the result itself
+     */
+    public TabularResult unmodifiableView() {
+        return new TabularResult(objectMapper, Collections.unmodifiableList(rows));
+    }
+
+    /**
+     * Adds a row made of the given column values, in the order of the columns of the result set.
+     *
+     * @param columns      : shared column layout of the result set this row belongs to
+     * @param columnValues : values of the row, one per column of the result set
+     * @return the added row
+     */
+    public Map<String, Object> addRow(Columns columns, Object[] columnValues) {
+        Row row = columns.newRow(columnValues);
+        rows.add(row);
+        return row;
+    }
+
+    /**
+     * Adds any map as a row, e.g. the `affectedRows` entry returned for update queries.
+     */
+    @Override
+    public boolean add(Map<String, Object> row) {
+        return rows.add(row);
+    }
+
+    @Override
+    public Map<String, Object> get(int index) {
+        return rows.get(index);
+    }
+
+    @Override
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return objectMapper.writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            return super.toString();
+        }
+    }
+
+    /**
+     * Column layout of a result set, shared by all of its rows.
+     *
+     * When the same column name appears more than once, the row only has one entry for it, at the position of its
+     * first occurrence, holding the value of its last occurrence. This is the same as what putting the values in a
+     * `LinkedHashMap` one column at a time would do.
+     */
+    public static class Columns {
+        private final String[] keys;
+        private final SerializedString[] serializedKeys;
+        private final int[] slots;
+        private final boolean hasDuplicates;
+
+        public Columns(List<String> columnNames) {
+            Map<String, Integer> slotByName = new LinkedHashMap<>();
+            this.slots = new int[columnNames.size()];
+            for (int i = 0; i < columnNames.size(); i++) {
+                Integer slot = slotByName.putIfAbsent(columnNames.get(i), slotByName.size());
+                slots[i] = slot == null ? slotByName.size() - 1 : slot;
+            }
+
+            this.keys = slotByName.keySet().toArray(new String[0]);
+            this.serializedKeys = new SerializedString[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                serializedKeys[i] = new SerializedString(String.valueOf(keys[i]));
+            }
+            this.hasDuplicates = keys.length != columnNames.size();
+        }
+
+        public int getColumnCount() {
+            return slots.length;
+        }
+
+        private Row newRow(Object[] columnValues) {
+            if (!hasDuplicates) {
+                return new Row(this, columnValues);
+            }
+
+            Object[] values = new Object[keys.length];
+            for (int i = 0; i < columnValues.length; i++) {
+                values[slots[i]] = columnValues[i];
+            }
+            return new Row(this, values);
+        }
+    }
+
+    /**
+     * Read-only map view over the values of a single row.
+     */
+    public static class Row extends AbstractMap<String, Object> {
+        private final Columns columns;
+        private final Object[] values;
+
+        private Row(Columns columns, Object[] values) {
+            this.columns = columns;
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return columns.keys.length;
+        }
+
+        @Override
+        public Object get(Object key) {
+            for (int i = 0; i < columns.keys.length; i++) {
+                if (columns.keys[i].equals(key)) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            for (String columnKey : columns.keys) {
+                if (columnKey.equals(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super Object> action) {
+            for (int i = 0; i < columns.keys.length; i++) {
+                action.accept(columns.keys[i], values[i]);
+            }
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int index = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < columns.keys.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, Object> entry =
+                                    new SimpleImmutableEntry<>(columns.keys[index], values[index]);
+                            index++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return columns.keys.length;
+                }
+            };
+        }
+    }
+
+    public static class TabularResultSerializer extends JsonSerializer<TabularResult> {
+
+        @Override
+        public void serialize(TabularResult tabularResult, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            ObjectMapper objectMapper = tabularResult.objectMapper;
+            SerializerProvider valueSerializers = objectMapper.getSerializerProviderInstance();
+
+            gen.writeStartArray(tabularResult, tabularResult.size());
+            for (Map<String, Object> row : tabularResult.rows) {
+                if (row instanceof Row tabularRow) {
+                    writeRow(tabularRow, gen, objectMapper, valueSerializers);
+                } else {
+                    writeValue(row, gen, objectMapper, valueSerializers);
+                }
+            }
+            gen.writeEndArray();
+        }
+
+        private void writeRow(
+                Row row, JsonGenerator gen, ObjectMapper objectMapper, SerializerProvider valueSerializers)
+                throws IOException {
+            SerializedString[] serializedKeys = row.columns.serializedKeys;
+            Object[] values = row.values;
+
+            gen.writeStartObject(row, serializedKeys.length);
+            for (int i = 0; i < serializedKeys.length; i++) {
+                gen.writeFieldName(serializedKeys[i]);
+                writeValue(values[i], gen, objectMapper, valueSerializers);
+            }
+            gen.writeEndObject();
+        }
+
+        private void writeValue(
+                Object value, JsonGenerator gen, ObjectMapper objectMapper, SerializerProvider valueSerializers)
+                throws IOException {
+            if (value == null) {
+                gen.writeNull();
+            } else if (value instanceof String stringValue) {
+                gen.writeString(stringValue);
+            } else if (value instanceof Integer intValue) {
+                gen.writeNumber(intValue);
+            } else if (value instanceof Long longValue) {
+                gen.writeNumber(longValue);
+            } else if (value instanceof Double doubleValue) {
+                gen.writeNumber(doubleValue);
+            } else if (value instanceof Boolean booleanValue) {
+                gen.writeBoolean(booleanValue);
+            } else if (value instanceof BigDecimal bigDecimalValue) {
+                // Goes through the node factory so that decimals are normalised the same way as in `valueToTree`.
+                objectMapper.getNodeFactory().numberNode(bigDecimalValue).serialize(gen, valueSerializers);
+            } else if (value instanceof JsonNode jsonNode) {
+                jsonNode.serialize(gen, valueSerializers);
+            } else {
+                // Less common values like arrays or dates are small, converting them keeps the output identical.
+                objectMapper.valueToTree(value).serialize(gen, valueSerializers);
+            }
+        }
+    }
+}
@@ -200,6 +200,20 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
         return this.getStructure(connection, datasourceConfiguration);
     }
 
+    /**
+     * This function returns a fingerprint of the structure of the datasource, that changes whenever the structure
+     * returned by `getStructure` would change. It's used to keep a previously fetched structure without running the
+     * full introspection again when nothing has changed, so it is expected to be much cheaper than `getStructure`.
+     * Plugins that can't compute such a fingerprint return an empty Mono, in which case the structure is always fetched.
+     *
+     * @param connection
+     * @param datasourceConfiguration
+     * @return
+     */
+    default Mono<String> getStructureFingerprint(C connection, DatasourceConfiguration datasourceConfiguration) {
+        return Mono.empty();
+    }
+
     /**
      * Appsmith Server calls this function for execution of the action.
      * Default implementation which takes the variables that need to be substituted and then calls the plugin execute function
@@ -330,6 +344,16 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
         return Set.of("prev", "next");
     }
 
+    /**
+     * This method tells whether the action only reads data, in which case its results may be shared between identical
+     * executions and cached for a short time, if the action is configured so. Plugins that can't tell return false,
+     * and the results of their actions are never shared. The configuration is the one before its bindings are
+     * substituted, so it may only be judged read-only if no value of the bindings can change that.
+     */
+    default boolean isReadOnlyAction(ActionConfiguration actionConfiguration) {
+        return false;
+    }
+
     default Mono<DatasourceConfiguration> getDatasourceMetadata(DatasourceConfiguration datasourceConfiguration) {
         return Mono.just(datasourceConfiguration);
     }
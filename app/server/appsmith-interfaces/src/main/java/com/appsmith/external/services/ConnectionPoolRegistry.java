@@ -0,0 +1,21 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.services.ce.ConnectionPoolRegistryCE;
+
+public class ConnectionPoolRegistry extends ConnectionPoolRegistryCE {
+
+    private static ConnectionPoolRegistry instance = null;
+
+    private ConnectionPoolRegistry() {
+        super();
+    }
+
+    public static synchronized ConnectionPoolRegistry getInstance() {
+
+        if (instance == null) {
+            instance = new ConnectionPoolRegistry();
+        }
+
+        return instance;
+    }
+}
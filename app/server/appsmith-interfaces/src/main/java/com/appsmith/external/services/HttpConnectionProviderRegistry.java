@@ -0,0 +1,21 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.services.ce.HttpConnectionProviderRegistryCE;
+
+public class HttpConnectionProviderRegistry extends HttpConnectionProviderRegistryCE {
+
+    private static HttpConnectionProviderRegistry instance = null;
+
+    private HttpConnectionProviderRegistry() {
+        super();
+    }
+
+    public static synchronized HttpConnectionProviderRegistry getInstance() {
+
+        if (instance == null) {
+            instance = new HttpConnectionProviderRegistry();
+        }
+
+        return instance;
+    }
+}
@@ -0,0 +1,23 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.services.ce.NativeFilterDataServiceCE;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class NativeFilterDataService extends NativeFilterDataServiceCE implements IFilterDataService {
+
+    private static NativeFilterDataService instance = null;
+
+    private NativeFilterDataService() {
+        super();
+    }
+
+    public static NativeFilterDataService getInstance() {
+
+        if (instance == null) {
+            instance = new NativeFilterDataService();
+        }
+
+        return instance;
+    }
+}
@@ -0,0 +1,21 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.services.ce.ResultCursorRegistryCE;
+
+public class ResultCursorRegistry extends ResultCursorRegistryCE {
+
+    private static ResultCursorRegistry instance = null;
+
+    private ResultCursorRegistry() {
+        super();
+    }
+
+    public static synchronized ResultCursorRegistry getInstance() {
+
+        if (instance == null) {
+            instance = new ResultCursorRegistry();
+        }
+
+        return instance;
+    }
+}
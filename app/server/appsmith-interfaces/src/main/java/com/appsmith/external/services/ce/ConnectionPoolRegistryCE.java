@@ -0,0 +1,302 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.ConnectionPoolSize;
+import com.appsmith.external.models.ConnectionPoolStats;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the Hikari connection pools created by the plugins on this node, and resizes them based on their
+ * usage.
+ *
+ * Plugins bundle their own copy of HikariCP, so the pools are not accessed through the Hikari classes but through the
+ * MBeans that Hikari registers for every pool created with `registerMbeans` enabled: the HikariPoolMXBean for the
+ * connection counts and the HikariConfigMXBean to change the pool size at runtime. A pool that is closed unregisters
+ * its MBeans, and is dropped from the registry the next time it is looked at.
+ *
+ * Every pool starts with the maximum size of its plugin. When callers are waiting for a connection, the pool grows up
+ * to its limit, as long as the total size of all pools stays below the per node cap. When it has been mostly idle for
+ * a few consecutive checks, it shrinks back one connection at a time.
+ */
+@Slf4j
+public class ConnectionPoolRegistryCE {
+
+    private static final String POOL_OBJECT_NAME = "com.zaxxer.hikari:type=Pool (%s)";
+
+    private static final String POOL_CONFIG_OBJECT_NAME = "com.zaxxer.hikari:type=PoolConfig (%s)";
+
+    private static final String[] POOL_ATTRIBUTES = {
+        "ActiveConnections", "IdleConnections", "TotalConnections", "ThreadsAwaitingConnection"
+    };
+
+    private static final String[] POOL_CONFIG_ATTRIBUTES = {"MinimumIdle", "MaximumPoolSize"};
+
+    // Number of consecutive checks a pool must be underused for before it is shrunk
+    static final int SHRINK_AFTER_IDLE_CHECKS = 3;
+
+    public static final int DEFAULT_MAX_POOL_SIZE = 20;
+
+    public static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 200;
+
+    private final MBeanServer mBeanServer;
+
+    private final Map<String, RegisteredPool> pools = new ConcurrentHashMap<>();
+
+    private final AtomicLong poolCounter = new AtomicLong();
+
+    private volatile int maxPoolSize = DEFAULT_MAX_POOL_SIZE;
+
+    private volatile int maxTotalConnections = DEFAULT_MAX_TOTAL_CONNECTIONS;
+
+    public ConnectionPoolRegistryCE() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public ConnectionPoolRegistryCE(MBeanServer mBeanServer) {
+        this.mBeanServer = mBeanServer;
+    }
+
+    private static class RegisteredPool {
+        final String pluginName;
+        final ConnectionPoolSize size;
+        final AtomicLong resizes = new AtomicLong();
+        int idleChecks;
+
+        RegisteredPool(String pluginName, ConnectionPoolSize size) {
+            this.pluginName = pluginName;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Sets the per node caps applied to all the pools.
+     *
+     * @param maxPoolSize         Maximum size of a single pool, whatever its datasource configuration says
+     * @param maxTotalConnections Maximum sum of the sizes of all the pools, above which pools are no longer grown
+     */
+    public void configure(int maxPoolSize, int maxTotalConnections) {
+        this.maxPoolSize = Math.max(1, maxPoolSize);
+        this.maxTotalConnections = Math.max(1, maxTotalConnections);
+    }
+
+    /**
+     * Validates the pool bounds set on the datasource.
+     *
+     * @param connection The connection settings of the datasource, may be null
+     * @return The set of error messages, empty if the bounds are valid
+     */
+    public Set<String> validatePoolSize(Connection connection) {
+        Set<String> invalids = new HashSet<>();
+        if (connection == null) {
+            return invalids;
+        }
+
+        Integer minimumPoolSize = connection.getMinimumPoolSize();
+        Integer maximumPoolSize = connection.getMaximumPoolSize();
+        if (minimumPoolSize != null && minimumPoolSize < 0) {
+            invalids.add("Minimum pool size cannot be negative.");
+        }
+        if (maximumPoolSize != null && maximumPoolSize < 1) {
+            invalids.add("Maximum pool size must be at least 1.");
+        }
+        if (minimumPoolSize != null && maximumPoolSize != null && minimumPoolSize > maximumPoolSize) {
+            invalids.add("Minimum pool size cannot be greater than maximum pool size.");
+        }
+        return invalids;
+    }
+
+    /**
+     * Resolves the size of a new pool from the bounds set on the datasource, the defaults of the plugin and the per
+     * node caps. A maximum set on the datasource is the limit the pool may grow to, the pool still starts with the
+     * plugin default if it is lower.
+     *
+     * @param connection             The connection settings of the datasource, may be null
+     * @param defaultMinimumIdle     The minimum idle connections of the plugin
+     * @param defaultMaximumPoolSize The maximum pool size of the plugin
+     * @return The size to create the pool with
+     */
+    public ConnectionPoolSize getPoolSize(Connection connection, int defaultMinimumIdle, int defaultMaximumPoolSize) {
+        Integer minimumPoolSize = connection == null ? null : connection.getMinimumPoolSize();
+        Integer maximumPoolSize = connection == null ? null : connection.getMaximumPoolSize();
+
+        int limit = maximumPoolSize == null || maximumPoolSize < 1
+                ? Math.max(maxPoolSize, defaultMaximumPoolSize)
+                : Math.min(maximumPoolSize, maxPoolSize);
+        int maximum = Math.min(defaultMaximumPoolSize, limit);
+        int minimumIdle = minimumPoolSize == null || minimumPoolSize < 0 ? defaultMinimumIdle : minimumPoolSize;
+
+        return new ConnectionPoolSize(Math.min(minimumIdle, maximum), maximum, limit);
+    }
+
+    /**
+     * Generates a unique name for a new pool, to be set as the Hikari pool name so that its MBeans can be found.
+     *
+     * @param pluginName Short name of the plugin creating the pool
+     * @return The pool name
+     */
+    public String newPoolName(String pluginName) {
+        return pluginName + "-pool-" + poolCounter.incrementAndGet();
+    }
+
+    /**
+     * Registers a pool once it has been created. The pool must have been created with the given name and with
+     * `registerMbeans` enabled, otherwise it is dropped at the next check.
+     *
+     * @param poolName   The name of the pool, from newPoolName
+     * @param pluginName Short name of the plugin that created the pool
+     * @param size       The size the pool was created with
+     */
+    public void register(String poolName, String pluginName, ConnectionPoolSize size) {
+        pools.put(poolName, new RegisteredPool(pluginName, size));
+    }
+
+    public void unregister(String poolName) {
+        pools.remove(poolName);
+    }
+
+    // Pool names come from newPoolName, so they never contain characters that would need quoting
+    private static ObjectName poolObjectName(String format, String poolName) throws MalformedObjectNameException {
+        return new ObjectName(String.format(format, poolName));
+    }
+
+    private static int getInt(AttributeList attributes, String name) {
+        for (Attribute attribute : attributes.asList()) {
+            if (attribute.getName().equals(name) && attribute.getValue() instanceof Number number) {
+                return number.intValue();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Reads the usage of a pool from its MBeans.
+     *
+     * @return The stats of the pool, empty if the pool is closed
+     */
+    private Optional<ConnectionPoolStats> readStats(String poolName, RegisteredPool pool) {
+        try {
+            AttributeList poolAttributes =
+                    mBeanServer.getAttributes(poolObjectName(POOL_OBJECT_NAME, poolName), POOL_ATTRIBUTES);
+            AttributeList configAttributes = mBeanServer.getAttributes(
+                    poolObjectName(POOL_CONFIG_OBJECT_NAME, poolName), POOL_CONFIG_ATTRIBUTES);
+
+            ConnectionPoolStats stats = new ConnectionPoolStats();
+            stats.setPoolName(poolName);
+            stats.setPluginName(pool.pluginName);
+            stats.setActiveConnections(getInt(poolAttributes, "ActiveConnections"));
+            stats.setIdleConnections(getInt(poolAttributes, "IdleConnections"));
+            stats.setTotalConnections(getInt(poolAttributes, "TotalConnections"));
+            stats.setThreadsAwaitingConnection(getInt(poolAttributes, "ThreadsAwaitingConnection"));
+            stats.setMinimumIdle(getInt(configAttributes, "MinimumIdle"));
+            stats.setMaximumPoolSize(getInt(configAttributes, "MaximumPoolSize"));
+            stats.setMaximumPoolSizeLimit(pool.size.getMaximumPoolSizeLimit());
+            stats.setResizes(pool.resizes.get());
+            return Optional.of(stats);
+        } catch (InstanceNotFoundException e) {
+            // The pool was closed, or created without its MBeans
+            pools.remove(poolName, pool);
+            return Optional.empty();
+        } catch (JMException e) {
+            log.warn("Could not read the stats of connection pool {}", poolName, e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean setMaximumPoolSize(String poolName, int maximumPoolSize) {
+        try {
+            mBeanServer.setAttribute(
+                    poolObjectName(POOL_CONFIG_OBJECT_NAME, poolName),
+                    new Attribute("MaximumPoolSize", maximumPoolSize));
+            return true;
+        } catch (JMException e) {
+            log.warn("Could not resize connection pool {} to {}", poolName, maximumPoolSize, e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the current usage of all the registered pools.
+     */
+    public List<ConnectionPoolStats> getPoolStats() {
+        List<ConnectionPoolStats> poolStats = new ArrayList<>();
+        pools.forEach((poolName, pool) -> readStats(poolName, pool).ifPresent(poolStats::add));
+        return poolStats;
+    }
+
+    /**
+     * Grows the pools that have callers waiting for a connection and shrinks the pools that are underused. Meant to
+     * be called periodically, every few seconds.
+     *
+     * @return The usage of all the registered pools, before they were resized
+     */
+    public synchronized List<ConnectionPoolStats> adjustPoolSizes() {
+        List<ConnectionPoolStats> poolStats = getPoolStats();
+        int totalConnections = poolStats.stream()
+                .mapToInt(ConnectionPoolStats::getMaximumPoolSize)
+                .sum();
+
+        // Pools with the most waiting callers get the remaining budget first
+        List<ConnectionPoolStats> byWaitingCallers = new ArrayList<>(poolStats);
+        byWaitingCallers.sort(Comparator.comparingInt(ConnectionPoolStats::getThreadsAwaitingConnection)
+                .reversed());
+
+        for (ConnectionPoolStats stats : byWaitingCallers) {
+            RegisteredPool pool = pools.get(stats.getPoolName());
+            if (pool == null) {
+                continue;
+            }
+
+            int maximumPoolSize = stats.getMaximumPoolSize();
+            int waiting = stats.getThreadsAwaitingConnection();
+            if (waiting > 0) {
+                pool.idleChecks = 0;
+                int growth = Math.min(
+                        waiting,
+                        Math.min(
+                                pool.size.getMaximumPoolSizeLimit() - maximumPoolSize,
+                                maxTotalConnections - totalConnections));
+                if (growth > 0 && setMaximumPoolSize(stats.getPoolName(), maximumPoolSize + growth)) {
+                    totalConnections += growth;
+                    pool.resizes.incrementAndGet();
+                    log.debug(
+                            "Connection pool {} grown to {} with {} callers waiting",
+                            stats.getPoolName(),
+                            maximumPoolSize + growth,
+                            waiting);
+                }
+            } else if (maximumPoolSize > pool.size.getMaximumPoolSize()
+                    && stats.getActiveConnections() <= maximumPoolSize / 2) {
+                pool.idleChecks++;
+                if (pool.idleChecks >= SHRINK_AFTER_IDLE_CHECKS
+                        && setMaximumPoolSize(stats.getPoolName(), maximumPoolSize - 1)) {
+                    pool.idleChecks = 0;
+                    totalConnections--;
+                    pool.resizes.incrementAndGet();
+                    log.debug("Connection pool {} shrunk to {}", stats.getPoolName(), maximumPoolSize - 1);
+                }
+            } else {
+                pool.idleChecks = 0;
+            }
+        }
+
+        return poolStats;
+    }
+}
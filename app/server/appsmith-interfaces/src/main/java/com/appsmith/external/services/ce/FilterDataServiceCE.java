@@ -11,6 +11,11 @@ import com.appsmith.external.models.UQIDataFilterParams;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.types.ObjectId;
@@ -28,12 +33,17 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -51,10 +61,23 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public static final String PAGINATE_OFFSET_KEY = "offset";
 
     private final ObjectMapper objectMapper;
-    private Connection connection;
+    private final FilterSessionPool sessionPool;
+    private final FilterMetrics filterMetrics = new FilterMetrics();
 
     private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE";
 
+    // Number of rows sent to H2 in a single insert batch
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    // Upper limit on the number of filter requests that can run against H2 at the same time
+    private static final int MAX_FILTER_SESSIONS =
+            Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private static final long SESSION_ACQUIRE_TIMEOUT_SECONDS = 30;
+
+    // Number of empty tables that a connection keeps around for reuse by later requests with the same schema
+    private static final int MAX_CACHED_TABLES_PER_SESSION = 8;
+
     private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
             DataType.INTEGER, "INT",
             DataType.LONG, "BIGINT",
@@ -98,15 +121,17 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public FilterDataServiceCE() {
 
         objectMapper = new ObjectMapper();
+        sessionPool = new FilterSessionPool(MAX_FILTER_SESSIONS);
 
-        try {
-            connection = DriverManager.getConnection(URL);
-        } catch (SQLException e) {
-            log.error(e.getMessage());
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
-        }
+        // Open the first connection right away, so that a broken in memory database is reported on startup.
+        sessionPool.release(sessionPool.acquire());
+
+        // Plugins create this service on their own, so the metrics go to the global registry that Spring Boot exports
+        filterMetrics.bindTo(Metrics.globalRegistry, getClass().getSimpleName());
+    }
+
+    public FilterMetrics getFilterMetrics() {
+        return filterMetrics;
     }
 
     /**
@@ -133,17 +158,38 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
-        String tableName = generateTable(schema);
 
-        // insert the data
-        insertAllData(tableName, items, schema, dataTypeConversionMap);
+        long startTime = System.nanoTime();
+        List<Map<String, Object>> finalResults;
 
-        // Filter the data
-        List<Map<String, Object>> finalResults =
-                executeFilterQueryNew(tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
+        /*
+         * Every request works on a connection of its own and on a temporary table which is only visible to that
+         * connection, so concurrent requests neither wait on a shared connection nor see each other's rows. The
+         * temporary table is emptied once the request is done, and is picked up again by the next request with the
+         * same schema that lands on this connection.
+         */
+        FilterSession session = sessionPool.acquire();
+        try {
+            String tableName = session.getOrCreateTable(schema, filterMetrics);
+
+            // insert the data
+            insertAllData(session.getConnection(), tableName, items, schema, dataTypeConversionMap);
+
+            // Filter the data
+            finalResults = executeFilterQueryNew(
+                    session.getConnection(), tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
+
+            // Now that the data has been filtered. Clean Up. Empty the table for the next request.
+            session.clearTable(tableName);
+        } catch (RuntimeException e) {
+            // The state of the connection is unknown at this point. Do not hand it out to another request.
+            session.invalidate();
+            throw e;
+        } finally {
+            sessionPool.release(session);
+        }
 
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
+        filterMetrics.recordFilter(items.size(), System.nanoTime() - startTime);
 
         ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
 
@@ -151,6 +197,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     }
 
     private List<Map<String, Object>> executeFilterQueryNew(
+            Connection conn,
             String tableName,
             Map<String, DataType> schema,
             UQIDataFilterParams uqiDataFilterParams,
@@ -161,8 +208,6 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
         Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
 
-        Connection conn = checkAndGetConnection();
-
         StringBuilder sb = new StringBuilder();
 
         // Add projection columns condition otherwise use `select *`
@@ -369,17 +414,22 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             Map<String, DataType> schema,
             Map<DataType, DataType> dataTypeConversionMap) {
 
-        List<String> columnNames = schema.keySet().stream().collect(Collectors.toList());
-
-        List<String> quotedColumnNames =
-                columnNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.toList());
+        FilterSession session = sessionPool.acquire();
+        try {
+            insertAllData(session.getConnection(), tableName, items, schema, dataTypeConversionMap);
+        } finally {
+            sessionPool.release(session);
+        }
+    }
 
-        StringBuilder insertQueryBuilder = new StringBuilder("INSERT INTO ");
-        insertQueryBuilder.append(tableName);
+    private void insertAllData(
+            Connection conn,
+            String tableName,
+            ArrayNode items,
+            Map<String, DataType> schema,
+            Map<DataType, DataType> dataTypeConversionMap) {
 
-        StringBuilder columnNamesBuilder = new StringBuilder("(");
-        columnNamesBuilder.append(String.join(", ", quotedColumnNames));
-        columnNamesBuilder.append(")");
+        List<String> columnNames = new ArrayList<>(schema.keySet());
 
         // In order data types of all the columns
         List<DataType> columnTypes = new ArrayList<>();
@@ -387,80 +437,85 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             columnTypes.add(schema.get(columnName));
         }
 
-        insertQueryBuilder.append(columnNamesBuilder);
-        insertQueryBuilder.append(" VALUES ");
-
-        StringBuilder valuesMasterBuilder = new StringBuilder();
+        String insertQuery = "INSERT INTO " + tableName
+                + columnNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.joining(", ", "(", ")"))
+                + " VALUES "
+                + columnNames.stream().map(name -> "?").collect(Collectors.joining(",", "(", ")"))
+                + ";";
 
-        int counter = 0;
-        List<String> inOrderValues = new ArrayList<>();
-
-        for (JsonNode item : items) {
-
-            // If the number of values inserted is greater than 1000, the insert would fail. Once we have reached 1000
-            // rows, execute the insert for rows so far and start afresh for the rest of the rows
-            if (counter == 1000) {
-
-                insertReadyData(
-                        insertQueryBuilder.toString(),
-                        valuesMasterBuilder,
-                        inOrderValues,
-                        columnTypes,
-                        dataTypeConversionMap);
-                // Reset the values builder and counter for new insert queries.
-                valuesMasterBuilder = new StringBuilder();
-                counter = 0;
-                inOrderValues = new ArrayList<>();
-            }
-
-            StringBuilder valuesBuilder = new StringBuilder();
-
-            if (counter != 0) {
-                // If not the first row, add a separator between rows
-                valuesBuilder.append(",");
-            }
-
-            // Start the row
-            valuesBuilder.append("(");
-
-            Boolean firstEntry = true;
-            for (String columnName : columnNames) {
-
-                if (!firstEntry) {
-                    // Add a separator before adding a new entry
-                    valuesBuilder.append(",");
-                } else {
-                    // For future iterations, set flag to false
-                    firstEntry = false;
+        /*
+         * A single row insert statement is prepared once and executed in batches of rows, instead of preparing a
+         * new statement with placeholders for up to a thousand rows every time.
+         */
+        try (PreparedStatement preparedStatement = conn.prepareStatement(insertQuery)) {
+            conn.setAutoCommit(false);
+
+            int counter = 0;
+            for (JsonNode item : items) {
+                for (int i = 0; i < columnNames.size(); i++) {
+                    JsonNode fieldNode = item.get(columnNames.get(i));
+                    if (fieldNode == null) {
+                        preparedStatement.setNull(i + 1, Types.NULL);
+                    } else {
+                        setValueInStatement(
+                                preparedStatement,
+                                i + 1,
+                                fieldNode.asText(),
+                                columnTypes.get(i),
+                                dataTypeConversionMap);
+                    }
                 }
+                preparedStatement.addBatch();
+                counter++;
 
-                JsonNode fieldNode = item.get(columnName);
-                if (fieldNode != null) {
-                    valuesBuilder.append("?");
-                    inOrderValues.add(fieldNode.asText());
+                if (counter % INSERT_BATCH_SIZE == 0) {
+                    preparedStatement.executeBatch();
                 }
             }
 
-            // End the row
-            valuesBuilder.append(")");
+            if (counter % INSERT_BATCH_SIZE != 0) {
+                preparedStatement.executeBatch();
+            }
 
-            valuesMasterBuilder.append(valuesBuilder);
-            counter++;
+            conn.commit();
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            rollback(conn);
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error in ingesting the data : " + e.getMessage());
+        } catch (RuntimeException e) {
+            rollback(conn);
+            throw e;
+        } finally {
+            try {
+                conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.error(e.getMessage());
+            }
         }
+    }
 
-        if (valuesMasterBuilder.length() > 0) {
-            insertReadyData(
-                    insertQueryBuilder.toString(),
-                    valuesMasterBuilder,
-                    inOrderValues,
-                    columnTypes,
-                    dataTypeConversionMap);
+    private void rollback(Connection conn) {
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            log.error(e.getMessage());
         }
     }
 
     private void executeDbQuery(String query) {
 
-        Connection conn = checkAndGetConnection();
+        FilterSession session = sessionPool.acquire();
+        try {
+            executeDbQuery(session.getConnection(), query);
+        } finally {
+            sessionPool.release(session);
+        }
+    }
+
+    private static void executeDbQuery(Connection conn, String query) {
+
         log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), query);
 
         try (Statement statement = conn.createStatement()) {
@@ -472,71 +527,29 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
     }
 
-    private void insertReadyData(
-            String partialInsertQuery,
-            StringBuilder valuesBuilder,
-            List<String> inOrderValues,
-            List<DataType> columnTypes,
-            Map<DataType, DataType> dataTypeConversionMap) {
-
-        Connection conn = checkAndGetConnection();
-
-        StringBuilder insertQueryBuilder = new StringBuilder(partialInsertQuery);
-        insertQueryBuilder.append(valuesBuilder);
-        insertQueryBuilder.append(";");
-
-        String finalInsertQuery = insertQueryBuilder.toString();
-
-        try (PreparedStatement preparedStatement = conn.prepareStatement(finalInsertQuery)) {
-            int valueCounter = 0;
-            while (valueCounter < inOrderValues.size()) {
-
-                for (int columnTypeCounter = 0;
-                        columnTypeCounter < columnTypes.size();
-                        columnTypeCounter++, valueCounter++) {
-                    setValueInStatement(
-                            preparedStatement,
-                            valueCounter + 1,
-                            inOrderValues.get(valueCounter),
-                            columnTypes.get(columnTypeCounter),
-                            dataTypeConversionMap);
-                }
-            }
-
-            preparedStatement.executeUpdate();
+    public String generateTable(Map<String, DataType> schema) {
 
-        } catch (SQLException e) {
-            e.printStackTrace();
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Error in ingesting the data : " + e.getMessage());
-        }
-    }
+        String tableName = generateTableName();
 
-    private Connection checkAndGetConnection() {
-        try {
-            if (connection == null || connection.isClosed() || !connection.isValid(5)) {
-                connection = DriverManager.getConnection(URL);
-            }
-        } catch (SQLException e) {
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Failed to connect to the filtering database");
-        }
+        executeDbQuery(generateCreateTableQuery("CREATE TABLE ", tableName, schema));
 
-        return connection;
+        return tableName;
     }
 
-    public String generateTable(Map<String, DataType> schema) {
+    private static String generateTableName() {
 
         // Generate table name
         String generateUniqueId = new ObjectId().toString().toUpperCase();
 
         // Appending tbl_ before the generated unique id since using the string directly was throwing a SQL error
         // which I couldnt solve. Just appending a string to it though works perfectly.
-        String tableName = new StringBuilder("tbl_").append(generateUniqueId).toString();
+        return new StringBuilder("tbl_").append(generateUniqueId).toString();
+    }
+
+    private static String generateCreateTableQuery(
+            String createStatement, String tableName, Map<String, DataType> schema) {
 
-        StringBuilder sb = new StringBuilder("CREATE TABLE ");
+        StringBuilder sb = new StringBuilder(createStatement);
 
         sb.append(tableName);
 
@@ -551,27 +564,25 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             }
 
             String fieldName = entry.getKey();
-            DataType dataType = entry.getValue();
-
-            String sqlDataType = SQL_DATATYPE_MAP.get(dataType);
-            if (sqlDataType == null) {
-                // the data type recognized does not have a native support in appsmith right now
-                // default to String
-                sqlDataType = SQL_DATATYPE_MAP.get(DataType.STRING);
-            }
             columnsAdded = true;
             sb.append("\"" + fieldName + "\"");
             sb.append(" ");
-            sb.append(sqlDataType);
+            sb.append(getSqlDataType(entry.getValue()));
         }
 
         sb.append(");");
 
-        String createTableQuery = sb.toString();
-
-        executeDbQuery(createTableQuery);
+        return sb.toString();
+    }
 
-        return tableName;
+    private static String getSqlDataType(DataType dataType) {
+        String sqlDataType = SQL_DATATYPE_MAP.get(dataType);
+        if (sqlDataType == null) {
+            // the data type recognized does not have a native support in appsmith right now
+            // default to String
+            sqlDataType = SQL_DATATYPE_MAP.get(DataType.STRING);
+        }
+        return sqlDataType;
     }
 
     public void dropTable(String tableName) {
@@ -695,38 +706,9 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             DataType topRowDataType,
             Map<DataType, DataType> dataTypeConversionMap) {
 
-        DataType dataType = topRowDataType;
-        if (dataTypeConversionMap != null) {
-            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
-            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
-        }
-
+        DataType dataType = getValueDataType(value, topRowDataType, dataTypeConversionMap);
         String strNumericValue = value.trim().replaceAll(",", "");
 
-        // Override datatype to null for empty values
-        if (StringUtils.isEmpty(value)) {
-            dataType = DataType.NULL;
-        } else {
-            // value is not empty.
-            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
-            DataType inputDataType = currentRowDataType;
-            if (dataTypeConversionMap != null) {
-                // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
-                inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
-            }
-            if (DataType.NULL.equals(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-            // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
-            if (dataTypeConversionMap != null
-                    && inputDataType != dataType
-                    && !datatypeCompatibilityMap
-                            .getOrDefault(dataType, Set.of())
-                            .contains(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-        }
-
         try {
             switch (dataType) {
                 case NULL: {
@@ -774,6 +756,63 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         return preparedStatement;
     }
 
+    /**
+     * Finds the data type that a value is set with in a prepared statement, given the data type of the column it
+     * belongs to. Empty values, values that look like null and, when a conversion map is provided, values that are
+     * not compatible with the column data type are all treated as null.
+     *
+     * @param value                 - value as found in the data
+     * @param topRowDataType        - data type of the column, as found in the first row
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return data type to use for the value, `DataType.NULL` if the value is to be set as null
+     */
+    static DataType getValueDataType(
+            String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
+
+        DataType dataType = topRowDataType;
+        if (dataTypeConversionMap != null) {
+            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
+            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
+        }
+
+        // Override datatype to null for empty values
+        if (StringUtils.isEmpty(value)) {
+            return DataType.NULL;
+        }
+
+        if (dataTypeConversionMap == null) {
+            // Without a conversion map, the data type of the value itself only matters when it is a null, which is
+            // much cheaper to check than running through all the known data types.
+            return isNullValue(value) ? DataType.NULL : dataType;
+        }
+
+        // value is not empty.
+        DataType currentRowDataType = stringToKnownDataTypeConverter(value);
+        // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
+        DataType inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+        if (DataType.NULL.equals(inputDataType)) {
+            return DataType.NULL;
+        }
+        // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
+        if (inputDataType != dataType
+                && !datatypeCompatibilityMap.getOrDefault(dataType, Set.of()).contains(inputDataType)) {
+            return DataType.NULL;
+        }
+
+        return dataType;
+    }
+
+    /**
+     * Same as checking `DataType.NULL.equals(stringToKnownDataTypeConverter(value))`, i.e. the value is either an
+     * empty array or the text null.
+     */
+    private static boolean isNullValue(String value) {
+        if (value.startsWith("[") && value.endsWith("]")) {
+            return value.substring(1, value.length() - 1).trim().isEmpty();
+        }
+        return "null".equals(value.toLowerCase().trim());
+    }
+
     public boolean validConditionList(List<Condition> conditionList, Map<String, DataType> schema) {
 
         conditionList.stream()
@@ -913,4 +952,218 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
         return sb.toString();
     }
+
+    /**
+     * Bounded pool of connections to the in memory filtering database. A connection is handed out to one filter
+     * request at a time, and requests beyond the pool size wait for a connection to be released.
+     */
+    private static class FilterSessionPool {
+
+        private final Semaphore permits;
+        private final Deque<FilterSession> idleSessions = new ConcurrentLinkedDeque<>();
+
+        FilterSessionPool(int maxSessions) {
+            this.permits = new Semaphore(maxSessions, true);
+        }
+
+        FilterSession acquire() {
+            try {
+                if (!permits.tryAcquire(SESSION_ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                            "Timed out while waiting for the filtering database. Please try again.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                        "Interrupted while waiting for the filtering database");
+            }
+
+            try {
+                FilterSession session;
+                while ((session = idleSessions.pollFirst()) != null) {
+                    if (session.isUsable()) {
+                        return session;
+                    }
+                    session.close();
+                }
+                return new FilterSession(DriverManager.getConnection(URL));
+            } catch (SQLException e) {
+                permits.release();
+                log.error(e.getMessage());
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                        "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
+            }
+        }
+
+        void release(FilterSession session) {
+            if (session.isInvalidated()) {
+                session.close();
+            } else {
+                idleSessions.offerFirst(session);
+            }
+            permits.release();
+        }
+    }
+
+    /**
+     * A connection to the filtering database along with the temporary tables that were created on it. Temporary
+     * tables are only visible to the connection that created them, and are kept empty when not in use.
+     */
+    private static class FilterSession {
+
+        private final Connection connection;
+        private final Map<String, String> tableNameBySchema = new LinkedHashMap<>(16, 0.75f, true);
+        private boolean invalidated = false;
+
+        FilterSession(Connection connection) {
+            this.connection = connection;
+        }
+
+        Connection getConnection() {
+            return connection;
+        }
+
+        String getOrCreateTable(Map<String, DataType> schema, FilterMetrics filterMetrics) {
+            String schemaKey = schema.entrySet().stream()
+                    .map(entry -> entry.getKey() + " " + getSqlDataType(entry.getValue()))
+                    .collect(Collectors.joining("\u0000"));
+
+            String tableName = tableNameBySchema.get(schemaKey);
+            if (tableName != null) {
+                filterMetrics.reusedTableCount.increment();
+                return tableName;
+            }
+
+            if (tableNameBySchema.size() >= MAX_CACHED_TABLES_PER_SESSION) {
+                Iterator<String> leastRecentlyUsed = tableNameBySchema.values().iterator();
+                String evictedTableName = leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+                executeDbQuery(connection, "DROP TABLE " + evictedTableName + ";");
+            }
+
+            tableName = generateTableName();
+            executeDbQuery(connection, generateCreateTableQuery("CREATE LOCAL TEMPORARY TABLE ", tableName, schema));
+            tableNameBySchema.put(schemaKey, tableName);
+            filterMetrics.createdTableCount.increment();
+
+            return tableName;
+        }
+
+        void clearTable(String tableName) {
+            executeDbQuery(connection, "TRUNCATE TABLE " + tableName + ";");
+        }
+
+        void invalidate() {
+            invalidated = true;
+        }
+
+        boolean isInvalidated() {
+            return invalidated;
+        }
+
+        boolean isUsable() {
+            try {
+                return !connection.isClosed() && connection.isValid(5);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        void close() {
+            try {
+                // Temporary tables go away along with the connection
+                connection.close();
+            } catch (SQLException e) {
+                log.error(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Counters on the filter requests served by this service, exported as meters tagged with the name of the service.
+     */
+    public static class FilterMetrics {
+
+        public static final String SERVICE_TAG = "service";
+
+        private final LongAdder filterCount = new LongAdder();
+        private final LongAdder rowCount = new LongAdder();
+        private final LongAdder totalTimeNanos = new LongAdder();
+        private final LongAdder createdTableCount = new LongAdder();
+        private final LongAdder reusedTableCount = new LongAdder();
+        private final LongAdder fallbackCount = new LongAdder();
+
+        void recordFilter(int rows, long timeNanos) {
+            filterCount.increment();
+            rowCount.add(rows);
+            totalTimeNanos.add(timeNanos);
+        }
+
+        void recordFallback() {
+            fallbackCount.increment();
+        }
+
+        /**
+         * Registers the counters with the given registry. If meters for the same service are already registered, e.g.
+         * by another instance of the service, those are kept.
+         */
+        public void bindTo(MeterRegistry registry, String service) {
+            Tags tags = Tags.of(SERVICE_TAG, service);
+            FunctionTimer.builder(
+                            "appsmith.filter.requests",
+                            this,
+                            FilterMetrics::getFilterCount,
+                            metrics -> metrics.totalTimeNanos.sum(),
+                            TimeUnit.NANOSECONDS)
+                    .description("Filter requests served and the time spent on them")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("appsmith.filter.rows", this, FilterMetrics::getRowCount)
+                    .description("Rows of the data the filter requests were run on")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("appsmith.filter.tables.created", this, FilterMetrics::getCreatedTableCount)
+                    .description("In memory database tables created for filter requests")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("appsmith.filter.tables.reused", this, FilterMetrics::getReusedTableCount)
+                    .description("Filter requests that reused the in memory database table of an earlier request")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("appsmith.filter.fallbacks", this, FilterMetrics::getFallbackCount)
+                    .description("Filter requests that could not be served in memory and were filtered with H2")
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        public long getFilterCount() {
+            return filterCount.sum();
+        }
+
+        public long getRowCount() {
+            return rowCount.sum();
+        }
+
+        public long getTotalTimeMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalTimeNanos.sum());
+        }
+
+        public long getCreatedTableCount() {
+            return createdTableCount.sum();
+        }
+
+        public long getReusedTableCount() {
+            return reusedTableCount.sum();
+        }
+
+        /**
+         * Number of filter requests that could not be served in memory and were filtered with H2 instead.
+         */
+        public long getFallbackCount() {
+            return fallbackCount.sum();
+        }
+    }
 }
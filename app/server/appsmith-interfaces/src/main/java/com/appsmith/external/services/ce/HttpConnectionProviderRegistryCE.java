@@ -0,0 +1,224 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.appsmith.util.WebClientUtils;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the Reactor Netty connection providers used by the REST API based plugins on this node, so that the actions
+ * of a datasource reuse the connections, and the TLS sessions, opened by its previous executions.
+ *
+ * Providers are keyed by the origin of the datasource URL together with its SSL settings and the proxy in use, as
+ * connections opened with a different trust store or through a different proxy cannot be shared. Every provider caps
+ * the connections per host and the callers waiting for one, evicts its idle connections in the background and
+ * publishes its usage as `reactor.netty.connection.provider.*` metrics. The registry itself is bounded: providers that
+ * have not been used for a while, or the least recently used one when there are too many, are disposed.
+ */
+@Slf4j
+public class HttpConnectionProviderRegistryCE {
+
+    private static final String PROVIDER_NAME_PREFIX = "rest-api-provider-";
+
+    public static final int DEFAULT_MAX_PROVIDERS = 200;
+
+    public static final Duration DEFAULT_PROVIDER_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    public static final int MAX_CONNECTIONS_PER_HOST = 50;
+
+    public static final int MAX_PENDING_ACQUIRES_PER_HOST = 500;
+
+    public static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+
+    // Below the keep-alive timeout of most servers, so that a request rarely picks a connection closed by the server
+    public static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+
+    public static final Duration MAX_LIFE_TIME = Duration.ofSeconds(600);
+
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+
+    private static final Duration INACTIVE_POOL_TIMEOUT = Duration.ofMinutes(5);
+
+    private final int maxProviders;
+
+    private final long providerIdleTimeoutNanos;
+
+    private final AtomicLong providerCounter = new AtomicLong();
+
+    // Access ordered, so that the eldest entry is the least recently used provider
+    private final LinkedHashMap<ProviderKey, RegisteredProvider> providers = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long lastSweepNanos = System.nanoTime();
+
+    public HttpConnectionProviderRegistryCE() {
+        this(DEFAULT_MAX_PROVIDERS, DEFAULT_PROVIDER_IDLE_TIMEOUT);
+    }
+
+    public HttpConnectionProviderRegistryCE(int maxProviders, Duration providerIdleTimeout) {
+        this.maxProviders = Math.max(1, maxProviders);
+        this.providerIdleTimeoutNanos = providerIdleTimeout.toNanos();
+    }
+
+    /**
+     * Identifies the connections that can be shared: same origin, same trusted certificate and same proxy.
+     */
+    record ProviderKey(String origin, SSLDetails.AuthType sslAuthType, String certificate, boolean systemProxy) {}
+
+    private static class RegisteredProvider {
+        final ConnectionProvider provider;
+        final HttpClient httpClient;
+        long lastAccessNanos;
+
+        RegisteredProvider(ConnectionProvider provider, HttpClient httpClient) {
+            this.provider = provider;
+            this.httpClient = httpClient;
+        }
+    }
+
+    /**
+     * Returns the scheme, host and port of the URL, or the URL itself if it cannot be parsed.
+     */
+    static String getOrigin(String url) {
+        if (url == null) {
+            return "";
+        }
+
+        try {
+            URI uri = URI.create(url.trim());
+            if (uri.getScheme() != null && uri.getHost() != null) {
+                return uri.getScheme().toLowerCase() + "://" + uri.getHost().toLowerCase() + ":" + uri.getPort();
+            }
+        } catch (IllegalArgumentException e) {
+            // Templated or malformed URLs are keyed as they are
+        }
+        return url;
+    }
+
+    static ProviderKey getKey(DatasourceConfiguration datasourceConfiguration, String url) {
+        SSLDetails.AuthType sslAuthType = null;
+        String certificate = null;
+
+        Connection connection = datasourceConfiguration == null ? null : datasourceConfiguration.getConnection();
+        if (connection != null && connection.getSsl() != null) {
+            sslAuthType = connection.getSsl().getAuthType();
+            UploadedFile certificateFile = connection.getSsl().getCertificateFile();
+            if (sslAuthType == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE && certificateFile != null) {
+                certificate = certificateFile.getBase64Content();
+            }
+        }
+
+        return new ProviderKey(getOrigin(url), sslAuthType, certificate, WebClientUtils.shouldUseSystemProxy());
+    }
+
+    /**
+     * Returns the HTTP client to execute the actions of a datasource with. The client is secured with the SSL settings
+     * of the datasource and shares its connection pool with every other datasource that has the same origin and the
+     * same settings.
+     *
+     * @param datasourceConfiguration The configuration of the datasource, may be null
+     * @return The shared HTTP client
+     */
+    public HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration) {
+        return getHttpClient(
+                datasourceConfiguration, datasourceConfiguration == null ? null : datasourceConfiguration.getUrl());
+    }
+
+    /**
+     * Returns the HTTP client to call the given URL with, for callers that do not have a datasource URL.
+     *
+     * @param datasourceConfiguration The configuration holding the SSL settings, may be null
+     * @param url                     The URL the client is used for
+     * @return The shared HTTP client
+     */
+    public synchronized HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, String url) {
+        long now = System.nanoTime();
+        evictIdleProviders(now);
+
+        ProviderKey key = getKey(datasourceConfiguration, url);
+        RegisteredProvider registeredProvider = providers.get(key);
+        if (registeredProvider == null) {
+            ConnectionProvider provider =
+                    newConnectionProvider(PROVIDER_NAME_PREFIX + providerCounter.incrementAndGet());
+            HttpClient httpClient = HttpClient.create(provider);
+            if (datasourceConfiguration != null) {
+                httpClient = httpClient.secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration));
+            }
+
+            registeredProvider = new RegisteredProvider(provider, httpClient);
+            providers.put(key, registeredProvider);
+            evictLeastRecentlyUsedProviders();
+        }
+
+        registeredProvider.lastAccessNanos = now;
+        return registeredProvider.httpClient;
+    }
+
+    protected ConnectionProvider newConnectionProvider(String name) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(MAX_CONNECTIONS_PER_HOST)
+                .pendingAcquireMaxCount(MAX_PENDING_ACQUIRES_PER_HOST)
+                .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+                .maxIdleTime(MAX_IDLE_TIME)
+                .maxLifeTime(MAX_LIFE_TIME)
+                .evictInBackground(EVICTION_INTERVAL)
+                .disposeInactivePoolsInBackground(EVICTION_INTERVAL, INACTIVE_POOL_TIMEOUT)
+                .metrics(true)
+                .build();
+    }
+
+    private void evictIdleProviders(long now) {
+        if (now - lastSweepNanos < Math.min(providerIdleTimeoutNanos, EVICTION_INTERVAL.toNanos())) {
+            return;
+        }
+        lastSweepNanos = now;
+
+        Iterator<RegisteredProvider> iterator = providers.values().iterator();
+        while (iterator.hasNext()) {
+            RegisteredProvider registeredProvider = iterator.next();
+            if (now - registeredProvider.lastAccessNanos < providerIdleTimeoutNanos) {
+                // Entries are in access order, the remaining ones have been used more recently
+                break;
+            }
+            iterator.remove();
+            dispose(registeredProvider);
+        }
+    }
+
+    private void evictLeastRecentlyUsedProviders() {
+        Iterator<Map.Entry<ProviderKey, RegisteredProvider>> iterator =
+                providers.entrySet().iterator();
+        while (providers.size() > maxProviders && iterator.hasNext()) {
+            RegisteredProvider registeredProvider = iterator.next().getValue();
+            iterator.remove();
+            dispose(registeredProvider);
+        }
+    }
+
+    // Connections in use are closed once they are released, so in flight requests are not cut short
+    private static void dispose(RegisteredProvider registeredProvider) {
+        log.debug("Disposing connection provider {}", registeredProvider.provider.name());
+        registeredProvider
+                .provider
+                .disposeLater()
+                .subscribe(
+                        null,
+                        error -> log.warn(
+                                "Could not dispose connection provider {}", registeredProvider.provider.name(), error));
+    }
+
+    public synchronized int size() {
+        return providers.size();
+    }
+}
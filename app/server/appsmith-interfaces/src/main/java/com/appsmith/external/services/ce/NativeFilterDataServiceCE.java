@@ -0,0 +1,922 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import static com.appsmith.external.models.Condition.addValueDataType;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Filters UQI data in memory without going through the H2 database.
+ *
+ * The data is parsed into one typed array per column, the where clause is compiled into predicates over those
+ * columns that are evaluated for all rows at once, and sorting with pagination only keeps the requested page worth
+ * of rows. The result is the same as the one returned by {@link FilterDataServiceCE}, including the way values are
+ * converted and compared by H2, e.g. empty values are treated as nulls and numbers are compared as decimals.
+ *
+ * Whenever the request has something that is not modelled here, like date columns or a where clause that H2 would
+ * reject, filtering falls back to the H2 implementation, so that the result or the error is exactly the same.
+ *
+ * The only known difference is the order of rows that have the same value for all the sort columns of a paginated
+ * request. H2 does not guarantee any order for those, while this implementation keeps them in their original order.
+ */
+@Slf4j
+public class NativeFilterDataServiceCE extends FilterDataServiceCE {
+
+    private static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT);
+
+    private static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN, ConditionalOperator.NOT_EQ, ConditionalOperator.GTE, ConditionalOperator.GT);
+
+    private static final Set<ConditionalOperator> COMPARISON_OPERATORS = Set.of(
+            ConditionalOperator.LT,
+            ConditionalOperator.LTE,
+            ConditionalOperator.EQ,
+            ConditionalOperator.NOT_EQ,
+            ConditionalOperator.GT,
+            ConditionalOperator.GTE);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public NativeFilterDataServiceCE() {
+        super();
+    }
+
+    @Override
+    public ArrayNode filterDataNew(
+            ArrayNode items, UQIDataFilterParams uqiDataFilterParams, Map<DataType, DataType> dataTypeConversionMap) {
+        if (items == null || items.size() == 0) {
+            return items;
+        }
+
+        Condition condition = uqiDataFilterParams.getCondition();
+        if (Condition.isValid(condition)) {
+            Condition updatedCondition = addValueDataType(condition);
+            uqiDataFilterParams.setCondition(updatedCondition);
+        }
+
+        Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
+
+        long startTime = System.nanoTime();
+        ArrayNode finalResultsNode;
+        try {
+            finalResultsNode = filterInMemory(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+        } catch (UnsupportedFilterException e) {
+            log.debug("Falling back to filtering with H2 : {}", e.getMessage());
+            getFilterMetrics().recordFallback();
+            return super.filterDataNew(items, uqiDataFilterParams, dataTypeConversionMap);
+        }
+
+        getFilterMetrics().recordFilter(items.size(), System.nanoTime() - startTime);
+
+        return finalResultsNode;
+    }
+
+    private ArrayNode filterInMemory(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        // Check everything that only depends on the filter params first, so that falling back is cheap.
+        List<String> outputColumns = getOutputColumns(uqiDataFilterParams.getProjectionColumns(), schema);
+        List<Map<String, String>> sortBy = getSortConditions(uqiDataFilterParams.getSortBy(), schema);
+        int[] limitAndOffset = getLimitAndOffset(uqiDataFilterParams.getPaginateBy());
+
+        Map<String, Column> columns = readColumns(items, schema, dataTypeConversionMap);
+        int rowCount = items.size();
+
+        BitSet selectedRows;
+        RowFilter rowFilter = compileWhereClause(uqiDataFilterParams.getCondition(), schema, columns);
+        if (rowFilter == null) {
+            selectedRows = new BitSet(rowCount);
+            selectedRows.set(0, rowCount);
+        } else {
+            selectedRows = rowFilter.evaluate(rowCount);
+        }
+
+        int[] rows = selectedRows.stream().toArray();
+        rows = sortAndPaginate(rows, sortBy, limitAndOffset, columns);
+
+        ArrayNode finalResultsNode = objectMapper.createArrayNode();
+        for (int row : rows) {
+            ObjectNode rowNode = finalResultsNode.addObject();
+            for (String columnName : outputColumns) {
+                columns.get(columnName).putValue(rowNode, columnName, row);
+            }
+        }
+
+        return finalResultsNode;
+    }
+
+    /**
+     * Columns in the order they are returned, i.e. the projection columns if any, otherwise all the columns.
+     */
+    private List<String> getOutputColumns(List<String> projectionColumns, Map<String, DataType> schema) {
+        if (CollectionUtils.isEmpty(projectionColumns)) {
+            return new ArrayList<>(schema.keySet());
+        }
+
+        for (String columnName : projectionColumns) {
+            checkColumnReference(columnName, schema);
+        }
+
+        return projectionColumns;
+    }
+
+    private List<Map<String, String>> getSortConditions(
+            List<Map<String, String>> sortBy, Map<String, DataType> schema) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return List.of();
+        }
+
+        List<Map<String, String>> sortConditions = new ArrayList<>();
+        for (Map<String, String> sortCondition : sortBy) {
+            String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+
+            checkColumnReference(columnName, schema);
+            String sortType = sortCondition.get(SORT_BY_TYPE_KEY);
+            if (sortType == null
+                    || Arrays.stream(SortType.values())
+                            .noneMatch(type -> type.name().equals(sortType.toUpperCase()))) {
+                throw new UnsupportedFilterException("Unknown sort type " + sortType);
+            }
+            sortConditions.add(sortCondition);
+        }
+
+        return sortConditions;
+    }
+
+    /**
+     * Columns are referred to as quoted identifiers by the H2 query, they have to match a column name exactly.
+     */
+    private void checkColumnReference(String columnName, Map<String, DataType> schema) {
+        if (columnName == null || columnName.contains("`") || !schema.containsKey(columnName)) {
+            throw new UnsupportedFilterException("Unknown column " + columnName);
+        }
+    }
+
+    /**
+     * @return limit and offset to apply, or null if the data is not paginated
+     */
+    private int[] getLimitAndOffset(Map<String, String> paginateBy) {
+        if (CollectionUtils.isEmpty(paginateBy)) {
+            return null;
+        }
+
+        String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
+        if (isBlank(limit)) {
+            limit = "20";
+        }
+
+        String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
+        if (isBlank(offset)) {
+            offset = "0";
+        }
+
+        Object limitValue = toParameterValue(limit, DataType.INTEGER);
+        Object offsetValue = toParameterValue(offset, DataType.INTEGER);
+        if (limitValue == null || offsetValue == null || (Integer) limitValue < 0 || (Integer) offsetValue < 0) {
+            throw new UnsupportedFilterException("Limit or offset is null or negative");
+        }
+
+        return new int[] {(Integer) limitValue, (Integer) offsetValue};
+    }
+
+    private int[] sortAndPaginate(
+            int[] rows, List<Map<String, String>> sortBy, int[] limitAndOffset, Map<String, Column> columns) {
+
+        int from = 0;
+        int to = rows.length;
+        if (limitAndOffset != null) {
+            from = Math.min(limitAndOffset[1], rows.length);
+            to = (int) Math.min((long) limitAndOffset[1] + limitAndOffset[0], rows.length);
+        }
+
+        if (sortBy.isEmpty()) {
+            return Arrays.copyOfRange(rows, from, to);
+        }
+
+        Comparator<Integer> rowComparator = null;
+        for (Map<String, String> sortCondition : sortBy) {
+            Column column = columns.get(sortCondition.get(SORT_BY_COLUMN_NAME_KEY));
+            SortType sortType =
+                    SortType.valueOf(sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
+
+            // Nulls come first in ascending order, and last in descending order, same as H2
+            Comparator<Integer> columnComparator = column::compareRows;
+            if (sortType == SortType.DESCENDING) {
+                columnComparator = columnComparator.reversed();
+            }
+            rowComparator = rowComparator == null ? columnComparator : rowComparator.thenComparing(columnComparator);
+        }
+        // Rows with equal sort values are kept in their original order
+        rowComparator = rowComparator.thenComparing(Comparator.naturalOrder());
+
+        if (to <= from) {
+            return new int[0];
+        }
+
+        Integer[] sortedRows;
+        if (to < rows.length) {
+            // Only the first `offset + limit` rows are needed, keep the smallest ones seen so far in a bounded heap.
+            PriorityQueue<Integer> topRows = new PriorityQueue<>(to + 1, rowComparator.reversed());
+            for (int row : rows) {
+                topRows.add(row);
+                if (topRows.size() > to) {
+                    topRows.poll();
+                }
+            }
+            sortedRows = topRows.toArray(new Integer[0]);
+        } else {
+            sortedRows = Arrays.stream(rows).boxed().toArray(Integer[]::new);
+        }
+        Arrays.sort(sortedRows, rowComparator);
+
+        int[] pageRows = new int[to - from];
+        for (int i = from; i < to; i++) {
+            pageRows[i - from] = sortedRows[i];
+        }
+        return pageRows;
+    }
+
+    private Map<String, Column> readColumns(
+            ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap) {
+
+        int rowCount = items.size();
+        Map<String, Column> columns = new LinkedHashMap<>();
+        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+            columns.put(entry.getKey(), Column.of(entry.getValue(), rowCount));
+        }
+
+        int row = 0;
+        for (JsonNode item : items) {
+            for (Map.Entry<String, Column> entry : columns.entrySet()) {
+                JsonNode fieldNode = item.get(entry.getKey());
+                if (fieldNode == null) {
+                    continue;
+                }
+
+                String value = fieldNode.asText();
+                DataType columnDataType = schema.get(entry.getKey());
+                DataType valueDataType = getValueDataType(value, columnDataType, dataTypeConversionMap);
+                entry.getValue().set(row, toValue(value, valueDataType));
+            }
+            row++;
+        }
+
+        return columns;
+    }
+
+    /**
+     * Converts a value the same way as it is set in the prepared statements of {@link FilterDataServiceCE}.
+     */
+    private static Object toValue(String value, DataType dataType) {
+        String strNumericValue = value.trim().replaceAll(",", "");
+
+        try {
+            switch (dataType) {
+                case NULL:
+                    return null;
+                case INTEGER:
+                    return Integer.parseInt(strNumericValue);
+                case LONG:
+                    return Long.parseLong(strNumericValue);
+                case FLOAT:
+                case DOUBLE:
+                    return new BigDecimal(strNumericValue);
+                case BOOLEAN:
+                    return Boolean.parseBoolean(value);
+                case STRING:
+                default:
+                    return value;
+            }
+        } catch (NumberFormatException e) {
+            // H2 filtering reports this as an error, let it do so.
+            throw new UnsupportedFilterException("Value " + value + " could not be parsed to " + dataType);
+        }
+    }
+
+    private static Object toParameterValue(String value, DataType dataType) {
+        return toValue(value, getValueDataType(value, dataType, null));
+    }
+
+    private RowFilter compileWhereClause(
+            Condition condition, Map<String, DataType> schema, Map<String, Column> columns) {
+        if (!Condition.isValid(condition)) {
+            return null;
+        }
+
+        if (!(condition.getValue() instanceof List)) {
+            throw new UnsupportedFilterException("Where clause is not a list of conditions");
+        }
+
+        LogicalExpression expression = compileLogicalExpression(
+                (List<Condition>) condition.getValue(), schema, columns, condition.getOperator());
+
+        return expression.isEmpty() ? null : expression.toRowFilter();
+    }
+
+    /**
+     * Mirrors {@link FilterDataServiceCE#generateLogicalExpression}, keeping track of the generated expression so that
+     * where clauses that would not be valid SQL are left to H2.
+     */
+    private LogicalExpression compileLogicalExpression(
+            List<Condition> conditions,
+            Map<String, DataType> schema,
+            Map<String, Column> columns,
+            ConditionalOperator logicOp) {
+
+        LogicalExpression expression = new LogicalExpression(logicOp);
+
+        boolean firstCondition = true;
+        for (Condition condition : conditions) {
+            String path = condition.getPath();
+            ConditionalOperator operator = condition.getOperator();
+            Object objValue = condition.getValue();
+
+            if (operator == ConditionalOperator.AND || operator == ConditionalOperator.OR) {
+                if (!(objValue instanceof List)) {
+                    throw new UnsupportedFilterException("Nested conditions are not a list");
+                }
+                LogicalExpression subExpression =
+                        compileLogicalExpression((List<Condition>) objValue, schema, columns, operator);
+                if (!subExpression.isEmpty()) {
+                    expression.addOperator();
+                    expression.addOperand(subExpression.toRowFilter());
+                }
+                continue;
+            }
+
+            if (objValue != null && !(objValue instanceof String)) {
+                throw new UnsupportedFilterException("Condition value is not a string");
+            }
+            String value = (String) objValue;
+
+            if (firstCondition) {
+                firstCondition = false;
+            } else {
+                expression.addOperator();
+            }
+
+            if (StringUtils.isEmpty(path)) {
+                continue;
+            }
+
+            checkColumnReference(path, schema);
+            Column column = columns.get(path);
+
+            if (value == null || value.equals(StringUtils.EMPTY)) {
+                if (IS_NULL_OPERATORS.contains(operator)) {
+                    expression.addOperand(rowCount -> column.getNulls());
+                } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                    expression.addOperand(rowCount -> {
+                        BitSet notNulls = (BitSet) column.getNulls().clone();
+                        notNulls.flip(0, rowCount);
+                        return notNulls;
+                    });
+                } else {
+                    throw new UnsupportedFilterException("No null check for operator " + operator);
+                }
+                continue;
+            }
+
+            expression.addOperand(compileCondition(column, schema.get(path), operator, value));
+        }
+
+        return expression;
+    }
+
+    private RowFilter compileCondition(Column column, DataType dataType, ConditionalOperator operator, String value) {
+
+        if (operator == ConditionalOperator.IN || operator == ConditionalOperator.NOT_IN) {
+            List<Object> arrayValues;
+            try {
+                arrayValues = objectMapper.readValue(value, List.class);
+            } catch (IOException e) {
+                throw new UnsupportedFilterException(value + " could not be parsed into an array");
+            }
+            if (arrayValues.isEmpty()) {
+                throw new UnsupportedFilterException("Empty array");
+            }
+
+            List<Object> parameters = new ArrayList<>();
+            boolean hasNullParameter = false;
+            for (Object fieldValue : arrayValues) {
+                Object parameter = toParameterValue(String.valueOf(fieldValue), dataType);
+                if (parameter == null) {
+                    hasNullParameter = true;
+                } else {
+                    parameters.add(column.checkParameter(parameter));
+                }
+            }
+
+            if (operator == ConditionalOperator.IN) {
+                return column.filter(row -> parameters.stream().anyMatch(p -> column.compareToParameter(row, p) == 0));
+            }
+
+            // A null in the list makes `NOT IN` unknown for every row
+            if (hasNullParameter) {
+                return rowCount -> new BitSet(rowCount);
+            }
+            return column.filter(row -> parameters.stream().noneMatch(p -> column.compareToParameter(row, p) == 0));
+        }
+
+        if (operator == ConditionalOperator.CONTAINS) {
+            if (!(column instanceof StringColumn stringColumn)) {
+                throw new UnsupportedFilterException("Contains on a non string column");
+            }
+            return column.filter(row -> stringColumn.values[row].contains(value));
+        }
+
+        if (!COMPARISON_OPERATORS.contains(operator)) {
+            throw new UnsupportedFilterException(operator + " is not supported currently for filtering.");
+        }
+
+        Object parameterValue = toParameterValue(value, dataType);
+        if (parameterValue == null) {
+            // Comparing with null is never true
+            return rowCount -> new BitSet(rowCount);
+        }
+        Object parameter = column.checkParameter(parameterValue);
+
+        return switch (operator) {
+            case LT -> column.filter(row -> column.compareToParameter(row, parameter) < 0);
+            case LTE -> column.filter(row -> column.compareToParameter(row, parameter) <= 0);
+            case EQ -> column.filter(row -> column.compareToParameter(row, parameter) == 0);
+            case NOT_EQ -> column.filter(row -> column.compareToParameter(row, parameter) != 0);
+            case GT -> column.filter(row -> column.compareToParameter(row, parameter) > 0);
+            default -> column.filter(row -> column.compareToParameter(row, parameter) >= 0);
+        };
+    }
+
+    /**
+     * Raised when filtering can not be done without H2.
+     */
+    private static class UnsupportedFilterException extends RuntimeException {
+        UnsupportedFilterException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * Set of rows matching a condition.
+     */
+    private interface RowFilter {
+        BitSet evaluate(int rowCount);
+    }
+
+    private interface RowPredicate {
+        boolean test(int row);
+    }
+
+    /**
+     * Conditions joined by the same logical operator. The operators are tracked in the same positions as they are
+     * added to the SQL expression, to only accept expressions of the form `condition (operator condition)*`.
+     */
+    private static class LogicalExpression {
+        private final ConditionalOperator logicOp;
+        private final List<RowFilter> operands = new ArrayList<>();
+        private boolean expectsOperand = true;
+        private boolean isEmpty = true;
+
+        LogicalExpression(ConditionalOperator logicOp) {
+            this.logicOp = logicOp;
+        }
+
+        void addOperator() {
+            if (expectsOperand) {
+                throw new UnsupportedFilterException("Logical operator without a left operand");
+            }
+            expectsOperand = true;
+            isEmpty = false;
+        }
+
+        void addOperand(RowFilter operand) {
+            if (!expectsOperand) {
+                throw new UnsupportedFilterException("Conditions without a logical operator in between");
+            }
+            operands.add(operand);
+            expectsOperand = false;
+            isEmpty = false;
+        }
+
+        boolean isEmpty() {
+            return isEmpty;
+        }
+
+        RowFilter toRowFilter() {
+            if (expectsOperand) {
+                throw new UnsupportedFilterException("Logical operator without a right operand");
+            }
+            if (logicOp != ConditionalOperator.AND && logicOp != ConditionalOperator.OR) {
+                throw new UnsupportedFilterException("Unknown logical operator " + logicOp);
+            }
+
+            return rowCount -> {
+                BitSet result = null;
+                for (RowFilter operand : operands) {
+                    BitSet operandRows = operand.evaluate(rowCount);
+                    if (result == null) {
+                        result = (BitSet) operandRows.clone();
+                    } else if (logicOp == ConditionalOperator.AND) {
+                        result.and(operandRows);
+                    } else {
+                        result.or(operandRows);
+                    }
+                }
+                return result;
+            };
+        }
+    }
+
+    /**
+     * Values of a single column, in the type of the H2 column they would have been inserted in.
+     */
+    private abstract static class Column {
+        private final BitSet nulls;
+
+        Column(int rowCount) {
+            this.nulls = new BitSet(rowCount);
+            // Fields missing from an item are nulls
+            nulls.set(0, rowCount);
+        }
+
+        static Column of(DataType dataType, int rowCount) {
+            return switch (dataType) {
+                case INTEGER -> new IntColumn(rowCount);
+                case LONG -> new LongColumn(rowCount);
+                case FLOAT -> new FloatColumn(rowCount);
+                case DOUBLE -> new DoubleColumn(rowCount);
+                case BOOLEAN -> new BooleanColumn(rowCount);
+                case DATE, TIMESTAMP -> throw new UnsupportedFilterException("Date column");
+                default -> new StringColumn(rowCount);
+            };
+        }
+
+        BitSet getNulls() {
+            return nulls;
+        }
+
+        void set(int row, Object value) {
+            if (value == null) {
+                return;
+            }
+            setNonNull(row, value);
+            nulls.clear(row);
+        }
+
+        /**
+         * Rows of the column, other than the null ones, for which the predicate holds.
+         */
+        RowFilter filter(RowPredicate predicate) {
+            return rowCount -> {
+                BitSet result = new BitSet(rowCount);
+                for (int row = nulls.nextClearBit(0); row < rowCount; row = nulls.nextClearBit(row + 1)) {
+                    if (predicate.test(row)) {
+                        result.set(row);
+                    }
+                }
+                return result;
+            };
+        }
+
+        int compareRows(int rowA, int rowB) {
+            boolean isNullA = nulls.get(rowA);
+            boolean isNullB = nulls.get(rowB);
+            if (isNullA || isNullB) {
+                return Boolean.compare(!isNullA, !isNullB);
+            }
+            return compareNonNullRows(rowA, rowB);
+        }
+
+        void putValue(ObjectNode rowNode, String columnName, int row) {
+            if (nulls.get(row)) {
+                // Set null values to empty strings
+                rowNode.put(columnName, "");
+            } else {
+                putNonNullValue(rowNode, columnName, row);
+            }
+        }
+
+        abstract void setNonNull(int row, Object value);
+
+        abstract int compareNonNullRows(int rowA, int rowB);
+
+        /**
+         * @return the parameter if it can be compared with the values of this column
+         */
+        abstract Object checkParameter(Object parameter);
+
+        abstract int compareToParameter(int row, Object parameter);
+
+        abstract void putNonNullValue(ObjectNode rowNode, String columnName, int row);
+
+        static UnsupportedFilterException unsupportedValue(Object value) {
+            return new UnsupportedFilterException("Unsupported value " + value);
+        }
+    }
+
+    private static class IntColumn extends Column {
+        private final int[] values;
+
+        IntColumn(int rowCount) {
+            super(rowCount);
+            this.values = new int[rowCount];
+        }
+
+        @Override
+        void setNonNull(int row, Object value) {
+            try {
+                if (value instanceof Integer intValue) {
+                    values[row] = intValue;
+                } else if (value instanceof Long longValue) {
+                    values[row] = Math.toIntExact(longValue);
+                } else if (value instanceof BigDecimal decimalValue) {
+                    values[row] = decimalValue.intValueExact();
+                } else {
+                    throw unsupportedValue(value);
+                }
+            } catch (ArithmeticException e) {
+                throw unsupportedValue(value);
+            }
+        }
+
+        @Override
+        int compareNonNullRows(int rowA, int rowB) {
+            return Integer.compare(values[rowA], values[rowB]);
+        }
+
+        @Override
+        Object checkParameter(Object parameter) {
+            if (!(parameter instanceof Integer)) {
+                throw unsupportedValue(parameter);
+            }
+            return parameter;
+        }
+
+        @Override
+        int compareToParameter(int row, Object parameter) {
+            return Integer.compare(values[row], (Integer) parameter);
+        }
+
+        @Override
+        void putNonNullValue(ObjectNode rowNode, String columnName, int row) {
+            rowNode.put(columnName, values[row]);
+        }
+    }
+
+    private static class LongColumn extends Column {
+        private final long[] values;
+
+        LongColumn(int rowCount) {
+            super(rowCount);
+            this.values = new long[rowCount];
+        }
+
+        @Override
+        void setNonNull(int row, Object value) {
+            try {
+                if (value instanceof Integer || value instanceof Long) {
+                    values[row] = ((Number) value).longValue();
+                } else if (value instanceof BigDecimal decimalValue) {
+                    values[row] = decimalValue.longValueExact();
+                } else {
+                    throw unsupportedValue(value);
+                }
+            } catch (ArithmeticException e) {
+                throw unsupportedValue(value);
+            }
+        }
+
+        @Override
+        int compareNonNullRows(int rowA, int rowB) {
+            return Long.compare(values[rowA], values[rowB]);
+        }
+
+        @Override
+        Object checkParameter(Object parameter) {
+            if (!(parameter instanceof Long)) {
+                throw unsupportedValue(parameter);
+            }
+            return parameter;
+        }
+
+        @Override
+        int compareToParameter(int row, Object parameter) {
+            return Long.compare(values[row], (Long) parameter);
+        }
+
+        @Override
+        void putNonNullValue(ObjectNode rowNode, String columnName, int row) {
+            rowNode.put(columnName, values[row]);
+        }
+    }
+
+    /*
+     * H2 compares REAL and DOUBLE columns with decimal parameters by converting the column value to the decimal of
+     * its string representation. When the parameter rounded to the column type is not equal to the column value,
+     * comparing the two as floating point numbers gives the same result, since rounding preserves order. Only the
+     * remaining values need to be compared as decimals.
+     */
+
+    private static class FloatColumn extends Column {
+        private final float[] values;
+
+        FloatColumn(int rowCount) {
+            super(rowCount);
+            this.values = new float[rowCount];
+        }
+
+        @Override
+        void setNonNull(int row, Object value) {
+            if (!(value instanceof Number) || Float.isInfinite(((Number) value).floatValue())) {
+                throw unsupportedValue(value);
+            }
+            values[row] = ((Number) value).floatValue();
+        }
+
+        @Override
+        int compareNonNullRows(int rowA, int rowB) {
+            return Float.compare(values[rowA], values[rowB]);
+        }
+
+        @Override
+        Object checkParameter(Object parameter) {
+            if (!(parameter instanceof BigDecimal)) {
+                throw unsupportedValue(parameter);
+            }
+            return parameter;
+        }
+
+        @Override
+        int compareToParameter(int row, Object parameter) {
+            BigDecimal decimalParameter = (BigDecimal) parameter;
+            float roundedParameter = decimalParameter.floatValue();
+            if (values[row] != roundedParameter) {
+                return values[row] < roundedParameter ? -1 : 1;
+            }
+            return new BigDecimal(Float.toString(values[row])).compareTo(decimalParameter);
+        }
+
+        @Override
+        void putNonNullValue(ObjectNode rowNode, String columnName, int row) {
+            rowNode.put(columnName, values[row]);
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+        private final double[] values;
+
+        DoubleColumn(int rowCount) {
+            super(rowCount);
+            this.values = new double[rowCount];
+        }
+
+        @Override
+        void setNonNull(int row, Object value) {
+            if (!(value instanceof Number) || Double.isInfinite(((Number) value).doubleValue())) {
+                throw unsupportedValue(value);
+            }
+            values[row] = ((Number) value).doubleValue();
+        }
+
+        @Override
+        int compareNonNullRows(int rowA, int rowB) {
+            return Double.compare(values[rowA], values[rowB]);
+        }
+
+        @Override
+        Object checkParameter(Object parameter) {
+            if (!(parameter instanceof BigDecimal)) {
+                throw unsupportedValue(parameter);
+            }
+            return parameter;
+        }
+
+        @Override
+        int compareToParameter(int row, Object parameter) {
+            BigDecimal decimalParameter = (BigDecimal) parameter;
+            double roundedParameter = decimalParameter.doubleValue();
+            if (values[row] != roundedParameter) {
+                return values[row] < roundedParameter ? -1 : 1;
+            }
+            return new BigDecimal(Double.toString(values[row])).compareTo(decimalParameter);
+        }
+
+        @Override
+        void putNonNullValue(ObjectNode rowNode, String columnName, int row) {
+            rowNode.put(columnName, values[row]);
+        }
+    }
+
+    private static class BooleanColumn extends Column {
+        private final boolean[] values;
+
+        BooleanColumn(int rowCount) {
+            super(rowCount);
+            this.values = new boolean[rowCount];
+        }
+
+        @Override
+        void setNonNull(int row, Object value) {
+            if (!(value instanceof Boolean booleanValue)) {
+                throw unsupportedValue(value);
+            }
+            values[row] = booleanValue;
+        }
+
+        @Override
+        int compareNonNullRows(int rowA, int rowB) {
+            return Boolean.compare(values[rowA], values[rowB]);
+        }
+
+        @Override
+        Object checkParameter(Object parameter) {
+            if (!(parameter instanceof Boolean)) {
+                throw unsupportedValue(parameter);
+            }
+            return parameter;
+        }
+
+        @Override
+        int compareToParameter(int row, Object parameter) {
+            return Boolean.compare(values[row], (Boolean) parameter);
+        }
+
+        @Override
+        void putNonNullValue(ObjectNode rowNode, String columnName, int row) {
+            rowNode.put(columnName, values[row]);
+        }
+    }
+
+    private static class StringColumn extends Column {
+        private final String[] values;
+
+        StringColumn(int rowCount) {
+            super(rowCount);
+            this.values = new String[rowCount];
+        }
+
+        @Override
+        void setNonNull(int row, Object value) {
+            if (!(value instanceof String stringValue)) {
+                throw unsupportedValue(value);
+            }
+            values[row] = stringValue;
+        }
+
+        @Override
+        int compareNonNullRows(int rowA, int rowB) {
+            return values[rowA].compareTo(values[rowB]);
+        }
+
+        @Override
+        Object checkParameter(Object parameter) {
+            if (!(parameter instanceof String)) {
+                throw unsupportedValue(parameter);
+            }
+            return parameter;
+        }
+
+        @Override
+        int compareToParameter(int row, Object parameter) {
+            return values[row].compareTo((String) parameter);
+        }
+
+        @Override
+        void putNonNullValue(ObjectNode rowNode, String columnName, int row) {
+            rowNode.put(columnName, values[row]);
+        }
+    }
+}
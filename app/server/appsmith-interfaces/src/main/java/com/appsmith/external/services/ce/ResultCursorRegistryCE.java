@@ -0,0 +1,185 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.ResultCursor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the result cursors of paginated query executions open between pages, and hands them out again in exchange for
+ * the continuation token returned with the previous page.
+ *
+ * Every open cursor holds a connection out of its datasource's pool in an open transaction, so cursors are only kept
+ * for a few seconds after their last page was read, and only a limited number of them are kept per connection pool and
+ * per node. The least recently used cursor is closed when either limit is reached. The next page of a closed cursor
+ * fails with an error asking to run the query again from its first page. Running the query again in the background and
+ * skipping the rows already read is not an option, as it would run any function the query calls a second time, and
+ * could skip or repeat rows of a query that has no stable order.
+ */
+@Slf4j
+public class ResultCursorRegistryCE {
+
+    public static final int DEFAULT_MAX_OPEN_CURSORS = 20;
+
+    public static final Duration DEFAULT_CURSOR_TTL = Duration.ofSeconds(15);
+
+    private final int maxOpenCursors;
+
+    private final Duration cursorTtl;
+
+    // Access ordered, the eldest entry is the least recently used cursor
+    private final LinkedHashMap<String, RegisteredCursor> cursors = new LinkedHashMap<>(16, 0.75f, true);
+
+    public ResultCursorRegistryCE() {
+        this(DEFAULT_MAX_OPEN_CURSORS, DEFAULT_CURSOR_TTL);
+        ScheduledExecutorService reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "result-cursor-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, cursorTtl.toSeconds() / 2);
+        reaper.scheduleWithFixedDelay(this::closeExpired, period, period, TimeUnit.SECONDS);
+    }
+
+    public ResultCursorRegistryCE(int maxOpenCursors, Duration cursorTtl) {
+        this.maxOpenCursors = maxOpenCursors;
+        this.cursorTtl = cursorTtl;
+    }
+
+    private record RegisteredCursor(ResultCursor cursor, String pool, long expiresAt) {}
+
+    /**
+     * Keeps the cursor open to read its next page later.
+     *
+     * @param cursor               : cursor with more rows to read
+     * @param pool                 : name of the connection pool the connection of the cursor belongs to
+     * @param maxOpenCursorsInPool : maximum number of cursors kept open for that pool, at least one
+     * @return the continuation token to read the next page with
+     */
+    public String register(ResultCursor cursor, String pool, int maxOpenCursorsInPool) {
+        String id = UUID.randomUUID().toString();
+        List<ResultCursor> evicted = new ArrayList<>();
+        synchronized (this) {
+            cursors.put(id, new RegisteredCursor(cursor, pool, System.currentTimeMillis() + cursorTtl.toMillis()));
+
+            int openCursorsInPool = countOpenCursors(pool);
+            Iterator<RegisteredCursor> iterator = cursors.values().iterator();
+            while (openCursorsInPool > maxOpenCursorsInPool && iterator.hasNext()) {
+                RegisteredCursor registeredCursor = iterator.next();
+                if (registeredCursor.pool().equals(pool)) {
+                    evicted.add(registeredCursor.cursor());
+                    iterator.remove();
+                    openCursorsInPool--;
+                }
+            }
+
+            iterator = cursors.values().iterator();
+            while (cursors.size() > maxOpenCursors && iterator.hasNext()) {
+                evicted.add(iterator.next().cursor());
+                iterator.remove();
+            }
+        }
+
+        evicted.forEach(ResultCursor::close);
+        return encodeToken(id);
+    }
+
+    /**
+     * Takes the cursor of the given continuation token out of the registry. The caller owns the cursor from then on,
+     * and either registers it again or closes it.
+     *
+     * @param token : continuation token returned with the previous page
+     * @param owner : identifies the query that is being executed
+     * @return the cursor
+     * @throws AppsmithPluginException if the cursor was closed in the meantime or was opened for another query
+     */
+    public ResultCursor take(String token, String owner) {
+        String id = decodeToken(token);
+        RegisteredCursor registeredCursor;
+        synchronized (this) {
+            registeredCursor = cursors.get(id);
+            if (registeredCursor == null
+                    || !registeredCursor.cursor().getOwner().equals(owner)) {
+                throw cursorExpired();
+            }
+            cursors.remove(id);
+        }
+
+        if (registeredCursor.expiresAt() <= System.currentTimeMillis()) {
+            registeredCursor.cursor().close();
+            throw cursorExpired();
+        }
+
+        return registeredCursor.cursor();
+    }
+
+    /**
+     * Closes the cursors whose next page has not been asked for in time.
+     */
+    public void closeExpired() {
+        long now = System.currentTimeMillis();
+        List<ResultCursor> expired = new ArrayList<>();
+        synchronized (this) {
+            Iterator<RegisteredCursor> iterator = cursors.values().iterator();
+            while (iterator.hasNext()) {
+                RegisteredCursor registeredCursor = iterator.next();
+                if (registeredCursor.expiresAt() <= now) {
+                    expired.add(registeredCursor.cursor());
+                    iterator.remove();
+                }
+            }
+        }
+
+        if (!expired.isEmpty()) {
+            log.debug("Closing {} expired result cursors", expired.size());
+        }
+        expired.forEach(ResultCursor::close);
+    }
+
+    public synchronized int size() {
+        return cursors.size();
+    }
+
+    public synchronized int size(String pool) {
+        return countOpenCursors(pool);
+    }
+
+    private int countOpenCursors(String pool) {
+        return (int) cursors.values().stream()
+                .filter(registeredCursor -> registeredCursor.pool().equals(pool))
+                .count();
+    }
+
+    private static String encodeToken(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeToken(String token) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Invalid continuation token. Please run the query again from its first page.");
+        }
+    }
+
+    private static AppsmithPluginException cursorExpired() {
+        return new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                "The next page of this query is no longer available, as it was not asked for in time. Please run the "
+                        + "query again from its first page.");
+    }
+}
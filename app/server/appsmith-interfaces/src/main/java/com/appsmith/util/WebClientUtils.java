@@ -52,7 +52,7 @@ public class WebClientUtils {
         return builder(provider).baseUrl(baseUrl).build();
     }
 
-    private static boolean shouldUseSystemProxy() {
+    public static boolean shouldUseSystemProxy() {
         return "true".equals(System.getProperty("java.net.useSystemProxies"))
                 && (!System.getProperty("http.proxyHost", "").isEmpty()
                         || !System.getProperty("https.proxyHost", "").isEmpty());
@@ -2,7 +2,9 @@ package com.appsmith.external.helpers;
 
 import com.appsmith.external.constants.ConditionalOperator;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.Property;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +21,7 @@ import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -198,6 +201,50 @@ public class PluginUtilsTest {
         assertEquals(Map.of("key", Map.of("innerKey", Map.of("data", "value"))), dataMap);
     }
 
+    @Test
+    public void testIsPreparedStatement() {
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        assertTrue(PluginUtils.isPreparedStatement(actionConfiguration));
+
+        actionConfiguration.setPluginSpecifiedTemplates(List.of());
+        assertTrue(PluginUtils.isPreparedStatement(actionConfiguration));
+
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", false)));
+        assertFalse(PluginUtils.isPreparedStatement(actionConfiguration));
+
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+        assertFalse(PluginUtils.isPreparedStatement(actionConfiguration));
+
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "true")));
+        assertTrue(PluginUtils.isPreparedStatement(actionConfiguration));
+
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", 1)));
+        assertTrue(PluginUtils.isPreparedStatement(actionConfiguration));
+    }
+
+    @Test
+    public void testIsReadOnlyQuery() {
+        assertTrue(PluginUtils.isReadOnlyQuery("SELECT * FROM users WHERE id = {{Input1.text}}"));
+        assertTrue(PluginUtils.isReadOnlyQuery("/* recent */ WITH recent AS (SELECT 1) SELECT * FROM recent"));
+        assertTrue(PluginUtils.isReadOnlyQuery("select updated_at, created_by from users"));
+        assertFalse(PluginUtils.isReadOnlyQuery("UPDATE users SET name = 'selected'"));
+        assertFalse(PluginUtils.isReadOnlyQuery("WITH gone AS (DELETE FROM users RETURNING *) SELECT * FROM gone"));
+        assertFalse(PluginUtils.isReadOnlyQuery("SELECT * FROM users FOR UPDATE"));
+        assertFalse(PluginUtils.isReadOnlyQuery("SELECT * INTO users_copy FROM users"));
+        assertFalse(PluginUtils.isReadOnlyQuery("SELECT nextval('users_id_seq')"));
+        assertFalse(PluginUtils.isReadOnlyQuery(null));
+
+        // Functions other than built-in ones may have side effects
+        assertTrue(PluginUtils.isReadOnlyQuery(
+                "SELECT COUNT(*), lower(name) FROM users WHERE id IN (SELECT user_id FROM orders) GROUP BY name"));
+        assertTrue(PluginUtils.isReadOnlyQuery("SELECT * FROM users WHERE name = 'archive(1)'"));
+        assertTrue(PluginUtils.isReadOnlyQuery("SELECT * FROM users WHERE id = {{ getId(Input1.text) }}"));
+        assertFalse(PluginUtils.isReadOnlyQuery("select f()"));
+        assertFalse(PluginUtils.isReadOnlyQuery("SELECT archive_user(id) FROM users"));
+        assertFalse(PluginUtils.isReadOnlyQuery("SELECT public.lower(name) FROM users"));
+        assertFalse(PluginUtils.isReadOnlyQuery("SELECT pg_advisory_lock (1)"));
+    }
+
     @Test
     public void verifyUniquenessOfCommonPluginErrorCode() {
         assert (Arrays.stream(AppsmithPluginError.values())
@@ -0,0 +1,92 @@
+package com.appsmith.external.helpers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the size accounting done by {@link ResponseSizeAccumulator} with the earlier approach used by the JDBC
+ * plugins, i.e. serializing the list of rows read so far with {@link Sizeof} every 100 rows.
+ *
+ * This is not run as part of the test suite. To run it, execute the main method of this class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(
+        value = 1,
+        jvmArgs = {"-Xmx4g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ResponseSizeAccumulatorBenchmark {
+
+    private static final int HEAVY_OP_FREQUENCY = 100;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rowCount;
+
+    private List<Map<String, Object>> rows;
+
+    @Setup
+    public void setup() {
+        rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("name", "user_" + i);
+            row.put("email", "user_" + i + "@example.com");
+            row.put("score", i * 1.5d);
+            row.put("active", i % 2 == 0);
+            row.put("created_at", "2023-01-01T00:00:00Z");
+            rows.add(row);
+        }
+    }
+
+    @Benchmark
+    public int periodicSerialization() throws IOException {
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        int objectSize = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (i % HEAVY_OP_FREQUENCY == 0) {
+                objectSize = Sizeof.sizeof(rowsList);
+            }
+            rowsList.add(rows.get(i));
+        }
+        return objectSize;
+    }
+
+    @Benchmark
+    public long incrementalEstimation() {
+        ResponseSizeAccumulator rowsAccumulator = new ResponseSizeAccumulator(Long.MAX_VALUE);
+        for (Map<String, Object> row : rows) {
+            rowsAccumulator.add(row);
+        }
+        return rowsAccumulator.getSizeInBytes();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ResponseSizeAccumulatorBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,102 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.TabularResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseSizeAccumulatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Map<String, Object> getRow(int id) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("name", "user_" + id);
+        row.put("price", new BigDecimal("1234.50"));
+        row.put("active", true);
+        row.put("tags", List.of("a", "b"));
+        row.put("details", null);
+        return row;
+    }
+
+    @Test
+    public void testAdd_withinLimit_accumulatesRowsAndSize() {
+        ResponseSizeAccumulator rowsAccumulator = new ResponseSizeAccumulator(10 * 1024);
+
+        assertTrue(rowsAccumulator.add(getRow(1)));
+        long sizeAfterOneRow = rowsAccumulator.getSizeInBytes();
+        assertTrue(rowsAccumulator.add(getRow(2)));
+
+        assertEquals(2, rowsAccumulator.getRowCount());
+        assertTrue(rowsAccumulator.getSizeInBytes() > sizeAfterOneRow);
+        assertFalse(rowsAccumulator.isSizeLimitExceeded());
+    }
+
+    @Test
+    public void testAdd_beyondLimit_isReportedOnTheRowThatCrossesIt() {
+        long rowSize = ResponseSizeAccumulator.estimateRowSize(getRow(1));
+        ResponseSizeAccumulator rowsAccumulator = new ResponseSizeAccumulator(rowSize * 2);
+
+        assertTrue(rowsAccumulator.add(getRow(1)));
+        assertTrue(rowsAccumulator.add(getRow(1)));
+        assertFalse(rowsAccumulator.add(getRow(1)));
+        assertTrue(rowsAccumulator.isSizeLimitExceeded());
+    }
+
+    @Test
+    public void testGetRows_isReadOnly() {
+        ResponseSizeAccumulator rowsAccumulator = new ResponseSizeAccumulator(10 * 1024);
+        rowsAccumulator.add(getRow(1));
+
+        List<Map<String, Object>> rows = rowsAccumulator.getRows();
+        assertThrows(UnsupportedOperationException.class, () -> rows.add(getRow(2)));
+        assertEquals(1, rowsAccumulator.getRowCount());
+    }
+
+    @Test
+    public void testGetRows_tabularResult_isReadOnlyAndSerializedTheSame() throws Exception {
+        TabularResult tabularResult = new TabularResult(objectMapper);
+        ResponseSizeAccumulator rowsAccumulator = new ResponseSizeAccumulator(10 * 1024, tabularResult);
+        TabularResult.Columns columns = new TabularResult.Columns(List.of("id", "name"));
+        rowsAccumulator.add(columns, new Object[] {1, "user_1"});
+        rowsAccumulator.add(Map.of("affectedRows", 1));
+
+        List<Map<String, Object>> rows = rowsAccumulator.getRows();
+        assertTrue(rows instanceof TabularResult);
+        assertThrows(UnsupportedOperationException.class, () -> rows.add(getRow(2)));
+        assertThrows(UnsupportedOperationException.class, () -> ((TabularResult) rows)
+                .addRow(columns, new Object[] {2, "user_2"}));
+        assertEquals(objectMapper.writeValueAsString(tabularResult), objectMapper.writeValueAsString(rows));
+        assertEquals(
+                ResponseSizeAccumulator.estimateRowSize(rows.get(0))
+                        + ResponseSizeAccumulator.estimateRowSize(rows.get(1)),
+                rowsAccumulator.getSizeInBytes());
+    }
+
+    @Test
+    public void testEstimateRowSize_isCloseToJsonSize() throws Exception {
+        Map<String, Object> row = getRow(12345);
+        row.put("json", objectMapper.readTree("{\"key\": [1, 2, \"three\"]}"));
+
+        long estimatedSize = ResponseSizeAccumulator.estimateRowSize(row);
+        int jsonSize = objectMapper.writeValueAsString(row).length();
+
+        assertTrue(Math.abs(estimatedSize - jsonSize) <= jsonSize * 0.2, estimatedSize + " vs " + jsonSize);
+    }
+
+    @Test
+    public void testGetMaxSizeInMB() {
+        ResponseSizeAccumulator rowsAccumulator = new ResponseSizeAccumulator(5 * 1024 * 1024);
+        assertEquals(5f, rowsAccumulator.getMaxSizeInMB());
+    }
+}
@@ -0,0 +1,159 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResultShapeTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Whether the data is a table, as decided by reading it into a list of rows
+     */
+    private boolean isTableByConversion(Object data) {
+        try {
+            if (data instanceof String string) {
+                objectMapper.readValue(string, new TypeReference<List<Map<String, Object>>>() {});
+            } else {
+                objectMapper.convertValue(data, new TypeReference<List<Map<String, Object>>>() {});
+            }
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean isJsonByParsing(String data) {
+        try {
+            objectMapper.readTree(data);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void testAnalyze_strings_sameAsReadingThem() {
+        List<String> bodies = List.of(
+                "",
+                "   ",
+                "null",
+                "12",
+                "\"text\"",
+                "plain text",
+                "{}",
+                "{\"a\": 1}",
+                "[]",
+                "[{\"a\": 1}, {\"b\": [1, {\"c\": 2}]}]",
+                "[{\"a\": 1}, null]",
+                "[{\"a\": 1}, 2]",
+                "[[1, 2]]",
+                "[\"a\", \"b\"]",
+                "[{\"a\": 1}] trailing",
+                "[{\"a\": 1}",
+                "[{\"a\": }]",
+                "{\"a\": [1, 2]");
+
+        for (String body : bodies) {
+            ResultShape shape = ResultShape.analyze(body);
+            assertThat(shape.isTable()).as(body).isEqualTo(isTableByConversion(body));
+            assertThat(shape.isJson()).as(body).isEqualTo(isJsonByParsing(body));
+        }
+        assertThat(ResultShape.analyze("[{\"a\": 1}, null, {}]").getRowCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testAnalyze_jsonNodes_sameAsConvertingThem() {
+        ArrayNode rows = objectMapper.createArrayNode();
+        rows.addObject().put("name", "a").put("id", 1);
+        rows.addNull();
+        ArrayNode mixed = objectMapper.createArrayNode();
+        mixed.addObject();
+        mixed.add("text");
+        ArrayNode strings = objectMapper.createArrayNode().add("a").add("b");
+
+        List<JsonNode> nodes = List.of(
+                rows,
+                mixed,
+                strings,
+                objectMapper.createArrayNode(),
+                objectMapper.createObjectNode(),
+                NullNode.getInstance(),
+                objectMapper.getNodeFactory().textNode("text"),
+                objectMapper.getNodeFactory().numberNode(1));
+
+        for (JsonNode node : nodes) {
+            ResultShape shape = ResultShape.analyze(node);
+            assertThat(shape.isTable()).as(node.toString()).isEqualTo(isTableByConversion(node));
+            assertThat(shape.isJson()).as(node.toString()).isTrue();
+        }
+
+        ResultShape shape = ResultShape.analyze(rows);
+        assertThat(shape.getKind()).isEqualTo(ResultShape.Kind.JSON_ARRAY);
+        assertThat(shape.getRowCount()).isEqualTo(2);
+        assertThat(shape.getFirstRowType()).isEqualTo(JsonNodeType.OBJECT);
+        assertThat(shape.getFields()).containsExactly("name");
+        assertThat(shape.getNumericFields()).containsExactly("id");
+    }
+
+    @Test
+    public void testAnalyze_objectWithNestedArrays_collectsFieldsOfFirstArray() {
+        ObjectNode data = objectMapper.createObjectNode();
+        data.put("total", 2);
+        data.putArray("users").addObject().put("name", "a").put("age", 30);
+        data.putArray("groups").addObject().put("title", "b");
+
+        ResultShape shape = ResultShape.analyze(data);
+
+        assertThat(shape.getKind()).isEqualTo(ResultShape.Kind.JSON_OBJECT);
+        assertThat(shape.isTable()).isFalse();
+        assertThat(shape.getNestedArrayField()).isEqualTo("users");
+        assertThat(shape.getNestedRowCount()).isEqualTo(1);
+        assertThat(shape.getNestedFields()).containsExactly("name");
+        assertThat(shape.getNestedNumericFields()).containsExactly("age");
+    }
+
+    @Test
+    public void testAnalyze_lists_checksSampledRowsOnly() {
+        List<Object> rows = new ArrayList<>();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("name", "a");
+        row.put("id", 1);
+        row.put("tags", List.of());
+        rows.add(row);
+        rows.add(Map.of());
+        rows.add("not a row");
+
+        ResultShape shape = ResultShape.analyze(rows);
+        assertThat(shape.getKind()).isEqualTo(ResultShape.Kind.LIST);
+        assertThat(shape.isTable()).isFalse();
+        assertThat(shape.isJson()).isTrue();
+        assertThat(shape.getRowCount()).isEqualTo(3);
+        assertThat(shape.getFields()).containsExactly("name");
+        assertThat(shape.getNumericFields()).containsExactly("id");
+
+        // Rows past the sample are not checked
+        assertThat(ResultShape.analyze(rows, 2).isTable()).isTrue();
+    }
+
+    @Test
+    public void testAnalyze_primitives_notJson() {
+        assertThat(ResultShape.analyze(1).isJson()).isFalse();
+        assertThat(ResultShape.analyze(true).isTable()).isFalse();
+        assertThat(ResultShape.analyze(null).getKind()).isEqualTo(ResultShape.Kind.NULL);
+    }
+}
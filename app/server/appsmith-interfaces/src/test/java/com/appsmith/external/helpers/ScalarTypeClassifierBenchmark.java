@@ -0,0 +1,163 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.constants.DataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the type inference done by {@link ScalarTypeClassifier} with the earlier approach, i.e. trying the number
+ * parsers and freshly built date time formatters in turn until one of them doesn't throw. Json objects are left out,
+ * as both go through the same parsers for them.
+ *
+ * This is not run as part of the test suite. To run it, execute the main method of this class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ScalarTypeClassifierBenchmark {
+
+    @Param({"integer", "decimal", "boolean", "timestamp", "date", "time", "string"})
+    public String kind;
+
+    private List<String> values;
+
+    @Setup
+    public void setup() {
+        values = getValues(kind);
+    }
+
+    private static List<String> getValues(String kind) {
+        switch (kind) {
+            case "integer":
+                return List.of("42", "-7", "1,000", "9223372036854775807");
+            case "decimal":
+                return List.of("3.14", "-0.5", "1e10", "12,345.67");
+            case "boolean":
+                return List.of("true", "FALSE", "null", " True ");
+            case "timestamp":
+                return List.of("2021-03-24 14:05:34", "1999-12-31 23:59:59");
+            case "date":
+                return List.of("2021-03-24", "1999-12-31");
+            case "time":
+                return List.of("14:05", "14:05:34", "14:05:34.123");
+            default:
+                return List.of("plain text", "user@example.com", "a, b, c", "Jane Doe");
+        }
+    }
+
+    @Benchmark
+    public void parsing(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(classifyByParsing(value));
+        }
+    }
+
+    @Benchmark
+    public void classifier(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(ScalarTypeClassifier.classify(value));
+        }
+    }
+
+    private static DataType classifyByParsing(String input) {
+        String strNumericValue = input.trim().replaceAll(",", "");
+
+        try {
+            Integer.parseInt(strNumericValue);
+            return DataType.INTEGER;
+        } catch (NumberFormatException e) {
+            // Not an integer
+        }
+
+        try {
+            Long.parseLong(strNumericValue);
+            return DataType.LONG;
+        } catch (NumberFormatException e) {
+            // Not long
+        }
+
+        try {
+            Float.parseFloat(strNumericValue);
+            return DataType.FLOAT;
+        } catch (NumberFormatException e) {
+            // Not float
+        }
+
+        String copyInput = String.valueOf(input).toLowerCase().trim();
+        if (copyInput.equals("true") || copyInput.equals("false")) {
+            return DataType.BOOLEAN;
+        }
+
+        if (copyInput.equals("null")) {
+            return DataType.NULL;
+        }
+
+        try {
+            LocalDateTime.parse(
+                    input,
+                    new DateTimeFormatterBuilder()
+                            .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+                            .toFormatter());
+            return DataType.TIMESTAMP;
+        } catch (DateTimeParseException ex) {
+            // Not timestamp
+        }
+
+        try {
+            LocalDate.parse(
+                    input,
+                    new DateTimeFormatterBuilder()
+                            .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE)
+                            .toFormatter());
+            return DataType.DATE;
+        } catch (DateTimeParseException ex) {
+            // Not date
+        }
+
+        try {
+            LocalTime.parse(
+                    input,
+                    new DateTimeFormatterBuilder()
+                            .appendOptional(DateTimeFormatter.ISO_LOCAL_TIME)
+                            .toFormatter());
+            return DataType.TIME;
+        } catch (DateTimeParseException ex) {
+            // Not time
+        }
+
+        return DataType.STRING;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ScalarTypeClassifierBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,304 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.datatypes.AppsmithType;
+import com.appsmith.external.datatypes.BooleanType;
+import com.appsmith.external.datatypes.DateType;
+import com.appsmith.external.datatypes.DoubleType;
+import com.appsmith.external.datatypes.IntegerType;
+import com.appsmith.external.datatypes.JsonObjectType;
+import com.appsmith.external.datatypes.LongType;
+import com.appsmith.external.datatypes.NullType;
+import com.appsmith.external.datatypes.TimeType;
+import com.appsmith.external.datatypes.TimestampType;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import org.bson.BsonInvalidOperationException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScalarTypeClassifierTest {
+
+    private static final List<String> VALUES = List.of(
+            "",
+            "   ",
+            "0",
+            "-0",
+            "+7",
+            "42",
+            " 42 ",
+            "1,000",
+            "1,000,000,000,000",
+            "2147483647",
+            "2147483648",
+            "-2147483648",
+            "-2147483649",
+            "9223372036854775807",
+            "9223372036854775808",
+            "-9223372036854775808",
+            "123456789012345678901234567890",
+            "3.14",
+            "-.5",
+            "1.",
+            ".",
+            "-",
+            "+",
+            "1e10",
+            "1E-5",
+            "1e",
+            "e5",
+            ".e5",
+            "1.2.3",
+            "1-2",
+            "--1",
+            "1f",
+            "2.5D",
+            "0x1p3",
+            "NaN",
+            "-Infinity",
+            ", 1",
+            "1, ",
+            "1 2",
+            "١٢٣",
+            "true",
+            "FALSE",
+            " True ",
+            "null",
+            " NULL ",
+            "nul",
+            "[]",
+            "[ ]",
+            "[1, 2]",
+            "[",
+            "2021-03-24 14:05:34",
+            "2021-02-30 14:05:34",
+            "2021-02-32 14:05:34",
+            "0000-01-01 00:00:00",
+            "2021-03-24 24:00:00",
+            "+12021-03-24 14:05:34",
+            "2021-03-24T14:05:34",
+            "2021-03-24",
+            "2021-13-24",
+            "0000-01-01",
+            "+12021-03-24",
+            "-2021-03-24",
+            "14:05",
+            "14:05:34",
+            "14:05:34.123",
+            "14:05:34.123456789",
+            "14:05:34.",
+            "24:00",
+            "14:60",
+            "4:05",
+            "{}",
+            " {\"a\": 1}",
+            "{\"a\": 1} {\"b\": 2}",
+            "{a: 1}",
+            "{\"_id\": ObjectId(\"5f1d4d4a8f1e2b3c4d5e6f70\")}",
+            "{",
+            "{\"a\": ",
+            "plain text",
+            "a, b, c",
+            "face",
+            "bad",
+            "2 apples");
+
+    /**
+     * The type inference as it was done before the classifier, by trying every known type's parser in turn.
+     */
+    private static DataType classifyByParsing(String input) {
+        if (input == null) {
+            return DataType.NULL;
+        }
+
+        String strNumericValue = input.trim().replaceAll(",", "");
+
+        if (input.startsWith("[") && input.endsWith("]")) {
+            String betweenBraces = input.substring(1, input.length() - 1);
+            return betweenBraces.trim().isEmpty() ? DataType.NULL : DataType.ARRAY;
+        }
+
+        try {
+            Integer.parseInt(strNumericValue);
+            return DataType.INTEGER;
+        } catch (NumberFormatException e) {
+            // Not an integer
+        }
+
+        try {
+            Long.parseLong(strNumericValue);
+            return DataType.LONG;
+        } catch (NumberFormatException e) {
+            // Not long
+        }
+
+        try {
+            Float.parseFloat(strNumericValue);
+            return DataType.FLOAT;
+        } catch (NumberFormatException e) {
+            // Not float
+        }
+
+        String copyInput = String.valueOf(input).toLowerCase().trim();
+        if (copyInput.equals("true") || copyInput.equals("false")) {
+            return DataType.BOOLEAN;
+        }
+
+        if (copyInput.equals("null")) {
+            return DataType.NULL;
+        }
+
+        try {
+            LocalDateTime.parse(
+                    input,
+                    new DateTimeFormatterBuilder()
+                            .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+                            .toFormatter());
+            return DataType.TIMESTAMP;
+        } catch (DateTimeParseException ex) {
+            // Not timestamp
+        }
+
+        try {
+            LocalDate.parse(
+                    input,
+                    new DateTimeFormatterBuilder()
+                            .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE)
+                            .toFormatter());
+            return DataType.DATE;
+        } catch (DateTimeParseException ex) {
+            // Not date
+        }
+
+        try {
+            LocalTime.parse(
+                    input,
+                    new DateTimeFormatterBuilder()
+                            .appendOptional(DateTimeFormatter.ISO_LOCAL_TIME)
+                            .toFormatter());
+            return DataType.TIME;
+        } catch (DateTimeParseException ex) {
+            // Not time
+        }
+
+        TypeAdapter<JsonObject> strictGsonObjectAdapter = new Gson().getAdapter(JsonObject.class);
+        try (JsonReader reader = new JsonReader(new StringReader(input))) {
+            strictGsonObjectAdapter.read(reader);
+            reader.hasNext();
+            return DataType.JSON_OBJECT;
+        } catch (IOException | JsonSyntaxException e) {
+            // Not a strict JSON object
+        }
+
+        try {
+            Document.parse(input);
+            return DataType.BSON;
+        } catch (JsonParseException | BsonInvalidOperationException e) {
+            // Not BSON
+        }
+
+        return DataType.STRING;
+    }
+
+    @Test
+    public void testClassify_knownValues_sameAsParsing() {
+        for (String value : VALUES) {
+            assertThat(ScalarTypeClassifier.classify(value)).as(value).isEqualTo(classifyByParsing(value));
+        }
+        assertThat(ScalarTypeClassifier.classify(null)).isEqualTo(DataType.NULL);
+    }
+
+    @Test
+    public void testClassify_randomValues_sameAsParsing() {
+        char[] alphabet = "0123456789012345678901234567890+-.eE, :T[]{}\"afxpdN".toCharArray();
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder value = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                value.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            String input = value.toString();
+            assertThat(ScalarTypeClassifier.classify(input)).as(input).isEqualTo(classifyByParsing(input));
+        }
+
+        // Shuffled digits of valid dates and times, to go through their field ranges
+        for (int i = 0; i < 5000; i++) {
+            String input = String.format(
+                    "%04d-%02d-%02d %02d:%02d:%02d",
+                    random.nextInt(3000),
+                    random.nextInt(14),
+                    random.nextInt(33),
+                    random.nextInt(26),
+                    random.nextInt(61),
+                    random.nextInt(61));
+            assertThat(ScalarTypeClassifier.classify(input)).as(input).isEqualTo(classifyByParsing(input));
+            String date = input.substring(0, 10);
+            assertThat(ScalarTypeClassifier.classify(date)).as(date).isEqualTo(classifyByParsing(date));
+            String time = input.substring(11);
+            assertThat(ScalarTypeClassifier.classify(time)).as(time).isEqualTo(classifyByParsing(time));
+        }
+    }
+
+    @Test
+    public void testClassify_agreesWithAppsmithTypes() {
+        Map<DataType, AppsmithType> appsmithTypes = Map.of(
+                DataType.INTEGER, new IntegerType(),
+                DataType.LONG, new LongType(),
+                DataType.FLOAT, new DoubleType(),
+                DataType.BOOLEAN, new BooleanType(),
+                DataType.TIMESTAMP, new TimestampType(),
+                DataType.DATE, new DateType(),
+                DataType.TIME, new TimeType(),
+                DataType.JSON_OBJECT, new JsonObjectType());
+
+        for (String value : VALUES) {
+            // The data types test values as they are, without trimming them or removing their commas
+            if (value.contains(",") || !value.equals(value.trim())) {
+                continue;
+            }
+            DataType dataType = ScalarTypeClassifier.classify(value);
+            AppsmithType appsmithType = appsmithTypes.get(dataType);
+            if (appsmithType != null) {
+                assertThat(appsmithType.test(value)).as(value).isTrue();
+            }
+            if (dataType == DataType.NULL && !value.startsWith("[")) {
+                assertThat(new NullType().test(value)).as(value).isTrue();
+            }
+        }
+    }
+
+    @Test
+    public void testClassifyColumn_widensNumbersAndFallsBackToString() {
+        assertThat(ScalarTypeClassifier.classifyColumn(Arrays.asList("1", null, "", "null", "2")))
+                .isEqualTo(DataType.INTEGER);
+        assertThat(ScalarTypeClassifier.classifyColumn(List.of("1", "9223372036854775807")))
+                .isEqualTo(DataType.LONG);
+        assertThat(ScalarTypeClassifier.classifyColumn(List.of("1", "9223372036854775807", "2.5")))
+                .isEqualTo(DataType.FLOAT);
+        assertThat(ScalarTypeClassifier.classifyColumn(List.of("2021-03-24", "2021-03-25")))
+                .isEqualTo(DataType.DATE);
+        assertThat(ScalarTypeClassifier.classifyColumn(List.of("1", "true"))).isEqualTo(DataType.STRING);
+        assertThat(ScalarTypeClassifier.classifyColumn(new ArrayList<>())).isEqualTo(DataType.NULL);
+    }
+}
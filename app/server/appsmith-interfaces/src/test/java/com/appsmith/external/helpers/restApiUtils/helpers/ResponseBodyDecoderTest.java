@@ -0,0 +1,174 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ResponseBodyDecoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+    /**
+     * Splits the bytes into buffers of the given size, the way they would arrive from the network.
+     */
+    private Flux<DataBuffer> chunks(byte[] bytes, int chunkSize) {
+        List<byte[]> chunks = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            chunks.add(Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + chunkSize)));
+        }
+        return Flux.fromIterable(chunks).map(bufferFactory::wrap);
+    }
+
+    private Flux<DataBuffer> chunks(String text, int chunkSize) {
+        return chunks(text.getBytes(StandardCharsets.UTF_8), chunkSize);
+    }
+
+    @Test
+    public void testDecodeJson_splitAcrossBuffers_matchesReadTree() throws Exception {
+        String json = "{\"name\": \"Ünïcödé ✓\", \"values\": [1, 2.5, 12345678901234567890, true, null], "
+                + "\"nested\": {\"empty\": {}, \"list\": []}}";
+
+        for (int chunkSize : new int[] {1, 3, 7, json.length()}) {
+            JsonNode expected = objectMapper.readTree(json);
+            StepVerifier.create(ResponseBodyDecoder.decodeJson(chunks(json, chunkSize), objectMapper))
+                    .assertNext(jsonBody -> {
+                        assertEquals(expected, jsonBody.json());
+                        assertNull(jsonBody.text());
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    public void testDecodeJson_contentAfterFirstValue_isIgnored() {
+        StepVerifier.create(ResponseBodyDecoder.decodeJson(chunks("[1, 2] trailing {", 4), objectMapper))
+                .assertNext(jsonBody -> assertEquals("[1,2]", jsonBody.json().toString()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testDecodeJson_invalidJson_returnsText() {
+        StepVerifier.create(ResponseBodyDecoder.decodeJson(chunks("  {\"key\": unquoted}  ", 5), objectMapper))
+                .assertNext(jsonBody -> {
+                    assertNull(jsonBody.json());
+                    assertEquals("{\"key\": unquoted}", jsonBody.text());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testDecodeJson_largeBody_buffersReleasedWhileReceiving() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\": ").append(i).append("}");
+        }
+        json.append("]");
+
+        List<DataBuffer> emitted = new ArrayList<>();
+        Flux<DataBuffer> body = chunks(json.toString(), 1024)
+                .doOnNext(emitted::add)
+                // Before the body completes, all the received buffers have already been released
+                .concatWith(Flux.defer(() -> {
+                    long held = emitted.stream()
+                            .filter(buffer ->
+                                    ((NettyDataBuffer) buffer).getNativeBuffer().refCnt() > 0)
+                            .count();
+                    assertEquals(0, held);
+                    return Flux.empty();
+                }));
+
+        StepVerifier.create(ResponseBodyDecoder.decodeJson(body, objectMapper))
+                .assertNext(jsonBody -> assertEquals(10000, jsonBody.json().size()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testDecodeJson_largeBodyInvalidLater_failsWithError() {
+        String json = "[" + "1,".repeat(20000) + "unquoted]";
+
+        StepVerifier.create(ResponseBodyDecoder.decodeJson(chunks(json, 1024), objectMapper))
+                .expectErrorSatisfies(error -> {
+                    assertInstanceOf(AppsmithPluginException.class, error);
+                    assertEquals(
+                            AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode(),
+                            ((AppsmithPluginException) error).getAppErrorCode());
+                })
+                .verify();
+    }
+
+    @Test
+    public void testDecodeJson_largeInvalidBody_returnsText() {
+        String html = "<html>" + "<p>error</p>".repeat(5000) + "</html>";
+
+        StepVerifier.create(ResponseBodyDecoder.decodeJson(chunks(html, 1024), objectMapper))
+                .assertNext(jsonBody -> {
+                    assertNull(jsonBody.json());
+                    assertEquals(html, jsonBody.text());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testDecodeJson_emptyBody_isEmpty() {
+        StepVerifier.create(ResponseBodyDecoder.decodeJson(Flux.empty(), objectMapper))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testEncodeBase64_anyLength_matchesEncoder() {
+        Random random = new Random(42);
+        for (int length : new int[] {1, 2, 3, 4, 5, 100, 3 * 4096 + 1, 50_000}) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String expected = Base64.getEncoder().encodeToString(bytes);
+
+            for (int chunkSize : new int[] {1, 2, 1000, length}) {
+                StepVerifier.create(ResponseBodyDecoder.encodeBase64(chunks(bytes, chunkSize), length))
+                        .assertNext(encoded -> assertEquals(expected, encoded))
+                        .verifyComplete();
+            }
+        }
+    }
+
+    @Test
+    public void testDecodeText_trimsWhitespace() {
+        StepVerifier.create(ResponseBodyDecoder.decodeText(chunks("\n  plain text ✓ \n", 3)))
+                .assertNext(text -> assertEquals("plain text ✓", text))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testLimitSize_bodyOverLimit_failsWhileReceiving() {
+        List<Integer> requested = new ArrayList<>();
+        Flux<DataBuffer> body = chunks(new byte[100], 10).doOnNext(buffer -> requested.add(1));
+
+        StepVerifier.create(ResponseBodyDecoder.decodeText(ResponseBodyDecoder.limitSize(body, 25)))
+                .expectError(DataBufferLimitException.class)
+                .verify();
+
+        // The body is not read any further once it is over the limit
+        assertEquals(3, requested.size());
+    }
+}
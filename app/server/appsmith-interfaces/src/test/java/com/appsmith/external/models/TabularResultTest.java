@@ -0,0 +1,94 @@
+package com.appsmith.external.models;
+
+import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TabularResultTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Object[] getColumnValues(int id) throws Exception {
+        return new Object[] {
+            id,
+            "user_" + id,
+            new BigDecimal("10.50"),
+            null,
+            new Timestamp(1690000000000L),
+            new Object[] {"a", 1},
+            objectMapper.readTree("{\"nested\": [true, null]}"),
+            new byte[] {1, 2, 3}
+        };
+    }
+
+    private List<String> getColumnNames() {
+        return List.of("id", "name", "price", "deleted_at", "created_at", "tags", "details", "raw");
+    }
+
+    @Test
+    public void testSerialization_isSameAsValueToTreeOfListOfMaps() throws Exception {
+        TabularResult tabularResult = new TabularResult(objectMapper);
+        List<Map<String, Object>> rowsList = new ArrayList<>();
+        TabularResult.Columns columns = new TabularResult.Columns(getColumnNames());
+
+        for (int id = 0; id < 3; id++) {
+            Object[] columnValues = getColumnValues(id);
+            tabularResult.addRow(columns, columnValues);
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < columnValues.length; i++) {
+                row.put(getColumnNames().get(i), columnValues[i]);
+            }
+            rowsList.add(row);
+        }
+        tabularResult.add(Map.of("affectedRows", 3));
+        rowsList.add(Map.of("affectedRows", 3));
+
+        String expectedJson = objectMapper.valueToTree(rowsList).toString();
+
+        assertEquals(expectedJson, tabularResult.toString());
+        // The server serializes the result with its own configuration, which should not change the output.
+        assertEquals(expectedJson, SerializationUtils.getDefaultObjectMapper().writeValueAsString(tabularResult));
+        assertEquals(objectMapper.valueToTree(rowsList), objectMapper.valueToTree(tabularResult));
+    }
+
+    @Test
+    public void testRows_behaveLikeOrderedMaps() throws Exception {
+        TabularResult tabularResult = new TabularResult(objectMapper);
+        TabularResult.Columns columns = new TabularResult.Columns(getColumnNames());
+        tabularResult.addRow(columns, getColumnValues(7));
+
+        Map<String, Object> row = tabularResult.get(0);
+        assertEquals(1, tabularResult.size());
+        assertEquals(getColumnNames(), new ArrayList<>(row.keySet()));
+        assertEquals("user_7", row.get("name"));
+        assertTrue(row.containsKey("deleted_at"));
+        assertEquals(null, row.get("missing"));
+    }
+
+    @Test
+    public void testDuplicateColumnNames_keepFirstPositionAndLastValue() {
+        TabularResult tabularResult = new TabularResult(objectMapper);
+        TabularResult.Columns columns = new TabularResult.Columns(List.of("id", "name", "id"));
+        tabularResult.addRow(columns, new Object[] {1, "first", 2});
+
+        Map<String, Object> expectedRow = new LinkedHashMap<>();
+        expectedRow.put("id", 1);
+        expectedRow.put("name", "first");
+        expectedRow.put("id", 2);
+
+        assertEquals(List.of("id", "name"), new ArrayList<>(tabularResult.get(0).keySet()));
+        assertEquals(expectedRow, tabularResult.get(0));
+        assertEquals(objectMapper.valueToTree(List.of(expectedRow)).toString(), tabularResult.toString());
+    }
+}
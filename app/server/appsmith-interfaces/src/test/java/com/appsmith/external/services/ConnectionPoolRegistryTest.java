@@ -0,0 +1,182 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.ConnectionPoolSize;
+import com.appsmith.external.models.ConnectionPoolStats;
+import com.appsmith.external.services.ce.ConnectionPoolRegistryCE;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectionPoolRegistryTest {
+
+    public interface FakePoolMXBean {
+        int getActiveConnections();
+
+        int getIdleConnections();
+
+        int getTotalConnections();
+
+        int getThreadsAwaitingConnection();
+    }
+
+    public interface FakePoolConfigMXBean {
+        int getMinimumIdle();
+
+        int getMaximumPoolSize();
+
+        void setMaximumPoolSize(int maximumPoolSize);
+    }
+
+    /**
+     * Stands for a Hikari pool, exposing the same MBean attributes.
+     */
+    @Getter
+    @Setter
+    public static class FakePool implements FakePoolMXBean {
+        private int activeConnections;
+        private int idleConnections;
+        private int totalConnections;
+        private int threadsAwaitingConnection;
+    }
+
+    /**
+     * Stands for the configuration of a Hikari pool, exposing the same MBean attributes.
+     */
+    @Getter
+    @Setter
+    public static class FakePoolConfig implements FakePoolConfigMXBean {
+        private int minimumIdle = 1;
+        private int maximumPoolSize;
+    }
+
+    private MBeanServer mBeanServer;
+    private ConnectionPoolRegistryCE registry;
+
+    @BeforeEach
+    public void setUp() {
+        mBeanServer = MBeanServerFactory.newMBeanServer();
+        registry = new ConnectionPoolRegistryCE(mBeanServer);
+    }
+
+    private FakePool pool;
+
+    private FakePoolConfig createPool(String poolName, ConnectionPoolSize size) throws Exception {
+        pool = new FakePool();
+        FakePoolConfig poolConfig = new FakePoolConfig();
+        poolConfig.setMaximumPoolSize(size.getMaximumPoolSize());
+        mBeanServer.registerMBean(
+                new StandardMBean(pool, FakePoolMXBean.class, true),
+                new ObjectName("com.zaxxer.hikari:type=Pool (" + poolName + ")"));
+        mBeanServer.registerMBean(
+                new StandardMBean(poolConfig, FakePoolConfigMXBean.class, true),
+                new ObjectName("com.zaxxer.hikari:type=PoolConfig (" + poolName + ")"));
+        registry.register(poolName, "test", size);
+        return poolConfig;
+    }
+
+    @Test
+    public void testGetPoolSize_usesDatasourceBoundsWithinCaps() {
+        registry.configure(20, 100);
+
+        ConnectionPoolSize defaultSize = registry.getPoolSize(null, 1, 5);
+        assertEquals(1, defaultSize.getMinimumIdle());
+        assertEquals(5, defaultSize.getMaximumPoolSize());
+        assertEquals(20, defaultSize.getMaximumPoolSizeLimit());
+
+        Connection connection = new Connection();
+        connection.setMinimumPoolSize(2);
+        connection.setMaximumPoolSize(50);
+        ConnectionPoolSize configuredSize = registry.getPoolSize(connection, 1, 5);
+        assertEquals(2, configuredSize.getMinimumIdle());
+        assertEquals(5, configuredSize.getMaximumPoolSize());
+        assertEquals(20, configuredSize.getMaximumPoolSizeLimit());
+
+        connection.setMaximumPoolSize(3);
+        ConnectionPoolSize smallSize = registry.getPoolSize(connection, 1, 5);
+        assertEquals(2, smallSize.getMinimumIdle());
+        assertEquals(3, smallSize.getMaximumPoolSize());
+        assertEquals(3, smallSize.getMaximumPoolSizeLimit());
+    }
+
+    @Test
+    public void testValidatePoolSize_minimumAboveMaximum_isInvalid() {
+        Connection connection = new Connection();
+        assertTrue(registry.validatePoolSize(connection).isEmpty());
+
+        connection.setMinimumPoolSize(10);
+        connection.setMaximumPoolSize(5);
+        assertEquals(
+                "Minimum pool size cannot be greater than maximum pool size.",
+                registry.validatePoolSize(connection).iterator().next());
+    }
+
+    @Test
+    public void testAdjustPoolSizes_waitingCallers_growsWithinLimit() throws Exception {
+        registry.configure(8, 100);
+        FakePoolConfig poolConfig = createPool("test-pool-1", registry.getPoolSize(null, 1, 5));
+
+        pool.setActiveConnections(5);
+        pool.setThreadsAwaitingConnection(2);
+        registry.adjustPoolSizes();
+        assertEquals(7, poolConfig.getMaximumPoolSize());
+
+        registry.adjustPoolSizes();
+        assertEquals(8, poolConfig.getMaximumPoolSize());
+
+        List<ConnectionPoolStats> stats = registry.getPoolStats();
+        assertEquals(1, stats.size());
+        assertEquals(8, stats.get(0).getMaximumPoolSize());
+        assertEquals(2, stats.get(0).getResizes());
+    }
+
+    @Test
+    public void testAdjustPoolSizes_nodeCap_limitsTotalGrowth() throws Exception {
+        registry.configure(20, 12);
+        FakePoolConfig otherPoolConfig = createPool("test-pool-1", registry.getPoolSize(null, 1, 5));
+        pool.setThreadsAwaitingConnection(1);
+        FakePoolConfig busyPoolConfig = createPool("test-pool-2", registry.getPoolSize(null, 1, 5));
+        pool.setThreadsAwaitingConnection(10);
+        registry.adjustPoolSizes();
+
+        // The busiest pool gets the remaining budget of the node first
+        assertEquals(7, busyPoolConfig.getMaximumPoolSize());
+        assertEquals(5, otherPoolConfig.getMaximumPoolSize());
+    }
+
+    @Test
+    public void testAdjustPoolSizes_idlePool_shrinksBackToInitialSize() throws Exception {
+        registry.configure(20, 100);
+        FakePoolConfig poolConfig = createPool("test-pool-1", registry.getPoolSize(null, 1, 5));
+        pool.setThreadsAwaitingConnection(2);
+        registry.adjustPoolSizes();
+        assertEquals(7, poolConfig.getMaximumPoolSize());
+
+        pool.setThreadsAwaitingConnection(0);
+        pool.setActiveConnections(1);
+        for (int i = 0; i < 20; i++) {
+            registry.adjustPoolSizes();
+        }
+        assertEquals(5, poolConfig.getMaximumPoolSize());
+    }
+
+    @Test
+    public void testGetPoolStats_closedPool_isDropped() throws Exception {
+        createPool("test-pool-1", registry.getPoolSize(null, 1, 5));
+        assertEquals(1, registry.getPoolStats().size());
+
+        mBeanServer.unregisterMBean(new ObjectName("com.zaxxer.hikari:type=Pool (test-pool-1)"));
+        mBeanServer.unregisterMBean(new ObjectName("com.zaxxer.hikari:type=PoolConfig (test-pool-1)"));
+        assertTrue(registry.getPoolStats().isEmpty());
+    }
+}
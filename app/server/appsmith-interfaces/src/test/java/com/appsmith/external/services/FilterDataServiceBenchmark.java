@@ -0,0 +1,123 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.FilterDataServiceCE;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+
+/**
+ * Compares filtering a Google Sheets like response with the H2 filter engine and with the in memory one, with and
+ * without the data type conversion map used by the Google Sheets plugin. The request filters on two columns, sorts
+ * on one and returns the first page of results.
+ *
+ * This is not run as part of the test suite. To run it, execute the main method of this class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(
+        value = 1,
+        jvmArgs = {"-Xmx4g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class FilterDataServiceBenchmark {
+
+    // Same as the conversion map used by the Google Sheets plugin
+    private static final Map<DataType, DataType> SHEETS_DATA_TYPE_CONVERSION_MAP = Map.of(
+            DataType.INTEGER, DataType.DOUBLE,
+            DataType.LONG, DataType.DOUBLE,
+            DataType.FLOAT, DataType.DOUBLE);
+
+    @Param({"10000", "100000"})
+    public int rowCount;
+
+    // Values are type checked one by one when a conversion map is used, which dominates the time taken by both.
+    @Param({"false", "true"})
+    public boolean useSheetsConversionMap;
+
+    private ArrayNode items;
+
+    private final FilterDataServiceCE h2FilterDataService = FilterDataService.getInstance();
+    private final FilterDataServiceCE nativeFilterDataService = NativeFilterDataService.getInstance();
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        String[] statuses = {"READY", "NOT READY", "DELIVERED"};
+
+        items = new ObjectMapper().createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode item = items.addObject();
+            item.put("rowIndex", String.valueOf(i));
+            item.put("id", String.valueOf(random.nextInt(1000000)));
+            item.put("amount", String.format("%.2f", random.nextDouble() * 100));
+            item.put("status", statuses[random.nextInt(statuses.length)]);
+            item.put("email", "user_" + random.nextInt(10000) + "@appsmith.com");
+        }
+    }
+
+    private UQIDataFilterParams getFilterParams() {
+        Condition where = new Condition(
+                null,
+                ConditionalOperator.AND,
+                List.of(
+                        new Condition("status", ConditionalOperator.EQ, "READY", null),
+                        new Condition("amount", ConditionalOperator.GTE, "25", null)),
+                null);
+        List<Map<String, String>> sortBy =
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "amount", SORT_BY_TYPE_KEY, "DESCENDING"));
+        Map<String, String> paginateBy = Map.of(PAGINATE_LIMIT_KEY, "20", PAGINATE_OFFSET_KEY, "0");
+
+        return new UQIDataFilterParams(where, null, sortBy, paginateBy);
+    }
+
+    private Map<DataType, DataType> getDataTypeConversionMap() {
+        return useSheetsConversionMap ? SHEETS_DATA_TYPE_CONVERSION_MAP : null;
+    }
+
+    @Benchmark
+    public ArrayNode h2Filter() {
+        return h2FilterDataService.filterDataNew(items, getFilterParams(), getDataTypeConversionMap());
+    }
+
+    @Benchmark
+    public ArrayNode inMemoryFilter() {
+        return nativeFilterDataService.filterDataNew(items, getFilterParams(), getDataTypeConversionMap());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FilterDataServiceBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
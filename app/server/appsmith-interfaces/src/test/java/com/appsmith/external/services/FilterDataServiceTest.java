@@ -5,8 +5,14 @@ import com.appsmith.external.constants.DataType;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.FilterDataServiceCE;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -15,6 +21,10 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,7 +43,20 @@ public class FilterDataServiceTest {
     public static final String VALUE_DESCENDING = "Descending";
 
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final FilterDataService filterDataService = FilterDataService.getInstance();
+    private FilterDataServiceCE filterDataService;
+
+    /**
+     * Filter engine under test, the tests in this class are also run against the in memory engine by
+     * {@link NativeFilterDataServiceTest}.
+     */
+    protected FilterDataServiceCE getFilterDataService() {
+        return FilterDataService.getInstance();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        filterDataService = getFilterDataService();
+    }
 
     @Test
     public void testGenerateTable() {
@@ -1336,4 +1359,78 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testConcurrentFiltersWithSameSchema_areIsolated() throws Exception {
+        int requestCount = 16;
+        long filtersBefore = filterDataService.getFilterMetrics().getFilterCount();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ArrayNode>> futures = new ArrayList<>();
+            for (int request = 0; request < requestCount; request++) {
+                final int rowCount = request + 1;
+                futures.add(executorService.submit(() -> {
+                    ArrayNode items = objectMapper.createArrayNode();
+                    for (int i = 0; i < rowCount * 10; i++) {
+                        items.addObject().put("id", i).put("owner", "request_" + rowCount);
+                    }
+
+                    Condition condition =
+                            new Condition("id", ConditionalOperator.LT, String.valueOf(rowCount), DataType.INTEGER);
+                    Condition where = new Condition(null, ConditionalOperator.AND, List.of(condition), null);
+                    return filterDataService.filterDataNew(items, new UQIDataFilterParams(where, null, null, null));
+                }));
+            }
+
+            for (int request = 0; request < requestCount; request++) {
+                ArrayNode filteredData = futures.get(request).get();
+                assertEquals(request + 1, filteredData.size());
+                for (JsonNode row : filteredData) {
+                    assertEquals("request_" + (request + 1), row.get("owner").asText());
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(filterDataService.getFilterMetrics().getFilterCount()).isGreaterThanOrEqualTo(filtersBefore + 16);
+    }
+
+    @Test
+    public void testFilterMetrics_areExportedToMeterRegistry() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filterDataService.getFilterMetrics().bindTo(meterRegistry, "test");
+
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < 10; i++) {
+            items.addObject().put("id", i);
+        }
+        Condition condition = new Condition("id", ConditionalOperator.LT, "5", DataType.INTEGER);
+        Condition where = new Condition(null, ConditionalOperator.AND, List.of(condition), null);
+        filterDataService.filterDataNew(items, new UQIDataFilterParams(where, null, null, null));
+
+        FilterDataServiceCE.FilterMetrics filterMetrics = filterDataService.getFilterMetrics();
+        FunctionTimer requests = meterRegistry
+                .get("appsmith.filter.requests")
+                .tag(FilterDataServiceCE.FilterMetrics.SERVICE_TAG, "test")
+                .functionTimer();
+        assertThat(requests.count()).isEqualTo(filterMetrics.getFilterCount()).isGreaterThanOrEqualTo(1);
+        assertThat(requests.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(meterRegistry.get("appsmith.filter.rows").functionCounter().count())
+                .isEqualTo(filterMetrics.getRowCount())
+                .isGreaterThanOrEqualTo(10);
+        assertThat(meterRegistry
+                        .get("appsmith.filter.fallbacks")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(filterMetrics.getFallbackCount());
+        assertThat(Metrics.globalRegistry
+                        .find("appsmith.filter.requests")
+                        .tag(
+                                FilterDataServiceCE.FilterMetrics.SERVICE_TAG,
+                                filterDataService.getClass().getSimpleName())
+                        .functionTimer())
+                .isNotNull();
+    }
 }
@@ -0,0 +1,45 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of the H2 filter engine that don't apply to the in memory one, which has no tables.
+ */
+public class H2FilterDataServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FilterDataService filterDataService = FilterDataService.getInstance();
+
+    @Test
+    public void testFiltersWithSameSchema_reuseTables() {
+        long reusedTablesBefore = filterDataService.getFilterMetrics().getReusedTableCount();
+
+        for (int rowCount = 1; rowCount <= 4; rowCount++) {
+            ArrayNode items = objectMapper.createArrayNode();
+            for (int i = 0; i < rowCount * 10; i++) {
+                items.addObject().put("id", i).put("owner", "request_" + rowCount);
+            }
+
+            Condition condition =
+                    new Condition("id", ConditionalOperator.LT, String.valueOf(rowCount), DataType.INTEGER);
+            Condition where = new Condition(null, ConditionalOperator.AND, List.of(condition), null);
+            ArrayNode filteredData =
+                    filterDataService.filterDataNew(items, new UQIDataFilterParams(where, null, null, null));
+
+            assertEquals(rowCount, filteredData.size());
+        }
+
+        assertThat(filterDataService.getFilterMetrics().getReusedTableCount()).isGreaterThan(reusedTablesBefore);
+    }
+}
@@ -0,0 +1,114 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.appsmith.external.services.ce.HttpConnectionProviderRegistryCE;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpConnectionProviderRegistryTest {
+
+    /**
+     * Keeps the providers it creates, to check which ones get disposed.
+     */
+    private static class TestRegistry extends HttpConnectionProviderRegistryCE {
+        final List<ConnectionProvider> created = new ArrayList<>();
+
+        TestRegistry(int maxProviders, Duration providerIdleTimeout) {
+            super(maxProviders, providerIdleTimeout);
+        }
+
+        @Override
+        protected ConnectionProvider newConnectionProvider(String name) {
+            ConnectionProvider provider = super.newConnectionProvider(name);
+            created.add(provider);
+            return provider;
+        }
+    }
+
+    private static DatasourceConfiguration datasource(String url) {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl(url);
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testGetHttpClient_sameOrigin_sharesProvider() {
+        TestRegistry registry = new TestRegistry(10, Duration.ofMinutes(30));
+
+        HttpClient first = registry.getHttpClient(datasource("https://api.example.com/v1/users"));
+        HttpClient second = registry.getHttpClient(datasource("https://API.example.com/v2/orders?page=2"));
+        HttpClient otherHost = registry.getHttpClient(datasource("https://other.example.com/v1/users"));
+
+        assertSame(first, second);
+        assertNotSame(first, otherHost);
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void testGetHttpClient_differentCertificate_doesNotShareProvider() {
+        TestRegistry registry = new TestRegistry(10, Duration.ofMinutes(30));
+
+        DatasourceConfiguration selfSigned = datasource("https://api.example.com");
+        SSLDetails sslDetails = new SSLDetails();
+        sslDetails.setAuthType(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE);
+        sslDetails.setCertificateFile(new UploadedFile("ca.crt", "certificate"));
+        Connection connection = new Connection();
+        connection.setSsl(sslDetails);
+        selfSigned.setConnection(connection);
+
+        HttpClient defaultClient = registry.getHttpClient(datasource("https://api.example.com"));
+        HttpClient selfSignedClient = registry.getHttpClient(selfSigned);
+
+        assertNotSame(defaultClient, selfSignedClient);
+        assertSame(selfSignedClient, registry.getHttpClient(selfSigned));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void testGetHttpClient_tooManyProviders_disposesLeastRecentlyUsed() {
+        TestRegistry registry = new TestRegistry(2, Duration.ofMinutes(30));
+
+        registry.getHttpClient(datasource("https://a.example.com"));
+        registry.getHttpClient(datasource("https://b.example.com"));
+        // Makes b the least recently used provider
+        registry.getHttpClient(datasource("https://a.example.com"));
+        registry.getHttpClient(datasource("https://c.example.com"));
+
+        assertEquals(2, registry.size());
+        assertEquals(3, registry.created.size());
+        assertTrue(registry.created.get(1).isDisposed());
+
+        // The evicted provider is replaced by a new one, the others are still shared
+        HttpClient a = registry.getHttpClient(datasource("https://a.example.com"));
+        assertSame(a, registry.getHttpClient(datasource("https://a.example.com")));
+        assertEquals(3, registry.created.size());
+        registry.getHttpClient(datasource("https://b.example.com"));
+        assertEquals(4, registry.created.size());
+    }
+
+    @Test
+    public void testGetHttpClient_idleProvider_isDisposed() throws InterruptedException {
+        TestRegistry registry = new TestRegistry(10, Duration.ofMillis(50));
+
+        HttpClient first = registry.getHttpClient(datasource("https://a.example.com"));
+        Thread.sleep(100);
+        registry.getHttpClient(datasource("https://b.example.com"));
+
+        assertEquals(1, registry.size());
+        assertTrue(registry.created.get(0).isDisposed());
+        assertNotSame(first, registry.getHttpClient(datasource("https://a.example.com")));
+    }
+}
@@ -0,0 +1,155 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.FilterDataServiceCE;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs all the tests of {@link FilterDataServiceTest} against the in memory filter engine, and compares its results
+ * with the ones of the H2 engine on generated data.
+ */
+public class NativeFilterDataServiceTest extends FilterDataServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FilterDataService h2FilterDataService = FilterDataService.getInstance();
+    private final NativeFilterDataService nativeFilterDataService = NativeFilterDataService.getInstance();
+
+    // Same as the conversion map used by the Google Sheets plugin
+    private static final Map<DataType, DataType> SHEETS_DATA_TYPE_CONVERSION_MAP = Map.of(
+            DataType.INTEGER, DataType.DOUBLE,
+            DataType.LONG, DataType.DOUBLE,
+            DataType.FLOAT, DataType.DOUBLE);
+
+    @Override
+    protected FilterDataServiceCE getFilterDataService() {
+        return NativeFilterDataService.getInstance();
+    }
+
+    private ArrayNode generateItems(int rowCount) {
+        Random random = new Random(42);
+        String[] statuses = {"READY", "NOT READY", "ready", "", "null", "DELIVERED"};
+
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode item = items.addObject();
+            item.put("rowIndex", String.valueOf(i));
+            item.put("id", String.valueOf(random.nextInt(1000)));
+            item.put("amount", random.nextInt(10) == 0 ? "" : String.format("%.2f", random.nextDouble() * 100));
+            item.put("status", statuses[random.nextInt(statuses.length)]);
+            item.put("paid", String.valueOf(random.nextBoolean()));
+            item.put("email", "user_" + random.nextInt(50) + "@appsmith.com");
+        }
+
+        return items;
+    }
+
+    private Condition where(ConditionalOperator logicOp, Condition... conditions) {
+        return new Condition(null, logicOp, List.of(conditions), null);
+    }
+
+    private Condition condition(String path, ConditionalOperator operator, String value) {
+        return new Condition(path, operator, value, null);
+    }
+
+    private List<UQIDataFilterParams> getFilterParams() {
+        List<Map<String, String>> sortBy = List.of(
+                Map.of(SORT_BY_COLUMN_NAME_KEY, "status", SORT_BY_TYPE_KEY, "ASCENDING"),
+                Map.of(SORT_BY_COLUMN_NAME_KEY, "amount", SORT_BY_TYPE_KEY, "DESCENDING"),
+                Map.of(SORT_BY_COLUMN_NAME_KEY, "rowIndex", SORT_BY_TYPE_KEY, "ASCENDING"));
+        Map<String, String> paginateBy = Map.of(PAGINATE_LIMIT_KEY, "25", PAGINATE_OFFSET_KEY, "10");
+
+        List<UQIDataFilterParams> filterParams = new ArrayList<>();
+        filterParams.add(new UQIDataFilterParams(
+                where(ConditionalOperator.AND, condition("amount", ConditionalOperator.LT, "42.5")), null, null, null));
+        filterParams.add(new UQIDataFilterParams(
+                where(
+                        ConditionalOperator.OR,
+                        condition("status", ConditionalOperator.EQ, "READY"),
+                        condition("amount", ConditionalOperator.EQ, ""),
+                        where(
+                                ConditionalOperator.AND,
+                                condition("paid", ConditionalOperator.EQ, "true"),
+                                condition("id", ConditionalOperator.GTE, "500"))),
+                List.of("rowIndex", "status", "amount"),
+                sortBy,
+                paginateBy));
+        filterParams.add(new UQIDataFilterParams(
+                where(
+                        ConditionalOperator.AND,
+                        condition("email", ConditionalOperator.CONTAINS, "_1"),
+                        condition("id", ConditionalOperator.NOT_IN, "[1, 2, 3, 500]"),
+                        condition("status", ConditionalOperator.IN, "[\"READY\", \"ready\", null]")),
+                null,
+                sortBy,
+                null));
+        filterParams.add(new UQIDataFilterParams(
+                where(
+                        ConditionalOperator.AND,
+                        condition("status", ConditionalOperator.NOT_EQ, "DELIVERED"),
+                        condition("amount", ConditionalOperator.GT, "10.01")),
+                List.of("email", "amount"),
+                null,
+                paginateBy));
+
+        return filterParams;
+    }
+
+    @Test
+    public void testGeneratedData_sameResultAsH2() {
+        ArrayNode items = generateItems(500);
+
+        for (Map<DataType, DataType> dataTypeConversionMap : Arrays.asList(null, SHEETS_DATA_TYPE_CONVERSION_MAP)) {
+            for (UQIDataFilterParams filterParams : getFilterParams()) {
+                long fallbacksBefore =
+                        nativeFilterDataService.getFilterMetrics().getFallbackCount();
+
+                ArrayNode expected = h2FilterDataService.filterDataNew(items, filterParams, dataTypeConversionMap);
+                ArrayNode actual = nativeFilterDataService.filterDataNew(items, filterParams, dataTypeConversionMap);
+
+                assertThat(expected.size()).isGreaterThan(0);
+                assertEquals(expected, actual);
+                assertEquals(
+                        fallbacksBefore,
+                        nativeFilterDataService.getFilterMetrics().getFallbackCount());
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidValueForColumnType_fallsBackToSameErrorAsH2() {
+        ArrayNode items = generateItems(10);
+        UQIDataFilterParams filterParams = new UQIDataFilterParams(
+                where(ConditionalOperator.AND, condition("id", ConditionalOperator.LT, "not a number")),
+                null,
+                null,
+                null);
+
+        AppsmithPluginException expected = assertThrows(
+                AppsmithPluginException.class, () -> h2FilterDataService.filterDataNew(items, filterParams));
+        AppsmithPluginException actual = assertThrows(
+                AppsmithPluginException.class, () -> nativeFilterDataService.filterDataNew(items, filterParams));
+
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+}
@@ -0,0 +1,195 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.ResponseSizeAccumulator;
+import com.appsmith.external.helpers.ResultCursor;
+import com.appsmith.external.models.TabularResult;
+import com.appsmith.external.services.ce.ResultCursorRegistryCE;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultCursorRegistryTest {
+
+    private static final String URL = "jdbc:h2:mem:resultCursorDb;DB_CLOSE_DELAY=-1";
+
+    private static final String QUERY = "SELECT id, name FROM users ORDER BY id";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final ResultCursor.RowReader ROW_READER = ResultCursorRegistryTest::readRow;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL);
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id INT PRIMARY KEY, name VARCHAR(20))");
+            for (int i = 1; i <= 5; i++) {
+                statement.execute("INSERT INTO users VALUES (" + i + ", 'user" + i + "')");
+            }
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL);
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE users");
+        }
+    }
+
+    private static Object[] readRow(ResultSet resultSet, ResultSetMetaData metaData) throws SQLException, IOException {
+        return new Object[] {resultSet.getInt(1), resultSet.getString(2)};
+    }
+
+    private static ResultCursor openCursor(String owner) throws SQLException {
+        Connection connection = DriverManager.getConnection(URL);
+        connection.setAutoCommit(false);
+        Statement statement = connection.createStatement();
+        statement.setFetchSize(3);
+        return new ResultCursor(connection, statement, statement.executeQuery(QUERY), owner);
+    }
+
+    private static List<Object> readIds(ResultCursor cursor, int pageSize) throws SQLException, IOException {
+        ResponseSizeAccumulator rows = new ResponseSizeAccumulator(1024 * 1024, new TabularResult(objectMapper));
+        assertTrue(cursor.readPage(pageSize, ROW_READER, rows));
+        return rows.getRows().stream().map(row -> row.get("ID")).toList();
+    }
+
+    @Test
+    public void testReadPage_readsAheadToDetectLastPage() throws SQLException, IOException {
+        try (ResultCursor cursor = openCursor("owner")) {
+            assertEquals(List.of(1, 2), readIds(cursor, 2));
+            assertFalse(cursor.isExhausted());
+            assertEquals(List.of(3, 4), readIds(cursor, 2));
+            assertFalse(cursor.isExhausted());
+            assertEquals(List.of(5), readIds(cursor, 2));
+            assertTrue(cursor.isExhausted());
+            assertEquals(5, cursor.getRowsRead());
+        }
+    }
+
+    @Test
+    public void testReadPage_lastRowOnPageBoundary_isExhausted() throws SQLException, IOException {
+        try (ResultCursor cursor = openCursor("owner")) {
+            assertEquals(List.of(1, 2, 3, 4, 5), readIds(cursor, 5));
+            assertTrue(cursor.isExhausted());
+        }
+    }
+
+    @Test
+    public void testTake_returnsRegisteredCursorOnceForItsOwner() throws SQLException, IOException {
+        ResultCursorRegistryCE registry = new ResultCursorRegistryCE(10, Duration.ofMinutes(1));
+        ResultCursor cursor = openCursor("owner");
+        readIds(cursor, 2);
+        String token = registry.register(cursor, "pool", 10);
+
+        assertThrows(AppsmithPluginException.class, () -> registry.take(token, "another query"));
+        assertSame(cursor, registry.take(token, "owner"));
+        assertThrows(AppsmithPluginException.class, () -> registry.take(token, "owner"));
+
+        assertEquals(List.of(3, 4), readIds(cursor, 2));
+        cursor.close();
+    }
+
+    @Test
+    public void testTake_cursorClosedOverLimit_failsInsteadOfResuming() throws SQLException, IOException {
+        ResultCursorRegistryCE registry = new ResultCursorRegistryCE(1, Duration.ofMinutes(1));
+        ResultCursor first = openCursor("owner");
+        readIds(first, 2);
+        String token = registry.register(first, "pool", 10);
+
+        // Registering a cursor over the limit closes the least recently used one
+        ResultCursor second = openCursor("other");
+        readIds(second, 1);
+        registry.register(second, "pool", 10);
+        assertEquals(1, registry.size());
+
+        AppsmithPluginException error =
+                assertThrows(AppsmithPluginException.class, () -> registry.take(token, "owner"));
+        assertTrue(error.getMessage().contains("no longer available"));
+        registry.closeExpired();
+    }
+
+    @Test
+    public void testRegister_overPoolLimit_closesLeastRecentlyUsedCursorOfThatPool() throws SQLException, IOException {
+        ResultCursorRegistryCE registry = new ResultCursorRegistryCE(10, Duration.ofMinutes(1));
+        ResultCursor first = openCursor("owner");
+        ResultCursor other = openCursor("owner");
+        ResultCursor second = openCursor("owner");
+        String firstToken = registry.register(first, "pool", 1);
+        String otherToken = registry.register(other, "other pool", 1);
+        String secondToken = registry.register(second, "pool", 1);
+
+        assertEquals(1, registry.size("pool"));
+        assertEquals(1, registry.size("other pool"));
+        assertThrows(AppsmithPluginException.class, () -> registry.take(firstToken, "owner"));
+        assertThrows(SQLException.class, () -> readIds(first, 2));
+        assertSame(other, registry.take(otherToken, "owner"));
+        assertSame(second, registry.take(secondToken, "owner"));
+
+        other.close();
+        second.close();
+    }
+
+    @Test
+    public void testCloseExpired_closesCursorAndReleasesTransaction() throws SQLException, IOException {
+        ResultCursorRegistryCE registry = new ResultCursorRegistryCE(10, Duration.ZERO);
+        ResultCursor cursor = openCursor("owner");
+        readIds(cursor, 2);
+        registry.register(cursor, "pool", 10);
+
+        String token = registry.register(cursor, "pool", 10);
+        registry.closeExpired();
+
+        assertEquals(0, registry.size());
+        assertThrows(AppsmithPluginException.class, () -> registry.take(token, "owner"));
+        assertThrows(SQLException.class, () -> readIds(cursor, 2));
+    }
+
+    @Test
+    public void testTake_invalidToken_throwsPluginException() {
+        ResultCursorRegistryCE registry = new ResultCursorRegistryCE(10, Duration.ofMinutes(1));
+        assertThrows(AppsmithPluginException.class, () -> registry.take("not a token!", "owner"));
+    }
+
+    @Test
+    public void testIsPaginatable() {
+        assertTrue(ResultCursor.isPaginatable(QUERY));
+        assertTrue(ResultCursor.isPaginatable("-- all users\n  (select * from users)"));
+        assertTrue(ResultCursor.isPaginatable("/* recent */ WITH recent AS (SELECT 1) SELECT * FROM recent"));
+        assertFalse(ResultCursor.isPaginatable("UPDATE users SET name = 'selected'"));
+        assertFalse(ResultCursor.isPaginatable("selection"));
+        assertFalse(ResultCursor.isPaginatable(null));
+    }
+
+    @Test
+    public void testTabularRows_keepColumnNames() throws SQLException, IOException {
+        try (ResultCursor cursor = openCursor("owner")) {
+            ResponseSizeAccumulator rows = new ResponseSizeAccumulator(1024 * 1024, new TabularResult(objectMapper));
+            cursor.readPage(1, ROW_READER, rows);
+            Map<String, Object> row = rows.getRows().get(0);
+            assertNotNull(row);
+            assertEquals(Map.of("ID", 1, "NAME", "user1"), row);
+        }
+    }
+}
@@ -38,7 +38,8 @@ import com.appsmith.external.models.UQIDataFilterParams;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
-import com.appsmith.external.services.FilterDataService;
+import com.appsmith.external.services.IFilterDataService;
+import com.appsmith.external.services.NativeFilterDataService;
 import com.external.plugins.constants.AmazonS3Action;
 import com.external.plugins.exceptions.S3ErrorMessages;
 import com.external.plugins.exceptions.S3PluginError;
@@ -124,7 +125,7 @@ public class AmazonS3Plugin extends BasePlugin {
     @Extension
     public static class S3PluginExecutor implements PluginExecutor<AmazonS3>, SmartSubstitutionInterface {
         private final Scheduler scheduler = Schedulers.boundedElastic();
-        private final FilterDataService filterDataService;
+        private final IFilterDataService filterDataService;
         private static final AmazonS3ErrorUtils amazonS3ErrorUtils;
 
         static {
@@ -136,7 +137,7 @@ public class AmazonS3Plugin extends BasePlugin {
         }
 
         public S3PluginExecutor() {
-            this.filterDataService = FilterDataService.getInstance();
+            this.filterDataService = NativeFilterDataService.getInstance();
         }
 
         /*
@@ -2,7 +2,8 @@ package com.external.config;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
-import com.appsmith.external.services.FilterDataService;
+import com.appsmith.external.services.IFilterDataService;
+import com.appsmith.external.services.NativeFilterDataService;
 import com.external.constants.ErrorMessages;
 import com.external.domains.RowObject;
 import com.external.plugins.exceptions.GSheetsPluginError;
@@ -28,11 +29,11 @@ import java.util.regex.Pattern;
 public class GetStructureMethod implements ExecutionMethod, TriggerMethod {
 
     ObjectMapper objectMapper;
-    FilterDataService filterDataService;
+    IFilterDataService filterDataService;
 
     public GetStructureMethod(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
-        this.filterDataService = FilterDataService.getInstance();
+        this.filterDataService = NativeFilterDataService.getInstance();
     }
 
     // Used to capture the range of columns in this request. The handling for this regex makes sure that
@@ -4,7 +4,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.UQIDataFilterParams;
-import com.appsmith.external.services.FilterDataService;
+import com.appsmith.external.services.IFilterDataService;
+import com.appsmith.external.services.NativeFilterDataService;
 import com.external.constants.ErrorMessages;
 import com.external.domains.RowObject;
 import com.external.plugins.exceptions.GSheetsPluginError;
@@ -32,11 +33,11 @@ import java.util.regex.Pattern;
 public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMethod {
 
     ObjectMapper objectMapper;
-    FilterDataService filterDataService;
+    IFilterDataService filterDataService;
 
     public RowsGetMethod(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
-        this.filterDataService = FilterDataService.getInstance();
+        this.filterDataService = NativeFilterDataService.getInstance();
     }
 
     public RowsGetMethod() {}
@@ -281,7 +281,8 @@ public class GraphQLPlugin extends BasePlugin {
                             objectMapper,
                             hintMessages,
                             errorResult,
-                            requestCaptureFilter)
+                            requestCaptureFilter,
+                            sharedConfig.getCodecSize())
                     .onErrorResume(error -> {
                         boolean isBodySentWithApiRequest = requestBodyObj == null ? false : true;
                         errorResult.setRequest(requestCaptureFilter.populateRequestFields(
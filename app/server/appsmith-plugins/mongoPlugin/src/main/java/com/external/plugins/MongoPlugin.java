@@ -30,40 +30,34 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.exceptions.MongoPluginError;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.external.plugins.utils.JsonNodeDecoder;
+import com.external.plugins.utils.MongoCursorReader;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.ConnectionString;
-import com.mongodb.DBRefCodecProvider;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
-import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
-import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
 import org.bson.Document;
-import org.bson.codecs.BsonTypeClassMap;
-import org.bson.codecs.BsonValueCodecProvider;
-import org.bson.codecs.DocumentCodec;
-import org.bson.codecs.DocumentCodecProvider;
-import org.bson.codecs.IterableCodecProvider;
-import org.bson.codecs.MapCodecProvider;
-import org.bson.codecs.ValueCodecProvider;
-import org.bson.codecs.configuration.CodecRegistries;
-import org.bson.codecs.configuration.CodecRegistry;
-import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import org.bson.RawBsonDocument;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -74,14 +68,10 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -129,6 +119,7 @@ import static com.external.plugins.utils.DatasourceUtils.hasNonEmptyURI;
 import static com.external.plugins.utils.DatasourceUtils.isAuthenticated;
 import static com.external.plugins.utils.DatasourceUtils.isHostStringConnectionURI;
 import static com.external.plugins.utils.DatasourceUtils.isUsingURI;
+import static com.external.plugins.utils.MongoCursorReader.CURSOR;
 import static com.external.plugins.utils.MongoPluginUtils.convertMongoFormInputToRawCommand;
 import static com.external.plugins.utils.MongoPluginUtils.generateTemplatesAndStructureForACollection;
 import static com.external.plugins.utils.MongoPluginUtils.getDatabaseName;
@@ -155,6 +146,10 @@ public class MongoPlugin extends BasePlugin {
 
     private static final String VALUES = "values";
 
+    private static final String FIRST_BATCH_ONLY_MESSAGE =
+            "Only the first batch of documents was fetched, as the command has options that are not supported for "
+                    + "fetching the batches after it. Please use a limit that fits in one batch.";
+
     private static final int TEST_DATASOURCE_TIMEOUT_SECONDS = 15;
 
     private static final String MOCK_DB_MOVIES_COLLECTION_NAME = "movies";
@@ -203,18 +198,6 @@ public class MongoPlugin extends BasePlugin {
 
     private static final MongoErrorUtils mongoErrorUtils = MongoErrorUtils.getInstance();
 
-    private static final CodecRegistry DEFAULT_REGISTRY = CodecRegistries.fromProviders(Arrays.asList(
-            new ValueCodecProvider(),
-            new IterableCodecProvider(),
-            new BsonValueCodecProvider(),
-            new DocumentCodecProvider(),
-            new MapCodecProvider(),
-            new DBRefCodecProvider(),
-            new GeoJsonCodecProvider(),
-            new GridFSFileCodecProvider()));
-
-    private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
-
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -225,6 +208,12 @@ public class MongoPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public MongoPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * also update the datasource and action configuration for pagination and some minor cleanup of the configuration before execution
@@ -308,19 +297,31 @@ public class MongoPlugin extends BasePlugin {
                 log.info("Encountered null connection in MongoDB plugin. Reporting back.");
                 throw new StaleConnectionException(MONGO_CLIENT_NULL_ERROR_MSG);
             }
-            Mono<Document> mongoOutputMono;
-            ActionExecutionResult result = new ActionExecutionResult();
+            Mono<ActionExecutionResult> resultMono;
+            MongoDatabase database;
+            Document command;
             String query;
             List<RequestParamDTO> requestParams;
             try {
-                MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
+                database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
 
                 final Map<String, Object> formData = actionConfiguration.getFormData();
 
                 query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
-                Bson command = Document.parse(query);
-
-                mongoOutputMono = Mono.from(database.runCommand(command));
+                command = Document.parse(query);
+
+                // Read as raw BSON, so that the documents can be decoded straight into the result
+                Publisher<RawBsonDocument> cursorPublisher = MongoCursorReader.getCursorPublisher(database, command);
+                if (cursorPublisher != null) {
+                    resultMono = new MongoCursorReader(sharedConfig.getMaxResponseSize())
+                            .read(cursorPublisher)
+                            // A cursor that was read to the end is the output of a successful command
+                            .map(documents ->
+                                    getResult(objectMapper.createObjectNode().put("ok", 1), documents));
+                } else {
+                    resultMono = Mono.from(database.runCommand(command, RawBsonDocument.class))
+                            .flatMap(this::getResult);
+                }
                 requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
             } catch (Exception error) {
                 return Mono.error(new AppsmithPluginException(
@@ -330,7 +331,7 @@ public class MongoPlugin extends BasePlugin {
             }
 
             Instant requestedAt = Instant.now();
-            return mongoOutputMono
+            return resultMono
                     .onErrorMap(
                             MongoTimeoutException.class,
                             error -> new AppsmithPluginException(
@@ -351,105 +352,6 @@ public class MongoPlugin extends BasePlugin {
                     // database drops the connection which makes the client throw the following exception.
                     .onErrorMap(
                             MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
-                    .flatMap(mongoOutput -> {
-                        try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec =
-                                    new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            // The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
-
-                            if (BigInteger.ONE.equals(status)) {
-                                result.setIsExecutionSuccess(true);
-                                result.setDataTypes(List.of(
-                                        new ParsedDataType(DisplayDataType.JSON),
-                                        new ParsedDataType(DisplayDataType.RAW)));
-
-                                /*
-                                 For the `findAndModify` command, we don't get the count of modifications made. Instead,
-                                 we either get the modified new value or the pre-modified old value (depending on the
-                                 `new` field in the command. Let's return that value to the user.
-                                */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
-                                                    .toString()));
-                                }
-
-                                /*
-                                 The json contains key "cursor" when find command was issued and there are 1 or more
-                                 results. In case there are no results for find, this key is not present in the result json.
-                                */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
-                                }
-
-                                /*
-                                 The json contains key "n" when insert/update command is issued. "n" for update
-                                 signifies the no of documents selected for update. "n" in case of insert signifies the
-                                 number of documents inserted.
-                                */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
-
-                                /*
-                                 The json key contains key "nModified" in case of update command. This signifies the no of
-                                 documents updated.
-                                */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body =
-                                            new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
-
-                                /*
-                                 The json contains key "values" when distinct command is used.
-                                */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
-
-                                    ObjectNode resultNode = objectMapper.createObjectNode();
-
-                                    // Create a JSON structure with the results stored with a key to abide by the
-                                    // Server-Client contract of only sending array of objects in result.
-                                    resultNode.putArray(VALUES).addAll((ArrayNode)
-                                            objectMapper.readTree(outputResult.toString()));
-
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
-                                }
-
-                                /*
-                                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
-                                 that are important to the headerArray.
-                                 */
-                            }
-
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
-                        } catch (JsonProcessingException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    MongoPluginError.QUERY_EXECUTION_FAILED,
-                                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
-                        }
-
-                        return Mono.just(result);
-                    })
                     .onErrorResume(error -> {
                         if (error instanceof StaleConnectionException) {
                             log.debug("The mongo connection seems to have been invalidated or doesn't exist anymore");
@@ -484,6 +386,132 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Builds the result of a command run with `runCommand` from its output.
+         *
+         * The output contains key "cursor" when a find or aggregate command with options that can't be run through the
+         * driver's cursors was issued. Only the first batch of that cursor is read, since `getMore` commands sent with
+         * `runCommand` are not pinned to the server that holds the cursor.
+         */
+        private Mono<ActionExecutionResult> getResult(RawBsonDocument mongoOutput) {
+            if (!mongoOutput.containsKey(CURSOR)) {
+                return Mono.just(getResult(JsonNodeDecoder.decode(mongoOutput), null));
+            }
+
+            BsonDocument outputWithoutCursor = new BsonDocument();
+            mongoOutput.forEach((key, value) -> {
+                if (!CURSOR.equals(key)) {
+                    outputWithoutCursor.put(key, value);
+                }
+            });
+            ObjectNode outputJson = JsonNodeDecoder.decode(outputWithoutCursor);
+
+            BsonDocument cursor = mongoOutput.getDocument(CURSOR);
+            return new MongoCursorReader(sharedConfig.getMaxResponseSize())
+                    .readFirstBatch(cursor)
+                    .map(documents -> {
+                        ActionExecutionResult result = getResult(outputJson, documents);
+                        if (cursor.getInt64("id").getValue() != 0) {
+                            result.setMessages(Set.of(FIRST_BATCH_ONLY_MESSAGE));
+                        }
+                        return result;
+                    });
+        }
+
+        /**
+         * Builds the result of a command from its output.
+         *
+         * @param outputJson      : output of the command, without its cursor
+         * @param cursorDocuments : all the documents of the cursor of the output, null if it did not have one
+         * @return the result of the command
+         */
+        private ActionExecutionResult getResult(ObjectNode outputJson, ArrayNode cursorDocuments) {
+            ActionExecutionResult result = new ActionExecutionResult();
+
+            // The output json contains the key "ok". This is the status of the command
+            JsonNode status = integralNode(outputJson.path("ok"));
+            ArrayNode headerArray = objectMapper.createArrayNode();
+
+            if (BigInteger.ONE.equals(status.bigIntegerValue())) {
+                result.setIsExecutionSuccess(true);
+                result.setDataTypes(
+                        List.of(new ParsedDataType(DisplayDataType.JSON), new ParsedDataType(DisplayDataType.RAW)));
+
+                /*
+                 For the `findAndModify` command, we don't get the count of modifications made. Instead,
+                 we either get the modified new value or the pre-modified old value (depending on the
+                 `new` field in the command. Let's return that value to the user.
+                */
+                if (outputJson.has(VALUE)) {
+                    ObjectNode body = objectMapper.createObjectNode();
+                    body.set(VALUE, outputJson.get(VALUE));
+                    result.setBody(body);
+                }
+
+                // The documents of the cursor, present when a find or aggregate command was issued
+                if (cursorDocuments != null) {
+                    result.setBody(cursorDocuments);
+                }
+
+                /*
+                 The json contains key "n" when insert/update command is issued. "n" for update
+                 signifies the no of documents selected for update. "n" in case of insert signifies the
+                 number of documents inserted.
+                */
+                if (outputJson.has("n")) {
+                    ObjectNode body = objectMapper.createObjectNode();
+                    body.set("n", integralNode(outputJson.get("n")));
+                    result.setBody(body);
+                    headerArray.add(body.deepCopy());
+                }
+
+                /*
+                 The json key contains key "nModified" in case of update command. This signifies the no of
+                 documents updated.
+                */
+                if (outputJson.has(N_MODIFIED)) {
+                    ObjectNode body = objectMapper.createObjectNode();
+                    body.set(N_MODIFIED, integralNode(outputJson.get(N_MODIFIED)));
+                    result.setBody(body);
+                    headerArray.add(body.deepCopy());
+                }
+
+                /*
+                 The json contains key "values" when distinct command is used.
+                */
+                if (outputJson.has(VALUES)) {
+                    // Create a JSON structure with the results stored with a key to abide by the
+                    // Server-Client contract of only sending array of objects in result.
+                    ObjectNode resultNode = objectMapper.createObjectNode();
+                    resultNode.set(VALUES, outputJson.get(VALUES));
+                    result.setBody(resultNode);
+                }
+
+                /*
+                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
+                 that are important to the headerArray.
+                 */
+            }
+
+            ObjectNode statusJson = objectMapper.createObjectNode();
+            statusJson.set("ok", status);
+            headerArray.add(statusJson);
+            result.setHeaders(headerArray);
+
+            return result;
+        }
+
+        // Counts and statuses are reported as whole numbers, whatever the numeric type they were returned with
+        private static JsonNode integralNode(JsonNode number) {
+            BigInteger value = number.bigIntegerValue();
+            if (value.bitLength() < Integer.SIZE) {
+                return IntNode.valueOf(value.intValue());
+            } else if (value.bitLength() < Long.SIZE) {
+                return LongNode.valueOf(value.longValue());
+            }
+            return BigIntegerNode.valueOf(value);
+        }
+
         /**
          * This method is part of the pre-processing of the replacement value before the final substitution that
          * happens as part of smart substitution process.
@@ -1061,54 +1089,4 @@ public class MongoPlugin extends BasePlugin {
             }
         }
     }
-
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null
-                        && dateJSON.keySet().size() == 1
-                        && "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
-        }
-
-        return object;
-    }
 }
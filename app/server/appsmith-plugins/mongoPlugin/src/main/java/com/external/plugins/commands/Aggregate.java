@@ -79,11 +79,7 @@ public class Aggregate extends MongoCommand {
         if (dataType.equals(DataType.ARRAY)) {
             try {
                 BsonArray arrayListFromInput = BsonArray.parse(this.pipeline);
-                if (arrayListFromInput.isEmpty()) {
-                    commandDocument.put("pipeline", "[]");
-                } else {
-                    commandDocument.put("pipeline", arrayListFromInput);
-                }
+                commandDocument.put("pipeline", arrayListFromInput);
             } catch (JsonParseException e) {
                 throw new AppsmithPluginException(
                         AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
@@ -115,9 +111,26 @@ public class Aggregate extends MongoCommand {
         }
         commandDocument.put("cursor", parseSafely("cursor", "{batchSize: " + limit + "}"));
 
+        /*
+         The batch size only caps the first batch, the batches after it are read as well. The limit is
+         added as the last stage of the pipeline to keep returning at most that many documents, unless the pipeline
+         writes its output to a collection, in which case it has to stay the last stage.
+        */
+        List<Object> stages = commandDocument.getList("pipeline", Object.class);
+        if (stages.isEmpty() || !isOutputStage(stages.get(stages.size() - 1))) {
+            List<Object> limitedStages = new ArrayList<>(stages);
+            limitedStages.add(new Document("$limit", limit));
+            commandDocument.put("pipeline", limitedStages);
+        }
+
         return commandDocument;
     }
 
+    private static boolean isOutputStage(Object stage) {
+        return stage instanceof Map<?, ?> stageDocument
+                && (stageDocument.containsKey("$out") || stageDocument.containsKey("$merge"));
+    }
+
     /**
      * This method coverts Mongo plugin's form inputs to Mongo's native query. Currently, it is meant to help users
      * switch easily from form based input to raw input mode by providing a readily available translation of the form
@@ -36,6 +36,15 @@ public enum MongoPluginError implements BasePluginError {
             ErrorType.INTERNAL_ERROR,
             "{0}",
             "{1}"),
+    RESPONSE_SIZE_TOO_LARGE(
+            504,
+            "PE-MNG-5002",
+            "Response size exceeded the maximum supported size of {0} MB. Please use limit to reduce the amount of data fetched.",
+            AppsmithErrorAction.DEFAULT,
+            "Large Result Set Not Supported",
+            ErrorType.INTERNAL_ERROR,
+            "{1}",
+            "{2}"),
     ;
 
     private final Integer httpErrorCode;
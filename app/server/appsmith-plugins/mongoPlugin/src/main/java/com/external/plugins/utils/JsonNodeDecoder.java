@@ -0,0 +1,199 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonReader;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonSerializationException;
+import org.bson.BsonTimestamp;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Decodes BSON straight into a Jackson tree, without going through an intermediate extended JSON string.
+ *
+ * Values are mapped to what the result of a query has always looked like: ObjectIds are turned into their hex string,
+ * dates into ISO-8601 instants, 64-bit integers and Decimal128 values into plain numbers and DBRefs into their `$ref`,
+ * `$id` and `$db` fields. Values that have no plain JSON equivalent keep their relaxed extended JSON form, e.g.
+ * `{"$binary": {"base64": "...", "subType": "00"}}`.
+ */
+public class JsonNodeDecoder implements Decoder<ObjectNode> {
+
+    public static final JsonNodeDecoder INSTANCE = new JsonNodeDecoder();
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    /**
+     * Decodes a document received from the database.
+     *
+     * @param document : BSON document, read directly from its bytes if it is a raw document
+     * @return the document as a JSON object
+     */
+    public static ObjectNode decode(BsonDocument document) {
+        try (BsonReader reader = document instanceof RawBsonDocument rawDocument
+                ? new BsonBinaryReader(rawDocument.getByteBuffer().asNIO())
+                : new BsonDocumentReader(document)) {
+            return INSTANCE.readDocument(reader);
+        }
+    }
+
+    @Override
+    public ObjectNode decode(BsonReader reader, DecoderContext decoderContext) {
+        return readDocument(reader);
+    }
+
+    private ObjectNode readDocument(BsonReader reader) {
+        ObjectNode objectNode = nodeFactory.objectNode();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            objectNode.set(name, readValue(reader));
+        }
+        reader.readEndDocument();
+        return objectNode;
+    }
+
+    private ArrayNode readArray(BsonReader reader) {
+        ArrayNode arrayNode = nodeFactory.arrayNode();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            arrayNode.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return arrayNode;
+    }
+
+    private JsonNode readValue(BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                return readDocument(reader);
+            case ARRAY:
+                return readArray(reader);
+            case STRING:
+                return nodeFactory.textNode(reader.readString());
+            case INT32:
+                return nodeFactory.numberNode(reader.readInt32());
+            case INT64:
+                return integralNode(reader.readInt64());
+            case DOUBLE:
+                return doubleNode(reader.readDouble());
+            case DECIMAL128:
+                return decimalNode(reader.readDecimal128());
+            case BOOLEAN:
+                return nodeFactory.booleanNode(reader.readBoolean());
+            case NULL:
+                reader.readNull();
+                return nodeFactory.nullNode();
+            case OBJECT_ID:
+                return nodeFactory.textNode(reader.readObjectId().toHexString());
+            case DATE_TIME:
+                return nodeFactory.textNode(
+                        DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(reader.readDateTime())));
+            case BINARY:
+                return binaryNode(reader.readBinaryData());
+            case REGULAR_EXPRESSION:
+                return regularExpressionNode(reader.readRegularExpression());
+            case TIMESTAMP:
+                return timestampNode(reader.readTimestamp());
+            case DB_POINTER:
+                return dbPointerNode(reader.readDBPointer());
+            case JAVASCRIPT:
+                return wrap("$code", nodeFactory.textNode(reader.readJavaScript()));
+            case JAVASCRIPT_WITH_SCOPE:
+                ObjectNode codeWithScope = wrap("$code", nodeFactory.textNode(reader.readJavaScriptWithScope()));
+                codeWithScope.set("$scope", readDocument(reader));
+                return codeWithScope;
+            case SYMBOL:
+                return wrap("$symbol", nodeFactory.textNode(reader.readSymbol()));
+            case UNDEFINED:
+                reader.readUndefined();
+                return wrap("$undefined", nodeFactory.booleanNode(true));
+            case MIN_KEY:
+                reader.readMinKey();
+                return wrap("$minKey", nodeFactory.numberNode(1));
+            case MAX_KEY:
+                reader.readMaxKey();
+                return wrap("$maxKey", nodeFactory.numberNode(1));
+            default:
+                throw new BsonSerializationException("Unsupported BSON type " + reader.getCurrentBsonType());
+        }
+    }
+
+    private static ObjectNode wrap(String key, JsonNode value) {
+        ObjectNode objectNode = nodeFactory.objectNode();
+        objectNode.set(key, value);
+        return objectNode;
+    }
+
+    // Same node types as parsing the number from its JSON text
+    private static JsonNode integralNode(long value) {
+        return value == (int) value ? nodeFactory.numberNode((int) value) : nodeFactory.numberNode(value);
+    }
+
+    private static JsonNode doubleNode(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return wrap("$numberDouble", nodeFactory.textNode(Double.toString(value)));
+        }
+        return nodeFactory.numberNode(value);
+    }
+
+    private static JsonNode decimalNode(Decimal128 value) {
+        if (value.isNaN() || value.isInfinite()) {
+            return wrap("$numberDecimal", nodeFactory.textNode(value.toString()));
+        }
+
+        BigDecimal bigDecimal;
+        try {
+            bigDecimal = value.bigDecimalValue();
+        } catch (ArithmeticException e) {
+            // Negative zero has no BigDecimal equivalent
+            bigDecimal = BigDecimal.ZERO;
+        }
+        // Kept exactly as stored, the node factory would strip its trailing zeros
+        return DecimalNode.valueOf(bigDecimal);
+    }
+
+    private static JsonNode binaryNode(BsonBinary binary) {
+        ObjectNode binaryNode = nodeFactory.objectNode();
+        binaryNode.put("base64", Base64.getEncoder().encodeToString(binary.getData()));
+        binaryNode.put("subType", String.format("%02x", binary.getType()));
+        return wrap("$binary", binaryNode);
+    }
+
+    private static JsonNode regularExpressionNode(BsonRegularExpression regularExpression) {
+        ObjectNode regexNode = nodeFactory.objectNode();
+        regexNode.put("pattern", regularExpression.getPattern());
+        regexNode.put("options", regularExpression.getOptions());
+        return wrap("$regularExpression", regexNode);
+    }
+
+    private static JsonNode timestampNode(BsonTimestamp timestamp) {
+        ObjectNode timestampNode = nodeFactory.objectNode();
+        timestampNode.put("t", Integer.toUnsignedLong(timestamp.getTime()));
+        timestampNode.put("i", Integer.toUnsignedLong(timestamp.getInc()));
+        return wrap("$timestamp", timestampNode);
+    }
+
+    private static JsonNode dbPointerNode(BsonDbPointer dbPointer) {
+        ObjectNode dbPointerNode = nodeFactory.objectNode();
+        dbPointerNode.put("$ref", dbPointer.getNamespace());
+        dbPointerNode.put("$id", dbPointer.getId().toHexString());
+        return wrap("$dbPointer", dbPointerNode);
+    }
+}
@@ -0,0 +1,342 @@
+package com.external.plugins.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.plugins.exceptions.MongoPluginError;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadConcernLevel;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads all the documents of the cursor of a `find` or `aggregate` command.
+ *
+ * The commands are run through the driver's find and aggregate publishers rather than `runCommand`, so that the
+ * batches after the first one are fetched from the same server that opened the cursor. This matters with several
+ * mongos hosts or in load balanced mode, where a `getMore` sent with `runCommand` may reach another mongos and fail
+ * with `CursorNotFound`. Commands with options the publishers can't express are run with `runCommand` as written, and
+ * only the first batch of their cursor is read.
+ *
+ * Every document is decoded from its BSON bytes straight into the result array, and the size of the documents read so
+ * far is checked against the maximum response size after each one. Once the limit is crossed the cursor is cancelled,
+ * which makes the driver kill it on its server instead of reading it to the end.
+ */
+@Slf4j
+public class MongoCursorReader {
+
+    public static final String CURSOR = "cursor";
+
+    private static final String FIRST_BATCH = "firstBatch";
+
+    private static final String FIND = "find";
+
+    private static final String AGGREGATE = "aggregate";
+
+    private static final String PIPELINE = "pipeline";
+
+    private static final String BATCH_SIZE = "batchSize";
+
+    private static final Set<String> FIND_OPTIONS = Set.of(
+            FIND,
+            "filter",
+            "sort",
+            "projection",
+            "hint",
+            "skip",
+            "limit",
+            BATCH_SIZE,
+            "comment",
+            "maxTimeMS",
+            "readConcern",
+            "max",
+            "min",
+            "returnKey",
+            "showRecordId",
+            "noCursorTimeout",
+            "allowPartialResults",
+            "allowDiskUse",
+            "let");
+
+    private static final Set<String> AGGREGATE_OPTIONS =
+            Set.of(AGGREGATE, PIPELINE, CURSOR, "hint", "comment", "maxTimeMS", "readConcern", "allowDiskUse", "let");
+
+    private final long maxSizeInBytes;
+
+    private final ArrayNode documents = JsonNodeFactory.instance.arrayNode();
+
+    private long sizeInBytes;
+
+    /**
+     * @param maxSizeInBytes : maximum supported size of the documents read from the cursor
+     */
+    public MongoCursorReader(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * Maps a raw `find` or `aggregate` command onto the driver's publisher for it.
+     *
+     * @param database : database to run the command on
+     * @param command  : the raw command
+     * @return the publisher of the documents of the command's cursor, or null if the command is not a `find` or
+     * `aggregate` command, or has options that the publishers can't express
+     */
+    public static Publisher<RawBsonDocument> getCursorPublisher(MongoDatabase database, Document command) {
+        if (command.isEmpty()) {
+            return null;
+        }
+
+        String commandName = command.keySet().iterator().next();
+        try {
+            if (FIND.equals(commandName) && FIND_OPTIONS.containsAll(command.keySet())) {
+                return getFindPublisher(database, command);
+            }
+            if (AGGREGATE.equals(commandName) && AGGREGATE_OPTIONS.containsAll(command.keySet())) {
+                return getAggregatePublisher(database, command);
+            }
+        } catch (IllegalArgumentException e) {
+            // An option of an unexpected type, which the server reports better when the command is run as written
+            log.debug(
+                    "[MongoPlugin] Running {} command as written, option not supported: {}",
+                    commandName,
+                    e.getMessage());
+        }
+        return null;
+    }
+
+    private static FindPublisher<RawBsonDocument> getFindPublisher(MongoDatabase database, Document command) {
+        MongoDatabase readDatabase = withReadConcern(database, command.get("readConcern"));
+        if (!(command.get(FIND) instanceof String collectionName) || readDatabase == null) {
+            return null;
+        }
+
+        FindPublisher<RawBsonDocument> publisher = readDatabase
+                .getCollection(collectionName, RawBsonDocument.class)
+                .find();
+        for (String option : command.keySet()) {
+            Object value = command.get(option);
+            switch (option) {
+                case FIND, "readConcern" -> {}
+                case "filter" -> publisher.filter(asDocument(value));
+                case "sort" -> publisher.sort(asDocument(value));
+                case "projection" -> publisher.projection(asDocument(value));
+                case "hint" -> {
+                    if (value instanceof String indexName) {
+                        publisher.hintString(indexName);
+                    } else {
+                        publisher.hint(asDocument(value));
+                    }
+                }
+                case "skip" -> publisher.skip(asNumber(value).intValue());
+                case "limit" -> publisher.limit(asNumber(value).intValue());
+                case BATCH_SIZE -> publisher.batchSize(asNumber(value).intValue());
+                case "comment" -> publisher.comment(asString(value));
+                case "maxTimeMS" -> publisher.maxTime(asNumber(value).longValue(), TimeUnit.MILLISECONDS);
+                case "max" -> publisher.max(asDocument(value));
+                case "min" -> publisher.min(asDocument(value));
+                case "returnKey" -> publisher.returnKey(asBoolean(value));
+                case "showRecordId" -> publisher.showRecordId(asBoolean(value));
+                case "noCursorTimeout" -> publisher.noCursorTimeout(asBoolean(value));
+                case "allowPartialResults" -> publisher.partial(asBoolean(value));
+                case "allowDiskUse" -> publisher.allowDiskUse(asBoolean(value));
+                case "let" -> publisher.let(asDocument(value));
+                default -> throw new IllegalArgumentException(option);
+            }
+        }
+
+        return publisher;
+    }
+
+    private static AggregatePublisher<RawBsonDocument> getAggregatePublisher(MongoDatabase database, Document command) {
+        MongoDatabase readDatabase = withReadConcern(database, command.get("readConcern"));
+        List<Bson> pipeline = getPipeline(command.get(PIPELINE));
+        // The driver reads the output collection back for $out and $merge, while the command returns no documents
+        if (readDatabase == null || pipeline == null || hasOutputStage(pipeline)) {
+            return null;
+        }
+
+        AggregatePublisher<RawBsonDocument> publisher;
+        Object collection = command.get(AGGREGATE);
+        if (collection instanceof String collectionName) {
+            publisher = readDatabase
+                    .getCollection(collectionName, RawBsonDocument.class)
+                    .aggregate(pipeline);
+        } else if (collection instanceof Number number && number.intValue() == 1) {
+            // Database level aggregations, such as $currentOp, don't run on a collection
+            publisher = readDatabase.aggregate(pipeline, RawBsonDocument.class);
+        } else {
+            return null;
+        }
+
+        for (String option : command.keySet()) {
+            Object value = command.get(option);
+            switch (option) {
+                case AGGREGATE, PIPELINE, "readConcern" -> {}
+                case CURSOR -> {
+                    Document cursorOptions = asDocument(value);
+                    if (!Set.of(BATCH_SIZE).containsAll(cursorOptions.keySet())) {
+                        throw new IllegalArgumentException(CURSOR);
+                    }
+                    if (cursorOptions.containsKey(BATCH_SIZE)) {
+                        publisher.batchSize(
+                                asNumber(cursorOptions.get(BATCH_SIZE)).intValue());
+                    }
+                }
+                case "hint" -> {
+                    if (value instanceof String indexName) {
+                        publisher.hintString(indexName);
+                    } else {
+                        publisher.hint(asDocument(value));
+                    }
+                }
+                case "comment" -> publisher.comment(asString(value));
+                case "maxTimeMS" -> publisher.maxTime(asNumber(value).longValue(), TimeUnit.MILLISECONDS);
+                case "allowDiskUse" -> publisher.allowDiskUse(asBoolean(value));
+                case "let" -> publisher.let(asDocument(value));
+                default -> throw new IllegalArgumentException(option);
+            }
+        }
+
+        return publisher;
+    }
+
+    private static Document asDocument(Object value) {
+        if (value instanceof Document document) {
+            return document;
+        }
+        throw new IllegalArgumentException(String.valueOf(value));
+    }
+
+    private static Number asNumber(Object value) {
+        if (value instanceof Number number) {
+            return number;
+        }
+        throw new IllegalArgumentException(String.valueOf(value));
+    }
+
+    private static String asString(Object value) {
+        if (value instanceof String string) {
+            return string;
+        }
+        throw new IllegalArgumentException(String.valueOf(value));
+    }
+
+    private static Boolean asBoolean(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        throw new IllegalArgumentException(String.valueOf(value));
+    }
+
+    private static MongoDatabase withReadConcern(MongoDatabase database, Object readConcern) {
+        if (readConcern == null) {
+            return database;
+        }
+        if (!(readConcern instanceof Document readConcernDocument)
+                || !Set.of("level").containsAll(readConcernDocument.keySet())
+                || !(readConcernDocument.get("level") instanceof String level)) {
+            return null;
+        }
+
+        try {
+            return database.withReadConcern(new ReadConcern(ReadConcernLevel.fromString(level)));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static List<Bson> getPipeline(Object pipeline) {
+        if (!(pipeline instanceof List<?> stages)) {
+            return null;
+        }
+
+        List<Bson> pipelineStages = new ArrayList<>();
+        for (Object stage : stages) {
+            if (!(stage instanceof Document stageDocument)) {
+                return null;
+            }
+            pipelineStages.add(stageDocument);
+        }
+        return pipelineStages;
+    }
+
+    private static boolean hasOutputStage(List<Bson> pipeline) {
+        return !pipeline.isEmpty()
+                && pipeline.get(pipeline.size() - 1) instanceof Document lastStage
+                && (lastStage.containsKey("$out") || lastStage.containsKey("$merge"));
+    }
+
+    /**
+     * Reads the cursor to the end.
+     *
+     * @param cursorPublisher : the publisher of the documents of the cursor
+     * @return all the documents of the cursor
+     */
+    public Mono<ArrayNode> read(Publisher<RawBsonDocument> cursorPublisher) {
+        return Flux.from(cursorPublisher)
+                // Erroring out cancels the cursor, which the driver then kills on the server that holds it
+                .handle((RawBsonDocument document, SynchronousSink<RawBsonDocument> sink) -> {
+                    AppsmithPluginException error = add(document);
+                    if (error != null) {
+                        sink.error(error);
+                    }
+                })
+                .then(Mono.fromSupplier(() -> documents));
+    }
+
+    /**
+     * Reads the first batch of a cursor returned by `runCommand`. The batches after it can't be read reliably, as the
+     * `getMore` commands would not be pinned to the server that holds the cursor.
+     *
+     * @param cursor : the `cursor` document of the command response
+     * @return the documents of the first batch
+     */
+    public Mono<ArrayNode> readFirstBatch(BsonDocument cursor) {
+        for (BsonValue document : cursor.getArray(FIRST_BATCH, new BsonArray())) {
+            AppsmithPluginException error = add((RawBsonDocument) document);
+            if (error != null) {
+                return Mono.error(error);
+            }
+        }
+
+        return Mono.just(documents);
+    }
+
+    /**
+     * Adds the document to the result, unless it takes the result over the maximum response size.
+     *
+     * @return the error to fail with if the result got too large, null otherwise
+     */
+    private AppsmithPluginException add(RawBsonDocument document) {
+        sizeInBytes += document.getByteBuffer().remaining();
+        if (sizeInBytes > maxSizeInBytes) {
+            log.debug(
+                    "[MongoPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                    maxSizeInBytes,
+                    sizeInBytes);
+            return new AppsmithPluginException(
+                    MongoPluginError.RESPONSE_SIZE_TOO_LARGE, maxSizeInBytes / (1024f * 1024));
+        }
+
+        documents.add(JsonNodeDecoder.decode(document));
+        return null;
+    }
+}
@@ -0,0 +1,217 @@
+package com.external.plugins;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.SSLDetails;
+import com.external.plugins.exceptions.MongoPluginError;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.external.plugins.constants.FieldName.BODY;
+import static com.external.plugins.constants.FieldName.COMMAND;
+import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for reading the cursors of commands in MongoPlugin, across several batches and up to the maximum response size
+ */
+@Testcontainers
+public class MongoPluginCursorTest {
+
+    private static final String COLLECTION_NAME = "cursorItems";
+
+    private static final int DOCUMENT_COUNT = 25;
+
+    private static final int BATCH_SIZE = 5;
+
+    private static final String PAYLOAD = "x".repeat(1000);
+
+    private static String address;
+    private static Integer port;
+    private static MongoClient mongoClient;
+
+    @SuppressWarnings("rawtypes")
+    @Container
+    public static GenericContainer mongoContainer = new MongoTestContainer();
+
+    @BeforeAll
+    public static void setUp() {
+        address = mongoContainer.getContainerIpAddress();
+        port = mongoContainer.getFirstMappedPort();
+        String uri = "mongodb://" + address + ":" + port;
+        mongoClient = MongoClients.create(uri);
+
+        List<Document> documents = IntStream.range(0, DOCUMENT_COUNT)
+                .mapToObj(index -> new Document(Map.of("index", index, "payload", PAYLOAD)))
+                .toList();
+        Mono.from(mongoClient.getDatabase("test").getCollection(COLLECTION_NAME).insertMany(documents))
+                .block();
+    }
+
+    private static DatasourceConfiguration createDatasourceConfiguration() {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setHost(address);
+        endpoint.setPort(port.longValue());
+
+        Connection connection = new Connection();
+        connection.setMode(Connection.Mode.READ_WRITE);
+        connection.setType(Connection.Type.DIRECT);
+        connection.setDefaultDatabaseName("test");
+        connection.setSsl(new SSLDetails());
+        connection.getSsl().setAuthType(SSLDetails.AuthType.DEFAULT);
+
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setConnection(connection);
+        dsConfig.setEndpoints(List.of(endpoint));
+
+        return dsConfig;
+    }
+
+    private static ActionConfiguration createRawActionConfiguration(String body) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, BODY, body);
+        actionConfiguration.setFormData(configMap);
+
+        return actionConfiguration;
+    }
+
+    private static Mono<Object> execute(
+            MongoPlugin.MongoPluginExecutor pluginExecutor, ActionConfiguration actionConfiguration) {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        return pluginExecutor.datasourceCreate(dsConfig).flatMap(conn -> pluginExecutor
+                .executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration)
+                .doFinally(signalType -> pluginExecutor.datasourceDestroy(conn)));
+    }
+
+    private static int getOpenCursorCount() {
+        Document serverStatus = Mono.from(mongoClient.getDatabase("admin").runCommand(new Document("serverStatus", 1)))
+                .block();
+        assertNotNull(serverStatus);
+        Document openCursors = serverStatus
+                .get("metrics", Document.class)
+                .get("cursor", Document.class)
+                .get("open", Document.class);
+        return ((Number) openCursors.get("total")).intValue();
+    }
+
+    @Test
+    public void testFindCommand_resultLargerThanOneBatch_readsAllBatches() {
+        MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig());
+        ActionConfiguration actionConfiguration = createRawActionConfiguration("{\n" + "  find: \"" + COLLECTION_NAME
+                + "\",\n" + "  sort: { index: 1 },\n" + "  batchSize: " + BATCH_SIZE + "\n" + "}");
+
+        StepVerifier.create(execute(pluginExecutor, actionConfiguration))
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    ArrayNode documents = (ArrayNode) result.getBody();
+                    assertEquals(DOCUMENT_COUNT, documents.size());
+                    for (int index = 0; index < DOCUMENT_COUNT; index++) {
+                        assertEquals(index, documents.get(index).get("index").asInt());
+                        assertEquals(
+                                PAYLOAD, documents.get(index).get("payload").asText());
+                    }
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testAggregateCommand_resultLargerThanOneBatch_readsAllBatches() {
+        MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig());
+        ActionConfiguration actionConfiguration = createRawActionConfiguration(
+                "{\n" + "  aggregate: \"" + COLLECTION_NAME + "\",\n" + "  pipeline: [ { $sort: { index: 1 } } ],\n"
+                        + "  cursor: { batchSize: " + BATCH_SIZE + " }\n" + "}");
+
+        StepVerifier.create(execute(pluginExecutor, actionConfiguration))
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    ArrayNode documents = (ArrayNode) result.getBody();
+                    assertEquals(DOCUMENT_COUNT, documents.size());
+                    assertEquals(
+                            DOCUMENT_COUNT - 1,
+                            documents.get(DOCUMENT_COUNT - 1).get("index").asInt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindCommand_sizeLimitExceededWithinLaterBatch_returnsErrorAndKillsCursor() {
+        /*
+         Every document takes a little over 1000 bytes, so the limit is crossed at the 12th document, which is in the
+         middle of the third batch and leaves the cursor open on the server with more batches to read.
+        */
+        MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig() {
+            @Override
+            public int getMaxResponseSize() {
+                return 12 * 1000;
+            }
+        });
+        ActionConfiguration actionConfiguration = createRawActionConfiguration("{\n" + "  find: \"" + COLLECTION_NAME
+                + "\",\n" + "  sort: { index: 1 },\n" + "  batchSize: " + BATCH_SIZE + "\n" + "}");
+
+        int openCursorCount = getOpenCursorCount();
+
+        StepVerifier.create(execute(pluginExecutor, actionConfiguration))
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(MongoPluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(), result.getStatusCode());
+                })
+                .verifyComplete();
+
+        assertEquals(openCursorCount, getOpenCursorCount());
+    }
+
+    @Test
+    public void testFindCommand_sizeLimitExceededWithinFirstBatch_returnsErrorAndKillsCursor() {
+        MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig() {
+            @Override
+            public int getMaxResponseSize() {
+                return 2 * 1000;
+            }
+        });
+        ActionConfiguration actionConfiguration = createRawActionConfiguration("{\n" + "  find: \"" + COLLECTION_NAME
+                + "\",\n" + "  sort: { index: 1 },\n" + "  batchSize: " + BATCH_SIZE + "\n" + "}");
+
+        int openCursorCount = getOpenCursorCount();
+
+        StepVerifier.create(execute(pluginExecutor, actionConfiguration))
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(MongoPluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(), result.getStatusCode());
+                })
+                .verifyComplete();
+
+        assertEquals(openCursorCount, getOpenCursorCount());
+    }
+}
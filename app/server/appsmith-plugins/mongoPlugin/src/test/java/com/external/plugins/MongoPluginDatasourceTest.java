@@ -59,7 +59,7 @@ import static org.mockito.Mockito.when;
  */
 @Testcontainers
 public class MongoPluginDatasourceTest {
-    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor();
+    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig());
 
     private static String address;
     private static Integer port;
@@ -198,7 +198,8 @@ public class MongoPluginDatasourceTest {
          *      - On calling testDatasource(...) -> call the real method.
          *      - On calling datasourceCreate(...) -> throw the mock exception defined above.
          */
-        MongoPlugin.MongoPluginExecutor mongoPluginExecutor = new MongoPlugin.MongoPluginExecutor();
+        MongoPlugin.MongoPluginExecutor mongoPluginExecutor =
+                new MongoPlugin.MongoPluginExecutor(new MockSharedConfig());
         MongoPlugin.MongoPluginExecutor spyMongoPluginExecutor = spy(mongoPluginExecutor);
         /* Please check this out before modifying this line: https://stackoverflow
          * .com/questions/11620103/mockito-trying-to-spy-on-method-is-calling-the-original-method
@@ -66,7 +66,7 @@ import static org.mockito.Mockito.when;
  */
 @Testcontainers
 public class MongoPluginErrorsTest {
-    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor();
+    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig());
 
     private static String address;
     private static Integer port;
@@ -40,7 +40,7 @@ import static org.mockito.Mockito.spy;
  */
 @Testcontainers
 public class MongoPluginStaleConnTest {
-    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor();
+    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig());
 
     private static String address;
     private static Integer port;
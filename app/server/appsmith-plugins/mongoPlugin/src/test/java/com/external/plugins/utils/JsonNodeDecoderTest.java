@@ -0,0 +1,78 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinary;
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonNodeDecoderTest {
+
+    private static final ObjectId OBJECT_ID = new ObjectId("61de6e2bda1ae36e1f1a1b7c");
+
+    private static BsonDocument getDocument() {
+        return new BsonDocument("_id", new BsonObjectId(OBJECT_ID))
+                .append("name", new BsonString("Cierra Vega"))
+                .append("createdAt", new BsonDateTime(1641993775000L))
+                .append("bornAt", new BsonDateTime(-493033770000L))
+                .append("count", new BsonInt64(5))
+                .append("views", new BsonInt64(9_000_000_000L))
+                .append("price", new BsonDecimal128(new Decimal128(new BigDecimal("10.50"))))
+                .append("ratio", new BsonDouble(Double.NaN))
+                .append(
+                        "author",
+                        new BsonDocument("$ref", new BsonString("users"))
+                                .append("$id", new BsonObjectId(OBJECT_ID))
+                                .append("$db", new BsonString("test")))
+                .append("data", new BsonBinary(new byte[] {1, 2, 3}));
+    }
+
+    @Test
+    public void testDecode_plainValues() {
+        ObjectNode json = JsonNodeDecoder.decode(getDocument());
+
+        assertEquals("61de6e2bda1ae36e1f1a1b7c", json.get("_id").asText());
+        assertEquals("Cierra Vega", json.get("name").asText());
+        assertEquals("2022-01-12T13:22:55Z", json.get("createdAt").asText());
+        assertEquals("1954-05-18T14:10:30Z", json.get("bornAt").asText());
+        assertTrue(json.get("count").isInt());
+        assertEquals(5, json.get("count").intValue());
+        assertTrue(json.get("views").isLong());
+        assertEquals(9_000_000_000L, json.get("views").longValue());
+        assertEquals(new BigDecimal("10.50"), json.get("price").decimalValue());
+        assertEquals("NaN", json.get("ratio").get("$numberDouble").asText());
+    }
+
+    @Test
+    public void testDecode_dbRefAndBinary() {
+        ObjectNode json = JsonNodeDecoder.decode(getDocument());
+
+        assertEquals("users", json.get("author").get("$ref").asText());
+        assertEquals("61de6e2bda1ae36e1f1a1b7c", json.get("author").get("$id").asText());
+        assertEquals("test", json.get("author").get("$db").asText());
+        assertEquals("AQID", json.get("data").get("$binary").get("base64").asText());
+        assertEquals("00", json.get("data").get("$binary").get("subType").asText());
+    }
+
+    @Test
+    public void testDecode_rawDocumentMatchesDocument() {
+        BsonDocument document = getDocument();
+        RawBsonDocument rawDocument = new RawBsonDocument(document, new BsonDocumentCodec());
+
+        assertEquals(JsonNodeDecoder.decode(document), JsonNodeDecoder.decode(rawDocument));
+    }
+}
@@ -0,0 +1,124 @@
+package com.external.plugins.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.plugins.exceptions.MongoPluginError;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MongoCursorReaderTest {
+
+    // The client connects lazily, so publishers can be built without a server
+    private static MongoClient mongoClient;
+
+    private static MongoDatabase database;
+
+    @BeforeAll
+    public static void setUp() {
+        mongoClient = MongoClients.create("mongodb://localhost:27017");
+        database = mongoClient.getDatabase("test");
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        mongoClient.close();
+    }
+
+    private static RawBsonDocument getRawDocument(String name) {
+        return new RawBsonDocument(new BsonDocument("name", new BsonString(name)), new BsonDocumentCodec());
+    }
+
+    @Test
+    public void testGetCursorPublisher_findWithSupportedOptions_returnsFindPublisher() {
+        Document command = Document.parse("{ find: \"users\", filter: { age: { $gt: 20 } }, sort: { age: 1 }, "
+                + "projection: { name: 1 }, skip: 5, limit: 10, batchSize: 2, hint: \"age_1\", maxTimeMS: 1000, "
+                + "readConcern: { level: \"majority\" } }");
+
+        assertInstanceOf(FindPublisher.class, MongoCursorReader.getCursorPublisher(database, command));
+    }
+
+    @Test
+    public void testGetCursorPublisher_aggregateWithBatchSize_returnsAggregatePublisher() {
+        Document command = Document.parse("{ aggregate: \"users\", pipeline: [ { $match: { age: { $gt: 20 } } } ], "
+                + "cursor: { batchSize: 2 }, allowDiskUse: true }");
+
+        assertInstanceOf(AggregatePublisher.class, MongoCursorReader.getCursorPublisher(database, command));
+    }
+
+    @Test
+    public void testGetCursorPublisher_commandsTheDriverCannotExpress_returnsNull() {
+        // Not a cursor command
+        assertNull(MongoCursorReader.getCursorPublisher(database, Document.parse("{ count: \"users\" }")));
+        // Option without a publisher equivalent
+        assertNull(MongoCursorReader.getCursorPublisher(
+                database, Document.parse("{ find: \"users\", singleBatch: true }")));
+        // Option of an unexpected type, left for the server to report
+        assertNull(
+                MongoCursorReader.getCursorPublisher(database, Document.parse("{ find: \"users\", limit: \"10\" }")));
+        // The driver would read the output collection back
+        assertNull(MongoCursorReader.getCursorPublisher(
+                database, Document.parse("{ aggregate: \"users\", pipeline: [ { $out: \"copy\" } ], cursor: {} }")));
+        // Explain returns a plan instead of a cursor
+        assertNull(MongoCursorReader.getCursorPublisher(
+                database, Document.parse("{ aggregate: \"users\", pipeline: [], explain: true }")));
+    }
+
+    @Test
+    public void testRead_overMaxSize_failsWithResponseSizeTooLarge() {
+        RawBsonDocument document = getRawDocument("a");
+        long documentSize = document.getByteBuffer().remaining();
+
+        StepVerifier.create(new MongoCursorReader(documentSize * 2)
+                        .read(Flux.just(document, getRawDocument("b"), getRawDocument("c"))))
+                .expectErrorSatisfies(error -> {
+                    assertInstanceOf(AppsmithPluginException.class, error);
+                    assertEquals(
+                            MongoPluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(),
+                            ((AppsmithPluginException) error).getAppErrorCode());
+                })
+                .verify();
+
+        StepVerifier.create(new MongoCursorReader(documentSize * 3)
+                        .read(Flux.just(document, getRawDocument("b"), getRawDocument("c"))))
+                .assertNext(documents -> {
+                    assertEquals(3, documents.size());
+                    assertEquals("c", documents.get(2).get("name").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFirstBatch_readsOnlyFirstBatch() {
+        BsonDocument cursor = new BsonDocument("id", new BsonInt64(42))
+                .append("ns", new BsonString("test.users"))
+                .append("firstBatch", new BsonArray(List.of(getRawDocument("a"), getRawDocument("b"))));
+
+        StepVerifier.create(new MongoCursorReader(Long.MAX_VALUE).readFirstBatch(cursor))
+                .assertNext(documents -> {
+                    assertEquals(2, documents.size());
+                    assertTrue(documents.get(0).has("name"));
+                })
+                .verifyComplete();
+    }
+}
@@ -8,9 +8,11 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResponseSizeAccumulator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolSize;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
@@ -21,9 +23,12 @@ import com.appsmith.external.models.Property;
 import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.TabularResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.ConnectionPoolRegistry;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.MssqlErrorMessages;
 import com.external.plugins.exceptions.MssqlPluginError;
 import com.external.plugins.utils.MssqlDatasourceUtils;
@@ -111,6 +116,12 @@ public class MssqlPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        private final SharedConfig sharedConfig;
+
+        public MssqlPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -195,7 +206,8 @@ public class MssqlPlugin extends BasePlugin {
                         Statement statement = null;
                         PreparedStatement preparedQuery = null;
                         ResultSet resultSet = null;
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        ResponseSizeAccumulator rowsAccumulator = new ResponseSizeAccumulator(
+                                sharedConfig.getMaxResponseSize(), new TabularResult(objectMapper));
                         final List<String> columnsList = new ArrayList<>();
 
                         try {
@@ -270,7 +282,7 @@ public class MssqlPlugin extends BasePlugin {
                             }
 
                             MssqlExecuteUtils.populateRowsAndColumns(
-                                    rowsList,
+                                    rowsAccumulator,
                                     columnsList,
                                     resultSet,
                                     isResultSet,
@@ -295,7 +307,7 @@ public class MssqlPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rowsAccumulator.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug("In the MssqlPlugin, got action execution result");
@@ -384,6 +396,9 @@ public class MssqlPlugin extends BasePlugin {
                 }
             }
 
+            invalids.addAll(
+                    ConnectionPoolRegistry.getInstance().validatePoolSize(datasourceConfiguration.getConnection()));
+
             return invalids;
         }
 
@@ -539,8 +554,15 @@ public class MssqlPlugin extends BasePlugin {
 
         hikariConfig = new HikariConfig();
         hikariConfig.setDriverClassName(JDBC_DRIVER);
-        hikariConfig.setMinimumIdle(MINIMUM_POOL_SIZE);
-        hikariConfig.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        ConnectionPoolRegistry connectionPoolRegistry = ConnectionPoolRegistry.getInstance();
+        ConnectionPoolSize poolSize = connectionPoolRegistry.getPoolSize(
+                datasourceConfiguration.getConnection(), MINIMUM_POOL_SIZE, MAXIMUM_POOL_SIZE);
+        hikariConfig.setMinimumIdle(poolSize.getMinimumIdle());
+        hikariConfig.setMaximumPoolSize(poolSize.getMaximumPoolSize());
+        // The pool is resized at runtime by the connection pool registry, through the MBeans of the pool
+        String poolName = connectionPoolRegistry.newPoolName("mssql");
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setRegisterMbeans(true);
         // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
         // should get tracked (may be falsely for long running queries) as leaked connection
         hikariConfig.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
@@ -581,6 +603,7 @@ public class MssqlPlugin extends BasePlugin {
                     MssqlErrorMessages.CONNECTION_POOL_CREATION_FAILED_ERROR_MSG,
                     e.getMessage());
         }
+        connectionPoolRegistry.register(poolName, "mssql", poolSize);
 
         return hikariDatasource;
     }
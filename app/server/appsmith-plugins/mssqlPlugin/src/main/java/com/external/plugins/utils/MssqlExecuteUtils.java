@@ -1,5 +1,9 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.ResponseSizeAccumulator;
+import com.appsmith.external.models.TabularResult;
+import com.external.plugins.exceptions.MssqlPluginError;
 import org.apache.commons.lang.ObjectUtils;
 
 import java.sql.Connection;
@@ -12,7 +16,6 @@ import java.text.MessageFormat;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -66,7 +69,7 @@ public class MssqlExecuteUtils {
     }
 
     public static void populateRowsAndColumns(
-            List<Map<String, Object>> rowsList,
+            ResponseSizeAccumulator rowsAccumulator,
             List<String> columnsList,
             ResultSet resultSet,
             boolean isResultSet,
@@ -80,15 +83,16 @@ public class MssqlExecuteUtils {
                     ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                     : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-            rowsList.add(Map.of("affectedRows", updateCount));
+            rowsAccumulator.add(Map.of("affectedRows", updateCount));
         } else {
             ResultSetMetaData metaData = resultSet.getMetaData();
             int colCount = metaData.getColumnCount();
             columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
+            TabularResult.Columns columns = new TabularResult.Columns(columnsList);
 
             while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
+                // Values are kept in column order, the column names are shared by all the rows.
+                Object[] row = new Object[colCount];
 
                 for (int i = 1; i <= colCount; i++) {
                     Object value;
@@ -121,10 +125,13 @@ public class MssqlExecuteUtils {
                         value = resultSet.getObject(i);
                     }
 
-                    row.put(metaData.getColumnName(i), value);
+                    row[i - 1] = value;
                 }
 
-                rowsList.add(row);
+                if (!rowsAccumulator.add(columns, row)) {
+                    throw new AppsmithPluginException(
+                            MssqlPluginError.RESPONSE_SIZE_TOO_LARGE, rowsAccumulator.getMaxSizeInMB());
+                }
             }
         }
     }
@@ -56,6 +56,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @Testcontainers
 public class MssqlPluginTest {
 
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
     @SuppressWarnings("rawtypes") // The type parameter for the container type is just itself and is pseudo-optional.
     @Container
     public static final MSSQLServerContainer container = MssqlTestDBContainerManager.getMssqlDBForTest();
@@ -160,7 +162,7 @@ public class MssqlPluginTest {
 
         StepVerifier.create(executeMono)
                 .assertNext(result -> {
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertArrayEquals(
                             new String[] {"user_id"},
                             new ObjectMapper()
@@ -188,7 +190,7 @@ public class MssqlPluginTest {
                     assertTrue(result.getIsExecutionSuccess());
                     assertNotNull(result.getBody());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals("2018-12-31", node.get("dob").asText());
                     assertEquals("18:32:45.0000000", node.get("time1").asText());
                     assertTrue(node.get("spouse_dob").isNull());
@@ -262,7 +264,7 @@ public class MssqlPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals("Jack", node.get("username").asText());
                     assertEquals("jack@exemplars.com", node.get("email").asText());
                     assertEquals("2018-12-31", node.get("dob").asText());
@@ -322,7 +324,7 @@ public class MssqlPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals("Jack", node.get("username").asText());
                     assertEquals("jack@exemplars.com", node.get("email").asText());
                     assertEquals("2018-12-31", node.get("dob").asText());
@@ -393,7 +395,7 @@ public class MssqlPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals("Jack", node.get("username").asText());
                     assertEquals("jack@exemplars.com", node.get("email").asText());
                     assertEquals("2018-12-31", node.get("dob").asText());
@@ -456,7 +458,7 @@ public class MssqlPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertTrue(node.get("username").isNull());
                     assertTrue(node.get("password").isNull());
                     assertTrue(node.get("email").isNull());
@@ -507,7 +509,7 @@ public class MssqlPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertTrue(node.get("username").isNull());
                     assertTrue(node.get("password").isNull());
                     assertTrue(node.get("email").isNull());
@@ -609,7 +611,7 @@ public class MssqlPluginTest {
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertArrayEquals(
                             new String[] {"numeric_string"},
                             new ObjectMapper()
@@ -18,7 +18,8 @@ import static com.external.plugins.utils.MssqlExecuteUtils.closeConnectionPostEx
 
 public class MssqlTestDBContainerManager {
 
-    static MssqlPlugin.MssqlPluginExecutor mssqlPluginExecutor = new MssqlPlugin.MssqlPluginExecutor();
+    static MssqlPlugin.MssqlPluginExecutor mssqlPluginExecutor =
+            new MssqlPlugin.MssqlPluginExecutor(new MockSharedConfig());
 
     public static MssqlDatasourceUtils mssqlDatasourceUtils = new MssqlDatasourceUtils();
 
@@ -21,6 +21,7 @@ import com.appsmith.external.models.Param;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
+import com.appsmith.external.models.TabularResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
@@ -31,6 +32,7 @@ import com.external.utils.MySqlDatasourceUtils;
 import com.external.utils.MySqlErrorUtils;
 import com.external.utils.QueryUtils;
 import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ColumnMetadata;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.R2dbcBadGrammarException;
 import io.r2dbc.spi.R2dbcException;
@@ -72,12 +74,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.helpers.PluginUtils.MATCH_QUOTED_WORDS_REGEX;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
+import static com.appsmith.external.helpers.PluginUtils.isPreparedStatement;
+import static com.appsmith.external.helpers.PluginUtils.isReadOnlyQuery;
 import static com.appsmith.external.helpers.SSHUtils.getConnectionContext;
 import static com.appsmith.external.helpers.SSHUtils.isSSHTunnelConnected;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
@@ -162,7 +168,6 @@ public class MySqlPlugin extends BasePlugin {
     public static class MySqlPluginExecutor
             implements PluginExecutor<ConnectionContext<ConnectionPool>>, SmartSubstitutionInterface {
 
-        private static final int PREPARED_STATEMENT_INDEX = 0;
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
         /**
@@ -188,24 +193,7 @@ public class MySqlPlugin extends BasePlugin {
 
             final Map<String, Object> requestData = new HashMap<>();
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                // In case the prepared statement configuration is missing, default to true
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
 
             requestData.put("preparedStatement", TRUE.equals(isPreparedStatement));
 
@@ -285,7 +273,7 @@ public class MySqlPlugin extends BasePlugin {
 
             boolean isSelectOrShowOrDescQuery = getIsSelectOrShowOrDescQuery(finalQuery);
 
-            final List<Map<String, Object>> rowsList = new ArrayList<>(50);
+            final TabularResult rowsList = new TabularResult(objectMapper);
             final List<String> columnsList = new ArrayList<>();
             Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(finalQuery) : finalQuery;
@@ -323,17 +311,28 @@ public class MySqlPlugin extends BasePlugin {
                                 Mono<List<Map<String, Object>>> resultMono;
                                 if (isSelectOrShowOrDescQuery) {
                                     resultMono = resultFlux
-                                            .flatMap(result -> result.map((row, meta) -> {
-                                                rowsList.add(getRow(row, meta));
-
-                                                if (columnsList.isEmpty()) {
-                                                    meta.getColumnMetadatas().stream()
-                                                            .forEach(columnMetadata ->
-                                                                    columnsList.add(columnMetadata.getName()));
-                                                }
-
-                                                return result;
-                                            }))
+                                            .flatMap(result -> {
+                                                // Column names are shared by all the rows of a result.
+                                                final AtomicReference<TabularResult.Columns> resultColumns =
+                                                        new AtomicReference<>();
+                                                return result.map((row, meta) -> {
+                                                    if (resultColumns.get() == null) {
+                                                        resultColumns.set(new TabularResult.Columns(
+                                                                meta.getColumnMetadatas().stream()
+                                                                        .map(ColumnMetadata::getName)
+                                                                        .collect(Collectors.toList())));
+                                                    }
+                                                    rowsList.addRow(resultColumns.get(), getRow(row, meta));
+
+                                                    if (columnsList.isEmpty()) {
+                                                        meta.getColumnMetadatas().stream()
+                                                                .forEach(columnMetadata ->
+                                                                        columnsList.add(columnMetadata.getName()));
+                                                    }
+
+                                                    return result;
+                                                });
+                                            })
                                             .collectList()
                                             .thenReturn(rowsList);
                                 } else {
@@ -351,7 +350,7 @@ public class MySqlPlugin extends BasePlugin {
                                 return resultMono
                                         .map(res -> {
                                             ActionExecutionResult result = new ActionExecutionResult();
-                                            result.setBody(objectMapper.valueToTree(rowsList));
+                                            result.setBody(rowsList);
                                             result.setMessages(populateHintMessages(columnsList));
                                             result.setIsExecutionSuccess(true);
                                             log.debug("In the MySqlPlugin, got action execution result");
@@ -531,12 +530,13 @@ public class MySqlPlugin extends BasePlugin {
 
         /**
          * 1. Parse the actual row objects returned by r2dbc driver for mysql statements.
-         * 2. Return the row as a map {column_name -> column_value}.
+         * 2. Return the column values of the row, in the order of the columns.
          */
-        private Map<String, Object> getRow(Row row, RowMetadata meta) {
+        private Object[] getRow(Row row, RowMetadata meta) {
             Iterator<ColumnDefinitionPacket> iterator =
                     (Iterator<ColumnDefinitionPacket>) meta.getColumnMetadatas().iterator();
-            Map<String, Object> processedRow = new LinkedHashMap<>();
+            Object[] processedRow = new Object[meta.getColumnMetadatas().size()];
+            int columnIndex = 0;
 
             while (iterator.hasNext()) {
                 ColumnDefinitionPacket metaData = iterator.next();
@@ -575,7 +575,7 @@ public class MySqlPlugin extends BasePlugin {
                     columnValue = row.get(columnName);
                 }
 
-                processedRow.put(columnName, columnValue);
+                processedRow[columnIndex++] = columnValue;
             }
 
             return processedRow;
@@ -669,6 +669,15 @@ public class MySqlPlugin extends BasePlugin {
             }
         }
 
+        /**
+         * The bindings of an action are only sent as parameters with prepared statements. Otherwise they are
+         * substituted into the query, which may then do anything whatever the query looks like before substitution.
+         */
+        @Override
+        public boolean isReadOnlyAction(ActionConfiguration actionConfiguration) {
+            return isPreparedStatement(actionConfiguration) && isReadOnlyQuery(actionConfiguration.getBody());
+        }
+
         @Override
         public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
             return MySqlDatasourceUtils.validateDatasource(datasourceConfiguration);
@@ -74,6 +74,8 @@ import static reactor.core.publisher.Mono.zip;
 @Testcontainers
 public class MySqlPluginTest {
 
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
     static MySqlPlugin.MySqlPluginExecutor pluginExecutor = new MySqlPlugin.MySqlPluginExecutor();
 
     @SuppressWarnings("rawtypes") // The type parameter for the container type is just itself and is
@@ -425,7 +427,7 @@ public class MySqlPluginTest {
                     assertNotNull(result);
                     assertTrue(result.getIsExecutionSuccess());
                     assertNotNull(result.getBody());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals("2018-12-31", node.get("dob").asText());
                     assertEquals("2018", node.get("yob").asText());
                     assertEquals("Jack", node.get("username").asText());
@@ -496,7 +498,7 @@ public class MySqlPluginTest {
 
         StepVerifier.create(executeMono)
                 .assertNext(result -> {
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertArrayEquals(
                             new String[] {"user_id"},
                             new ObjectMapper()
@@ -607,7 +609,7 @@ public class MySqlPluginTest {
 
         StepVerifier.create(executeMono)
                 .assertNext(result -> {
-                    final JsonNode node = ((ArrayNode) result.getBody());
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody()));
                     assertEquals(1, node.size());
                     // Verify selected row id.
                     assertEquals(1, node.get(0).get("id").asInt());
@@ -661,7 +663,7 @@ public class MySqlPluginTest {
 
         StepVerifier.create(executeMono)
                 .assertNext(result -> {
-                    final JsonNode node = ((ArrayNode) result.getBody());
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody()));
                     assertEquals(2, node.size());
                     // Verify selected row id.
                     assertEquals(1, node.get(0).get("id").asInt());
@@ -706,7 +708,7 @@ public class MySqlPluginTest {
 
         StepVerifier.create(executeMono)
                 .assertNext(result -> {
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertArrayEquals(
                             new String[] {"id"},
                             new ObjectMapper()
@@ -773,7 +775,7 @@ public class MySqlPluginTest {
                     assertTrue(result.getIsExecutionSuccess());
                     assertNotNull(result.getBody());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals("2018-12-31", node.get("dob").asText());
                     assertEquals("2018", node.get("yob").asText());
                     assertTrue(node.get("time1").asText().matches("\\d{2}:\\d{2}:\\d{2}"));
@@ -1228,7 +1230,7 @@ public class MySqlPluginTest {
         StepVerifier.create(executeMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertArrayEquals(
                             new String[] {"company_name", "open_source"},
                             new ObjectMapper()
@@ -1276,7 +1278,7 @@ public class MySqlPluginTest {
         StepVerifier.create(executeMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertArrayEquals(
                             new String[] {"company_name", "open_source"},
                             new ObjectMapper()
@@ -1317,7 +1319,7 @@ public class MySqlPluginTest {
         StepVerifier.create(executeMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertArrayEquals(
                             new String[] {"numeric_string"},
                             new ObjectMapper()
@@ -1359,7 +1361,7 @@ public class MySqlPluginTest {
         StepVerifier.create(executeMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertArrayEquals(
                             new String[] {"id"},
                             new ObjectMapper()
@@ -1434,6 +1436,22 @@ public class MySqlPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testIsReadOnlyAction_onlyWithPreparedStatements() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT * FROM users WHERE id = {{Input1.text}}");
+        assertTrue(pluginExecutor.isReadOnlyAction(actionConfiguration));
+
+        // The binding is substituted into the query, which may then write
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+        assertFalse(pluginExecutor.isReadOnlyAction(actionConfiguration));
+
+        // The function may write
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "true")));
+        actionConfiguration.setBody("select f()");
+        assertFalse(pluginExecutor.isReadOnlyAction(actionConfiguration));
+    }
+
     @Test
     public void verifyUniquenessOfMySQLPluginErrorCode() {
         assert (Arrays.stream(MySQLPluginError.values())
@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResponseSizeAccumulator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -19,6 +20,7 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.OracleErrorMessages;
 import com.external.plugins.exceptions.OraclePluginError;
 import com.external.plugins.utils.OracleDatasourceUtils;
@@ -89,6 +91,12 @@ public class OraclePlugin extends BasePlugin {
     public static class OraclePluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
         public static final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public OraclePluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         @Override
         public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             try {
@@ -226,7 +234,8 @@ public class OraclePlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        ResponseSizeAccumulator rowsAccumulator =
+                                new ResponseSizeAccumulator(sharedConfig.getMaxResponseSize());
                         final List<String> columnsList = new ArrayList<>();
 
                         Statement statement = null;
@@ -263,7 +272,7 @@ public class OraclePlugin extends BasePlugin {
                             }
 
                             populateRowsAndColumns(
-                                    rowsList,
+                                    rowsAccumulator,
                                     columnsList,
                                     resultSet,
                                     isResultSet,
@@ -288,7 +297,7 @@ public class OraclePlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(objectMapper.valueToTree(rowsAccumulator.getRows()));
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug(Thread.currentThread().getName()
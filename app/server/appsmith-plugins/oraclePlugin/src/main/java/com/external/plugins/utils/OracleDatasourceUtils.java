@@ -3,11 +3,13 @@ package com.external.plugins.utils;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.ConnectionPoolSize;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.ConnectionPoolRegistry;
 import com.external.plugins.exceptions.OracleErrorMessages;
 import com.external.plugins.exceptions.OraclePluginError;
 import com.zaxxer.hikari.HikariConfig;
@@ -147,6 +149,8 @@ public class OracleDatasourceUtils {
             invalids.add(OracleErrorMessages.SSL_CONFIGURATION_ERROR_MSG);
         }
 
+        invalids.addAll(ConnectionPoolRegistry.getInstance().validatePoolSize(datasourceConfiguration.getConnection()));
+
         return invalids;
     }
 
@@ -384,8 +388,15 @@ public class OracleDatasourceUtils {
 
         config.setDriverClassName(JDBC_DRIVER);
 
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        ConnectionPoolRegistry connectionPoolRegistry = ConnectionPoolRegistry.getInstance();
+        ConnectionPoolSize poolSize = connectionPoolRegistry.getPoolSize(
+                datasourceConfiguration.getConnection(), MINIMUM_POOL_SIZE, MAXIMUM_POOL_SIZE);
+        config.setMinimumIdle(poolSize.getMinimumIdle());
+        config.setMaximumPoolSize(poolSize.getMaximumPoolSize());
+        // The pool is resized at runtime by the connection pool registry, through the MBeans of the pool
+        String poolName = connectionPoolRegistry.newPoolName("oracle");
+        config.setPoolName(poolName);
+        config.setRegisterMbeans(true);
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -454,6 +465,7 @@ public class OracleDatasourceUtils {
                     OracleErrorMessages.CONNECTION_POOL_CREATION_FAILED_ERROR_MSG,
                     e.getMessage());
         }
+        connectionPoolRegistry.register(poolName, "oracle", poolSize);
 
         return datasource;
     }
@@ -1,6 +1,9 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.ResponseSizeAccumulator;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.external.plugins.exceptions.OraclePluginError;
 import oracle.jdbc.OracleArray;
 import oracle.jdbc.OracleBlob;
 import oracle.sql.CLOB;
@@ -116,7 +119,7 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
     }
 
     public static void populateRowsAndColumns(
-            List<Map<String, Object>> rowsList,
+            ResponseSizeAccumulator rowsAccumulator,
             List<String> columnsList,
             ResultSet resultSet,
             Boolean isResultSet,
@@ -129,7 +132,7 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
                     ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                     : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-            rowsList.add(Map.of(AFFECTED_ROWS_KEY, updateCount));
+            rowsAccumulator.add(Map.of(AFFECTED_ROWS_KEY, updateCount));
         } else {
             ResultSetMetaData metaData = resultSet.getMetaData();
             int colCount = metaData.getColumnCount();
@@ -187,7 +190,10 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
                     row.put(metaData.getColumnName(i), value);
                 }
 
-                rowsList.add(row);
+                if (!rowsAccumulator.add(row)) {
+                    throw new AppsmithPluginException(
+                            OraclePluginError.RESPONSE_SIZE_TOO_LARGE, rowsAccumulator.getMaxSizeInMB());
+                }
             }
         }
     }
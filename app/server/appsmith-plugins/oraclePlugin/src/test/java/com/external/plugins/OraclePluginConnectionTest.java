@@ -18,7 +18,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @Testcontainers
 public class OraclePluginConnectionTest {
 
-    OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor();
+    OraclePlugin.OraclePluginExecutor oraclePluginExecutor =
+            new OraclePlugin.OraclePluginExecutor(new MockSharedConfig());
 
     @SuppressWarnings("rawtypes") // The type parameter for the container type is just itself and is pseudo-optional.
     @Container
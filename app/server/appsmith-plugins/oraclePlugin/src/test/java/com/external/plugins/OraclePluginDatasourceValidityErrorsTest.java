@@ -16,7 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class OraclePluginDatasourceValidityErrorsTest {
 
-    OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor();
+    OraclePlugin.OraclePluginExecutor oraclePluginExecutor =
+            new OraclePlugin.OraclePluginExecutor(new MockSharedConfig());
 
     @Test
     public void testErrorOnMissingUsername() {
@@ -23,7 +23,8 @@ public class OracleTestDBContainerManager {
     public static final String ORACLE_DOCKER_HUB_CONTAINER = "gvenzl/oracle-xe:21-slim-faststart";
 
     public static OracleDatasourceUtils oracleDatasourceUtils = new OracleDatasourceUtils();
-    static OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor();
+    static OraclePlugin.OraclePluginExecutor oraclePluginExecutor =
+            new OraclePlugin.OraclePluginExecutor(new MockSharedConfig());
 
     public static OracleContainer getOracleDBForTest() {
         return new OracleContainer(ORACLE_DOCKER_HUB_CONTAINER)
@@ -8,9 +8,12 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResponseSizeAccumulator;
+import com.appsmith.external.helpers.ResultCursor;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolSize;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
@@ -22,10 +25,14 @@ import com.appsmith.external.models.Property;
 import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.TabularResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.ConnectionPoolRegistry;
+import com.appsmith.external.services.ResultCursorRegistry;
 import com.appsmith.external.services.SharedConfig;
+import com.appsmith.external.services.ce.ResultCursorRegistryCE;
 import com.external.plugins.datatypes.PostgresSpecificDataTypes;
 import com.external.plugins.exceptions.PostgresErrorMessages;
 import com.external.plugins.exceptions.PostgresPluginError;
@@ -83,7 +90,8 @@ import static com.appsmith.external.constants.PluginConstants.PluginName.POSTGRE
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
+import static com.appsmith.external.helpers.PluginUtils.isPreparedStatement;
+import static com.appsmith.external.helpers.PluginUtils.isReadOnlyQuery;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -124,8 +132,6 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     private static int MAX_SIZE_SUPPORTED;
 
     public static PostgresDatasourceUtils postgresDatasourceUtils = new PostgresDatasourceUtils();
@@ -179,12 +185,43 @@ public class PostgresPlugin extends BasePlugin {
                         + "group by constraint_name, constraint_type, self_schema, self_table, definition, foreign_schema, foreign_table\n"
                         + "order by self_schema, self_table;";
 
-        private static final int PREPARED_STATEMENT_INDEX = 0;
+        /*
+         * Digest of the catalog entries that the structure is built from: the columns of the tables and views, with
+         * their types and defaults, and the primary and foreign keys. Unlike the two queries above, it only returns a
+         * single value and does not decompile any expression or constraint definition.
+         */
+        private static final String STRUCTURE_FINGERPRINT_QUERY =
+                "select md5(coalesce(string_agg(c.oid || ':' || n.nspname || ':' || c.relname || ':' || c.relkind\n"
+                        + "                                     || ':' || a.attnum || ':' || a.attname || ':' || a.atttypid\n"
+                        + "                                     || ':' || coalesce(d.adbin::text, ''),\n"
+                        + "                                 ',' order by c.oid, a.attnum), '')\n"
+                        + "           || (select coalesce(string_agg(con.oid || ':' || con.conname || ':' || con.contype\n"
+                        + "                                              || ':' || con.conrelid || ':' || con.conkey::text\n"
+                        + "                                              || ':' || con.confrelid || ':'\n"
+                        + "                                              || coalesce(con.confkey::text, ''),\n"
+                        + "                                          ',' order by con.oid), '')\n"
+                        + "               from pg_catalog.pg_constraint con\n"
+                        + "               where con.contype in ('p', 'f'))) as fingerprint\n"
+                        + "from pg_catalog.pg_attribute a\n"
+                        + "         inner join pg_catalog.pg_class c on a.attrelid = c.oid\n"
+                        + "         left join pg_catalog.pg_namespace n on c.relnamespace = n.oid\n"
+                        + "         left join pg_catalog.pg_attrdef d on d.adrelid = c.oid and d.adnum = a.attnum\n"
+                        + "where a.attnum > 0\n"
+                        + "  and not a.attisdropped\n"
+                        + "  and n.nspname not in ('information_schema', 'pg_catalog')\n"
+                        + "  and c.relkind in ('r', 'v');";
 
         private final SharedConfig sharedConfig;
 
+        private final ResultCursorRegistryCE resultCursorRegistry;
+
         public PostgresPluginExecutor(SharedConfig sharedConfig) {
+            this(sharedConfig, ResultCursorRegistry.getInstance());
+        }
+
+        PostgresPluginExecutor(SharedConfig sharedConfig, ResultCursorRegistryCE resultCursorRegistry) {
             this.sharedConfig = sharedConfig;
+            this.resultCursorRegistry = resultCursorRegistry;
             MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
         }
 
@@ -227,29 +264,13 @@ public class PostgresPlugin extends BasePlugin {
                         PostgresErrorMessages.MISSING_QUERY_ERROR_MSG));
             }
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                // In case the prepared statement configuration is missing, default to true.
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
 
             // In case of non-prepared statement, simply do bind replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
                 prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
-                return executeCommon(connection, datasourceConfiguration, actionConfiguration, FALSE, null, null, null);
+                return executeCommon(
+                        connection, datasourceConfiguration, actionConfiguration, FALSE, null, executeActionDTO, null);
             }
 
             // Prepared Statement
@@ -304,7 +325,17 @@ public class PostgresPlugin extends BasePlugin {
                     List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, transformedQuery, null, null, psParams));
             Instant requestedAt = Instant.now();
 
+            final boolean isPaginated = isPaginated(executeActionDTO, query);
+            final String continuationToken = isPaginated ? executeActionDTO.getContinuationToken() : null;
+            final String cursorOwner = isPaginated ? getCursorOwner(connection, query, executeActionDTO) : null;
+
             return Mono.fromCallable(() -> {
+                        if (continuationToken != null) {
+                            // Fails if the cursor is gone, rather than running the query again
+                            ResultCursor cursor = resultCursorRegistry.take(continuationToken, cursorOwner);
+                            return readResultPage(cursor, executeActionDTO.getPageSize(), connection);
+                        }
+
                         Connection connectionFromPool;
 
                         try {
@@ -324,7 +355,8 @@ public class PostgresPlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        ResponseSizeAccumulator rowsAccumulator =
+                                new ResponseSizeAccumulator(MAX_SIZE_SUPPORTED, new TabularResult(objectMapper));
                         final List<String> columnsList = new ArrayList<>();
 
                         Statement statement = null;
@@ -346,8 +378,16 @@ public class PostgresPlugin extends BasePlugin {
                                 threadsAwaitingConnection,
                                 totalConnections);
                         try {
+                            if (isPaginated) {
+                                // Postgres only fetches the rows in batches of the fetch size within a transaction
+                                connectionFromPool.setAutoCommit(false);
+                            }
+
                             if (FALSE.equals(preparedStatement)) {
                                 statement = connectionFromPool.createStatement();
+                                if (isPaginated) {
+                                    statement.setFetchSize(executeActionDTO.getPageSize() + 1);
+                                }
                                 isResultSet = statement.execute(query);
                                 resultSet = statement.getResultSet();
                             } else {
@@ -370,6 +410,9 @@ public class PostgresPlugin extends BasePlugin {
                                                         parameters.get(i).getValue())));
 
                                 requestData.put("ps-parameters", parameters);
+                                if (isPaginated) {
+                                    preparedQuery.setFetchSize(executeActionDTO.getPageSize() + 1);
+                                }
                                 isResultSet = preparedQuery.execute();
                                 resultSet = preparedQuery.getResultSet();
                             }
@@ -380,95 +423,41 @@ public class PostgresPlugin extends BasePlugin {
                                         ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                                         : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-                                rowsList.add(Map.of("affectedRows", updateCount));
+                                rowsAccumulator.add(Map.of("affectedRows", updateCount));
+
+                            } else if (isPaginated) {
+                                ResultCursor cursor = new ResultCursor(
+                                        connectionFromPool,
+                                        FALSE.equals(preparedStatement) ? statement : preparedQuery,
+                                        resultSet,
+                                        cursorOwner);
+
+                                // The cursor owns the connection, the statement and the result set from here on
+                                connectionFromPool = null;
+                                statement = null;
+                                preparedQuery = null;
+                                resultSet = null;
+
+                                return readResultPage(cursor, executeActionDTO.getPageSize(), connection);
 
                             } else {
 
                                 ResultSetMetaData metaData = resultSet.getMetaData();
-                                int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
+                                TabularResult.Columns columns = new TabularResult.Columns(columnsList);
 
-                                int iterator = 0;
                                 while (resultSet.next()) {
-
-                                    // Only check the data size at low frequency to ensure the performance is not
-                                    // impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug(
-                                                    "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
-                                                    MAX_SIZE_SUPPORTED,
-                                                    objectSize);
-                                            return Mono.error(new AppsmithPluginException(
-                                                    PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
-                                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
-                                    }
-
-                                    // Use `LinkedHashMap` here so that the column ordering is preserved in the
-                                    // response.
-                                    Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                                    for (int i = 1; i <= colCount; i++) {
-                                        Object value;
-                                        final String typeName = metaData.getColumnTypeName(i);
-
-                                        if (resultSet.getObject(i) == null) {
-                                            value = null;
-
-                                        } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE.format(
-                                                    resultSet.getDate(i).toLocalDate());
-
-                                        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                                            resultSet.getDate(i).toLocalDate(),
-                                                            resultSet.getTime(i).toLocalTime()))
-                                                    + "Z";
-
-                                        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    resultSet.getObject(i, OffsetDateTime.class));
-
-                                        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getString(i);
-
-                                        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getObject(i).toString();
-
-                                        } else if (typeName.startsWith("_")) {
-                                            value = resultSet.getArray(i).getArray();
-
-                                        } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = objectMapper.readTree(resultSet.getString(i));
-                                        } else {
-                                            value = resultSet.getObject(i);
-
-                                            /**
-                                             * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
-                                             * two attributes: type and value. Hence, when PGobject gets serialized, it gets
-                                             * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
-                                             * are
-                                             * only interested in the value and not the type, it makes sense to extract out
-                                             * the value as a string.
-                                             * Reference:
-                                             * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
-                                             */
-                                            if (value instanceof PGobject) {
-                                                value = ((PGobject) value).getValue();
-                                            }
-                                        }
-
-                                        row.put(metaData.getColumnName(i), value);
+                                    Object[] row = readRow(resultSet, metaData);
+
+                                    if (!rowsAccumulator.add(columns, row)) {
+                                        log.debug(
+                                                "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                MAX_SIZE_SUPPORTED,
+                                                rowsAccumulator.getSizeInBytes());
+                                        return Mono.error(new AppsmithPluginException(
+                                                PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                rowsAccumulator.getMaxSizeInMB()));
                                     }
-
-                                    rowsList.add(row);
-
-                                    iterator++;
                                 }
                             }
 
@@ -524,6 +513,15 @@ public class PostgresPlugin extends BasePlugin {
                             }
 
                             if (connectionFromPool != null) {
+                                try {
+                                    if (isPaginated && !connectionFromPool.getAutoCommit()) {
+                                        connectionFromPool.commit();
+                                        connectionFromPool.setAutoCommit(true);
+                                    }
+                                } catch (SQLException e) {
+                                    log.debug("Execute Error ending Postgres transaction", e);
+                                }
+
                                 try {
                                     // Return the connection back to the pool
                                     connectionFromPool.close();
@@ -534,7 +532,7 @@ public class PostgresPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rowsAccumulator.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug("In the PostgresPlugin, got action execution result");
@@ -573,6 +571,161 @@ public class PostgresPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Paginated execution only applies to queries that read rows, the auto-commit of other statements is left as
+         * it is.
+         */
+        private static boolean isPaginated(ExecuteActionDTO executeActionDTO, String query) {
+            return executeActionDTO != null
+                    && executeActionDTO.getPageSize() != null
+                    && executeActionDTO.getPageSize() > 0
+                    && ResultCursor.isPaginatable(query);
+        }
+
+        /**
+         * A cursor is only reused for the same query, with the same parameter values, on the same connection pool.
+         */
+        private static String getCursorOwner(
+                HikariDataSource connection, String query, ExecuteActionDTO executeActionDTO) {
+            List<String> paramValues = executeActionDTO.getParams() == null
+                    ? List.of()
+                    : executeActionDTO.getParams().stream()
+                            .map(param -> String.valueOf(param.getValue()))
+                            .toList();
+            return connection.getPoolName() + "\n" + query + "\n" + paramValues;
+        }
+
+        /**
+         * Reads the next page of a paginated execution, and keeps the cursor open if the result has more rows. When
+         * the cursor can't be kept open, the rest of the result is returned with this page instead.
+         *
+         * @param cursor     : cursor of the result
+         * @param pageSize   : maximum number of rows to return
+         * @param connection : connection pool the connection of the cursor belongs to
+         * @return the page, with a continuation token if there are more rows
+         */
+        private Mono<ActionExecutionResult> readResultPage(
+                ResultCursor cursor, int pageSize, HikariDataSource connection) {
+            final boolean canKeepCursor = canKeepCursor(connection);
+            final int rowCount = canKeepCursor ? pageSize : Integer.MAX_VALUE;
+            ResponseSizeAccumulator rowsAccumulator =
+                    new ResponseSizeAccumulator(MAX_SIZE_SUPPORTED, new TabularResult(objectMapper, pageSize));
+            boolean keepCursor = false;
+            try {
+                if (!cursor.readPage(rowCount, this::readRow, rowsAccumulator)) {
+                    log.debug(
+                            "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                            MAX_SIZE_SUPPORTED,
+                            rowsAccumulator.getSizeInBytes());
+                    return Mono.error(new AppsmithPluginException(
+                            PostgresPluginError.RESPONSE_SIZE_TOO_LARGE, rowsAccumulator.getMaxSizeInMB()));
+                }
+
+                ActionExecutionResult result = new ActionExecutionResult();
+                result.setBody(rowsAccumulator.getRows());
+                result.setMessages(populateHintMessages(cursor.getColumnNames()));
+                result.setIsExecutionSuccess(true);
+                if (!cursor.isExhausted()) {
+                    // The registry owns the cursor from here on
+                    result.setContinuationToken(resultCursorRegistry.register(
+                            cursor, connection.getPoolName(), connection.getMaximumPoolSize() - 2));
+                    keepCursor = true;
+                }
+                return Mono.just(result);
+            } catch (SQLException e) {
+                log.debug("In the PostgresPlugin, got action execution error");
+                return Mono.error(new AppsmithPluginException(
+                        PostgresPluginError.QUERY_EXECUTION_FAILED,
+                        PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                        e.getMessage(),
+                        "SQLSTATE: " + e.getSQLState()));
+            } catch (IOException e) {
+                log.debug("In the PostgresPlugin, got action execution error");
+                return Mono.error(new AppsmithPluginException(
+                        PostgresPluginError.QUERY_EXECUTION_FAILED,
+                        PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                        e.getMessage()));
+            } finally {
+                if (!keepCursor) {
+                    cursor.close();
+                }
+            }
+        }
+
+        /**
+         * A cursor is only kept open for its next page as long as that leaves connections in the pool for other
+         * queries. The connection of a cursor stays out of the pool in an open transaction until the next page is
+         * read, so at most the pool size minus two cursors are kept open per pool, and none when the pool has no idle
+         * connection left.
+         */
+        private static boolean canKeepCursor(HikariDataSource connection) {
+            return connection.getMaximumPoolSize() - 2 > 0
+                    && connection.getHikariPoolMXBean().getIdleConnections() > 0;
+        }
+
+        /**
+         * Reads the values of the current row of the result set, in column order. The column names are shared by all
+         * the rows of the result.
+         */
+        private Object[] readRow(ResultSet resultSet, ResultSetMetaData metaData) throws SQLException, IOException {
+            int colCount = metaData.getColumnCount();
+            Object[] row = new Object[colCount];
+
+            for (int i = 1; i <= colCount; i++) {
+                Object value;
+                final String typeName = metaData.getColumnTypeName(i);
+
+                if (resultSet.getObject(i) == null) {
+                    value = null;
+
+                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE.format(
+                            resultSet.getDate(i).toLocalDate());
+
+                } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                                    resultSet.getDate(i).toLocalDate(),
+                                    resultSet.getTime(i).toLocalTime()))
+                            + "Z";
+
+                } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
+
+                } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getString(i);
+
+                } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getObject(i).toString();
+
+                } else if (typeName.startsWith("_")) {
+                    value = resultSet.getArray(i).getArray();
+
+                } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName) || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = objectMapper.readTree(resultSet.getString(i));
+                } else {
+                    value = resultSet.getObject(i);
+
+                    /**
+                     * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
+                     * two attributes: type and value. Hence, when PGobject gets serialized, it gets
+                     * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
+                     * are
+                     * only interested in the value and not the type, it makes sense to extract out
+                     * the value as a string.
+                     * Reference:
+                     * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                     */
+                    if (value instanceof PGobject) {
+                        value = ((PGobject) value).getValue();
+                    }
+                }
+
+                row[i - 1] = value;
+            }
+
+            return row;
+        }
+
         private Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
@@ -670,6 +823,9 @@ public class PostgresPlugin extends BasePlugin {
                 invalids.add(PostgresErrorMessages.SSL_CONFIGURATION_ERROR_MSG);
             }
 
+            invalids.addAll(
+                    ConnectionPoolRegistry.getInstance().validatePoolSize(datasourceConfiguration.getConnection()));
+
             return invalids;
         }
 
@@ -920,6 +1076,44 @@ public class PostgresPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        @Override
+        public Mono<String> getStructureFingerprint(
+                HikariDataSource connection, DatasourceConfiguration datasourceConfiguration) {
+
+            return Mono.fromCallable(() -> {
+                        Connection connectionFromPool;
+                        try {
+                            connectionFromPool = postgresDatasourceUtils.getConnectionFromHikariConnectionPool(
+                                    connection, POSTGRES_PLUGIN_NAME);
+                        } catch (SQLException e) {
+                            // Same as for the structure, an issue with the pool means the connection is stale
+                            throw new StaleConnectionException(e.getMessage());
+                        }
+
+                        try (connectionFromPool;
+                                Statement statement = connectionFromPool.createStatement();
+                                ResultSet resultSet = statement.executeQuery(STRUCTURE_FINGERPRINT_QUERY)) {
+                            return resultSet.next() ? resultSet.getString("fingerprint") : null;
+                        } catch (SQLException throwable) {
+                            throw new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
+                                    PostgresErrorMessages.GET_STRUCTURE_ERROR_MSG,
+                                    throwable.getMessage(),
+                                    "SQLSTATE: " + throwable.getSQLState());
+                        }
+                    })
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * The bindings of an action are only sent as parameters with prepared statements. Otherwise they are
+         * substituted into the query, which may then do anything whatever the query looks like before substitution.
+         */
+        @Override
+        public boolean isReadOnlyAction(ActionConfiguration actionConfiguration) {
+            return isPreparedStatement(actionConfiguration) && isReadOnlyQuery(actionConfiguration.getBody());
+        }
+
         @Override
         public Object substituteValueInInput(
                 int index,
@@ -1078,8 +1272,15 @@ public class PostgresPlugin extends BasePlugin {
 
         // Set SSL property
         com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        ConnectionPoolRegistry connectionPoolRegistry = ConnectionPoolRegistry.getInstance();
+        ConnectionPoolSize poolSize =
+                connectionPoolRegistry.getPoolSize(configurationConnection, MINIMUM_POOL_SIZE, MAXIMUM_POOL_SIZE);
+        config.setMinimumIdle(poolSize.getMinimumIdle());
+        config.setMaximumPoolSize(poolSize.getMaximumPoolSize());
+        // The pool is resized at runtime by the connection pool registry, through the MBeans of the pool
+        String poolName = connectionPoolRegistry.newPoolName("postgres");
+        config.setPoolName(poolName);
+        config.setRegisterMbeans(true);
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -1188,6 +1389,7 @@ public class PostgresPlugin extends BasePlugin {
                     PostgresErrorMessages.CONNECTION_POOL_CREATION_FAILED_ERROR_MSG,
                     e.getMessage());
         }
+        connectionPoolRegistry.register(poolName, "postgres", poolSize);
 
         return datasource;
     }
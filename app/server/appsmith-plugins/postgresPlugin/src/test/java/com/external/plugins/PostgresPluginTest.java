@@ -18,6 +18,7 @@ import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.services.SharedConfig;
+import com.appsmith.external.services.ce.ResultCursorRegistryCE;
 import com.external.plugins.exceptions.PostgresErrorMessages;
 import com.external.plugins.exceptions.PostgresPluginError;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -38,6 +39,7 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -52,13 +54,17 @@ import java.util.stream.Stream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Testcontainers
 public class PostgresPluginTest {
 
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
     public class MockSharedConfig implements SharedConfig {
 
         @Override
@@ -360,7 +366,7 @@ public class PostgresPluginTest {
 
         StepVerifier.create(executeMono)
                 .assertNext(result -> {
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertArrayEquals(
                             new String[] {"user_id"},
                             new ObjectMapper()
@@ -392,7 +398,7 @@ public class PostgresPluginTest {
                     assertNotNull(result);
                     assertTrue(result.getIsExecutionSuccess());
                     assertNotNull(result.getBody());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertTrue(node.get("count").asInt() > 0);
                 })
                 .verifyComplete();
@@ -419,7 +425,7 @@ public class PostgresPluginTest {
                     assertTrue(result.getIsExecutionSuccess());
                     assertNotNull(result.getBody());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals("2018-12-31", node.get("dob").asText());
                     assertEquals("18:32:45", node.get("time1").asText());
                     assertEquals("04:05:06-08", node.get("time_tz").asText());
@@ -728,7 +734,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals("2018-12-31", node.get("dob").asText());
                     assertEquals("18:32:45", node.get("time1").asText());
                     assertEquals("04:05:06-08", node.get("time_tz").asText());
@@ -806,7 +812,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals("2018-12-31", node.get("dob").asText());
                     assertEquals("18:32:45", node.get("time1").asText());
                     assertEquals("04:05:06-08", node.get("time_tz").asText());
@@ -895,7 +901,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals("2018-12-31", node.get("dob").asText());
                     assertEquals("18:32:45", node.get("time1").asText());
                     assertEquals("04:05:06-08", node.get("time_tz").asText());
@@ -985,7 +991,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertTrue(node.get("dob").isNull());
                     assertTrue(node.get("time1").isNull());
                     assertTrue(node.get("time_tz").isNull());
@@ -1050,7 +1056,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertTrue(node.get("dob").isNull());
                     assertTrue(node.get("time1").isNull());
                     assertTrue(node.get("time_tz").isNull());
@@ -1260,7 +1266,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals(node.get("created_on").asText(), "2021-03-24T14:05:34Z");
                 })
                 .verifyComplete();
@@ -1314,7 +1320,7 @@ public class PostgresPluginTest {
                     assertTrue(result.getIsExecutionSuccess());
                     assertNotNull(result.getBody());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals("racket", node.get("item").get("type").asText());
                     assertEquals(
                             "butterfly", node.get("item").get("manufacturer").asText());
@@ -1376,7 +1382,7 @@ public class PostgresPluginTest {
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals(node.get("affectedRows").asText(), "1");
 
                     List<RequestParamDTO> requestParams =
@@ -1412,7 +1418,7 @@ public class PostgresPluginTest {
 
         // Check that precision for decimal value is maintained
         assert actionExecutionResult != null;
-        final JsonNode node = ((ArrayNode) actionExecutionResult.getBody()).get(0);
+        final JsonNode node = ((ArrayNode) objectMapper.valueToTree(actionExecutionResult.getBody())).get(0);
         assertEquals("5.1", node.get("rating").asText());
 
         // Delete the newly added row to not affect any other test case
@@ -1463,7 +1469,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals(node.get("created_on_tz").asText(), "2022-04-11T05:30:00Z"); // UTC time
                 })
                 .verifyComplete();
@@ -1533,7 +1539,7 @@ public class PostgresPluginTest {
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertEquals(node.get("affectedRows").asText(), "1");
 
                     List<RequestParamDTO> requestParams =
@@ -1596,7 +1602,7 @@ public class PostgresPluginTest {
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = ((ArrayNode) objectMapper.valueToTree(result.getBody())).get(0);
                     assertArrayEquals(
                             new String[] {"numeric_string"},
                             new ObjectMapper()
@@ -1611,6 +1617,168 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    private static ActionExecutionResult executePage(
+            PostgresPlugin.PostgresPluginExecutor executor,
+            HikariDataSource pool,
+            DatasourceConfiguration dsConfig,
+            String query,
+            String continuationToken) {
+        ActionExecutionResult result = executePageRequest(executor, pool, dsConfig, query, continuationToken);
+        assertTrue(result.getIsExecutionSuccess());
+        return result;
+    }
+
+    private static void assertCursorExpired(
+            PostgresPlugin.PostgresPluginExecutor executor,
+            HikariDataSource pool,
+            DatasourceConfiguration dsConfig,
+            String query,
+            String continuationToken) {
+        ActionExecutionResult result = executePageRequest(executor, pool, dsConfig, query, continuationToken);
+        assertFalse(result.getIsExecutionSuccess());
+        assertTrue(result.getBody().toString().contains("no longer available"));
+    }
+
+    private static ActionExecutionResult executePageRequest(
+            PostgresPlugin.PostgresPluginExecutor executor,
+            HikariDataSource pool,
+            DatasourceConfiguration dsConfig,
+            String query,
+            String continuationToken) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setPageSize(2);
+        executeActionDTO.setContinuationToken(continuationToken);
+
+        ActionExecutionResult result = executor.executeParameterized(
+                        pool, executeActionDTO, dsConfig, actionConfiguration)
+                .block();
+        assertNotNull(result);
+        return result;
+    }
+
+    private static List<Integer> getNumbers(ActionExecutionResult result) {
+        List<Integer> numbers = new ArrayList<>();
+        objectMapper
+                .valueToTree(result.getBody())
+                .forEach(row -> numbers.add(row.get("n").asInt()));
+        return numbers;
+    }
+
+    @Test
+    public void testPaginatedExecute_continuationToken_readsNextPageFromOpenCursor() {
+        ResultCursorRegistryCE registry = new ResultCursorRegistryCE(20, Duration.ofMinutes(1));
+        PostgresPlugin.PostgresPluginExecutor executor =
+                new PostgresPlugin.PostgresPluginExecutor(new MockSharedConfig(), registry);
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource pool = executor.datasourceCreate(dsConfig).block();
+        String query = "SELECT n FROM generate_series(1, 5) AS n ORDER BY n";
+
+        ActionExecutionResult firstPage = executePage(executor, pool, dsConfig, query, null);
+        assertEquals(List.of(1, 2), getNumbers(firstPage));
+        assertNotNull(firstPage.getContinuationToken());
+        assertEquals(1, registry.size(pool.getPoolName()));
+
+        ActionExecutionResult secondPage =
+                executePage(executor, pool, dsConfig, query, firstPage.getContinuationToken());
+        assertEquals(List.of(3, 4), getNumbers(secondPage));
+        assertNotNull(secondPage.getContinuationToken());
+
+        ActionExecutionResult lastPage =
+                executePage(executor, pool, dsConfig, query, secondPage.getContinuationToken());
+        assertEquals(List.of(5), getNumbers(lastPage));
+        assertNull(lastPage.getContinuationToken());
+
+        // The cursor of the last page is closed and its connection is back in the pool
+        assertEquals(0, registry.size());
+        assertEquals(0, pool.getHikariPoolMXBean().getActiveConnections());
+        executor.datasourceDestroy(pool);
+    }
+
+    @Test
+    public void testPaginatedExecute_cursorExpired_failsInsteadOfRunningQueryAgain() {
+        ResultCursorRegistryCE registry = new ResultCursorRegistryCE(20, Duration.ZERO);
+        PostgresPlugin.PostgresPluginExecutor executor =
+                new PostgresPlugin.PostgresPluginExecutor(new MockSharedConfig(), registry);
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource pool = executor.datasourceCreate(dsConfig).block();
+        String query = "SELECT n FROM generate_series(1, 5) AS n ORDER BY n";
+
+        ActionExecutionResult firstPage = executePage(executor, pool, dsConfig, query, null);
+        assertEquals(List.of(1, 2), getNumbers(firstPage));
+
+        registry.closeExpired();
+        assertEquals(0, registry.size());
+        assertEquals(0, pool.getHikariPoolMXBean().getActiveConnections());
+
+        // The query is not run again in the background, as that could repeat its side effects or skip rows
+        assertCursorExpired(executor, pool, dsConfig, query, firstPage.getContinuationToken());
+        assertEquals(0, pool.getHikariPoolMXBean().getActiveConnections());
+        executor.datasourceDestroy(pool);
+    }
+
+    @Test
+    public void testPaginatedExecute_moreCursorsThanPoolAllows_leavesConnectionsForOtherQueries() {
+        ResultCursorRegistryCE registry = new ResultCursorRegistryCE(20, Duration.ofMinutes(1));
+        PostgresPlugin.PostgresPluginExecutor executor =
+                new PostgresPlugin.PostgresPluginExecutor(new MockSharedConfig(), registry);
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource pool = executor.datasourceCreate(dsConfig).block();
+
+        List<String> queries = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < pool.getMaximumPoolSize() + 2; i++) {
+            String query = "SELECT n FROM generate_series(1, " + (5 + i) + ") AS n ORDER BY n";
+            ActionExecutionResult firstPage = executePage(executor, pool, dsConfig, query, null);
+            if (firstPage.getContinuationToken() != null) {
+                queries.add(query);
+                tokens.add(firstPage.getContinuationToken());
+            } else {
+                // The cursor could not be kept open, all the rows were returned at once
+                assertEquals(5 + i, getNumbers(firstPage).size());
+            }
+        }
+
+        // At least two connections are left in the pool whatever the number of paginated queries
+        assertTrue(registry.size(pool.getPoolName()) <= pool.getMaximumPoolSize() - 2);
+        assertTrue(pool.getHikariPoolMXBean().getActiveConnections() <= pool.getMaximumPoolSize() - 2);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT 1 AS n");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+        ActionExecutionResult otherResult = executor.executeParameterized(
+                        pool, new ExecuteActionDTO(), dsConfig, actionConfiguration)
+                .block();
+        assertNotNull(otherResult);
+        assertTrue(otherResult.getIsExecutionSuccess());
+
+        // The least recently used cursors were closed to make room, their next page can't be read anymore
+        int closedCursors = tokens.size() - registry.size(pool.getPoolName());
+        for (int i = 0; i < closedCursors; i++) {
+            assertCursorExpired(executor, pool, dsConfig, queries.get(i), tokens.get(i));
+        }
+        executor.datasourceDestroy(pool);
+    }
+
+    @Test
+    public void testIsReadOnlyAction_onlyWithPreparedStatements() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT * FROM users WHERE id = {{Input1.text}}");
+        assertTrue(pluginExecutor.isReadOnlyAction(actionConfiguration));
+
+        // The binding is substituted into the query, which may then write
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+        assertFalse(pluginExecutor.isReadOnlyAction(actionConfiguration));
+
+        // The function may write
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "true")));
+        actionConfiguration.setBody("select f()");
+        assertFalse(pluginExecutor.isReadOnlyAction(actionConfiguration));
+    }
+
     @Test
     public void verifyUniquenessOfPostgresPluginErrorCode() {
         assert (Arrays.stream(PostgresPluginError.values())
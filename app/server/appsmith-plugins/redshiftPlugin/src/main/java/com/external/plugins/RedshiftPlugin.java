@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.ResponseSizeAccumulator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -13,6 +14,8 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.ConnectionPoolRegistry;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.external.plugins.exceptions.RedshiftPluginError;
 import com.external.utils.RedshiftDatasourceUtils;
@@ -69,6 +72,12 @@ public class RedshiftPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public RedshiftPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n"
                         + "       t1.typname                                                     as column_type,\n"
@@ -235,7 +244,8 @@ public class RedshiftPlugin extends BasePlugin {
                          */
                         printConnectionPoolStatus(connectionPool, false);
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        ResponseSizeAccumulator rowsAccumulator =
+                                new ResponseSizeAccumulator(sharedConfig.getMaxResponseSize());
                         final List<String> columnsList = new ArrayList<>();
                         Statement statement = null;
                         ResultSet resultSet = null;
@@ -251,10 +261,14 @@ public class RedshiftPlugin extends BasePlugin {
 
                                 while (resultSet.next()) {
                                     Map<String, Object> row = getRow(resultSet);
-                                    rowsList.add(row);
+                                    if (!rowsAccumulator.add(row)) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                RedshiftPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                rowsAccumulator.getMaxSizeInMB()));
+                                    }
                                 }
                             } else {
-                                rowsList.add(Map.of(
+                                rowsAccumulator.add(Map.of(
                                         "affectedRows", ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)));
                             }
                         } catch (SQLException e) {
@@ -289,7 +303,7 @@ public class RedshiftPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(objectMapper.valueToTree(rowsAccumulator.getRows()));
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug("In RedshiftPlugin, got action execution result");
@@ -422,6 +436,9 @@ public class RedshiftPlugin extends BasePlugin {
                 }
             }
 
+            invalids.addAll(
+                    ConnectionPoolRegistry.getInstance().validatePoolSize(datasourceConfiguration.getConnection()));
+
             return invalids;
         }
 
@@ -3,8 +3,10 @@ package com.external.utils;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.ConnectionPoolSize;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.services.ConnectionPoolRegistry;
 import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
@@ -36,8 +38,15 @@ public class RedshiftDatasourceUtils {
         HikariConfig config = new HikariConfig();
 
         config.setDriverClassName(JDBC_DRIVER);
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        ConnectionPoolRegistry connectionPoolRegistry = ConnectionPoolRegistry.getInstance();
+        ConnectionPoolSize poolSize = connectionPoolRegistry.getPoolSize(
+                datasourceConfiguration.getConnection(), MINIMUM_POOL_SIZE, MAXIMUM_POOL_SIZE);
+        config.setMinimumIdle(poolSize.getMinimumIdle());
+        config.setMaximumPoolSize(poolSize.getMaximumPoolSize());
+        // The pool is resized at runtime by the connection pool registry, through the MBeans of the pool
+        String poolName = connectionPoolRegistry.newPoolName("redshift");
+        config.setPoolName(poolName);
+        config.setRegisterMbeans(true);
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -93,6 +102,7 @@ public class RedshiftDatasourceUtils {
                     RedshiftErrorMessages.CONNECTION_POOL_CREATION_FAILED_ERROR_MSG,
                     e.getMessage());
         }
+        connectionPoolRegistry.register(poolName, "redshift", poolSize);
 
         return datasource;
     }
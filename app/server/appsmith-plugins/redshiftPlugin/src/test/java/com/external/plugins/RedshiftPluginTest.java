@@ -54,7 +54,8 @@ import static org.mockito.Mockito.when;
  */
 @Slf4j
 public class RedshiftPluginTest {
-    RedshiftPlugin.RedshiftPluginExecutor pluginExecutor = new RedshiftPlugin.RedshiftPluginExecutor();
+    RedshiftPlugin.RedshiftPluginExecutor pluginExecutor =
+            new RedshiftPlugin.RedshiftPluginExecutor(new MockSharedConfig());
 
     private static String address;
     private static Integer port;
@@ -266,7 +267,8 @@ public class RedshiftPluginTest {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
         Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool);
 
-        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor = spy(new RedshiftPlugin.RedshiftPluginExecutor());
+        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor =
+                spy(new RedshiftPlugin.RedshiftPluginExecutor(new MockSharedConfig()));
         doNothing().when(spyPluginExecutor).printConnectionPoolStatus(mockConnectionPool, false);
 
         Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(
@@ -432,7 +434,8 @@ public class RedshiftPluginTest {
         when(mockResultSet.getString("foreign_column")).thenReturn("id"); // KEYS_QUERY_FOREIGN_KEY
         doNothing().when(mockResultSet).close();
 
-        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor = spy(new RedshiftPlugin.RedshiftPluginExecutor());
+        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor =
+                spy(new RedshiftPlugin.RedshiftPluginExecutor(new MockSharedConfig()));
         doNothing().when(spyPluginExecutor).printConnectionPoolStatus(mockConnectionPool, true);
 
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -600,7 +603,8 @@ public class RedshiftPluginTest {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
         Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool);
 
-        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor = spy(new RedshiftPlugin.RedshiftPluginExecutor());
+        RedshiftPlugin.RedshiftPluginExecutor spyPluginExecutor =
+                spy(new RedshiftPlugin.RedshiftPluginExecutor(new MockSharedConfig()));
         doNothing().when(spyPluginExecutor).printConnectionPoolStatus(mockConnectionPool, false);
 
         Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(
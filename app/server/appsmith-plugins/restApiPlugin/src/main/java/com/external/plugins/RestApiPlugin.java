@@ -202,7 +202,8 @@ public class RestApiPlugin extends BasePlugin {
                             objectMapper,
                             hintMessages,
                             errorResult,
-                            requestCaptureFilter)
+                            requestCaptureFilter,
+                            sharedConfig.getCodecSize())
                     .onErrorResume(error -> {
                         boolean isBodySentWithApiRequest = requestBodyObj == null ? false : true;
                         errorResult.setRequest(requestCaptureFilter.populateRequestFields(
@@ -301,6 +302,12 @@ public class RestApiPlugin extends BasePlugin {
             return queryParamList;
         }
 
+        @Override
+        public boolean isReadOnlyAction(ActionConfiguration actionConfiguration) {
+            HttpMethod httpMethod = actionConfiguration.getHttpMethod();
+            return HttpMethod.GET.equals(httpMethod) || HttpMethod.HEAD.equals(httpMethod);
+        }
+
         @Override
         public Object substituteValueInInput(
                 int index,
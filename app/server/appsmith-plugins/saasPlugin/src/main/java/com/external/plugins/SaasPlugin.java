@@ -11,6 +11,7 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.HttpConnectionProviderRegistry;
 import com.appsmith.external.services.SharedConfig;
 import com.appsmith.util.WebClientUtils;
 import com.external.helpers.RequestCaptureFilter;
@@ -121,7 +122,8 @@ public class SaasPlugin extends BasePlugin {
                     RequestCaptureFilter.populateRequestFields(actionConfiguration, uri, List.of(), objectMapper);
 
             // Initializing webClient to be used for http call
-            WebClient.Builder webClientBuilder = WebClientUtils.builder();
+            WebClient.Builder webClientBuilder = WebClientUtils.builder(HttpConnectionProviderRegistry.getInstance()
+                    .getHttpClient(null, sharedConfig.getRemoteExecutionUrl()));
             webClientBuilder.defaultHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE);
             final RequestCaptureFilter requestCaptureFilter = new RequestCaptureFilter(objectMapper);
             webClientBuilder.filter(requestCaptureFilter);
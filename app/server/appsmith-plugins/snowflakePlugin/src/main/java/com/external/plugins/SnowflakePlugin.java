@@ -6,12 +6,15 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolSize;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.ConnectionPoolRegistry;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.utils.SqlUtils;
 import com.zaxxer.hikari.HikariConfig;
@@ -67,6 +70,12 @@ public class SnowflakePlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public SnowflakePluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(
                 HikariDataSource connection,
@@ -116,7 +125,7 @@ public class SnowflakePlugin extends BasePlugin {
 
                         try {
                             // Connection staleness is checked as part of this method call.
-                            return getRowsFromQueryResult(connectionFromPool, query);
+                            return getRowsFromQueryResult(connectionFromPool, query, sharedConfig.getMaxResponseSize());
                         } catch (AppsmithPluginException | StaleConnectionException e) {
                             throw e;
                         } finally {
@@ -162,10 +171,16 @@ public class SnowflakePlugin extends BasePlugin {
 
                         config.setDriverClassName(properties.getProperty("driver_name"));
 
-                        config.setMinimumIdle(
-                                Integer.parseInt(properties.get("minimumIdle").toString()));
-                        config.setMaximumPoolSize(Integer.parseInt(
-                                properties.get("maximunPoolSize").toString()));
+                        ConnectionPoolRegistry connectionPoolRegistry = ConnectionPoolRegistry.getInstance();
+                        ConnectionPoolSize poolSize = connectionPoolRegistry.getPoolSize(
+                                datasourceConfiguration.getConnection(), MINIMUM_POOL_SIZE, MAXIMUM_POOL_SIZE);
+                        config.setMinimumIdle(poolSize.getMinimumIdle());
+                        config.setMaximumPoolSize(poolSize.getMaximumPoolSize());
+                        // The pool is resized at runtime by the connection pool registry, through the MBeans of the
+                        // pool
+                        String poolName = connectionPoolRegistry.newPoolName("snowflake");
+                        config.setPoolName(poolName);
+                        config.setRegisterMbeans(true);
 
                         config.setInitializationFailTimeout(Long.parseLong(
                                 properties.get("initializationFailTimeout").toString()));
@@ -196,6 +211,7 @@ public class SnowflakePlugin extends BasePlugin {
                             throw new AppsmithPluginException(
                                     AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR, e.getMessage());
                         }
+                        connectionPoolRegistry.register(poolName, "snowflake", poolSize);
 
                         return datasource;
                     })
@@ -206,8 +222,6 @@ public class SnowflakePlugin extends BasePlugin {
         public Properties addPluginSpecificProperties(
                 DatasourceConfiguration datasourceConfiguration, Properties properties) {
             properties.setProperty("driver_name", JDBC_DRIVER);
-            properties.setProperty("minimumIdle", String.valueOf(MINIMUM_POOL_SIZE));
-            properties.setProperty("maximunPoolSize", String.valueOf(MAXIMUM_POOL_SIZE));
             properties.setProperty(
                     SNOWFLAKE_DB_LOGIN_TIMEOUT_PROPERTY_KEY, String.valueOf(SNOWFLAKE_DB_LOGIN_TIMEOUT_VALUE_SEC));
             /**
@@ -308,6 +322,9 @@ public class SnowflakePlugin extends BasePlugin {
                 }
             }
 
+            invalids.addAll(
+                    ConnectionPoolRegistry.getInstance().validatePoolSize(datasourceConfiguration.getConnection()));
+
             return invalids;
         }
 
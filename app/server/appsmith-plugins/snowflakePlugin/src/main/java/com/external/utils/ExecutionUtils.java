@@ -2,6 +2,7 @@ package com.external.utils;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.ResponseSizeAccumulator;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
 import lombok.extern.slf4j.Slf4j;
@@ -12,7 +13,6 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,7 +32,24 @@ public class ExecutionUtils {
      */
     public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query)
             throws AppsmithPluginException, StaleConnectionException {
-        List<Map<String, Object>> rowsList = new ArrayList<>();
+        return getRowsFromQueryResult(connection, query, Long.MAX_VALUE);
+    }
+
+    /**
+     * Execute query and return the resulting table as a list of rows, failing as soon as the size of the rows read so
+     * far goes beyond the given limit.
+     *
+     * @param connection     - Connection object to execute query.
+     * @param query          - Query string
+     * @param maxSizeInBytes - Maximum supported size of the response
+     * @return List of rows from the response table.
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static List<Map<String, Object>> getRowsFromQueryResult(
+            Connection connection, String query, long maxSizeInBytes)
+            throws AppsmithPluginException, StaleConnectionException {
+        ResponseSizeAccumulator rowsAccumulator = new ResponseSizeAccumulator(maxSizeInBytes, 10);
         ResultSet resultSet = null;
         Statement statement = null;
         try {
@@ -56,7 +73,10 @@ public class ExecutionUtils {
                     Object value = resultSet.getObject(i);
                     row.put(metaData.getColumnName(i), value);
                 }
-                rowsList.add(row);
+                if (!rowsAccumulator.add(row)) {
+                    throw new AppsmithPluginException(
+                            SnowflakePluginError.RESPONSE_SIZE_TOO_LARGE, rowsAccumulator.getMaxSizeInMB());
+                }
             }
         } catch (SQLException e) {
             if (e instanceof SnowflakeReauthenticationRequest) {
@@ -86,6 +106,6 @@ public class ExecutionUtils {
             }
         }
 
-        return rowsList;
+        return rowsAccumulator.getRows();
     }
 }
@@ -55,7 +55,8 @@ import static org.mockito.Mockito.when;
 @Slf4j
 public class SnowflakePluginTest {
 
-    SnowflakePlugin.SnowflakePluginExecutor pluginExecutor = new SnowflakePlugin.SnowflakePluginExecutor();
+    SnowflakePlugin.SnowflakePluginExecutor pluginExecutor =
+            new SnowflakePlugin.SnowflakePluginExecutor(new MockSharedConfig());
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -0,0 +1,36 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+public class ActionExecutionGovernorConfig {
+
+    // Maximum number of actions of a datasource being executed at the same time on this node
+    @Value("${appsmith.action-execution.datasource.max-in-flight:50}")
+    private int maxInFlightPerDatasource;
+
+    // Maximum number of actions of a datasource waiting for one of the above to complete, further executions are shed
+    @Value("${appsmith.action-execution.datasource.max-queued:200}")
+    private int maxQueuedPerDatasource;
+
+    // Maximum number of actions of a datasource executed per second across all the nodes, 0 for no limit
+    @Value("${appsmith.action-execution.datasource.max-requests-per-second:0}")
+    private int maxRequestsPerSecondPerDatasource;
+
+    // Maximum number of actions of a workspace being executed at the same time on this node
+    @Value("${appsmith.action-execution.workspace.max-in-flight:200}")
+    private int maxInFlightPerWorkspace;
+
+    // Maximum number of actions of a workspace waiting for one of the above to complete, further executions are shed
+    @Value("${appsmith.action-execution.workspace.max-queued:1000}")
+    private int maxQueuedPerWorkspace;
+
+    // Maximum number of actions of a workspace executed per second across all the nodes, 0 for no limit
+    @Value("${appsmith.action-execution.workspace.max-requests-per-second:0}")
+    private int maxRequestsPerSecondPerWorkspace;
+}
@@ -0,0 +1,26 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+public class ActionExecutionResultCacheConfig {
+
+    // Maximum number of action results kept in Redis, the least recently used ones are evicted beyond it
+    @Value("${appsmith.action-execution.result-cache.max-entries:10000}")
+    private int maxEntries;
+
+    // Results larger than this number of characters once serialized are not kept
+    @Value("${appsmith.action-execution.result-cache.max-result-size:1048576}")
+    private int maxResultSize;
+
+    // Upper bound of the time an action may keep its results for
+    @Value("${appsmith.action-execution.result-cache.max-ttl:PT5M}")
+    private Duration maxTtl;
+}
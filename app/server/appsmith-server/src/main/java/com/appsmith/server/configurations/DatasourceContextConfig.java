@@ -0,0 +1,30 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+public class DatasourceContextConfig {
+
+    // Maximum number of datasource connections being created at the same time on this node
+    @Value("${appsmith.datasource-context.max-concurrent-creates:16}")
+    private int maxConcurrentCreates;
+
+    // Time after which a datasource connection that is still being created fails, which frees its slot for the others
+    @Value("${appsmith.datasource-context.create-timeout:PT1M}")
+    private Duration createTimeout;
+
+    // Time after which a datasource context that hasn't been used is closed
+    @Value("${appsmith.datasource-context.idle-timeout:PT30M}")
+    private Duration idleTimeout;
+
+    // Maximum number of datasource contexts kept open on this node, each of them holding a connection or a pool
+    @Value("${appsmith.datasource-context.max-open-contexts:500}")
+    private int maxOpenContexts;
+}
@@ -4,4 +4,6 @@ public class RateLimitConstants {
     public static final String RATE_LIMIT_REACHED_ACCOUNT_SUSPENDED =
             "Your account is suspended for 24 hours. Please reset your password to continue";
     public static final String BUCKET_KEY_FOR_LOGIN_API = "login";
+    public static final String BUCKET_KEY_FOR_DATASOURCE_ACTION_EXECUTIONS = "datasourceActionExecutions";
+    public static final String BUCKET_KEY_FOR_WORKSPACE_ACTION_EXECUTIONS = "workspaceActionExecutions";
 }
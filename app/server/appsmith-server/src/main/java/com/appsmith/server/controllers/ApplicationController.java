@@ -6,6 +6,7 @@ import com.appsmith.server.fork.internal.ApplicationForkingService;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.ApplicationSnapshotService;
+import com.appsmith.server.services.PublishedViewBundleService;
 import com.appsmith.server.services.ThemeService;
 import com.appsmith.server.solutions.ApplicationFetcher;
 import com.appsmith.server.solutions.ImportExportApplicationService;
@@ -23,7 +24,8 @@ public class ApplicationController extends ApplicationControllerCE {
             ApplicationForkingService applicationForkingService,
             ImportExportApplicationService importExportApplicationService,
             ThemeService themeService,
-            ApplicationSnapshotService applicationSnapshotService) {
+            ApplicationSnapshotService applicationSnapshotService,
+            PublishedViewBundleService publishedViewBundleService) {
 
         super(
                 service,
@@ -32,6 +34,7 @@ public class ApplicationController extends ApplicationControllerCE {
                 applicationForkingService,
                 importExportApplicationService,
                 themeService,
-                applicationSnapshotService);
+                applicationSnapshotService,
+                publishedViewBundleService);
     }
 }
@@ -12,6 +12,7 @@ import com.appsmith.server.dtos.ApplicationAccessDTO;
 import com.appsmith.server.dtos.ApplicationImportDTO;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
 import com.appsmith.server.dtos.GitAuthDTO;
+import com.appsmith.server.dtos.PublishedViewBundleDTO;
 import com.appsmith.server.dtos.ReleaseItemsDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.UserHomepageDTO;
@@ -21,6 +22,7 @@ import com.appsmith.server.fork.internal.ApplicationForkingService;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.ApplicationSnapshotService;
+import com.appsmith.server.services.PublishedViewBundleService;
 import com.appsmith.server.services.ThemeService;
 import com.appsmith.server.solutions.ApplicationFetcher;
 import com.appsmith.server.solutions.ImportExportApplicationService;
@@ -28,6 +30,8 @@ import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -47,6 +51,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -61,6 +66,7 @@ public class ApplicationControllerCE extends BaseController<ApplicationService,
     private final ImportExportApplicationService importExportApplicationService;
     private final ThemeService themeService;
     private final ApplicationSnapshotService applicationSnapshotService;
+    private final PublishedViewBundleService publishedViewBundleService;
 
     @Autowired
     public ApplicationControllerCE(
@@ -70,7 +76,8 @@ public class ApplicationControllerCE extends BaseController<ApplicationService,
             ApplicationForkingService applicationForkingService,
             ImportExportApplicationService importExportApplicationService,
             ThemeService themeService,
-            ApplicationSnapshotService applicationSnapshotService) {
+            ApplicationSnapshotService applicationSnapshotService,
+            PublishedViewBundleService publishedViewBundleService) {
         super(service);
         this.applicationPageService = applicationPageService;
         this.applicationFetcher = applicationFetcher;
@@ -78,6 +85,7 @@ public class ApplicationControllerCE extends BaseController<ApplicationService,
         this.importExportApplicationService = importExportApplicationService;
         this.themeService = themeService;
         this.applicationSnapshotService = applicationSnapshotService;
+        this.publishedViewBundleService = publishedViewBundleService;
     }
 
     @JsonView(Views.Public.class)
@@ -198,6 +206,23 @@ public class ApplicationControllerCE extends BaseController<ApplicationService,
                 .map(application -> new ResponseDTO<>(HttpStatus.OK.value(), application, null));
     }
 
+    /**
+     * Returns the pages, actions, custom JS libs and theme of a published application in one response. The response
+     * carries an ETag, and a request with a matching If-None-Match header gets a 304 without a body.
+     */
+    @JsonView(Views.Public.class)
+    @GetMapping("/view/{defaultApplicationId}/bundle")
+    public Mono<ResponseEntity<ResponseDTO<PublishedViewBundleDTO>>> getViewBundle(
+            @PathVariable String defaultApplicationId,
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+        return publishedViewBundleService
+                .getViewBundle(defaultApplicationId, branchName)
+                .map(bundle -> ResponseEntity.ok()
+                        .eTag(bundle.getEtag())
+                        .cacheControl(CacheControl.noCache())
+                        .body(new ResponseDTO<>(HttpStatus.OK.value(), bundle, null)));
+    }
+
     @JsonView(Views.Public.class)
     @PostMapping("/{defaultApplicationId}/fork/{workspaceId}")
     public Mono<ResponseDTO<ApplicationImportDTO>> forkApplication(
@@ -211,13 +236,13 @@ public class ApplicationControllerCE extends BaseController<ApplicationService,
 
     @JsonView(Views.Public.class)
     @GetMapping("/export/{id}")
-    public Mono<ResponseEntity<Object>> getApplicationFile(
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getApplicationFile(
             @PathVariable String id, @RequestParam(name = FieldName.BRANCH_NAME, required = false) String branchName) {
         log.debug("Going to export application with id: {}, branch: {}", id, branchName);
 
         return importExportApplicationService.getApplicationFile(id, branchName).map(fetchedResource -> {
             HttpHeaders responseHeaders = fetchedResource.getHttpHeaders();
-            Object applicationResource = fetchedResource.getApplicationResource();
+            Flux<DataBuffer> applicationResource = fetchedResource.getApplicationResource();
             return new ResponseEntity<>(applicationResource, responseHeaders, HttpStatus.OK);
         });
     }
@@ -142,10 +142,13 @@ public class DatasourceControllerCE {
     public Mono<ResponseDTO<DatasourceStructure>> getStructure(
             @PathVariable String datasourceId,
             @RequestParam(required = false, defaultValue = "false") Boolean ignoreCache,
+            @RequestParam(required = false) String schema,
+            @RequestParam(required = false) Integer offset,
+            @RequestParam(required = false) Integer limit,
             @RequestHeader(name = FieldName.ENVIRONMENT_ID, required = false) String environmentId) {
         log.debug("Going to get structure for datasource with id: '{}'.", datasourceId);
         return datasourceStructureSolution
-                .getStructure(datasourceId, BooleanUtils.isTrue(ignoreCache), environmentId)
+                .getStructure(datasourceId, BooleanUtils.isTrue(ignoreCache), environmentId, schema, offset, limit)
                 .map(structure -> new ResponseDTO<>(HttpStatus.OK.value(), structure, null));
     }
 
@@ -0,0 +1,87 @@
+package com.appsmith.server.cron;
+
+import com.appsmith.external.models.ConnectionPoolStats;
+import com.appsmith.external.services.ConnectionPoolRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Periodically resizes the connection pools of the plugins based on their usage, and publishes their stats as metrics
+ * tagged with the pool and plugin names.
+ */
+@Slf4j
+@Component
+public class AdjustConnectionPoolSizes {
+
+    private static final String METRIC_PREFIX = "appsmith.plugin.connection.pool.";
+
+    private final ConnectionPoolRegistry connectionPoolRegistry = ConnectionPoolRegistry.getInstance();
+
+    private final boolean adaptiveSizingEnabled;
+
+    private final MultiGauge activeConnections;
+    private final MultiGauge idleConnections;
+    private final MultiGauge totalConnections;
+    private final MultiGauge pendingThreads;
+    private final MultiGauge maxConnections;
+
+    public AdjustConnectionPoolSizes(
+            MeterRegistry meterRegistry,
+            @Value("${appsmith.plugin.connection-pool.max-pool-size:20}") int maxPoolSize,
+            @Value("${appsmith.plugin.connection-pool.max-total-connections:200}") int maxTotalConnections,
+            @Value("${appsmith.plugin.connection-pool.adaptive.enabled:true}") boolean adaptiveSizingEnabled) {
+        this.adaptiveSizingEnabled = adaptiveSizingEnabled;
+        connectionPoolRegistry.configure(maxPoolSize, maxTotalConnections);
+
+        activeConnections = MultiGauge.builder(METRIC_PREFIX + "active")
+                .description("Connections in use in the connection pool of a datasource")
+                .register(meterRegistry);
+        idleConnections = MultiGauge.builder(METRIC_PREFIX + "idle")
+                .description("Idle connections in the connection pool of a datasource")
+                .register(meterRegistry);
+        totalConnections = MultiGauge.builder(METRIC_PREFIX + "total")
+                .description("Open connections in the connection pool of a datasource")
+                .register(meterRegistry);
+        pendingThreads = MultiGauge.builder(METRIC_PREFIX + "pending")
+                .description("Threads waiting for a connection from the connection pool of a datasource")
+                .register(meterRegistry);
+        maxConnections = MultiGauge.builder(METRIC_PREFIX + "max")
+                .description("Current maximum size of the connection pool of a datasource")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${appsmith.plugin.connection-pool.adjust-interval:PT5S}",
+            fixedDelayString = "${appsmith.plugin.connection-pool.adjust-interval:PT5S}")
+    public void adjustConnectionPoolSizes() {
+        List<ConnectionPoolStats> poolStats = adaptiveSizingEnabled
+                ? connectionPoolRegistry.adjustPoolSizes()
+                : connectionPoolRegistry.getPoolStats();
+
+        // Closed pools are left out of the rows, which removes their gauges
+        register(activeConnections, poolStats, ConnectionPoolStats::getActiveConnections);
+        register(idleConnections, poolStats, ConnectionPoolStats::getIdleConnections);
+        register(totalConnections, poolStats, ConnectionPoolStats::getTotalConnections);
+        register(pendingThreads, poolStats, ConnectionPoolStats::getThreadsAwaitingConnection);
+        register(maxConnections, poolStats, ConnectionPoolStats::getMaximumPoolSize);
+    }
+
+    private static void register(
+            MultiGauge multiGauge, List<ConnectionPoolStats> poolStats, ToIntFunction<ConnectionPoolStats> value) {
+        multiGauge.register(
+                poolStats.stream()
+                        .map(stats -> MultiGauge.Row.of(
+                                Tags.of("pool", stats.getPoolName(), "plugin", stats.getPluginName()),
+                                value.applyAsInt(stats)))
+                        .toList(),
+                true);
+    }
+}
@@ -0,0 +1,62 @@
+package com.appsmith.server.cron;
+
+import com.appsmith.server.configurations.DatasourceContextConfig;
+import com.appsmith.server.services.DatasourceContextService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically closes the datasource contexts that have not been used for a while, so that the connections of
+ * datasources that are no longer queried are not kept open, as well as the least recently used ones beyond the maximum
+ * number of open contexts. Also publishes the number of open contexts of every plugin.
+ */
+@Slf4j
+@Component
+public class CloseIdleDatasourceContexts {
+
+    private final DatasourceContextService datasourceContextService;
+
+    private final DatasourceContextConfig datasourceContextConfig;
+
+    private final MultiGauge openContexts;
+
+    public CloseIdleDatasourceContexts(
+            DatasourceContextService datasourceContextService,
+            DatasourceContextConfig datasourceContextConfig,
+            MeterRegistry meterRegistry) {
+        this.datasourceContextService = datasourceContextService;
+        this.datasourceContextConfig = datasourceContextConfig;
+
+        openContexts = MultiGauge.builder("appsmith.datasource.context.open")
+                .description("Open datasource contexts of a plugin")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${appsmith.datasource-context.reap-interval:PT1M}",
+            fixedDelayString = "${appsmith.datasource-context.reap-interval:PT1M}")
+    public void closeIdleDatasourceContexts() {
+        int closedCount =
+                datasourceContextService.closeIdleDatasourceContexts(datasourceContextConfig.getIdleTimeout());
+        if (closedCount > 0) {
+            log.debug("Closed {} idle datasource contexts", closedCount);
+        }
+
+        // Also enforced whenever a context is created, this catches contexts created while others were being closed
+        closedCount = datasourceContextService.closeLeastRecentlyUsedDatasourceContexts(
+                datasourceContextConfig.getMaxOpenContexts());
+        if (closedCount > 0) {
+            log.debug("Closed {} least recently used datasource contexts", closedCount);
+        }
+
+        openContexts.register(
+                datasourceContextService.getDatasourceContextCountByPlugin().entrySet().stream()
+                        .map(entry -> MultiGauge.Row.of(Tags.of("plugin", entry.getKey()), entry.getValue()))
+                        .toList(),
+                true);
+    }
+}
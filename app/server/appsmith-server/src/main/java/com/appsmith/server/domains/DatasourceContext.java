@@ -1,5 +1,7 @@
 package com.appsmith.server.domains;
 
+import com.appsmith.external.plugins.PluginExecutor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -14,7 +16,71 @@ public class DatasourceContext<T> {
 
     Instant creationTime;
 
+    // Last time the context was handed out for use, to close it once it has been idle for too long
+    volatile Instant lastUsedTime;
+
+    // Plugin that created the connection, and destroys it when the context is closed
+    @ToString.Exclude
+    PluginExecutor<Object> pluginExecutor;
+
+    String pluginName;
+
+    // Number of tasks currently running with the connection, which is not destroyed before they are all done
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    int inUseCount;
+
+    @Setter(AccessLevel.NONE)
+    boolean closed;
+
     public DatasourceContext() {
         creationTime = Instant.now();
+        lastUsedTime = creationTime;
+    }
+
+    /**
+     * Marks the context as used by one more task, unless it has been closed already.
+     *
+     * @return true if the context can be used
+     */
+    public synchronized boolean checkout() {
+        if (closed) {
+            return false;
+        }
+
+        inUseCount++;
+        lastUsedTime = Instant.now();
+        return true;
+    }
+
+    /**
+     * Marks the context as no longer used by a task that checked it out.
+     *
+     * @return true if the context was closed while in use and this was its last task, so its connection can be
+     * destroyed now
+     */
+    public synchronized boolean release() {
+        inUseCount--;
+        lastUsedTime = Instant.now();
+        return closed && inUseCount == 0;
+    }
+
+    public synchronized boolean isInUse() {
+        return inUseCount > 0;
+    }
+
+    /**
+     * Closes the context, so that it can't be checked out anymore.
+     *
+     * @return true if the connection can be destroyed now, false if it was already closed or is still in use, in which
+     * case the last task to release it destroys it
+     */
+    public synchronized boolean close() {
+        if (closed) {
+            return false;
+        }
+
+        closed = true;
+        return inUseCount == 0;
     }
 }
@@ -0,0 +1,49 @@
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This stores everything needed to open a published application in view mode, i.e. its pages, the view DTOs of its
+ * actions, its custom JS libs and its theme. It's built when the application is published, so that opening the
+ * application reads this one document instead of all the page and action documents.
+ * There is at most one bundle per (branched) application.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Document
+public class PublishedViewBundle extends BaseDomain {
+    private String applicationId;
+
+    /**
+     * Fingerprint of the application fields the bundle was built from. If it doesn't match the application anymore,
+     * e.g. because the application was published again or its permissions changed, the bundle is rebuilt.
+     */
+    private String fingerprint;
+
+    /**
+     * SHA-256 of the uncompressed content, used as the ETag of the bundle
+     */
+    private String contentHash;
+
+    /**
+     * gzipped json of the PublishedViewBundleDTO
+     */
+    private byte[] content;
+
+    /**
+     * Policies of the pages and the actions in the content, keyed by their default ids. The content holds the pages
+     * and actions of all users and is filtered with these for the user who reads it.
+     */
+    private Map<String, Set<Policy>> pagePolicies;
+
+    private Map<String, Set<Policy>> actionPolicies;
+}
@@ -0,0 +1,32 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.views.Views;
+import com.appsmith.server.domains.CustomJSLib;
+import com.appsmith.server.domains.Theme;
+import com.fasterxml.jackson.annotation.JsonView;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PublishedViewBundleDTO {
+    @JsonView(Views.Public.class)
+    List<PageNameIdDTO> pages;
+
+    @JsonView(Views.Public.class)
+    List<ActionViewDTO> actions;
+
+    @JsonView(Views.Public.class)
+    List<CustomJSLib> customJSLibs;
+
+    @JsonView(Views.Public.class)
+    Theme theme;
+
+    // SHA-256 of the bundle as it was read by the current user, sent as the ETag of the response
+    @JsonView(Views.Internal.class)
+    String etag;
+}
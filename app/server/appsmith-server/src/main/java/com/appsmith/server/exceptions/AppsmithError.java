@@ -651,6 +651,14 @@ public enum AppsmithError {
             "Too many requests",
             ErrorType.INTERNAL_ERROR,
             null),
+    TOO_MANY_ACTION_EXECUTIONS(
+            429,
+            AppsmithErrorCode.TOO_MANY_ACTION_EXECUTIONS.getCode(),
+            "Too many queries are being run on this {0} at the moment. Please try again later.",
+            AppsmithErrorAction.DEFAULT,
+            "Too many queries running",
+            ErrorType.INTERNAL_ERROR,
+            null),
     INVALID_JS_ACTION(
             400,
             AppsmithErrorCode.INVALID_JS_ACTION.getCode(),
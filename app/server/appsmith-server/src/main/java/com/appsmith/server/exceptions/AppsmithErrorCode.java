@@ -114,6 +114,7 @@ public enum AppsmithErrorCode {
     ROLES_FROM_SAME_WORKSPACE("AE-RSW-4041", "Roles from same workspace"),
     SIGNUP_DISABLED("AE-SGN-4033", "Signup disabled"),
     TOO_MANY_REQUESTS("AE-TMR-4029", "Too many requests"),
+    TOO_MANY_ACTION_EXECUTIONS("AE-TMR-4030", "Too many action executions"),
     USER_NOT_FOUND("AE-USR-4004", "User not found"),
     CSRF_TOKEN_INVALID("AE-APP-4039", "CSRF token missing/invalid"),
     UNSUPPORTED_IMPORT_OPERATION("AE-APP-4040", "Unsupported operation for import application via file"),
@@ -0,0 +1,285 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.model.CachePolicy;
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.Param;
+import com.appsmith.external.models.ResultCacheStatus;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.ActionExecutionResultCacheConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.lang.Boolean.TRUE;
+
+/**
+ * Shares the results of actions that opted in through their configuration between identical executions, i.e. with
+ * the same action configuration, datasource, environment and parameters. Concurrent identical executions are
+ * coalesced into a single plugin call on this node, and results are kept for the time set on the action in the tiered
+ * memory and Redis cache, for all the nodes to use.
+ *
+ * Results are only shared for actions their plugin reports as read-only, as executing a write once for several
+ * callers, or not at all, would change what the action does. Every caller gets its own copy of a shared result, as
+ * results are modified further down the execution.
+ *
+ * Paginated executions are never shared: the continuation token of their result is tied to a cursor that only one
+ * caller can read the next page from.
+ */
+@Slf4j
+@Component
+public class ActionExecutionResultCache {
+
+    static final String CACHE_NAME = "actionExecutionResults";
+
+    private final CacheManager cacheManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final ActionExecutionResultCacheConfig config;
+
+    // Map entries are written in the same order whatever the order they were read in, so that keys are stable
+    private final ObjectWriter keyWriter;
+
+    private final Map<String, Mono<SharedResult>> inFlightExecutions = new ConcurrentHashMap<>();
+
+    public ActionExecutionResultCache(
+            CacheManager cacheManager, ObjectMapper objectMapper, ActionExecutionResultCacheConfig config) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.keyWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    /**
+     * A result as returned to the caller that executed the action, and as serialized for the other callers. The
+     * serialized form is null if the result could not be serialized.
+     */
+    private record SharedResult(ActionExecutionResult result, String json) {}
+
+    /**
+     * Executes the action, or reuses the result of an identical execution if the action shares its results.
+     *
+     * @param execution : executes the action with the plugin
+     */
+    public Mono<ActionExecutionResult> execute(
+            ExecuteActionDTO executeActionDTO,
+            ActionDTO actionDTO,
+            DatasourceStorage datasourceStorage,
+            PluginExecutor<?> pluginExecutor,
+            Supplier<Mono<ActionExecutionResult>> execution) {
+        ActionConfiguration actionConfiguration = actionDTO.getActionConfiguration();
+        boolean deduplicate = TRUE.equals(actionConfiguration.getDeduplicateExecutions());
+        Duration ttl = getTtl(actionConfiguration);
+        if (!deduplicate && ttl.isZero()) {
+            return Mono.defer(execution);
+        }
+
+        if (executeActionDTO.getPageSize() != null) {
+            // Every caller needs a cursor of its own, which a shared result's continuation token can't give them
+            return Mono.defer(execution);
+        }
+
+        if (!pluginExecutor.isReadOnlyAction(actionConfiguration)) {
+            return Mono.defer(execution).doOnNext(result -> result.setResultCacheStatus(ResultCacheStatus.REFUSED));
+        }
+
+        String key;
+        try {
+            key = getKey(executeActionDTO, actionDTO, datasourceStorage);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not compute the result cache key of action {}, executing it", actionDTO.getId(), e);
+            return Mono.defer(execution);
+        }
+
+        CachePolicy policy = CachePolicy.builder()
+                .ttl(ttl)
+                .maxEntries(config.getMaxEntries())
+                .build();
+        Mono<ActionExecutionResult> cachedResult = ttl.isZero()
+                ? Mono.empty()
+                : cacheManager
+                        .get(CACHE_NAME, key, policy)
+                        .filter(String.class::isInstance)
+                        .flatMap(json -> toResult((String) json, actionDTO, ResultCacheStatus.HIT))
+                        .onErrorResume(error -> {
+                            // The action is executed as if its result had not been cached
+                            log.warn("Could not read the cached result of action {}", actionDTO.getId(), error);
+                            return Mono.empty();
+                        });
+
+        return cachedResult.switchIfEmpty(Mono.defer(() -> {
+            if (deduplicate) {
+                return executeShared(key, ttl, policy, actionDTO, execution);
+            }
+            return executeAndStore(key, ttl, policy, actionDTO, execution).map(shared -> {
+                shared.result().setResultCacheStatus(ResultCacheStatus.MISS);
+                return shared.result();
+            });
+        }));
+    }
+
+    private Duration getTtl(ActionConfiguration actionConfiguration) {
+        Integer ttlInSeconds = actionConfiguration.getResultCacheTtlInSeconds();
+        if (ttlInSeconds == null || ttlInSeconds <= 0) {
+            return Duration.ZERO;
+        }
+
+        Duration ttl = Duration.ofSeconds(ttlInSeconds);
+        return ttl.compareTo(config.getMaxTtl()) > 0 ? config.getMaxTtl() : ttl;
+    }
+
+    /**
+     * The key is a hash of everything the result of the execution depends on. The action configuration is hashed
+     * with its bindings, which the plugin substitutes with the parameters, so the pair identifies the substituted
+     * configuration.
+     */
+    String getKey(ExecuteActionDTO executeActionDTO, ActionDTO actionDTO, DatasourceStorage datasourceStorage)
+            throws JsonProcessingException {
+        Map<String, Object> keyFields = new LinkedHashMap<>();
+        keyFields.put("actionId", actionDTO.getId());
+        keyFields.put("viewMode", executeActionDTO.getViewMode());
+        keyFields.put("actionConfiguration", actionDTO.getActionConfiguration());
+        keyFields.put("datasourceId", datasourceStorage.getDatasourceId());
+        keyFields.put("environmentId", datasourceStorage.getEnvironmentId());
+        if (datasourceStorage.getDatasourceId() == null) {
+            // Embedded datasources are edited along with the action, without changing its configuration
+            keyFields.put("datasourceConfiguration", datasourceStorage.getDatasourceConfiguration());
+        }
+
+        List<List<Object>> params = new ArrayList<>();
+        if (executeActionDTO.getParams() != null) {
+            for (Param param : executeActionDTO.getParams()) {
+                params.add(List.of(
+                        String.valueOf(param.getKey()),
+                        String.valueOf(param.getValue()),
+                        String.valueOf(param.getClientDataType())));
+            }
+        }
+        keyFields.put("params", params);
+        keyFields.put("paginationField", executeActionDTO.getPaginationField());
+        keyFields.put("pageSize", executeActionDTO.getPageSize());
+        // Every page of a paginated result is cached separately
+        keyFields.put("continuationToken", executeActionDTO.getContinuationToken());
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(keyWriter.writeValueAsBytes(keyFields)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Coalesces the execution with the identical executions running at the same time on this node. The execution
+     * that starts the plugin call gets its result as is, the others get a copy of it.
+     */
+    private Mono<ActionExecutionResult> executeShared(
+            String key,
+            Duration ttl,
+            CachePolicy policy,
+            ActionDTO actionDTO,
+            Supplier<Mono<ActionExecutionResult>> execution) {
+        boolean[] isLeader = {false};
+        Mono<SharedResult> sharedExecution = inFlightExecutions.computeIfAbsent(key, k -> {
+            isLeader[0] = true;
+            List<Mono<SharedResult>> self = new ArrayList<>(1);
+            Mono<SharedResult> mono = executeAndStore(k, ttl, policy, actionDTO, execution)
+                    // Callers time out on their own, this only makes sure a hung execution is not shared forever
+                    .timeout(
+                            Duration.ofMillis(actionDTO.getActionConfiguration().getTimeoutInMillisecond()))
+                    .doFinally(signalType -> inFlightExecutions.remove(k, self.get(0)))
+                    .cache();
+            self.add(mono);
+            return mono;
+        });
+
+        if (isLeader[0]) {
+            return sharedExecution.map(shared -> {
+                shared.result().setResultCacheStatus(ResultCacheStatus.MISS);
+                return shared.result();
+            });
+        }
+
+        return sharedExecution.flatMap(shared -> {
+            if (shared.json() == null) {
+                return Mono.defer(execution);
+            }
+            return toResult(shared.json(), actionDTO, ResultCacheStatus.COALESCED)
+                    .onErrorResume(error -> Mono.defer(execution));
+        });
+    }
+
+    private Mono<SharedResult> executeAndStore(
+            String key,
+            Duration ttl,
+            CachePolicy policy,
+            ActionDTO actionDTO,
+            Supplier<Mono<ActionExecutionResult>> execution) {
+        return Mono.defer(execution).flatMap(result -> {
+            SharedResult shared = new SharedResult(result, serialize(result, actionDTO));
+            if (ttl.isZero()
+                    || shared.json() == null
+                    || !TRUE.equals(result.getIsExecutionSuccess())
+                    || shared.json().length() > config.getMaxResultSize()) {
+                return Mono.just(shared);
+            }
+
+            return cacheManager
+                    .put(CACHE_NAME, key, shared.json(), policy)
+                    .onErrorResume(error -> {
+                        log.warn("Could not cache the result of action {}", actionDTO.getId(), error);
+                        return Mono.just(false);
+                    })
+                    .thenReturn(shared);
+        });
+    }
+
+    /**
+     * Serializes the result without what is specific to the execution that produced it.
+     */
+    private String serialize(ActionExecutionResult result, ActionDTO actionDTO) {
+        try {
+            ObjectNode node = objectMapper.valueToTree(result);
+            node.remove(List.of("request", "queueWaitTimeInMillisecond", "resultCacheStatus"));
+            return objectMapper.writeValueAsString(node);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            log.debug("Could not serialize the result of action {}, it won't be shared", actionDTO.getId(), e);
+            return null;
+        }
+    }
+
+    private Mono<ActionExecutionResult> toResult(String json, ActionDTO actionDTO, ResultCacheStatus status) {
+        return Mono.fromCallable(() -> {
+            ActionExecutionResult result = objectMapper.readValue(json, ActionExecutionResult.class);
+            ActionExecutionRequest request = new ActionExecutionRequest();
+            request.setActionId(actionDTO.getId());
+            request.setRequestedAt(Instant.now());
+            result.setRequest(request);
+            result.setResultCacheStatus(status);
+            return result;
+        });
+    }
+}
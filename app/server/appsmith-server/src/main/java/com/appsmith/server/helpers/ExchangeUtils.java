@@ -4,6 +4,8 @@ import com.appsmith.server.constants.FieldName;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.net.InetSocketAddress;
+
 public class ExchangeUtils {
 
     public static final String HEADER_ANONYMOUS_USER_ID = "X-Anonymous-User-Id";
@@ -46,4 +48,27 @@ public class ExchangeUtils {
     public static Mono<String> getUserAgentFromCurrentRequest() {
         return getHeaderFromCurrentRequest(USER_AGENT).defaultIfEmpty("unavailable");
     }
+
+    /**
+     * Returns the IP address of the client of the _current_ request. With `server.forward-headers-strategy` set, this
+     * is the client address forwarded by the proxy in front of the server. Since this gets the address from the current
+     * request, it has to be called from a request context.
+     *
+     * @return a Mono that resolves to the IP address of the client, if known. Else, an empty Mono.
+     */
+    public static Mono<String> getClientIpFromCurrentRequest() {
+        return Mono.deferContextual(Mono::just)
+                .flatMap(contextView -> {
+                    InetSocketAddress remoteAddress = contextView
+                            .get(ServerWebExchange.class)
+                            .getRequest()
+                            .getRemoteAddress();
+                    return Mono.justOrEmpty(
+                            remoteAddress == null || remoteAddress.getAddress() == null
+                                    ? null
+                                    : remoteAddress.getAddress().getHostAddress());
+                })
+                // An error is thrown when the context is not available. We don't want to fail the request in this case.
+                .onErrorResume(error -> Mono.empty());
+    }
 }
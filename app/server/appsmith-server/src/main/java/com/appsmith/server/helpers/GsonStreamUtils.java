@@ -0,0 +1,339 @@
+package com.appsmith.server.helpers;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.google.gson.Gson;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializes and deserializes large objects, e.g. the application json, with Gson without holding the whole json in
+ * memory. The top level fields of the object are written and read one by one, and collections one element at a time,
+ * so that only the json of a single element is held in memory at any point.
+ */
+public class GsonStreamUtils {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Writes the object as a json object to a flux of data buffers. The buffers are only created when requested, one
+     * for every top level field that is not a collection and one for every element of a collection.
+     *
+     * @param object        to be written, its fields are named and excluded as configured in the given Gson
+     * @param gson          to write the fields and the collection elements with
+     * @param bufferFactory to create the data buffers with
+     * @return flux of data buffers which together hold the same json as {@code gson.toJson(object)}
+     */
+    public static Flux<DataBuffer> write(Object object, Gson gson, DataBufferFactory bufferFactory) {
+        List<Map.Entry<String, Object>> fieldValues = new ArrayList<>();
+        getFields(object.getClass(), gson, true).forEach((name, field) -> {
+            Object value = getFieldValue(field, object);
+            if (value != null || gson.serializeNulls()) {
+                fieldValues.add(new AbstractMap.SimpleEntry<>(name, value));
+            }
+        });
+
+        return Flux.concat(
+                Mono.fromCallable(() -> toDataBuffer("{", bufferFactory)),
+                Flux.range(0, fieldValues.size()).concatMap(index -> {
+                    Map.Entry<String, Object> fieldValue = fieldValues.get(index);
+                    String prefix = (index == 0 ? "" : ",") + gson.toJson(fieldValue.getKey()) + ":";
+                    if (!(fieldValue.getValue() instanceof Collection<?> collection)) {
+                        return Mono.fromCallable(() -> toDataBuffer(prefix, fieldValue.getValue(), gson, bufferFactory))
+                                .flux();
+                    }
+                    List<?> elements = new ArrayList<>(collection);
+                    return Flux.concat(
+                            Mono.fromCallable(() -> toDataBuffer(prefix + "[", bufferFactory)),
+                            Flux.range(0, elements.size())
+                                    .map(elementIndex -> toDataBuffer(
+                                            elementIndex == 0 ? "" : ",",
+                                            elements.get(elementIndex),
+                                            gson,
+                                            bufferFactory)),
+                            Mono.fromCallable(() -> toDataBuffer("]", bufferFactory)));
+                }),
+                Mono.fromCallable(() -> toDataBuffer("}", bufferFactory)));
+    }
+
+    /**
+     * Reads a json object from a flux of data buffers as they arrive. The json of every top level field that is not
+     * an array, and of every element of an array, is collected and deserialized with Gson on its own, so that the
+     * complete json is never held in memory. The data buffers are released once they have been read.
+     *
+     * @param content of the json object
+     * @param gson    to read the fields and the collection elements with
+     * @param type    of the object, fields of the json which are not present in the type are ignored
+     * @return the deserialized object, or an error with a {@link JsonParseException} if the content is not a json object
+     */
+    public static <T> Mono<T> read(Flux<DataBuffer> content, Gson gson, Class<T> type) {
+        return Mono.defer(() -> {
+            StreamingObjectReader<T> reader;
+            try {
+                reader = new StreamingObjectReader<>(gson, type);
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+            return content.concatMap(dataBuffer -> {
+                        try {
+                            reader.feed(dataBuffer);
+                            return Mono.empty();
+                        } catch (IOException e) {
+                            return Mono.error(e);
+                        } finally {
+                            DataBufferUtils.release(dataBuffer);
+                        }
+                    })
+                    .then(Mono.fromCallable(reader::complete));
+        });
+    }
+
+    private static DataBuffer toDataBuffer(String json, DataBufferFactory bufferFactory) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return bufferFactory.wrap(bytes);
+    }
+
+    private static DataBuffer toDataBuffer(String prefix, Object value, Gson gson, DataBufferFactory bufferFactory) {
+        DataBuffer dataBuffer = bufferFactory.allocateBuffer(1024);
+        try (Writer writer = new OutputStreamWriter(dataBuffer.asOutputStream(), StandardCharsets.UTF_8)) {
+            writer.write(prefix);
+            JsonWriter jsonWriter = new JsonWriter(writer);
+            // Same settings as Gson.toJson, except for html escaping which the exported files never had
+            jsonWriter.setSerializeNulls(gson.serializeNulls());
+            jsonWriter.setLenient(true);
+            jsonWriter.setHtmlSafe(false);
+            writeValue(jsonWriter, value, gson);
+            jsonWriter.flush();
+        } catch (IOException e) {
+            DataBufferUtils.release(dataBuffer);
+            throw new UncheckedIOException(e);
+        }
+        return dataBuffer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeValue(JsonWriter jsonWriter, Object value, Gson gson) throws IOException {
+        if (value == null) {
+            jsonWriter.nullValue();
+            return;
+        }
+        gson.getAdapter((TypeToken<Object>) TypeToken.get(value.getClass())).write(jsonWriter, value);
+    }
+
+    /**
+     * The fields of the type as Gson serializes them, by their json name
+     */
+    private static Map<String, Field> getFields(Class<?> type, Gson gson, boolean serialize) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (Class<?> raw = type; raw != null && raw != Object.class; raw = raw.getSuperclass()) {
+            for (Field field : raw.getDeclaredFields()) {
+                if (gson.excluder().excludeField(field, serialize)) {
+                    continue;
+                }
+                SerializedName serializedName = field.getAnnotation(SerializedName.class);
+                String name = serializedName != null
+                        ? serializedName.value()
+                        : gson.fieldNamingStrategy().translateName(field);
+                field.setAccessible(true);
+                fields.putIfAbsent(name, field);
+            }
+        }
+        return fields;
+    }
+
+    private static Object getFieldValue(Field field, Object object) {
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads a json object fed in chunks with a non-blocking parser. The tokens of the value being read are copied to
+     * a json string until the value is complete, and then deserialized with Gson.
+     */
+    private static class StreamingObjectReader<T> {
+
+        private final Gson gson;
+        private final T target;
+        private final Map<String, Field> fields;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        // Number of objects and arrays the parser is in
+        private int depth = 0;
+        private boolean complete = false;
+
+        // Top level field whose value is being read, null if the value is to be skipped
+        private Field field;
+
+        // Elements of the top level collection field being read
+        private Collection<Object> elements;
+        private Type elementType;
+
+        // Json of the value being read, the generator is null if the value is to be skipped
+        private boolean readingValue = false;
+        private int valueDepth;
+        private Type valueType;
+        private StringWriter valueJson;
+        private JsonGenerator valueGenerator;
+
+        StreamingObjectReader(Gson gson, Class<T> type) throws IOException {
+            this.gson = gson;
+            this.target = gson.fromJson("{}", type);
+            this.fields = getFields(type, gson, false);
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        void feed(DataBuffer dataBuffer) throws IOException {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            feeder.feedInput(bytes, 0, bytes.length);
+            readAvailableTokens();
+        }
+
+        T complete() throws IOException {
+            feeder.endOfInput();
+            readAvailableTokens();
+            if (!complete) {
+                throw new JsonParseException(parser, "Unexpected end of json object");
+            }
+            return target;
+        }
+
+        private void readAvailableTokens() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                readToken(token);
+            }
+        }
+
+        private void readToken(JsonToken token) throws IOException {
+            if (readingValue) {
+                readValueToken(token);
+                return;
+            }
+
+            if (complete) {
+                throw new JsonParseException(parser, "Unexpected content after the json object");
+            }
+
+            if (depth == 0) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Expected a json object");
+                }
+                depth = 1;
+            } else if (depth == 1 && token == JsonToken.FIELD_NAME) {
+                field = fields.get(parser.getCurrentName());
+            } else if (depth == 1 && token == JsonToken.END_OBJECT) {
+                depth = 0;
+                complete = true;
+            } else if (depth == 1
+                    && token == JsonToken.START_ARRAY
+                    && field != null
+                    && Collection.class.isAssignableFrom(field.getType())) {
+                // Read the elements one at a time into the collection that Gson would have created for the field
+                elements = gson.fromJson("[]", field.getGenericType());
+                elementType = field.getGenericType() instanceof ParameterizedType parameterizedType
+                        ? parameterizedType.getActualTypeArguments()[0]
+                        : Object.class;
+                depth = 2;
+            } else if (depth == 1) {
+                startValue(token, field == null ? null : field.getGenericType());
+            } else if (depth == 2 && token == JsonToken.END_ARRAY) {
+                setFieldValue(elements);
+                elements = null;
+                depth = 1;
+            } else {
+                startValue(token, elementType);
+            }
+        }
+
+        private void startValue(JsonToken token, Type type) throws IOException {
+            readingValue = true;
+            valueDepth = depth;
+            valueType = type;
+            if (type != null) {
+                valueJson = new StringWriter();
+                valueGenerator = JSON_FACTORY.createGenerator(valueJson);
+            }
+            readValueToken(token);
+        }
+
+        private void readValueToken(JsonToken token) throws IOException {
+            if (valueGenerator != null) {
+                if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                    // Keep the number exactly as it was written
+                    valueGenerator.writeNumber(parser.getText());
+                } else {
+                    valueGenerator.copyCurrentEvent(parser);
+                }
+            }
+
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == valueDepth) {
+                endValue();
+            }
+        }
+
+        private void endValue() throws IOException {
+            readingValue = false;
+            if (valueGenerator == null) {
+                return;
+            }
+
+            valueGenerator.close();
+            Object value = gson.fromJson(valueJson.toString(), valueType);
+            valueGenerator = null;
+            valueJson = null;
+            if (elements != null) {
+                elements.add(value);
+            } else {
+                setFieldValue(value);
+            }
+        }
+
+        private void setFieldValue(Object value) {
+            if (field == null || (value == null && field.getType().isPrimitive())) {
+                return;
+            }
+            try {
+                field.set(target, value);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
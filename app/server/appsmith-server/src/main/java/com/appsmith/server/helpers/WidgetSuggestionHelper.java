@@ -1,162 +1,78 @@
 package com.appsmith.server.helpers;
 
+import com.appsmith.external.helpers.ResultShape;
 import com.appsmith.external.models.WidgetSuggestionDTO;
 import com.appsmith.external.models.WidgetType;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 @Slf4j
 public class WidgetSuggestionHelper {
 
-    @Getter
-    @Setter
-    @NoArgsConstructor
-    private static class DataFields {
-        List<String> fields;
-        List<String> numericFields;
-        List<String> objectFields;
-    }
-
     /**
      * Suggest the best widget to the query response. We currently support Select, Table, Text and Chart widgets
      *
      * @return List of Widgets with binding query
      */
     public static List<WidgetSuggestionDTO> getSuggestedWidgets(Object data) {
+        return getSuggestedWidgets(ResultShape.analyze(data));
+    }
 
-        List<WidgetSuggestionDTO> widgetTypeList = new ArrayList<>();
-
-        if (data instanceof ArrayNode) {
-            widgetTypeList = handleArrayNode((ArrayNode) data);
-        } else if (data instanceof JsonNode) {
-            widgetTypeList = handleJsonNode((JsonNode) data);
-        } else if (data instanceof List && !((List) data).isEmpty()) {
-            widgetTypeList = handleList((List) data);
-        }
-        return widgetTypeList;
+    /**
+     * Suggest the best widget to the query response, from the shape of the response as analyzed once for all the
+     * consumers of an action execution result.
+     *
+     * @return List of Widgets with binding query
+     */
+    public static List<WidgetSuggestionDTO> getSuggestedWidgets(ResultShape shape) {
+        return switch (shape.getKind()) {
+            case JSON_ARRAY -> handleArrayNode(shape);
+            case JSON_OBJECT -> handleJsonObject(shape);
+            case LIST -> handleList(shape);
+            default -> new ArrayList<>();
+        };
     }
 
-    private static List<WidgetSuggestionDTO> handleArrayNode(ArrayNode array) {
-        if (array.isEmpty()) {
+    private static List<WidgetSuggestionDTO> handleArrayNode(ResultShape shape) {
+        if (shape.getRowCount() == 0) {
             return new ArrayList<>();
         }
         // TODO - check other data types
-        if (array.isArray()) {
-            int length = array.size();
-            JsonNode node = array.get(0);
-            JsonNodeType nodeType = node.getNodeType();
-
-            DataFields dataFields = collectFieldsFromData(node.fields());
-
-            if (JsonNodeType.STRING.equals(nodeType)) {
-                return getWidgetsForTypeString(dataFields.getFields(), length);
-            } else if (JsonNodeType.OBJECT.equals(nodeType) || JsonNodeType.ARRAY.equals(nodeType)) {
-                return getWidgetsForTypeArray(dataFields.getFields(), dataFields.getNumericFields());
-            } else if (JsonNodeType.NUMBER.equals(nodeType)) {
-                return getWidgetsForTypeNumber();
-            }
+        JsonNodeType nodeType = shape.getFirstRowType();
+        if (JsonNodeType.STRING.equals(nodeType)) {
+            return getWidgetsForTypeString(shape.getFields(), shape.getRowCount());
+        } else if (JsonNodeType.OBJECT.equals(nodeType) || JsonNodeType.ARRAY.equals(nodeType)) {
+            return getWidgetsForTypeArray(shape.getFields(), shape.getNumericFields());
+        } else if (JsonNodeType.NUMBER.equals(nodeType)) {
+            return getWidgetsForTypeNumber();
         }
         return new ArrayList<>();
     }
 
-    private static List<WidgetSuggestionDTO> handleJsonNode(JsonNode node) {
-        List<WidgetSuggestionDTO> widgetTypeList = new ArrayList<>();
-        if (node.isEmpty()) {
-            return widgetTypeList;
-        }
-
-        if (node.isObject()) {
-            int length = node.size();
-            JsonNodeType nodeType = node.getNodeType();
-
-            DataFields dataFields = collectFieldsFromData(node.fields());
-
-            if (JsonNodeType.STRING.equals(nodeType)) {
-                widgetTypeList = getWidgetsForTypeString(dataFields.getFields(), length);
-            } else if (JsonNodeType.ARRAY.equals(nodeType)) {
-                widgetTypeList = getWidgetsForTypeArray(dataFields.getFields(), dataFields.getNumericFields());
-            } else if (JsonNodeType.OBJECT.equals(nodeType)) {
-                /*
-                 * Get fields from nested object
-                 * use the for table, list, chart and Select
-                 */
-                if (!dataFields.objectFields.isEmpty()) {
-                    String nestedFieldName = dataFields.getObjectFields().get(0);
-                    if (node.get(nestedFieldName).size() != 0) {
-                        dataFields = collectFieldsFromData(
-                                node.get(nestedFieldName).get(0).fields());
-                        widgetTypeList = getWidgetsForTypeNestedObject(
-                                nestedFieldName, dataFields.getFields(), dataFields.getNumericFields());
-                    }
-                }
-            } else if (JsonNodeType.NUMBER.equals(nodeType)) {
-                widgetTypeList = getWidgetsForTypeNumber();
-            }
-        } else if (node.isArray() || node.isNumber() || node.isTextual()) {
-            DataFields dataFields = collectFieldsFromData(node.fields());
-            widgetTypeList = getWidgetsForTypeString(dataFields.getFields(), 0);
+    private static List<WidgetSuggestionDTO> handleJsonObject(ResultShape shape) {
+        /*
+         * Get fields from nested object
+         * use the for table, list, chart and Select
+         */
+        if (shape.getNestedArrayField() != null && shape.getNestedRowCount() != 0) {
+            return getWidgetsForTypeNestedObject(
+                    shape.getNestedArrayField(), shape.getNestedFields(), shape.getNestedNumericFields());
         }
-        return widgetTypeList;
+        return new ArrayList<>();
     }
 
-    private static List<WidgetSuggestionDTO> handleList(List dataList) {
-        if (dataList.get(0) instanceof Map) {
-            Map map = (Map) dataList.get(0);
-            Set fieldList = map.keySet();
-            List<String> fields = new ArrayList<>();
-            List<String> numericFields = new ArrayList<>();
-
-            // Get all the fields from the object and check for the possible widget match
-            for (Object key : fieldList) {
-                if (map.get(key) instanceof String) {
-                    fields.add(((String) key));
-                }
-                if (map.get(key) instanceof Number) {
-                    numericFields.add(((String) key));
-                }
-            }
-            return getWidgetsForTypeArray(fields, numericFields);
+    private static List<WidgetSuggestionDTO> handleList(ResultShape shape) {
+        if (shape.getRowCount() == 0) {
+            return new ArrayList<>();
         }
-        return List.of(getWidget(WidgetType.TABLE_WIDGET_V2));
-    }
-
-    /*
-     * We support only TEXT, CHART, DROPDOWN, TABLE, INPUT widgets as part of the suggestion
-     * We need string and number type fields to construct the query which will bind data to the above widgets
-     */
-    private static DataFields collectFieldsFromData(Iterator<Map.Entry<String, JsonNode>> jsonFields) {
-        DataFields dataFields = new DataFields();
-        List<String> fields = new ArrayList<>();
-        List<String> numericFields = new ArrayList<>();
-        List<String> objectFields = new ArrayList<>();
-        while (jsonFields.hasNext()) {
-            Map.Entry<String, JsonNode> jsonField = jsonFields.next();
-            if (JsonNodeType.STRING.equals(jsonField.getValue().getNodeType())) {
-                fields.add(jsonField.getKey());
-            }
-            if (JsonNodeType.NUMBER.equals(jsonField.getValue().getNodeType())) {
-                numericFields.add(jsonField.getKey());
-            }
-
-            if (JsonNodeType.ARRAY.equals(jsonField.getValue().getNodeType())) {
-                objectFields.add(jsonField.getKey());
-            }
+        if (JsonNodeType.OBJECT.equals(shape.getFirstRowType())) {
+            // Fields of the first object, to check for the possible widget match
+            return getWidgetsForTypeArray(shape.getFields(), shape.getNumericFields());
         }
-        dataFields.setFields(fields);
-        dataFields.setNumericFields(numericFields);
-        dataFields.setObjectFields(objectFields);
-        return dataFields;
+        return List.of(getWidget(WidgetType.TABLE_WIDGET_V2));
     }
 
     private static List<WidgetSuggestionDTO> getWidgetsForTypeString(List<String> fields, int length) {
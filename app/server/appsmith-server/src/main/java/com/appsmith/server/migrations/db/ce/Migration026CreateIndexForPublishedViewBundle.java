@@ -0,0 +1,34 @@
+package com.appsmith.server.migrations.db.ce;
+
+import com.appsmith.server.domains.PublishedViewBundle;
+import com.appsmith.server.domains.QPublishedViewBundle;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+import static com.appsmith.server.migrations.DatabaseChangelog1.ensureIndexes;
+import static com.appsmith.server.migrations.DatabaseChangelog1.makeIndex;
+import static com.appsmith.server.repositories.ce.BaseAppsmithRepositoryCEImpl.fieldName;
+
+@ChangeUnit(order = "026", id = "create-index-for-published-view-bundle-collection")
+public class Migration026CreateIndexForPublishedViewBundle {
+    private final MongoTemplate mongoTemplate;
+
+    public Migration026CreateIndexForPublishedViewBundle(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @RollbackExecution
+    public void rollbackExecution() {}
+
+    @Execution
+    public void addIndexOnApplicationId() {
+        Index applicationIdUniqueIndex = makeIndex(fieldName(QPublishedViewBundle.publishedViewBundle.applicationId))
+                .named("applicationId_unique_index")
+                .unique();
+
+        ensureIndexes(mongoTemplate, PublishedViewBundle.class, applicationIdUniqueIndex);
+    }
+}
@@ -72,6 +72,10 @@ public interface NewActionServiceCE extends CrudService<NewAction, String> {
 
     Flux<ActionViewDTO> getActionsForViewMode(String defaultApplicationId, String branchName);
 
+    Flux<NewAction> findPublishedActionsForViewMode(String applicationId, Optional<AclPermission> permission);
+
+    ActionViewDTO generateActionViewDTO(NewAction action);
+
     Mono<ActionDTO> deleteUnpublishedAction(String id);
 
     Flux<ActionDTO> getUnpublishedActions(MultiValueMap<String, String> params, Boolean includeJsActions);
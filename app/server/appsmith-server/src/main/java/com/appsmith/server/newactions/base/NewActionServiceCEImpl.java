@@ -760,46 +760,50 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
             return Flux.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.APPLICATION_ID));
         }
 
-        // fetch the published actions by applicationId
-        // No need to sort the results
-        return findAllByApplicationIdAndViewMode(applicationId, true, actionPermission.getExecutePermission(), null)
+        // fetch only the fields of the published actions that are needed to build their view DTOs
+        return findPublishedActionsForViewMode(applicationId, Optional.of(actionPermission.getExecutePermission()))
                 .filter(newAction -> !PluginType.JS.equals(newAction.getPluginType()))
-                .map(action -> {
-                    ActionViewDTO actionViewDTO = new ActionViewDTO();
-                    actionViewDTO.setId(action.getDefaultResources().getActionId());
-                    actionViewDTO.setName(action.getPublishedAction().getValidName());
-                    actionViewDTO.setPageId(action.getPublishedAction().getPageId());
-                    actionViewDTO.setConfirmBeforeExecute(
-                            action.getPublishedAction().getConfirmBeforeExecute());
-                    // Update defaultResources
-                    DefaultResources defaults = action.getDefaultResources();
-                    // Consider a situation when action is not published but user is viewing in deployed mode
-                    if (action.getPublishedAction().getDefaultResources() != null) {
-                        defaults.setPageId(action.getPublishedAction()
-                                .getDefaultResources()
-                                .getPageId());
-                        defaults.setCollectionId(action.getPublishedAction()
-                                .getDefaultResources()
-                                .getCollectionId());
-                    } else {
-                        defaults.setPageId(null);
-                        defaults.setCollectionId(null);
-                    }
-                    actionViewDTO.setDefaultResources(defaults);
-                    if (action.getPublishedAction().getJsonPathKeys() != null
-                            && !action.getPublishedAction().getJsonPathKeys().isEmpty()) {
-                        Set<String> jsonPathKeys;
-                        jsonPathKeys = new HashSet<>();
-                        jsonPathKeys.addAll(action.getPublishedAction().getJsonPathKeys());
-                        actionViewDTO.setJsonPathKeys(jsonPathKeys);
-                    }
-                    if (action.getPublishedAction().getActionConfiguration() != null) {
-                        actionViewDTO.setTimeoutInMillisecond(action.getPublishedAction()
-                                .getActionConfiguration()
-                                .getTimeoutInMillisecond());
-                    }
-                    return actionViewDTO;
-                });
+                .map(this::generateActionViewDTO);
+    }
+
+    @Override
+    public Flux<NewAction> findPublishedActionsForViewMode(String applicationId, Optional<AclPermission> permission) {
+        return repository
+                .findPublishedActionsForViewMode(applicationId, permission)
+                .flatMap(this::sanitizeAction);
+    }
+
+    @Override
+    public ActionViewDTO generateActionViewDTO(NewAction action) {
+        ActionViewDTO actionViewDTO = new ActionViewDTO();
+        actionViewDTO.setId(action.getDefaultResources().getActionId());
+        actionViewDTO.setName(action.getPublishedAction().getValidName());
+        actionViewDTO.setPageId(action.getPublishedAction().getPageId());
+        actionViewDTO.setConfirmBeforeExecute(action.getPublishedAction().getConfirmBeforeExecute());
+        // Update defaultResources
+        DefaultResources defaults = action.getDefaultResources();
+        // Consider a situation when action is not published but user is viewing in deployed mode
+        if (action.getPublishedAction().getDefaultResources() != null) {
+            defaults.setPageId(action.getPublishedAction().getDefaultResources().getPageId());
+            defaults.setCollectionId(
+                    action.getPublishedAction().getDefaultResources().getCollectionId());
+        } else {
+            defaults.setPageId(null);
+            defaults.setCollectionId(null);
+        }
+        actionViewDTO.setDefaultResources(defaults);
+        if (action.getPublishedAction().getJsonPathKeys() != null
+                && !action.getPublishedAction().getJsonPathKeys().isEmpty()) {
+            Set<String> jsonPathKeys;
+            jsonPathKeys = new HashSet<>();
+            jsonPathKeys.addAll(action.getPublishedAction().getJsonPathKeys());
+            actionViewDTO.setJsonPathKeys(jsonPathKeys);
+        }
+        if (action.getPublishedAction().getActionConfiguration() != null) {
+            actionViewDTO.setTimeoutInMillisecond(
+                    action.getPublishedAction().getActionConfiguration().getTimeoutInMillisecond());
+        }
+        return actionViewDTO;
     }
 
     @Override
@@ -0,0 +1,181 @@
+package com.appsmith.server.ratelimiting;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.server.configurations.ActionExecutionGovernorConfig;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.constants.RateLimitConstants;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Admission control for action executions. Every datasource, and every workspace, may only have a limited number of
+ * actions executing at the same time on a node, with a limited number more waiting for their turn, and may optionally
+ * only execute a limited number of actions per second across all the nodes. Executions over these limits are rejected
+ * straight away with a `TOO_MANY_ACTION_EXECUTIONS` error, instead of piling up on the datasource.
+ *
+ * The limits per second are kept in Redis by {@link RateLimitService}. Every node leases a tenth of a second's worth of
+ * tokens at a time, so that hot datasources don't need a round-trip to Redis for every execution.
+ */
+@Slf4j
+@Component
+public class ActionExecutionGovernor {
+
+    private static final String SHED_EXECUTIONS_METRIC = "appsmith.action.execution.shed";
+
+    private final ActionExecutionGovernorConfig config;
+
+    private final RateLimitService rateLimitService;
+
+    private final MeterRegistry meterRegistry;
+
+    // Limiters of the datasources and workspaces with executions running or queued. A limiter is dropped as soon as
+    // its last execution is done, and never while an execution holds or waits for one of its slots.
+    private final Map<String, ExecutionLimiter> datasourceLimiters = new ConcurrentHashMap<>();
+
+    private final Map<String, ExecutionLimiter> workspaceLimiters = new ConcurrentHashMap<>();
+
+    public ActionExecutionGovernor(
+            ActionExecutionGovernorConfig config,
+            RateLimitConfig rateLimitConfig,
+            RateLimitService rateLimitService,
+            MeterRegistry meterRegistry) {
+        this.config = config;
+        this.rateLimitService = rateLimitService;
+        this.meterRegistry = meterRegistry;
+
+        addRateLimit(
+                rateLimitConfig,
+                RateLimitConstants.BUCKET_KEY_FOR_DATASOURCE_ACTION_EXECUTIONS,
+                config.getMaxRequestsPerSecondPerDatasource());
+        addRateLimit(
+                rateLimitConfig,
+                RateLimitConstants.BUCKET_KEY_FOR_WORKSPACE_ACTION_EXECUTIONS,
+                config.getMaxRequestsPerSecondPerWorkspace());
+    }
+
+    private static void addRateLimit(RateLimitConfig rateLimitConfig, String apiIdentifier, int requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            return;
+        }
+
+        // Versioned by the limit, so that raising it applies to the buckets already in Redis
+        rateLimitConfig.addApiRateLimit(
+                apiIdentifier,
+                new RateLimitConfig.ApiRateLimit(
+                        RateLimitConfig.createBucketConfiguration(Duration.ofSeconds(1), requestsPerSecond),
+                        Math.max(1, requestsPerSecond / 10),
+                        (long) requestsPerSecond));
+    }
+
+    /**
+     * Executes an action within the limits of its datasource and workspace, and sets the time it waited for them on
+     * its result.
+     *
+     * @param datasourceId : null for actions without a saved datasource, only limited by their workspace
+     * @param workspaceId  : workspace of the action
+     * @param execution    : subscribed to once the action may be executed
+     */
+    public Mono<ActionExecutionResult> execute(
+            String datasourceId, String workspaceId, Supplier<Mono<ActionExecutionResult>> execution) {
+        return Mono.defer(() -> {
+            long queuedAt = System.nanoTime();
+            Supplier<Mono<ActionExecutionResult>> timedExecution = () -> {
+                long queueWaitTime =
+                        Duration.ofNanos(System.nanoTime() - queuedAt).toMillis();
+                return execution.get().doOnNext(result -> result.setQueueWaitTimeInMillisecond(queueWaitTime));
+            };
+
+            Supplier<Mono<ActionExecutionResult>> limitedExecution = limit(
+                    datasourceLimiters,
+                    FieldName.DATASOURCE,
+                    datasourceId,
+                    getDatasourceLimiter(),
+                    limit(workspaceLimiters, FieldName.WORKSPACE, workspaceId, getWorkspaceLimiter(), timedExecution));
+
+            return checkRate(
+                            RateLimitConstants.BUCKET_KEY_FOR_DATASOURCE_ACTION_EXECUTIONS,
+                            FieldName.DATASOURCE,
+                            datasourceId,
+                            config.getMaxRequestsPerSecondPerDatasource())
+                    .then(checkRate(
+                            RateLimitConstants.BUCKET_KEY_FOR_WORKSPACE_ACTION_EXECUTIONS,
+                            FieldName.WORKSPACE,
+                            workspaceId,
+                            config.getMaxRequestsPerSecondPerWorkspace()))
+                    .then(Mono.defer(limitedExecution));
+        });
+    }
+
+    private Supplier<ExecutionLimiter> getDatasourceLimiter() {
+        return () -> new ExecutionLimiter(config.getMaxInFlightPerDatasource(), config.getMaxQueuedPerDatasource());
+    }
+
+    private Supplier<ExecutionLimiter> getWorkspaceLimiter() {
+        return () -> new ExecutionLimiter(config.getMaxInFlightPerWorkspace(), config.getMaxQueuedPerWorkspace());
+    }
+
+    private Supplier<Mono<ActionExecutionResult>> limit(
+            Map<String, ExecutionLimiter> limiters,
+            String scope,
+            String id,
+            Supplier<ExecutionLimiter> limiterSupplier,
+            Supplier<Mono<ActionExecutionResult>> execution) {
+        if (id == null) {
+            return execution;
+        }
+
+        return () -> limiters.compute(id, (key, limiter) -> (limiter == null ? limiterSupplier.get() : limiter).hold())
+                .run(
+                        execution,
+                        () -> {
+                            log.debug(
+                                    "Shedding an action execution of {} {}, too many executions are queued", scope, id);
+                            return rejection(scope, "queue_full");
+                        },
+                        () -> limiters.computeIfPresent(id, (key, limiter) -> limiter.unhold() ? null : limiter));
+    }
+
+    /**
+     * @return the number of datasources and workspaces with executions running or queued
+     */
+    int getLimiterCount() {
+        return datasourceLimiters.size() + workspaceLimiters.size();
+    }
+
+    private Mono<Void> checkRate(String apiIdentifier, String scope, String id, int requestsPerSecond) {
+        if (id == null || requestsPerSecond <= 0) {
+            return Mono.empty();
+        }
+
+        return rateLimitService
+                .tryIncreaseCounter(apiIdentifier, id)
+                .onErrorResume(error -> {
+                    // Executions aren't stopped when Redis can't be reached, only their rate isn't limited
+                    log.warn("Error checking the action execution rate of {} {}", scope, id, error);
+                    return Mono.just(true);
+                })
+                .flatMap(isWithinLimit -> {
+                    if (Boolean.TRUE.equals(isWithinLimit)) {
+                        return Mono.empty();
+                    }
+                    log.debug("Shedding an action execution of {} {}, too many executions per second", scope, id);
+                    return Mono.error(rejection(scope, "rate_limit"));
+                });
+    }
+
+    private AppsmithException rejection(String scope, String reason) {
+        meterRegistry
+                .counter(SHED_EXECUTIONS_METRIC, "scope", scope, "reason", reason)
+                .increment();
+        return new AppsmithException(AppsmithError.TOO_MANY_ACTION_EXECUTIONS, scope);
+    }
+}
@@ -0,0 +1,132 @@
+package com.appsmith.server.ratelimiting;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of executions running at the same time. Executions over the limit wait in a bounded queue, in the
+ * order they arrived, and are rejected once the queue is full. Waiting never blocks a thread.
+ */
+class ExecutionLimiter {
+
+    private final int maxInFlight;
+
+    private final int maxQueued;
+
+    private int inFlight;
+
+    private final Queue<Slot> queue = new ArrayDeque<>();
+
+    // Number of executions between being handed the limiter and being done with it, so that the limiter is only
+    // dropped once none of them are left. Only changed within the compute methods of the map holding the limiter.
+    private int holders;
+
+    ExecutionLimiter(int maxInFlight, int maxQueued) {
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+    }
+
+    private static class Slot {
+        private final Sinks.One<Boolean> sink = Sinks.one();
+
+        // Guarded by the limiter, set once the slot counts towards the executions in flight
+        private boolean granted;
+    }
+
+    /**
+     * Counts one more execution using the limiter.
+     *
+     * @return this limiter
+     */
+    ExecutionLimiter hold() {
+        holders++;
+        return this;
+    }
+
+    /**
+     * Counts one less execution using the limiter.
+     *
+     * @return true if no execution uses the limiter anymore, so that it can be dropped
+     */
+    boolean unhold() {
+        return --holders == 0;
+    }
+
+    /**
+     * Runs the execution once there's room for it.
+     *
+     * @param execution : subscribed to once the execution has a slot, which it keeps until it terminates or is cancelled
+     * @param rejection : error the execution fails with when the queue is full
+     * @param onDone    : run once the execution no longer has nor waits for a slot, or has been rejected
+     */
+    <T> Mono<T> run(Supplier<Mono<T>> execution, Supplier<? extends Throwable> rejection, Runnable onDone) {
+        return Mono.defer(() -> {
+            Slot slot = new Slot();
+            boolean queued = false;
+            boolean rejected = false;
+            synchronized (this) {
+                if (inFlight < maxInFlight) {
+                    inFlight++;
+                    slot.granted = true;
+                } else if (queue.size() < maxQueued) {
+                    queue.add(slot);
+                    queued = true;
+                } else {
+                    rejected = true;
+                }
+            }
+
+            if (rejected) {
+                onDone.run();
+                return Mono.error(rejection.get());
+            }
+
+            Mono<T> executionMono = Mono.defer(execution);
+            if (queued) {
+                // Not run on the thread of the execution that handed over its slot, which is still completing
+                executionMono =
+                        slot.sink.asMono().publishOn(Schedulers.parallel()).then(executionMono);
+            }
+
+            // Runs exactly once, whether the execution was waiting, running or already done
+            return executionMono.doFinally(signalType -> {
+                release(slot);
+                onDone.run();
+            });
+        });
+    }
+
+    private void release(Slot slot) {
+        Slot next;
+        synchronized (this) {
+            if (!slot.granted) {
+                // Cancelled while it was waiting
+                queue.remove(slot);
+                return;
+            }
+
+            next = queue.poll();
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+            // The slot is handed over to the next execution, the number in flight stays the same
+            next.granted = true;
+        }
+
+        next.sink.tryEmitValue(true);
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    synchronized int getQueued() {
+        return queue.size();
+    }
+}
@@ -1,11 +1,18 @@
 package com.appsmith.server.ratelimiting;
 
 import com.appsmith.server.constants.RateLimitConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
-import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.TokensInheritanceStrategy;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
 import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.AsyncProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteAsyncBucketBuilder;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.RedisClient;
@@ -15,24 +22,63 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Configuration
 public class RateLimitConfig {
-    private static final Map<String, BucketConfiguration> apiConfigurations = new HashMap<>();
+    private static final Map<String, ApiRateLimit> apiConfigurations = new ConcurrentHashMap<>();
+
+    // Bucket proxies are kept while they are in use, so that the tokens a proxy has leased are spent before it's
+    // dropped
+    private static final Duration BUCKET_PROXY_EXPIRATION = Duration.ofMinutes(10);
+
+    private static final long MAX_CACHED_BUCKET_PROXIES = 10_000;
+
+    // Time a refilled bucket of a short-lived limit is kept in Redis before it expires. A bucket that is full again
+    // holds nothing a new bucket wouldn't, so it is only kept long enough to not be recreated on every request.
+    private static final Duration REFILLED_BUCKET_EXPIRATION = Duration.ofMinutes(1);
 
     @Autowired
     private final AbstractRedisClient redisClient;
 
+    private final Cache<String, AsyncBucketProxy> bucketProxies = Caffeine.newBuilder()
+            .expireAfterAccess(BUCKET_PROXY_EXPIRATION)
+            .maximumSize(MAX_CACHED_BUCKET_PROXIES)
+            .build();
+
+    // Manages the buckets of the limits with a configuration version, which expire once they are refilled
+    private final AsyncProxyManager<byte[]> refillingAsyncProxyManager;
+
     public RateLimitConfig(AbstractRedisClient redisClient) {
         this.redisClient = redisClient;
+        this.refillingAsyncProxyManager = createProxyManager(
+                        ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(REFILLED_BUCKET_EXPIRATION))
+                .asAsync();
+    }
+
+    /**
+     * Rate limit of an API.
+     *
+     * @param configuration : bucket configuration, shared by all the nodes through Redis
+     * @param leaseSize     : number of tokens a node may consume locally before synchronising with Redis, 1 for every
+     *                      request to be checked against Redis. Larger leases save Redis round-trips on hot buckets, at
+     *                      the cost of letting every node go over the limit by up to that many tokens.
+     * @param configurationVersion : null for buckets that keep the configuration they were created with for as long as
+     *                      they exist, e.g. the login limit. Otherwise, derived from the configuration: existing buckets
+     *                      of a lower version take the configuration on their next use, keeping their tokens in
+     *                      proportion, and the buckets expire once they are refilled instead of staying in Redis.
+     */
+    public record ApiRateLimit(BucketConfiguration configuration, long leaseSize, Long configurationVersion) {
+        public ApiRateLimit(BucketConfiguration configuration, long leaseSize) {
+            this(configuration, leaseSize, null);
+        }
     }
 
     static {
         apiConfigurations.put(
-                RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API, createBucketConfiguration(Duration.ofDays(1), 5));
+                RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API,
+                new ApiRateLimit(createBucketConfiguration(Duration.ofDays(1), 5), 1));
         // Add more API configurations as needed
     }
 
@@ -45,38 +91,72 @@ public class RateLimitConfig {
         */
         Duration longExpiration = Duration.ofDays(3650); // 10 years
 
+        return createProxyManager(ExpirationAfterWriteStrategy.fixedTimeToLive(longExpiration));
+    }
+
+    private LettuceBasedProxyManager<byte[]> createProxyManager(ExpirationAfterWriteStrategy expirationStrategy) {
         if (redisClient instanceof RedisClusterClient) {
             return LettuceBasedProxyManager.builderFor((RedisClusterClient) redisClient)
-                    .withExpirationStrategy(ExpirationAfterWriteStrategy.fixedTimeToLive(longExpiration))
+                    .withExpirationStrategy(expirationStrategy)
                     .build();
         }
 
         return LettuceBasedProxyManager.builderFor((RedisClient) redisClient)
-                .withExpirationStrategy(ExpirationAfterWriteStrategy.fixedTimeToLive(longExpiration))
+                .withExpirationStrategy(expirationStrategy)
                 .build();
     }
 
     @Bean
-    public Map<String, BucketProxy> apiBuckets() {
-        Map<String, BucketProxy> apiBuckets = new HashMap<>();
+    public AsyncProxyManager<byte[]> asyncProxyManager() {
+        return proxyManager().asAsync();
+    }
 
-        apiConfigurations.forEach((apiIdentifier, configuration) ->
-                apiBuckets.put(apiIdentifier, proxyManager().builder().build(apiIdentifier.getBytes(), configuration)));
+    /**
+     * Rate limits an API whose limit is only known at runtime, e.g. from the configuration of the instance.
+     */
+    public void addApiRateLimit(String apiIdentifier, ApiRateLimit apiRateLimit) {
+        apiConfigurations.put(apiIdentifier, apiRateLimit);
+    }
 
-        return apiBuckets;
+    public boolean isRateLimited(String apiIdentifier) {
+        return apiConfigurations.containsKey(apiIdentifier);
     }
 
-    public BucketProxy getOrCreateAPIUserSpecificBucket(String apiIdentifier, String userId) {
+    /**
+     * Returns the bucket of the given API and user. The bucket is created in Redis with the configuration of the API
+     * the first time tokens are consumed from it, and keeps that configuration afterwards unless the API has a higher
+     * configuration version. Unlike looking up the configuration of the bucket first, this doesn't need a round-trip to
+     * Redis.
+     */
+    public AsyncBucketProxy getOrCreateAPIUserSpecificBucket(String apiIdentifier, String userId) {
         String bucketIdentifier = apiIdentifier + userId;
-        Optional<BucketConfiguration> bucketProxy = proxyManager().getProxyConfiguration(bucketIdentifier.getBytes());
-        if (bucketProxy.isPresent()) {
-            return proxyManager().builder().build(bucketIdentifier.getBytes(), bucketProxy.get());
-        }
+        return bucketProxies.get(bucketIdentifier, key -> {
+            ApiRateLimit apiRateLimit = apiConfigurations.get(apiIdentifier);
+            RemoteAsyncBucketBuilder<byte[]> bucketBuilder;
+            if (apiRateLimit.configurationVersion() == null) {
+                bucketBuilder = asyncProxyManager().builder();
+            } else {
+                bucketBuilder = refillingAsyncProxyManager
+                        .builder()
+                        .withImplicitConfigurationReplacement(
+                                apiRateLimit.configurationVersion(), TokensInheritanceStrategy.PROPORTIONALLY);
+            }
+            if (apiRateLimit.leaseSize() > 1) {
+                bucketBuilder = bucketBuilder.withOptimization(Optimizations.delaying(
+                        new DelayParameters(apiRateLimit.leaseSize(), getMaxLeaseDuration(apiRateLimit))));
+            }
+            return bucketBuilder.build(key.getBytes(), apiRateLimit.configuration());
+        });
+    }
 
-        return proxyManager().builder().build(bucketIdentifier.getBytes(), apiConfigurations.get(apiIdentifier));
+    // Tokens that have been leased are synchronised with Redis at the latest after the time it takes to refill them
+    private static Duration getMaxLeaseDuration(ApiRateLimit apiRateLimit) {
+        Bandwidth bandwidth = apiRateLimit.configuration().getBandwidths()[0];
+        return Duration.ofNanos(
+                bandwidth.getRefillPeriodNanos() / bandwidth.getRefillTokens() * apiRateLimit.leaseSize());
     }
 
-    private static BucketConfiguration createBucketConfiguration(Duration refillDuration, int limit) {
+    static BucketConfiguration createBucketConfiguration(Duration refillDuration, int limit) {
         Refill refillConfig = Refill.intervally(limit, refillDuration);
         Bandwidth limitConfig = Bandwidth.classic(limit, refillConfig);
         return BucketConfiguration.builder().addLimit(limitConfig).build();
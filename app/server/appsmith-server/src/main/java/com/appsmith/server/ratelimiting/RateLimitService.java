@@ -1,45 +1,60 @@
 package com.appsmith.server.ratelimiting;
 
-import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
-import java.util.Map;
-
 @Slf4j
 @Service
 public class RateLimitService {
 
-    private final Map<String, BucketProxy> apiBuckets;
     private final RateLimitConfig rateLimitConfig;
     // this number of tokens var can later be customised per API in the configuration.
     private final Integer DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST = 1;
 
-    public RateLimitService(Map<String, BucketProxy> apiBuckets, RateLimitConfig rateLimitConfig) {
-        this.apiBuckets = apiBuckets;
+    public RateLimitService(RateLimitConfig rateLimitConfig) {
         this.rateLimitConfig = rateLimitConfig;
     }
 
+    /**
+     * Consumes a token from the bucket of the given API and user. The bucket is only read and updated in Redis
+     * asynchronously, the calling thread is never blocked.
+     *
+     * @return true if the request is within the rate limit
+     */
     public Mono<Boolean> tryIncreaseCounter(String apiIdentifier, String userIdentifier) {
         log.debug(
                 "RateLimitService.tryIncreaseCounter() called with apiIdentifier = {}, userIdentifier = {}",
                 apiIdentifier,
                 userIdentifier);
         // handle the case where API itself is not rate limited
-        log.debug(
-                apiBuckets.containsKey(apiIdentifier) ? "apiBuckets contains key" : "apiBuckets does not contain key");
-        if (!apiBuckets.containsKey(apiIdentifier)) return Mono.just(false);
-
-        BucketProxy userSpecificBucket =
-                rateLimitConfig.getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier);
-        log.debug("userSpecificBucket = {}", userSpecificBucket);
-        return Mono.just(userSpecificBucket.tryConsume(DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST));
+        if (!rateLimitConfig.isRateLimited(apiIdentifier)) {
+            log.debug("API {} is not rate limited", apiIdentifier);
+            return Mono.just(false);
+        }
+
+        return Mono.defer(() -> {
+            AsyncBucketProxy userSpecificBucket =
+                    rateLimitConfig.getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier);
+            return Mono.fromFuture(userSpecificBucket.tryConsume(DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST));
+        });
     }
 
+    /**
+     * Refills the bucket of the given API and user. The reset is sent to Redis in the background.
+     */
     public void resetCounter(String apiIdentifier, String userIdentifier) {
+        if (!rateLimitConfig.isRateLimited(apiIdentifier)) {
+            return;
+        }
+
         rateLimitConfig
                 .getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier)
-                .reset();
+                .reset()
+                .exceptionally(error -> {
+                    log.error("Error resetting the rate limit of API {}", apiIdentifier, error);
+                    return null;
+                });
     }
 }
@@ -1,18 +1,30 @@
 package com.appsmith.server.ratelimiting.aspects;
 
+import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ExchangeUtils;
 import com.appsmith.server.ratelimiting.RateLimitService;
 import com.appsmith.server.ratelimiting.annotations.*;
 import com.appsmith.server.services.SessionUserService;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.reactivestreams.Publisher;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Rate limits the endpoints annotated with {@link RateLimit}, per user, and per client IP address for anonymous
+ * requests. The rate limit is checked when the response of the endpoint is subscribed to, without blocking the calling
+ * thread, and the endpoint is only invoked if the request is within the limit. Requests over the limit of endpoints
+ * returning a Mono get a `ResponseDTO` with the `TOO_MANY_REQUESTS` status, as before. Endpoints returning a Flux can't
+ * reply with a single `ResponseDTO`, they fail with the `TOO_MANY_REQUESTS` error instead.
+ */
 @Aspect
 @Component
 public class RateLimitAspect {
@@ -27,25 +39,52 @@ public class RateLimitAspect {
     @Around(value = "@annotation(rateLimit)")
     public Object applyRateLimit(ProceedingJoinPoint joinPoint, RateLimit rateLimit) throws Throwable {
         String apiIdentifier = rateLimit.api();
-        Mono<User> loggedInUser = sessionUserService.getCurrentUser();
-        Mono<String> userIdentifier = loggedInUser.map(User::getEmail);
+        Mono<Boolean> isAllowedMono = getRequesterIdentifier()
+                .flatMap(requester -> rateLimitService.tryIncreaseCounter(apiIdentifier, requester));
 
-        return userIdentifier.flatMap(email -> {
-            Mono<Boolean> isAllowedMono = rateLimitService.tryIncreaseCounter(apiIdentifier, email);
-            return isAllowedMono.flatMap(isAllowed -> {
+        if (Flux.class.isAssignableFrom(getReturnType(joinPoint))) {
+            return isAllowedMono.flatMapMany(isAllowed -> {
                 if (!isAllowed) {
-                    AppsmithException exception = new AppsmithException(AppsmithError.TOO_MANY_REQUESTS);
-                    return Mono.just(new ResponseDTO<>(exception.getHttpStatus(), exception.getMessage(), null));
-                }
-
-                try {
-                    Object result = joinPoint.proceed();
-                    return result instanceof Mono ? (Mono) result : Mono.just(result);
-                } catch (Throwable e) {
-                    AppsmithError error = AppsmithError.INTERNAL_SERVER_ERROR;
-                    throw new AppsmithException(error, e.getMessage());
+                    return Flux.error(new AppsmithException(AppsmithError.TOO_MANY_REQUESTS));
                 }
+                return Flux.defer(() -> (Publisher<?>) proceed(joinPoint));
             });
+        }
+
+        return isAllowedMono.flatMap(isAllowed -> {
+            if (!isAllowed) {
+                AppsmithException exception = new AppsmithException(AppsmithError.TOO_MANY_REQUESTS);
+                return Mono.just(new ResponseDTO<>(exception.getHttpStatus(), exception.getMessage(), null));
+            }
+            Object result = proceed(joinPoint);
+            return result instanceof Mono ? (Mono<?>) result : Mono.justOrEmpty(result);
         });
     }
+
+    /**
+     * Identifies who the request is counted against: the email of the logged-in user, or the IP address of the client
+     * for anonymous requests. Requests with neither share the limit of the anonymous user.
+     */
+    private Mono<String> getRequesterIdentifier() {
+        return sessionUserService
+                .getCurrentUser()
+                .filter(user -> !user.isAnonymous() && !FieldName.ANONYMOUS_USER.equals(user.getEmail()))
+                .map(User::getEmail)
+                .switchIfEmpty(Mono.defer(
+                        () -> ExchangeUtils.getClientIpFromCurrentRequest().map(clientIp -> "ip:" + clientIp)))
+                .defaultIfEmpty(FieldName.ANONYMOUS_USER);
+    }
+
+    private static Class<?> getReturnType(ProceedingJoinPoint joinPoint) {
+        return ((MethodSignature) joinPoint.getSignature()).getReturnType();
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            AppsmithError error = AppsmithError.INTERNAL_SERVER_ERROR;
+            throw new AppsmithException(error, e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,7 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.PublishedViewBundleRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PublishedViewBundleRepository extends PublishedViewBundleRepositoryCE {}
@@ -2,6 +2,7 @@ package com.appsmith.server.repositories.ce;
 
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
+import com.appsmith.caching.codec.SmileCacheCodec;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Config;
 import com.appsmith.server.domains.PermissionGroup;
@@ -45,7 +46,11 @@ public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelpe
         anonymousUserPermissionGroupIds = null;
     }
 
-    @Cache(cacheName = "permissionGroupsForUser", key = "{#user.email + #user.tenantId}")
+    @Cache(
+            cacheName = "permissionGroupsForUser",
+            key = "{#user.email + #user.tenantId}",
+            codec = SmileCacheCodec.class,
+            ttl = "1d")
     @Override
     public Mono<Set<String>> getPermissionGroupsOfUser(User user) {
 
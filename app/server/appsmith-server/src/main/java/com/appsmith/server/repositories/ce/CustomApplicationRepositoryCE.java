@@ -9,6 +9,7 @@ import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -63,6 +64,8 @@ public interface CustomApplicationRepositoryCE extends AppsmithRepository<Applic
     Mono<UpdateResult> setAppTheme(
             String applicationId, String editModeThemeId, String publishedModeThemeId, AclPermission aclPermission);
 
+    Mono<UpdateResult> setLastDeployedAt(String applicationId, Instant lastDeployedAt, AclPermission aclPermission);
+
     Mono<Long> countByWorkspaceId(String workspaceId);
 
     Mono<Long> getGitConnectedApplicationWithPrivateRepoCount(String workspaceId);
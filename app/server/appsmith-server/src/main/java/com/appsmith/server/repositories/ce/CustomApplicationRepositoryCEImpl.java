@@ -305,6 +305,13 @@ public class CustomApplicationRepositoryCEImpl extends BaseAppsmithRepositoryImp
         return this.updateById(applicationId, updateObj, aclPermission);
     }
 
+    @Override
+    public Mono<UpdateResult> setLastDeployedAt(
+            String applicationId, Instant lastDeployedAt, AclPermission aclPermission) {
+        Update updateObj = new Update().set(fieldName(QApplication.application.lastDeployedAt), lastDeployedAt);
+        return this.updateById(applicationId, updateObj, aclPermission);
+    }
+
     @Override
     public Mono<UpdateResult> updateFieldByDefaultIdAndBranchName(
             String defaultId,
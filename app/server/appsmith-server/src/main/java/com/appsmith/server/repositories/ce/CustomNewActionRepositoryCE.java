@@ -84,4 +84,6 @@ public interface CustomNewActionRepositoryCE extends AppsmithRepository<NewActio
     Flux<PluginTypeAndCountDTO> countActionsByPluginType(String applicationId);
 
     Flux<NewAction> findAllByApplicationIdsWithoutPermission(List<String> applicationIds, List<String> includeFields);
+
+    Flux<NewAction> findPublishedActionsForViewMode(String applicationId, Optional<AclPermission> aclPermission);
 }
@@ -3,6 +3,7 @@ package com.appsmith.server.repositories.ce;
 import com.appsmith.external.models.PluginType;
 import com.appsmith.external.models.QActionConfiguration;
 import com.appsmith.external.models.QBranchAwareDomain;
+import com.appsmith.external.models.QDatasource;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.NewAction;
@@ -643,4 +644,49 @@ public class CustomNewActionRepositoryCEImpl extends BaseAppsmithRepositoryImpl<
         Criteria applicationCriteria = Criteria.where(FieldName.APPLICATION_ID).in(applicationIds);
         return queryAll(List.of(applicationCriteria), includeFields, null, null, NO_RECORD_LIMIT);
     }
+
+    /**
+     * Fetches the published actions of an application with only the fields needed to run them in view mode, i.e. to
+     * build their ActionViewDTOs. The action configuration and the unpublished action are left out, apart from the
+     * fields used to fill in a missing plugin id or type.
+     */
+    @Override
+    public Flux<NewAction> findPublishedActionsForViewMode(
+            String applicationId, Optional<AclPermission> aclPermission) {
+        Criteria applicationCriteria =
+                where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        String publishedAction = fieldName(QNewAction.newAction.publishedAction) + ".";
+        Criteria publishedCriteria =
+                where(fieldName(QNewAction.newAction.publishedAction)).ne(null);
+
+        String unpublishedAction = fieldName(QNewAction.newAction.unpublishedAction) + ".";
+        List<String> includeFields = List.of(
+                fieldName(QNewAction.newAction.id),
+                fieldName(QNewAction.newAction.applicationId),
+                fieldName(QNewAction.newAction.pluginType),
+                fieldName(QNewAction.newAction.pluginId),
+                fieldName(QNewAction.newAction.defaultResources),
+                fieldName(QNewAction.newAction.policies),
+                publishedAction + fieldName(QNewAction.newAction.publishedAction.name),
+                publishedAction + fieldName(QNewAction.newAction.publishedAction.fullyQualifiedName),
+                publishedAction + fieldName(QNewAction.newAction.publishedAction.pageId),
+                publishedAction + fieldName(QNewAction.newAction.publishedAction.confirmBeforeExecute),
+                publishedAction + fieldName(QNewAction.newAction.publishedAction.defaultResources),
+                publishedAction + fieldName(QNewAction.newAction.publishedAction.jsonPathKeys),
+                publishedAction
+                        + fieldName(QNewAction.newAction.publishedAction.actionConfiguration)
+                        + "."
+                        + fieldName(QActionConfiguration.actionConfiguration.timeoutInMillisecond),
+                unpublishedAction + fieldName(QNewAction.newAction.unpublishedAction.collectionId),
+                unpublishedAction
+                        + fieldName(QNewAction.newAction.unpublishedAction.datasource)
+                        + "."
+                        + fieldName(QDatasource.datasource.pluginId));
+
+        return queryAll(
+                List.of(applicationCriteria, publishedCriteria),
+                Optional.of(includeFields),
+                aclPermission,
+                Optional.empty());
+    }
 }
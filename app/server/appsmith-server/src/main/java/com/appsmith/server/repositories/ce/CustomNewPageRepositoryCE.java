@@ -4,6 +4,7 @@ import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.repositories.AppsmithRepository;
 import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.InsertManyResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -43,8 +44,13 @@ public interface CustomNewPageRepositoryCE extends AppsmithRepository<NewPage> {
     Mono<NewPage> findByGitSyncIdAndDefaultApplicationId(
             String defaultApplicationId, String gitSyncId, Optional<AclPermission> permission);
 
+    Flux<NewPage> findByGitSyncIdsAndDefaultApplicationId(
+            String defaultApplicationId, Collection<String> gitSyncIds, Optional<AclPermission> permission);
+
     Mono<List<BulkWriteResult>> publishPages(Collection<String> pageIds, AclPermission permission);
 
+    Mono<List<InsertManyResult>> bulkInsert(List<NewPage> newPages);
+
     Mono<List<BulkWriteResult>> bulkUpdate(List<NewPage> newPages);
 
     Flux<NewPage> findAllByApplicationIdsWithoutPermission(List<String> applicationIds, List<String> includeFields);
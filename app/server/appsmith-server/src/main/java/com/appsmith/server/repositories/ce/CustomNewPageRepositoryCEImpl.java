@@ -12,6 +12,7 @@ import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.InsertManyResult;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -266,6 +267,16 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
         return queryFirst(List.of(defaultAppIdCriteria, gitSyncIdCriteria), permission);
     }
 
+    @Override
+    public Flux<NewPage> findByGitSyncIdsAndDefaultApplicationId(
+            String defaultApplicationId, Collection<String> gitSyncIds, Optional<AclPermission> permission) {
+        final String defaultResources = fieldName(QBranchAwareDomain.branchAwareDomain.defaultResources);
+        Criteria defaultAppIdCriteria =
+                where(defaultResources + "." + FieldName.APPLICATION_ID).is(defaultApplicationId);
+        Criteria gitSyncIdsCriteria = where(FieldName.GIT_SYNC_ID).in(gitSyncIds);
+        return queryAll(List.of(defaultAppIdCriteria, gitSyncIdsCriteria), permission);
+    }
+
     @Override
     public Mono<List<BulkWriteResult>> publishPages(Collection<String> pageIds, AclPermission permission) {
         Criteria applicationIdCriteria = where(fieldName(QNewPage.newPage.id)).in(pageIds);
@@ -295,6 +306,26 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
         });
     }
 
+    @Override
+    public Mono<List<InsertManyResult>> bulkInsert(List<NewPage> newPages) {
+        if (CollectionUtils.isEmpty(newPages)) {
+            return Mono.just(Collections.emptyList());
+        }
+        // convert the list of new pages to a list of DBObjects
+        List<Document> dbObjects = newPages.stream()
+                .map(newPage -> {
+                    Document document = new Document();
+                    mongoOperations.getConverter().write(newPage, document);
+                    return document;
+                })
+                .collect(Collectors.toList());
+
+        return mongoOperations
+                .getCollection(mongoOperations.getCollectionName(NewPage.class))
+                .flatMapMany(documentMongoCollection -> documentMongoCollection.insertMany(dbObjects))
+                .collectList();
+    }
+
     @Override
     public Mono<List<BulkWriteResult>> bulkUpdate(List<NewPage> newPages) {
         if (CollectionUtils.isEmpty(newPages)) {
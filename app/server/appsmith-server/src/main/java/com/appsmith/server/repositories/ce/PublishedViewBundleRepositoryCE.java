@@ -0,0 +1,11 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.PublishedViewBundle;
+import com.appsmith.server.repositories.BaseRepository;
+import reactor.core.publisher.Mono;
+
+public interface PublishedViewBundleRepositoryCE extends BaseRepository<PublishedViewBundle, String> {
+    Mono<PublishedViewBundle> findByApplicationId(String applicationId);
+
+    Mono<Void> deleteAllByApplicationId(String applicationId);
+}
@@ -49,7 +49,8 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
             NewActionRepository newActionRepository,
             NewPageRepository newPageRepository,
             DatasourceRepository datasourceRepository,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            PublishedViewBundleService publishedViewBundleService) {
 
         super(
                 workspaceService,
@@ -76,6 +77,7 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
                 newActionRepository,
                 newPageRepository,
                 datasourceRepository,
-                datasourcePermission);
+                datasourcePermission,
+                publishedViewBundleService);
     }
 }
@@ -0,0 +1,47 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.helpers.ResponseUtils;
+import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.PublishedViewBundleRepository;
+import com.appsmith.server.services.ce.PublishedViewBundleServiceCEImpl;
+import com.appsmith.server.solutions.ActionPermission;
+import com.appsmith.server.solutions.ApplicationPermission;
+import com.appsmith.server.solutions.PagePermission;
+import com.google.gson.Gson;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class PublishedViewBundleServiceImpl extends PublishedViewBundleServiceCEImpl
+        implements PublishedViewBundleService {
+
+    public PublishedViewBundleServiceImpl(
+            PublishedViewBundleRepository repository,
+            ApplicationService applicationService,
+            NewActionService newActionService,
+            NewPageRepository newPageRepository,
+            CustomJSLibService customJSLibService,
+            ThemeService themeService,
+            PermissionGroupService permissionGroupService,
+            ApplicationPermission applicationPermission,
+            PagePermission pagePermission,
+            ActionPermission actionPermission,
+            ResponseUtils responseUtils,
+            Gson gson) {
+        super(
+                repository,
+                applicationService,
+                newActionService,
+                newPageRepository,
+                customJSLibService,
+                themeService,
+                permissionGroupService,
+                applicationPermission,
+                pagePermission,
+                actionPermission,
+                responseUtils,
+                gson);
+    }
+}
@@ -49,6 +49,7 @@ import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.PermissionGroupService;
+import com.appsmith.server.services.PublishedViewBundleService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.ThemeService;
 import com.appsmith.server.services.WorkspaceService;
@@ -118,6 +119,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private final NewPageRepository newPageRepository;
     private final DatasourceRepository datasourceRepository;
     private final DatasourcePermission datasourcePermission;
+    private final PublishedViewBundleService publishedViewBundleService;
 
     public static final Integer EVALUATION_VERSION = 2;
 
@@ -1164,9 +1166,6 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     application.setPublishedAppLayout(application.getUnpublishedAppLayout());
                     application.setPublishedApplicationDetail(application.getUnpublishedApplicationDetail());
 
-                    if (isPublishedManually) {
-                        application.setLastDeployedAt(Instant.now());
-                    }
                     Mono<List<BulkWriteResult>> publishPagesMono =
                             newPageService.publishPages(editedPageIds, pagePermission.getEditPermission());
 
@@ -1202,8 +1201,22 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 .collectList()
                 .cache(); // caching because it's needed to send analytics attributes after publishing the app
 
+        // Set once everything else is published, as it marks the end of the publish for the view bundle. A bundle
+        // built from an application that was read while it was being published doesn't match it anymore afterwards.
+        Mono<UpdateResult> setLastDeployedAtMono = isPublishedManually
+                ? Mono.defer(() -> applicationRepository.setLastDeployedAt(
+                        applicationId, Instant.now(), applicationPermission.getEditPermission()))
+                : Mono.empty();
+
         return publishApplicationAndPages
                 .flatMap(newPages -> Mono.zip(publishActionsMono, publishedActionCollectionsListMono, publishThemeMono))
+                .then(setLastDeployedAtMono)
+                // The view bundle is rebuilt when the application is opened if this fails, so it doesn't fail the
+                // publish
+                .then(publishedViewBundleService.buildBundle(applicationId).onErrorResume(error -> {
+                    log.error("Unable to build the view bundle of application {}", applicationId, error);
+                    return Mono.empty();
+                }))
                 .then(sendApplicationPublishedEvent(
                         publishApplicationAndPages,
                         actionCountByPluginTypeMapMono,
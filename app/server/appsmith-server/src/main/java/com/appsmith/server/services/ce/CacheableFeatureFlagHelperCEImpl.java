@@ -2,6 +2,7 @@ package com.appsmith.server.services.ce;
 
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
+import com.appsmith.caching.codec.SmileCacheCodec;
 import com.appsmith.server.configurations.CloudServicesConfig;
 import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.domains.Tenant;
@@ -46,7 +47,7 @@ public class CacheableFeatureFlagHelperCEImpl implements CacheableFeatureFlagHel
     private final UserIdentifierService userIdentifierService;
     private final ReleaseNotesService releaseNotesService;
 
-    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}")
+    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}", codec = SmileCacheCodec.class, ttl = "7d")
     @Override
     public Mono<CachedFlags> fetchUserCachedFlags(String userIdentifier, User user) {
         return this.forceAllRemoteFeatureFlagsForUser(userIdentifier, user).flatMap(flags -> {
@@ -62,7 +63,7 @@ public class CacheableFeatureFlagHelperCEImpl implements CacheableFeatureFlagHel
         });
     }
 
-    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}")
+    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}", codec = SmileCacheCodec.class, ttl = "7d")
     @Override
     public Mono<CachedFlags> updateUserCachedFlags(String userIdentifier, CachedFlags cachedFlags) {
         return Mono.just(cachedFlags);
@@ -154,7 +155,7 @@ public class CacheableFeatureFlagHelperCEImpl implements CacheableFeatureFlagHel
      * @param tenantId Id of the tenant
      * @return Mono of CachedFeatures
      */
-    @Cache(cacheName = "tenantNewFeatures", key = "{#tenantId}")
+    @Cache(cacheName = "tenantNewFeatures", key = "{#tenantId}", codec = SmileCacheCodec.class)
     @Override
     public Mono<CachedFeatures> fetchCachedTenantFeatures(String tenantId) {
         return this.forceAllRemoteFeaturesForTenant(tenantId).flatMap(flags -> {
@@ -165,7 +166,7 @@ public class CacheableFeatureFlagHelperCEImpl implements CacheableFeatureFlagHel
         });
     }
 
-    @Cache(cacheName = "tenantNewFeatures", key = "{#tenantId}")
+    @Cache(cacheName = "tenantNewFeatures", key = "{#tenantId}", codec = SmileCacheCodec.class)
     @Override
     public Mono<CachedFeatures> updateCachedTenantFeatures(String tenantId, CachedFeatures cachedFeatures) {
         return Mono.just(cachedFeatures);
@@ -6,6 +6,8 @@ import com.appsmith.server.domains.DatasourceContextIdentifier;
 import com.appsmith.server.domains.Plugin;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.function.Function;
 
 public interface DatasourceContextServiceCE {
@@ -26,9 +28,41 @@ public interface DatasourceContextServiceCE {
 
     Mono<DatasourceContext<?>> getRemoteDatasourceContext(Plugin plugin, DatasourceStorage datasourceStorage);
 
+    /**
+     * Runs the task with the datasource context produced by the given publisher. The context is checked out for as long
+     * as the task runs, so that it is not closed for being idle or least recently used in the meantime.
+     *
+     * @param datasourceContextMono
+     * @param task
+     * @return the result of the task
+     */
+    <T> Mono<T> useDatasourceContext(
+            Mono<DatasourceContext<?>> datasourceContextMono, Function<DatasourceContext<?>, Mono<T>> task);
+
     <T> Mono<T> retryOnce(DatasourceStorage datasourceStorage, Function<DatasourceContext<?>, Mono<T>> task);
 
     Mono<DatasourceContext<?>> deleteDatasourceContext(DatasourceStorage datasourceStorage);
 
     DatasourceContextIdentifier initializeDatasourceContextIdentifier(DatasourceStorage datasourceStorage);
+
+    /**
+     * Closes the datasource contexts that haven't been used for the given time, and destroys their connections.
+     *
+     * @param idleTimeout
+     * @return the number of datasource contexts that were closed
+     */
+    int closeIdleDatasourceContexts(Duration idleTimeout);
+
+    /**
+     * Closes the least recently used datasource contexts until at most the given number of them are left open.
+     *
+     * @param maxOpenContexts
+     * @return the number of datasource contexts that were closed
+     */
+    int closeLeastRecentlyUsedDatasourceContexts(int maxOpenContexts);
+
+    /**
+     * @return the number of open datasource contexts of every plugin, by plugin name
+     */
+    Map<String, Long> getDatasourceContextCountByPlugin();
 }
@@ -2,10 +2,13 @@ package com.appsmith.server.services.ce;
 
 import com.appsmith.external.dtos.ExecutePluginDTO;
 import com.appsmith.external.dtos.RemoteDatasourceDTO;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
@@ -16,23 +19,52 @@ import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.PluginService;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.ContextView;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 public class DatasourceContextServiceCEImpl implements DatasourceContextServiceCE {
 
-    // DatasourceContextIdentifier contains datasourceId & environmentId which is mapped to DatasourceContext
-    protected final Map<DatasourceContextIdentifier, Mono<? extends DatasourceContext<?>>> datasourceContextMonoMap;
-    protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
-    protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
+    // Maximum time an enqueuing thread spins when other threads are enqueuing datasource creations at the same time
+    private static final Duration DATASOURCE_CREATE_ENQUEUE_TIMEOUT = Duration.ofSeconds(1);
+
+    private static final String METRIC_PREFIX = "appsmith.datasource.context.";
+
+    private static final String UNKNOWN_PLUGIN_NAME = "unknown";
+
+    // Number of times a datasource context is fetched again when it was closed before it could be checked out
+    private static final int MAX_CHECKOUT_ATTEMPTS = 3;
+
+    /*
+     * DatasourceContextIdentifier contains datasourceId & environmentId which is mapped to the DatasourceContext. The
+     * future is completed once the datasource context is created, so that concurrent requests for a datasource share
+     * the same creation instead of each creating its own connection.
+     */
+    protected final Map<DatasourceContextIdentifier, CompletableFuture<DatasourceContext<?>>> datasourceContextMap;
+
+    // Datasource creations waiting for their turn, at most `maxConcurrentCreates` of them are run at the same time
+    private final Sinks.Many<Mono<?>> datasourceCreateQueue =
+            Sinks.many().unicast().onBackpressureBuffer();
+
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
     private final PluginService pluginService;
@@ -40,6 +72,13 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     private final ConfigService configService;
     private final DatasourcePermission datasourcePermission;
 
+    // Maximum number of open datasource contexts, the least recently used ones are closed beyond that
+    private final int maxOpenContexts;
+
+    private final DatasourceContextConfig datasourceContextConfig;
+
+    private final MeterRegistry meterRegistry;
+
     @Autowired
     public DatasourceContextServiceCEImpl(
             @Lazy DatasourceService datasourceService,
@@ -47,102 +86,195 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
             ConfigService configService,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            DatasourceContextConfig datasourceContextConfig,
+            MeterRegistry meterRegistry) {
         this.datasourceService = datasourceService;
         this.datasourceStorageService = datasourceStorageService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.datasourceContextMap = new ConcurrentHashMap<>();
-        this.datasourceContextMonoMap = new ConcurrentHashMap<>();
-        this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
+        this.maxOpenContexts = datasourceContextConfig.getMaxOpenContexts();
+        this.datasourceContextConfig = datasourceContextConfig;
+        this.meterRegistry = meterRegistry;
+
+        datasourceCreateQueue
+                .asFlux()
+                .flatMap(
+                        datasourceCreate -> datasourceCreate.onErrorResume(error -> Mono.empty()),
+                        Math.max(1, datasourceContextConfig.getMaxConcurrentCreates()))
+                .subscribe();
     }
 
     /**
-     * This method defines a critical section that can be executed only by one thread at a time per datasource id - i
-     * .e. if two threads want to create datasource for different datasource ids then they would not be synchronized.
-     * Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
-     * resulted in a data race condition resulting in multiple orphan connections.
+     * Returns the datasource context of the given identifier, and creates it if it doesn't exist yet, or if the
+     * existing one is stale or in error state.
+     *
+     * Creation is single-flight per identifier: the first caller registers a future for the new context, and concurrent
+     * callers for the same identifier wait on that future instead of creating a connection of their own, which
+     * earlier resulted in multiple orphan connections.
      * Ref: https://github.com/appsmithorg/appsmith/issues/14117
-     * This method caches the result from the source publisher and forces concurrent subscriptions to re-use the cached
-     * value. Hence, even if multiple threads subscribe to the same source publisher they get the pre-computed cached
-     * value instead of creating a new connection for each subscription of the source publisher.
+     * Callers never block on each other, and creations for different identifiers don't wait on each other either,
+     * except that at most `maxConcurrentCreates` of them are run at the same time on this node.
      *
      * @param datasourceStorage           - datasource storage for which a new datasource context / connection needs to be created
      * @param pluginExecutor              - plugin executor associated with the datasource's plugin
-     * @param monitor                     - unique monitor object per datasource id. Lock is acquired on this monitor object.
-     * @param datasourceContextIdentifier - key for the datasourceContextMaps.
-     * @return a cached source publisher which upon subscription produces / returns the latest datasource context /
-     * connection.
+     * @param datasourceContextIdentifier - key for the datasourceContextMap.
+     * @return a publisher which upon subscription produces / returns the latest datasource context / connection.
      */
-    public Mono<? extends DatasourceContext<?>> getCachedDatasourceContextMono(
+    public Mono<DatasourceContext<?>> getCachedDatasourceContextMono(
             DatasourceStorage datasourceStorage,
             PluginExecutor<Object> pluginExecutor,
-            Object monitor,
             DatasourceContextIdentifier datasourceContextIdentifier) {
-        synchronized (monitor) {
-            /* Destroy any connection that is stale or in error state to free up resource */
-            final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
-            final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-
-            if (isStale || isInErrorState) {
-                final Object connection =
-                        datasourceContextMap.get(datasourceContextIdentifier).getConnection();
-                if (connection != null) {
-                    try {
-                        // Basically remove entry from both cache maps
-                        pluginExecutor.datasourceDestroy(connection);
-                    } catch (Exception e) {
-                        log.info("Error destroying stale datasource connection", e);
+        return Mono.deferContextual(contextView -> {
+                    CompletableFuture<DatasourceContext<?>> createdContextFuture = new CompletableFuture<>();
+
+                    if (!datasourceContextIdentifier.isKeyValid()) {
+                        // Dry runs and embedded datasources don't have a context to share
+                        enqueueDatasourceCreate(
+                                createDatasourceContext(datasourceStorage, pluginExecutor),
+                                createdContextFuture,
+                                contextView);
+                        return Mono.fromFuture(createdContextFuture, true);
                     }
-                }
-                datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                datasourceContextMap.remove(datasourceContextIdentifier);
-            }
 
-            /*
-             * If a publisher with cached value already exists then return it. Please note that even if this publisher is
-             * evaluated multiple times the actual datasource creation will only happen once and get cached and the same
-             * value would directly be returned to further evaluations / subscriptions.
-             */
-            if (datasourceContextIdentifier.getDatasourceId() != null
-                    && datasourceContextMonoMap.get(datasourceContextIdentifier) != null) {
-                log.debug("Cached resource context mono exists. Returning the same.");
-                return datasourceContextMonoMap.get(datasourceContextIdentifier);
-            }
+                    AtomicReference<CompletableFuture<DatasourceContext<?>>> replacedContextFuture =
+                            new AtomicReference<>();
+                    CompletableFuture<DatasourceContext<?>> datasourceContextFuture =
+                            datasourceContextMap.compute(datasourceContextIdentifier, (key, existingContextFuture) -> {
+                                if (existingContextFuture != null
+                                        && !getIsStale(datasourceStorage, key)
+                                        && !existingContextFuture.isCompletedExceptionally()) {
+                                    log.debug("Cached resource context exists. Returning the same.");
+                                    return existingContextFuture;
+                                }
+
+                                replacedContextFuture.set(existingContextFuture);
+                                return createdContextFuture;
+                            });
+
+                    /* Destroy any connection that is stale or in error state to free up resource */
+                    if (replacedContextFuture.get() != null) {
+                        DatasourceContext<?> replacedContext = getCreatedDatasourceContext(replacedContextFuture.get());
+                        if (replacedContext != null) {
+                            destroyDatasourceContext(replacedContext);
+                        }
+                    }
 
-            /* Create a fresh datasource context */
-            DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
-            if (datasourceContextIdentifier.isKeyValid()) {
-                /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
-                the new connection in the context map. */
-                datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
-            }
+                    if (datasourceContextFuture == createdContextFuture) {
+                        enqueueDatasourceCreate(
+                                createDatasourceContext(datasourceStorage, pluginExecutor),
+                                createdContextFuture,
+                                contextView);
+                    }
 
-            Mono<Object> connectionMonoCache = pluginExecutor
-                    .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
-                    .cache();
-
-            Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
-                    .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
-                    .map(connection -> {
-                        /* When a connection object exists and makes sense for the plugin, we put it in the
-                        context. Example, DB plugins. */
-                        datasourceContext.setConnection(connection);
-                        return datasourceContext;
-                    })
-                    .defaultIfEmpty(
-                            /* When a connection object doesn't make sense for the plugin, we get an empty mono
-                            and we just return the context object as is. */
-                            datasourceContext)
-                    .cache(); /* Cache the value so that further evaluations don't result in new connections */
-
-            if (datasourceContextIdentifier.isKeyValid()) {
-                datasourceContextMonoMap.put(datasourceContextIdentifier, datasourceContextMonoCache);
-            }
-            return datasourceContextMonoCache;
+                    return Mono.fromFuture(datasourceContextFuture, true);
+                })
+                .doOnNext(datasourceContext -> datasourceContext.setLastUsedTime(Instant.now()));
+    }
+
+    private Mono<DatasourceContext<?>> createDatasourceContext(
+            DatasourceStorage datasourceStorage, PluginExecutor<Object> pluginExecutor) {
+        DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+        datasourceContext.setPluginExecutor(pluginExecutor);
+        datasourceContext.setPluginName(datasourceStorage.getPluginName());
+        Timer createTimer = Timer.builder(METRIC_PREFIX + "create")
+                .description("Time taken to create a datasource context, including after it was closed for being idle")
+                .tag("plugin", Objects.requireNonNullElse(datasourceStorage.getPluginName(), UNKNOWN_PLUGIN_NAME))
+                .register(meterRegistry);
+
+        return Mono.defer(() -> pluginExecutor.datasourceCreate(datasourceStorage.getDatasourceConfiguration()))
+                .elapsed()
+                .map(elapsedConnection -> {
+                    createTimer.record(elapsedConnection.getT1(), TimeUnit.MILLISECONDS);
+                    return elapsedConnection.getT2();
+                })
+                .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
+                .<DatasourceContext<?>>map(connection -> {
+                    /* When a connection object exists and makes sense for the plugin, we put it in the
+                    context. Example, DB plugins. */
+                    datasourceContext.setConnection(connection);
+                    return datasourceContext;
+                })
+                .defaultIfEmpty(
+                        /* When a connection object doesn't make sense for the plugin, we get an empty mono
+                        and we just return the context object as is. */
+                        datasourceContext);
+    }
+
+    /**
+     * Queues the creation of a datasource context, which completes the given future once it is run. The creation is run
+     * with the context of the request that asked for it, and carries on even if that request is cancelled, so that the
+     * other requests waiting on the same future still get the datasource context. A creation that doesn't complete
+     * within the create timeout fails for the requests waiting on it, and leaves its slot in the queue to the others.
+     */
+    private void enqueueDatasourceCreate(
+            Mono<DatasourceContext<?>> datasourceCreateMono,
+            CompletableFuture<DatasourceContext<?>> datasourceContextFuture,
+            ContextView contextView) {
+        Duration createTimeout = datasourceContextConfig.getCreateTimeout();
+        Mono<DatasourceContext<?>> datasourceCreate = datasourceCreateMono
+                .timeout(
+                        createTimeout,
+                        Mono.error(() -> new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_DATASOURCE_TIMEOUT_ERROR,
+                                "Timed out after " + createTimeout.toSeconds()
+                                        + " seconds while connecting to the datasource")))
+                .contextWrite(contextView)
+                .doOnNext(datasourceContext -> {
+                    // The time spent in the queue and creating the connection doesn't count as idle time
+                    datasourceContext.setLastUsedTime(Instant.now());
+                    // Make room before the new context is handed out, so that it can't be picked itself
+                    closeLeastRecentlyUsedDatasourceContexts(Math.max(0, maxOpenContexts - 1));
+                    datasourceContextFuture.complete(datasourceContext);
+                })
+                .doOnError(datasourceContextFuture::completeExceptionally);
+
+        try {
+            datasourceCreateQueue.emitNext(
+                    datasourceCreate, Sinks.EmitFailureHandler.busyLooping(DATASOURCE_CREATE_ENQUEUE_TIMEOUT));
+        } catch (Sinks.EmissionException e) {
+            datasourceContextFuture.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Closes the datasource context and destroys its connection. If tasks are still running with the connection, it is
+     * destroyed once the last of them releases the context instead.
+     */
+    private void destroyDatasourceContext(DatasourceContext<?> datasourceContext) {
+        if (datasourceContext.close()) {
+            destroyConnection(datasourceContext);
+        }
+    }
+
+    private void destroyConnection(DatasourceContext<?> datasourceContext) {
+        final Object connection = datasourceContext.getConnection();
+        if (connection == null || datasourceContext.getPluginExecutor() == null) {
+            return;
+        }
+
+        try {
+            datasourceContext.getPluginExecutor().datasourceDestroy(connection);
+        } catch (Exception e) {
+            log.info("Error destroying datasource connection", e);
+        }
+    }
+
+    /**
+     * @return the datasource context of the given future, or null if it is still being created or its creation failed
+     */
+    private static DatasourceContext<?> getCreatedDatasourceContext(
+            CompletableFuture<DatasourceContext<?>> datasourceContextFuture) {
+        if (datasourceContextFuture == null
+                || !datasourceContextFuture.isDone()
+                || datasourceContextFuture.isCompletedExceptionally()) {
+            return null;
         }
+
+        return datasourceContextFuture.getNow(null);
     }
 
     public Mono<Object> updateDatasourceAndSetAuthentication(Object connection, DatasourceStorage datasourceStorage) {
@@ -164,68 +296,45 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         log.debug("Datasource context doesn't exist. Creating connection.");
         Mono<Plugin> pluginMono = pluginService.findById(datasourceStorage.getPluginId());
 
-        return pluginExecutorHelper.getPluginExecutor(pluginMono).flatMap(pluginExecutor -> {
-
-            /**
-             * Keep one monitor object against each datasource id. The synchronized method
-             * `getCachedDatasourceContextMono` would then acquire lock on the monitor object which is unique
-             * for each datasourceId hence ensuring that if competing threads want to create datasource context
-             * on different datasource id then they are not blocked on each other and can run concurrently.
-             * Only threads that want to create a new datasource context on the same datasource id would be
-             * synchronized.
-             */
-            Object monitor = new Object();
-            if (datasourceContextIdentifier.isKeyValid()) {
-                if (datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier) == null) {
-                    synchronized (this) {
-                        datasourceContextSynchronizationMonitorMap.computeIfAbsent(
-                                datasourceContextIdentifier, k -> new Object());
-                    }
-                }
-
-                monitor = datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier);
-            }
-
-            return getCachedDatasourceContextMono(
-                    datasourceStorage, pluginExecutor, monitor, datasourceContextIdentifier);
-        });
+        return pluginExecutorHelper
+                .getPluginExecutor(pluginMono)
+                .flatMap(pluginExecutor ->
+                        getCachedDatasourceContextMono(datasourceStorage, pluginExecutor, datasourceContextIdentifier));
     }
 
     public boolean getIsStale(
             DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
         String datasourceId = datasourceStorage.getDatasourceId();
+        DatasourceContext<?> datasourceContext =
+                getCreatedDatasourceContext(datasourceContextMap.get(datasourceContextIdentifier));
         return datasourceId != null
-                && datasourceContextMap.get(datasourceContextIdentifier) != null
+                && datasourceContext != null
                 && datasourceStorage.getUpdatedAt() != null
-                && datasourceStorage
-                        .getUpdatedAt()
-                        .isAfter(datasourceContextMap
-                                .get(datasourceContextIdentifier)
-                                .getCreationTime());
+                && datasourceStorage.getUpdatedAt().isAfter(datasourceContext.getCreationTime());
     }
 
     /**
-     * This function checks if the cached datasource context mono is in error state
+     * This function checks if the creation of the cached datasource context has failed
      *
      * @param datasourceContextIdentifier
      * @return boolean
      */
     private boolean getIsInErrorState(DatasourceContextIdentifier datasourceContextIdentifier) {
-        return datasourceContextMonoMap.get(datasourceContextIdentifier) != null
-                && datasourceContextMonoMap
-                        .get(datasourceContextIdentifier)
-                        .toFuture()
-                        .isCompletedExceptionally();
+        CompletableFuture<DatasourceContext<?>> datasourceContextFuture =
+                datasourceContextMap.get(datasourceContextIdentifier);
+        return datasourceContextFuture != null && datasourceContextFuture.isCompletedExceptionally();
     }
 
     public boolean isValidDatasourceContextAvailable(
             DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
         boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
         boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-        return datasourceContextMap.get(datasourceContextIdentifier) != null
+        DatasourceContext<?> datasourceContext =
+                getCreatedDatasourceContext(datasourceContextMap.get(datasourceContextIdentifier));
+        return datasourceContext != null
                 // The following condition happens when there's a timeout in the middle of destroying a connection and
                 // the reactive flow interrupts, resulting in the destroy operation not completing.
-                && datasourceContextMap.get(datasourceContextIdentifier).getConnection() != null
+                && datasourceContext.getConnection() != null
                 && !isStale
                 && !isInErrorState;
     }
@@ -242,19 +351,42 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         } else {
             if (isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
                 log.debug("Resource context exists. Returning the same.");
-                return Mono.just(datasourceContextMap.get(datasourceContextIdentifier));
+                DatasourceContext<?> datasourceContext =
+                        getCreatedDatasourceContext(datasourceContextMap.get(datasourceContextIdentifier));
+                datasourceContext.setLastUsedTime(Instant.now());
+                return Mono.just(datasourceContext);
             }
         }
         return createNewDatasourceContext(datasourceStorage, datasourceContextIdentifier);
     }
 
+    @Override
+    public <T> Mono<T> useDatasourceContext(
+            Mono<DatasourceContext<?>> datasourceContextMono, Function<DatasourceContext<?>, Mono<T>> task) {
+        // A context that was closed between being fetched and checked out is no longer in the map, so fetching it
+        // again gets a new one
+        Mono<DatasourceContext<?>> checkedOutContextMono = datasourceContextMono
+                .filter(DatasourceContext::checkout)
+                .repeatWhenEmpty(MAX_CHECKOUT_ATTEMPTS, repeats -> repeats);
+
+        return Mono.usingWhen(
+                checkedOutContextMono,
+                task,
+                datasourceContext -> Mono.fromRunnable(() -> releaseDatasourceContext(datasourceContext)));
+    }
+
+    private void releaseDatasourceContext(DatasourceContext<?> datasourceContext) {
+        if (datasourceContext.release()) {
+            destroyConnection(datasourceContext);
+        }
+    }
+
     @Override
     public <T> Mono<T> retryOnce(DatasourceStorage datasourceStorage, Function<DatasourceContext<?>, Mono<T>> task) {
 
         final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasourceStorage)
-                .flatMap(this::getDatasourceContext)
                 // Now that we have the context (connection details), call the task.
-                .flatMap(task);
+                .flatMap(storage -> useDatasourceContext(getDatasourceContext(storage), task));
 
         return taskRunnerMono.onErrorResume(StaleConnectionException.class, error -> {
             log.info("Looks like the connection is stale. Retrying with a fresh context.");
@@ -271,19 +403,113 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             return Mono.empty();
         }
 
-        DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
-        if (datasourceContext == null) {
+        CompletableFuture<DatasourceContext<?>> datasourceContextFuture =
+                datasourceContextMap.remove(datasourceContextIdentifier);
+        if (datasourceContextFuture == null) {
             // No resource context exists for this resource. Return void.
             return Mono.empty();
         }
-        return pluginExecutorHelper
-                .getPluginExecutor(pluginService.findById(datasourceStorage.getPluginId()))
-                .map(pluginExecutor -> {
-                    log.info("Clearing datasource context for datasource storage ID {}.", datasourceStorage.getId());
-                    pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
-                    datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                    return datasourceContextMap.remove(datasourceContextIdentifier);
-                });
+
+        log.info("Clearing datasource context for datasource storage ID {}.", datasourceStorage.getId());
+        // A context that is still being created is destroyed as soon as it is, since no one can get it from the map
+        datasourceContextFuture.thenAccept(this::destroyDatasourceContext);
+        return Mono.justOrEmpty(getCreatedDatasourceContext(datasourceContextFuture));
+    }
+
+    @Override
+    public int closeIdleDatasourceContexts(Duration idleTimeout) {
+        Instant idleSince = Instant.now().minus(idleTimeout);
+        int closedCount = 0;
+        for (Map.Entry<DatasourceContextIdentifier, CompletableFuture<DatasourceContext<?>>> entry :
+                datasourceContextMap.entrySet()) {
+            CompletableFuture<DatasourceContext<?>> datasourceContextFuture = entry.getValue();
+            if (datasourceContextFuture.isCompletedExceptionally()) {
+                // Nothing to close, the next request for this datasource creates a new context anyway
+                datasourceContextMap.remove(entry.getKey(), datasourceContextFuture);
+                continue;
+            }
+
+            DatasourceContext<?> datasourceContext = getCreatedDatasourceContext(datasourceContextFuture);
+            // A context running a query for longer than the idle timeout is not idle
+            if (datasourceContext != null
+                    && !datasourceContext.isInUse()
+                    && datasourceContext.getLastUsedTime().isBefore(idleSince)
+                    && closeDatasourceContext(entry.getKey(), datasourceContextFuture, "idle")) {
+                closedCount++;
+            }
+        }
+
+        return closedCount;
+    }
+
+    @Override
+    public int closeLeastRecentlyUsedDatasourceContexts(int maxOpenContexts) {
+        List<Map.Entry<DatasourceContextIdentifier, CompletableFuture<DatasourceContext<?>>>> openContexts =
+                datasourceContextMap.entrySet().stream()
+                        .filter(entry -> getCreatedDatasourceContext(entry.getValue()) != null)
+                        .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                        .toList();
+        if (openContexts.size() <= maxOpenContexts) {
+            return 0;
+        }
+
+        // Contexts that are in use are never closed, even if that leaves more than the maximum number open
+        int closedCount = 0;
+        List<Map.Entry<DatasourceContextIdentifier, CompletableFuture<DatasourceContext<?>>>> leastRecentlyUsed =
+                openContexts.stream()
+                        .filter(entry ->
+                                !getCreatedDatasourceContext(entry.getValue()).isInUse())
+                        .sorted(Comparator.comparing(entry ->
+                                getCreatedDatasourceContext(entry.getValue()).getLastUsedTime()))
+                        .limit(openContexts.size() - maxOpenContexts)
+                        .toList();
+        for (Map.Entry<DatasourceContextIdentifier, CompletableFuture<DatasourceContext<?>>> entry :
+                leastRecentlyUsed) {
+            if (closeDatasourceContext(entry.getKey(), entry.getValue(), "limit")) {
+                closedCount++;
+            }
+        }
+
+        return closedCount;
+    }
+
+    /**
+     * Removes the datasource context from the map and destroys its connection, unless it has been replaced in the
+     * meantime. If it got checked out since it was picked, its connection is destroyed once it is released.
+     *
+     * @param reason - why the context is closed, for the eviction metrics
+     * @return true if the context was closed
+     */
+    private boolean closeDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            CompletableFuture<DatasourceContext<?>> datasourceContextFuture,
+            String reason) {
+        if (!datasourceContextMap.remove(datasourceContextIdentifier, datasourceContextFuture)) {
+            return false;
+        }
+
+        DatasourceContext<?> datasourceContext = getCreatedDatasourceContext(datasourceContextFuture);
+        destroyDatasourceContext(datasourceContext);
+        meterRegistry
+                .counter(
+                        METRIC_PREFIX + "evictions",
+                        "plugin",
+                        Objects.requireNonNullElse(datasourceContext.getPluginName(), UNKNOWN_PLUGIN_NAME),
+                        "reason",
+                        reason)
+                .increment();
+        return true;
+    }
+
+    @Override
+    public Map<String, Long> getDatasourceContextCountByPlugin() {
+        return datasourceContextMap.values().stream()
+                .map(DatasourceContextServiceCEImpl::getCreatedDatasourceContext)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(
+                        datasourceContext ->
+                                Objects.requireNonNullElse(datasourceContext.getPluginName(), UNKNOWN_PLUGIN_NAME),
+                        Collectors.counting()));
     }
 
     /**
@@ -320,10 +546,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     }
 
     /**
-     * Generates the custom key that is used in:
-     * datasourceContextMap
-     * datasourceContextMonoMap
-     * datasourceContextSynchronizationMonitorMap
+     * Generates the custom key that is used in the datasourceContextMap
      *
      * @param datasourceStorage
      * @return an DatasourceContextIdentifier object
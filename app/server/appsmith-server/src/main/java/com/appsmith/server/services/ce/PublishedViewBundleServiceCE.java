@@ -0,0 +1,22 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.PublishedViewBundle;
+import com.appsmith.server.dtos.PublishedViewBundleDTO;
+import reactor.core.publisher.Mono;
+
+public interface PublishedViewBundleServiceCE {
+
+    /**
+     * Builds the view mode bundle of a published application from its pages, actions, custom JS libs and theme, and
+     * replaces the stored one.
+     *
+     * @param applicationId Id of the (branched) application that has just been published
+     */
+    Mono<PublishedViewBundle> buildBundle(String applicationId);
+
+    /**
+     * Returns the view mode bundle of a published application with only the pages and actions that the current user
+     * can read and execute. The bundle is rebuilt if it's missing or out of date.
+     */
+    Mono<PublishedViewBundleDTO> getViewBundle(String defaultApplicationId, String branchName);
+}
@@ -0,0 +1,456 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationMode;
+import com.appsmith.server.domains.ApplicationPage;
+import com.appsmith.server.domains.GitApplicationMetadata;
+import com.appsmith.server.domains.PublishedViewBundle;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.CustomJSLibApplicationDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.PageNameIdDTO;
+import com.appsmith.server.dtos.PublishedViewBundleDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ResponseUtils;
+import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.PublishedViewBundleRepository;
+import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.CustomJSLibService;
+import com.appsmith.server.services.PermissionGroupService;
+import com.appsmith.server.services.ThemeService;
+import com.appsmith.server.solutions.ActionPermission;
+import com.appsmith.server.solutions.ApplicationPermission;
+import com.appsmith.server.solutions.PagePermission;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.gson.Gson;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds and serves the view mode bundle of published applications, see {@link PublishedViewBundle}.
+ *
+ * The bundle is built when the application is published and holds the pages and actions of all users. Every read
+ * checks that the bundle still matches its application through a fingerprint of the application, and filters the
+ * pages and actions with the policies stored next to the content for the user who reads it. Decoded bundles are kept
+ * on each node, so a read usually costs the application lookup only.
+ *
+ * The fingerprint includes the time the application was last deployed, which is only set once everything else has
+ * been published. A bundle built by a read while the application was being published, which may miss some of the
+ * published actions, is keyed by a fingerprint that no longer matches once the publish finishes. Every node then
+ * rebuilds or reloads the bundle on its next read, without the publishing node having to reach the others.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PublishedViewBundleServiceCEImpl implements PublishedViewBundleServiceCE {
+    private final PublishedViewBundleRepository repository;
+    private final ApplicationService applicationService;
+    private final NewActionService newActionService;
+    private final NewPageRepository newPageRepository;
+    private final CustomJSLibService customJSLibService;
+    private final ThemeService themeService;
+    private final PermissionGroupService permissionGroupService;
+    private final ApplicationPermission applicationPermission;
+    private final PagePermission pagePermission;
+    private final ActionPermission actionPermission;
+    private final ResponseUtils responseUtils;
+    private final Gson gson;
+
+    // Part of the fingerprint, to be bumped whenever the content of the bundle changes so that stored bundles are
+    // rebuilt
+    private static final int BUNDLE_VERSION = 1;
+
+    // Bundles larger than this are served but not stored, to stay clear of the mongodb document size limit
+    private static final int MAX_STORED_CONTENT_SIZE = 15 * 1024 * 1024; // 15 MB
+
+    // Bundles are checked against their application on every read, the expiry only frees the memory of bundles of
+    // applications that are not opened anymore
+    private static final Duration LOCAL_BUNDLE_EXPIRATION = Duration.ofMinutes(5);
+
+    // Total size of the json of the bundles kept on this node
+    private static final long MAX_LOCAL_BUNDLES_SIZE = 64L * 1024 * 1024; // 64 MB
+
+    private final Cache<String, LoadedBundle> localBundles = Caffeine.newBuilder()
+            .expireAfterWrite(LOCAL_BUNDLE_EXPIRATION)
+            .maximumWeight(MAX_LOCAL_BUNDLES_SIZE)
+            .weigher((String applicationId, LoadedBundle bundle) -> bundle.size())
+            .build();
+
+    private record LoadedBundle(
+            String fingerprint,
+            String contentHash,
+            PublishedViewBundleDTO content,
+            Map<String, Set<Policy>> pagePolicies,
+            Map<String, Set<Policy>> actionPolicies,
+            int size) {}
+
+    @Override
+    public Mono<PublishedViewBundle> buildBundle(String applicationId) {
+        return applicationService
+                .findById(applicationId, Optional.of(applicationPermission.getReadPermission()))
+                .switchIfEmpty(Mono.error(
+                        new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
+                .flatMap(application -> createBundle(application, getFingerprint(application)))
+                .flatMap(bundle -> saveBundle(bundle).doOnNext(saved -> localBundles.invalidate(applicationId)))
+                .elapsed()
+                .map(objects -> {
+                    log.debug("Built view bundle of application {} in {} ms", applicationId, objects.getT1());
+                    return objects.getT2();
+                });
+    }
+
+    @Override
+    public Mono<PublishedViewBundleDTO> getViewBundle(String defaultApplicationId, String branchName) {
+        Mono<LoadedBundle> bundleMono = applicationService
+                .findByBranchNameAndDefaultApplicationId(
+                        branchName, defaultApplicationId, applicationPermission.getReadPermission())
+                .switchIfEmpty(Mono.error(new AppsmithException(
+                        AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.APPLICATION, defaultApplicationId)))
+                .flatMap(application -> {
+                    // Throw a 404 error if the application has never been published
+                    if (CollectionUtils.isEmpty(application.getPublishedPages())) {
+                        return Mono.error(new AppsmithException(
+                                AppsmithError.ACL_NO_RESOURCE_FOUND,
+                                FieldName.PUBLISHED_APPLICATION,
+                                application.getId()));
+                    }
+                    return getOrBuildBundle(application);
+                });
+
+        return Mono.zip(bundleMono, permissionGroupService.getSessionUserPermissionGroupIds())
+                .map(tuple -> getBundleForUser(tuple.getT1(), tuple.getT2()));
+    }
+
+    private Mono<LoadedBundle> getOrBuildBundle(Application application) {
+        String applicationId = application.getId();
+        String fingerprint = getFingerprint(application);
+
+        LoadedBundle localBundle = localBundles.getIfPresent(applicationId);
+        if (localBundle != null && fingerprint.equals(localBundle.fingerprint())) {
+            return Mono.just(localBundle);
+        }
+
+        return repository
+                .findByApplicationId(applicationId)
+                .filter(bundle -> fingerprint.equals(bundle.getFingerprint()))
+                .flatMap(bundle -> Mono.fromCallable(() -> loadBundle(bundle)).onErrorResume(error -> {
+                    log.warn("Unable to read the view bundle of application {}, rebuilding it", applicationId, error);
+                    return Mono.empty();
+                }))
+                // The bundle is missing or out of date, e.g. because the application was published before bundles
+                // were introduced or its permissions changed since it was published
+                .switchIfEmpty(Mono.defer(() -> createBundle(application, fingerprint)
+                        .flatMap(this::saveBundle)
+                        .map(this::loadBundle)))
+                .doOnNext(bundle -> localBundles.put(applicationId, bundle));
+    }
+
+    private Mono<PublishedViewBundle> createBundle(Application application, String fingerprint) {
+        String applicationId = application.getId();
+        GitApplicationMetadata gitData = application.getGitApplicationMetadata();
+        String defaultApplicationId = applicationId;
+        String branchName = null;
+        if (gitData != null && gitData.getDefaultApplicationId() != null) {
+            defaultApplicationId = gitData.getDefaultApplicationId();
+            branchName = gitData.getBranchName();
+        }
+
+        Map<String, Set<Policy>> pagePolicies = new HashMap<>();
+        Map<String, Set<Policy>> actionPolicies = new HashMap<>();
+
+        Mono<List<PageNameIdDTO>> pagesMono = getPages(application, pagePolicies);
+
+        // No need to sort the actions
+        Mono<List<ActionViewDTO>> actionsMono = newActionService
+                .findPublishedActionsForViewMode(applicationId, Optional.empty())
+                .filter(newAction -> !PluginType.JS.equals(newAction.getPluginType()))
+                .map(newAction -> {
+                    ActionViewDTO actionViewDTO = responseUtils.updateActionViewDTOWithDefaultResources(
+                            newActionService.generateActionViewDTO(newAction));
+                    actionPolicies.put(actionViewDTO.getId(), newAction.getPolicies());
+                    return actionViewDTO;
+                })
+                .collectList();
+
+        // The user permissions of the libs and the theme are the ones of the user who built the bundle, hence they
+        // are left out
+        Mono<PublishedViewBundleDTO> contentMono = Mono.zip(
+                        pagesMono,
+                        actionsMono,
+                        customJSLibService.getAllJSLibsInApplication(defaultApplicationId, branchName, true),
+                        themeService.getApplicationTheme(defaultApplicationId, ApplicationMode.PUBLISHED, branchName))
+                .map(tuple -> {
+                    PublishedViewBundleDTO content = new PublishedViewBundleDTO();
+                    content.setPages(tuple.getT1());
+                    content.setActions(tuple.getT2());
+                    tuple.getT3().forEach(customJSLib -> customJSLib.setUserPermissions(new HashSet<>()));
+                    content.setCustomJSLibs(tuple.getT3());
+                    tuple.getT4().setUserPermissions(new HashSet<>());
+                    content.setTheme(tuple.getT4());
+                    return content;
+                });
+
+        return contentMono.map(content -> {
+            byte[] json = gson.toJson(content).getBytes(StandardCharsets.UTF_8);
+            PublishedViewBundle bundle = new PublishedViewBundle();
+            bundle.setApplicationId(applicationId);
+            bundle.setFingerprint(fingerprint);
+            bundle.setContentHash(DigestUtils.sha256Hex(json));
+            bundle.setContent(compress(json));
+            bundle.setPagePolicies(pagePolicies);
+            bundle.setActionPolicies(actionPolicies);
+            return bundle;
+        });
+    }
+
+    /**
+     * Returns the published pages of the application in their published order, with their default ids. Unlike the
+     * pages returned to a user, these don't have user permissions, which are set from the policies collected into
+     * pagePolicies when the bundle is read.
+     */
+    private Mono<List<PageNameIdDTO>> getPages(Application application, Map<String, Set<Policy>> pagePolicies) {
+        List<ApplicationPage> applicationPages = application.getPublishedPages();
+        String defaultPageId = null;
+        for (ApplicationPage applicationPage : applicationPages) {
+            if (Boolean.TRUE.equals(applicationPage.getIsDefault())) {
+                defaultPageId = applicationPage.getId();
+            }
+        }
+        if (defaultPageId == null) {
+            log.error("application {} has no default page, returning first page as default", application.getId());
+            defaultPageId = applicationPages.get(0).getId();
+        }
+        final String finalDefaultPageId = defaultPageId;
+
+        List<String> pageIds =
+                applicationPages.stream().map(ApplicationPage::getId).toList();
+        Map<String, Integer> publishedPagesOrder = new HashMap<>();
+        for (int i = 0; i < pageIds.size(); i++) {
+            publishedPagesOrder.put(pageIds.get(i), i);
+        }
+
+        return newPageRepository
+                .findAllPageDTOsByIds(pageIds, null)
+                .sort(Comparator.comparing(page -> publishedPagesOrder.get(page.getId())))
+                .concatMap(pageFromDb -> {
+                    if (pageFromDb.getDefaultResources() == null) {
+                        return Mono.error(new AppsmithException(
+                                AppsmithError.DEFAULT_RESOURCES_UNAVAILABLE, "page", pageFromDb.getId()));
+                    }
+                    if (pageFromDb.getPublishedPage() == null) {
+                        return Mono.error(new AppsmithException(
+                                AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.PAGE, pageFromDb.getId()));
+                    }
+
+                    PageDTO pageDTO = pageFromDb.getPublishedPage();
+                    PageNameIdDTO pageNameIdDTO = new PageNameIdDTO();
+                    String pageId = pageFromDb.getDefaultResources().getPageId();
+                    pageNameIdDTO.setId(pageId);
+                    pageNameIdDTO.setDefaultPageId(pageId);
+                    pageNameIdDTO.setName(pageDTO.getName());
+                    pageNameIdDTO.setIsHidden(pageDTO.getIsHidden());
+                    pageNameIdDTO.setSlug(pageDTO.getSlug());
+                    pageNameIdDTO.setIcon(pageDTO.getIcon());
+                    pageNameIdDTO.setCustomSlug(pageDTO.getCustomSlug());
+                    pageNameIdDTO.setIsDefault(pageFromDb.getId().equals(finalDefaultPageId));
+
+                    pagePolicies.put(pageId, pageFromDb.getPolicies());
+                    return Mono.just(pageNameIdDTO);
+                })
+                .collectList();
+    }
+
+    private Mono<PublishedViewBundle> saveBundle(PublishedViewBundle bundle) {
+        if (bundle.getContent().length > MAX_STORED_CONTENT_SIZE) {
+            log.warn(
+                    "View bundle of application {} is {} bytes, it will not be stored",
+                    bundle.getApplicationId(),
+                    bundle.getContent().length);
+            return Mono.just(bundle);
+        }
+
+        return repository
+                .findByApplicationId(bundle.getApplicationId())
+                .map(storedBundle -> {
+                    bundle.setId(storedBundle.getId());
+                    bundle.setCreatedAt(storedBundle.getCreatedAt());
+                    return bundle;
+                })
+                .defaultIfEmpty(bundle)
+                .flatMap(repository::save)
+                // Another request stored the bundle of this application in the meantime, which is as good as ours
+                .onErrorResume(DuplicateKeyException.class, error -> Mono.just(bundle));
+    }
+
+    private LoadedBundle loadBundle(PublishedViewBundle bundle) {
+        String json = new String(decompress(bundle.getContent()), StandardCharsets.UTF_8);
+        PublishedViewBundleDTO content = gson.fromJson(json, PublishedViewBundleDTO.class);
+        return new LoadedBundle(
+                bundle.getFingerprint(),
+                bundle.getContentHash(),
+                content,
+                bundle.getPagePolicies() == null ? Map.of() : bundle.getPagePolicies(),
+                bundle.getActionPolicies() == null ? Map.of() : bundle.getActionPolicies(),
+                json.length());
+    }
+
+    /**
+     * Returns the pages the user can read, with their user permissions, and the actions the user can execute. The
+     * loaded bundle is shared between requests, hence it's copied rather than changed.
+     */
+    private PublishedViewBundleDTO getBundleForUser(LoadedBundle bundle, Set<String> permissionGroups) {
+        String readPagePermission = pagePermission.getReadPermission().getValue();
+        String executeActionPermission = actionPermission.getExecutePermission().getValue();
+
+        // The ETag covers what this user gets out of the bundle, as two users may be served different parts of it
+        StringBuilder etagSource = new StringBuilder(bundle.contentHash());
+
+        List<PageNameIdDTO> pages = new ArrayList<>();
+        for (PageNameIdDTO page : bundle.content().getPages()) {
+            Set<String> userPermissions =
+                    getUserPermissions(bundle.pagePolicies().get(page.getId()), permissionGroups);
+            if (!userPermissions.contains(readPagePermission)) {
+                continue;
+            }
+            PageNameIdDTO userPage = new PageNameIdDTO();
+            userPage.setId(page.getId());
+            userPage.setDefaultPageId(page.getDefaultPageId());
+            userPage.setName(page.getName());
+            userPage.setIcon(page.getIcon());
+            userPage.setSlug(page.getSlug());
+            userPage.setCustomSlug(page.getCustomSlug());
+            userPage.setIsDefault(page.getIsDefault());
+            userPage.setIsHidden(page.getIsHidden());
+            userPage.setUserPermissions(userPermissions);
+            pages.add(userPage);
+            etagSource.append('|').append(page.getId()).append(new TreeSet<>(userPermissions));
+        }
+
+        List<ActionViewDTO> actions = new ArrayList<>();
+        for (ActionViewDTO action : bundle.content().getActions()) {
+            if (getUserPermissions(bundle.actionPolicies().get(action.getId()), permissionGroups)
+                    .contains(executeActionPermission)) {
+                actions.add(action);
+                etagSource.append('|').append(action.getId());
+            }
+        }
+
+        PublishedViewBundleDTO userBundle = new PublishedViewBundleDTO();
+        userBundle.setPages(pages);
+        userBundle.setActions(actions);
+        userBundle.setCustomJSLibs(bundle.content().getCustomJSLibs());
+        userBundle.setTheme(bundle.content().getTheme());
+        userBundle.setEtag(DigestUtils.sha256Hex(etagSource.toString()));
+        return userBundle;
+    }
+
+    /**
+     * Same as the user permissions set on objects read from the repositories, i.e. the permissions of the policies
+     * that are given to any of the permission groups of the user.
+     */
+    private static Set<String> getUserPermissions(Set<Policy> policies, Set<String> permissionGroups) {
+        Set<String> permissions = new HashSet<>();
+        if (CollectionUtils.isEmpty(policies) || CollectionUtils.isEmpty(permissionGroups)) {
+            return permissions;
+        }
+        for (Policy policy : policies) {
+            Set<String> policyPermissionGroups = policy.getPermissionGroups();
+            if (CollectionUtils.isEmpty(policyPermissionGroups)) {
+                continue;
+            }
+            for (String permissionGroup : permissionGroups) {
+                if (policyPermissionGroups.contains(permissionGroup)) {
+                    permissions.add(policy.getPermission());
+                    break;
+                }
+            }
+        }
+        return permissions;
+    }
+
+    /**
+     * Fingerprint of the application fields that the bundle depends on. Importing an application saves it, which
+     * updates it, and so do changes to its permissions. Publishing saves it too, but before the actions are
+     * published, hence the last deployed time, which is only set at the end of a publish.
+     */
+    private static String getFingerprint(Application application) {
+        StringBuilder source = new StringBuilder();
+        source.append(BUNDLE_VERSION)
+                .append('|')
+                .append(application.getId())
+                .append('|')
+                .append(application.getUpdatedAt())
+                .append('|')
+                .append(application.getLastDeployedAt())
+                .append('|')
+                .append(application.getPublishedModeThemeId());
+
+        for (ApplicationPage page : application.getPublishedPages()) {
+            source.append('|').append(page.getId()).append(':').append(page.getIsDefault());
+        }
+
+        if (application.getPublishedCustomJSLibs() != null) {
+            application.getPublishedCustomJSLibs().stream()
+                    .map(CustomJSLibApplicationDTO::getUidString)
+                    .sorted()
+                    .forEach(uidString -> source.append('|').append(uidString));
+        }
+
+        if (application.getPolicies() != null) {
+            application.getPolicies().stream()
+                    .filter(policy -> policy.getPermissionGroups() != null)
+                    .map(policy -> policy.getPermission() + new TreeSet<>(policy.getPermissionGroups()))
+                    .sorted()
+                    .forEach(policy -> source.append('|').append(policy));
+        }
+
+        return DigestUtils.sha256Hex(source.toString());
+    }
+
+    private static byte[] compress(byte[] data) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (OutputStream gzipStream = new GZIPOutputStream(outputStream)) {
+            gzipStream.write(data);
+        } catch (IOException e) {
+            // Writing to memory doesn't fail
+            throw new IllegalStateException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] data) {
+        try (InputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return gzipStream.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to decompress view bundle", e);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.appsmith.server.solutions;
 
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
+import com.appsmith.server.helpers.ActionExecutionResultCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.ratelimiting.ActionExecutionGovernor;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationService;
@@ -36,7 +38,9 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
             DatasourcePermission datasourcePermission,
             AnalyticsService analyticsService,
             DatasourceStorageService datasourceStorageService,
-            EnvironmentPermission environmentPermission) {
+            EnvironmentPermission environmentPermission,
+            ActionExecutionGovernor actionExecutionGovernor,
+            ActionExecutionResultCache actionExecutionResultCache) {
         super(
                 newActionService,
                 actionPermission,
@@ -54,6 +58,8 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
                 datasourcePermission,
                 analyticsService,
                 datasourceStorageService,
-                environmentPermission);
+                environmentPermission,
+                actionExecutionGovernor,
+                actionExecutionResultCache);
     }
 }
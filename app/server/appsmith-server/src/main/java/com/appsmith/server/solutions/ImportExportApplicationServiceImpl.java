@@ -21,6 +21,7 @@ import com.appsmith.server.services.ThemeService;
 import com.appsmith.server.services.WorkspaceService;
 import com.appsmith.server.solutions.ce.ImportExportApplicationServiceCEImpl;
 import com.google.gson.Gson;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
@@ -58,7 +59,8 @@ public class ImportExportApplicationServiceImpl extends ImportExportApplicationS
             Gson gson,
             TransactionalOperator transactionalOperator,
             DatasourceStorageService datasourceStorageService,
-            PermissionGroupRepository permissionGroupRepository) {
+            PermissionGroupRepository permissionGroupRepository,
+            ObservationRegistry observationRegistry) {
 
         super(
                 datasourceService,
@@ -86,6 +88,7 @@ public class ImportExportApplicationServiceImpl extends ImportExportApplicationS
                 gson,
                 transactionalOperator,
                 datasourceStorageService,
-                permissionGroupRepository);
+                permissionGroupRepository,
+                observationRegistry);
     }
 }
@@ -8,6 +8,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultShape;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -23,15 +24,16 @@ import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
-import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionResultCache;
 import com.appsmith.server.helpers.DatasourceAnalyticsUtils;
 import com.appsmith.server.helpers.DateUtils;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.ratelimiting.ActionExecutionGovernor;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationService;
@@ -111,6 +113,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     private final AnalyticsService analyticsService;
     private final DatasourceStorageService datasourceStorageService;
     private final EnvironmentPermission environmentPermission;
+    private final ActionExecutionGovernor actionExecutionGovernor;
+    private final ActionExecutionResultCache actionExecutionResultCache;
 
     static final String PARAM_KEY_REGEX = "^k\\d+$";
     static final String BLOB_KEY_REGEX =
@@ -136,7 +140,9 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             DatasourcePermission datasourcePermission,
             AnalyticsService analyticsService,
             DatasourceStorageService datasourceStorageService,
-            EnvironmentPermission environmentPermission) {
+            EnvironmentPermission environmentPermission,
+            ActionExecutionGovernor actionExecutionGovernor,
+            ActionExecutionResultCache actionExecutionResultCache) {
         this.newActionService = newActionService;
         this.actionPermission = actionPermission;
         this.observationRegistry = observationRegistry;
@@ -154,6 +160,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         this.analyticsService = analyticsService;
         this.datasourceStorageService = datasourceStorageService;
         this.environmentPermission = environmentPermission;
+        this.actionExecutionGovernor = actionExecutionGovernor;
+        this.actionExecutionResultCache = actionExecutionResultCache;
 
         this.patternList.add(Pattern.compile(PARAM_KEY_REGEX));
         this.patternList.add(Pattern.compile(BLOB_KEY_REGEX));
@@ -335,6 +343,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     dto.setViewMode(executeActionDTO.getViewMode());
                     dto.setParamProperties(executeActionDTO.getParamProperties());
                     dto.setPaginationField(executeActionDTO.getPaginationField());
+                    dto.setPageSize(executeActionDTO.getPageSize());
+                    dto.setContinuationToken(executeActionDTO.getContinuationToken());
                     return Mono.empty();
                 });
     }
@@ -617,37 +627,37 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
 
         Mono<ActionExecutionResult> executionMono = authenticationValidator
                 .validateAuthentication(datasourceStorage)
-                .zipWhen(validatedDatasource -> datasourceContextService
-                        .getDatasourceContext(validatedDatasource, plugin)
-                        .tag("plugin", plugin.getPackageName())
-                        .name(ACTION_EXECUTION_DATASOURCE_CONTEXT)
-                        .tap(Micrometer.observation(observationRegistry)))
-                .flatMap(tuple2 -> {
-                    DatasourceStorage datasourceStorage1 = tuple2.getT1();
-                    DatasourceContext<?> resourceContext = tuple2.getT2();
-                    // Now that we have the context (connection details), execute the action.
-
-                    Instant requestedAt = Instant.now();
-                    return ((PluginExecutor<Object>) pluginExecutor)
-                            .executeParameterizedWithMetrics(
-                                    resourceContext.getConnection(),
-                                    executeActionDTO,
-                                    datasourceStorage1.getDatasourceConfiguration(),
-                                    actionDTO.getActionConfiguration(),
-                                    observationRegistry)
-                            .map(actionExecutionResult -> {
-                                ActionExecutionRequest actionExecutionRequest = actionExecutionResult.getRequest();
-                                if (actionExecutionRequest == null) {
-                                    actionExecutionRequest = new ActionExecutionRequest();
-                                }
-
-                                actionExecutionRequest.setActionId(executeActionDTO.getActionId());
-                                actionExecutionRequest.setRequestedAt(requestedAt);
-
-                                actionExecutionResult.setRequest(actionExecutionRequest);
-                                return actionExecutionResult;
-                            });
-                });
+                .flatMap(datasourceStorage1 -> datasourceContextService.useDatasourceContext(
+                        datasourceContextService
+                                .getDatasourceContext(datasourceStorage1, plugin)
+                                .tag("plugin", plugin.getPackageName())
+                                .name(ACTION_EXECUTION_DATASOURCE_CONTEXT)
+                                .tap(Micrometer.observation(observationRegistry)),
+                        resourceContext -> {
+                            // Now that we have the context (connection details), execute the action.
+
+                            Instant requestedAt = Instant.now();
+                            return ((PluginExecutor<Object>) pluginExecutor)
+                                    .executeParameterizedWithMetrics(
+                                            resourceContext.getConnection(),
+                                            executeActionDTO,
+                                            datasourceStorage1.getDatasourceConfiguration(),
+                                            actionDTO.getActionConfiguration(),
+                                            observationRegistry)
+                                    .map(actionExecutionResult -> {
+                                        ActionExecutionRequest actionExecutionRequest =
+                                                actionExecutionResult.getRequest();
+                                        if (actionExecutionRequest == null) {
+                                            actionExecutionRequest = new ActionExecutionRequest();
+                                        }
+
+                                        actionExecutionRequest.setActionId(executeActionDTO.getActionId());
+                                        actionExecutionRequest.setRequestedAt(requestedAt);
+
+                                        actionExecutionResult.setRequest(actionExecutionRequest);
+                                        return actionExecutionResult;
+                                    });
+                        }));
 
         return executionMono.onErrorResume(StaleConnectionException.class, error -> {
             log.info("Looks like the connection is stale. Retrying with a fresh context.");
@@ -721,8 +731,24 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
 
                     Integer timeoutDuration = actionDTO.getActionConfiguration().getTimeoutInMillisecond();
 
-                    Mono<ActionExecutionResult> actionExecutionResultMono = verifyDatasourceAndMakeRequest(
-                                    executeActionDTO, actionDTO, datasourceStorage, plugin, pluginExecutor)
+                    // The time the execution waits for its turn counts towards its timeout, so that executions
+                    // don't stay queued longer than they would have run. Executions answered with a shared result
+                    // don't take a turn at all.
+                    Mono<ActionExecutionResult> actionExecutionResultMono = actionExecutionResultCache
+                            .execute(
+                                    executeActionDTO,
+                                    actionDTO,
+                                    datasourceStorage,
+                                    pluginExecutor,
+                                    () -> actionExecutionGovernor.execute(
+                                            datasourceStorage.getDatasourceId(),
+                                            actionDTO.getWorkspaceId(),
+                                            () -> verifyDatasourceAndMakeRequest(
+                                                    executeActionDTO,
+                                                    actionDTO,
+                                                    datasourceStorage,
+                                                    plugin,
+                                                    pluginExecutor)))
                             .timeout(Duration.ofMillis(timeoutDuration));
 
                     return actionExecutionResultMono
@@ -810,20 +836,27 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
 
     private ActionExecutionResult addDataTypesAndSetSuggestedWidget(ActionExecutionResult result, Boolean viewMode) {
 
-        if (FALSE.equals(viewMode)) {
-            result.setSuggestedWidgets(getSuggestedWidgets(result.getBody()));
-        }
-
         /*
          * - Do not process if data types are already present.
          * - It means that data types have been added by specific plugin.
          */
+        boolean needsDataTypes = CollectionUtils.isEmpty(result.getDataTypes());
+        if (!FALSE.equals(viewMode) && !needsDataTypes) {
+            return result;
+        }
+
+        // The body is only walked once, for both the widgets and the data types
+        ResultShape shape = ResultShape.analyze(result.getBody());
+
+        if (FALSE.equals(viewMode)) {
+            result.setSuggestedWidgets(getSuggestedWidgets(shape));
+        }
 
-        if (!CollectionUtils.isEmpty(result.getDataTypes())) {
+        if (!needsDataTypes) {
             return result;
         }
 
-        result.setDataTypes(getDisplayDataTypes(result.getBody()));
+        result.setDataTypes(getDisplayDataTypes(shape));
 
         return result;
     }
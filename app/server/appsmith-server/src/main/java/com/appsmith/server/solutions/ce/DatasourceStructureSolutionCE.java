@@ -10,6 +10,21 @@ public interface DatasourceStructureSolutionCE {
 
     Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache, String environmentName);
 
+    /**
+     * Returns a page of the tables of the structure, optionally only those of the given schema.
+     *
+     * @param schema : schema the tables belong to, or null for all the tables
+     * @param offset : number of tables to skip, or null to start from the first one
+     * @param limit  : maximum number of tables to return, or null for all the remaining ones
+     */
+    Mono<DatasourceStructure> getStructure(
+            String datasourceId,
+            boolean ignoreCache,
+            String environmentName,
+            String schema,
+            Integer offset,
+            Integer limit);
+
     Mono<DatasourceStructure> getStructure(DatasourceStorage datasourceStorage, boolean ignoreCache);
 
     Mono<ActionExecutionResult> getSchemaPreviewData(
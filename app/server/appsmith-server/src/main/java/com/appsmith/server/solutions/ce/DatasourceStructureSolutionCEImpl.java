@@ -7,9 +7,11 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.DatasourceStorageStructure;
 import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.models.DatasourceStructure.Table;
 import com.appsmith.external.models.DatasourceStructure.Template;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.constants.FieldName;
@@ -26,11 +28,18 @@ import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.services.PluginService;
 import com.appsmith.server.solutions.DatasourcePermission;
 import com.appsmith.server.solutions.EnvironmentPermission;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 
 import static com.appsmith.server.helpers.DatasourceAnalyticsUtils.getAnalyticsPropertiesForTestEventStatus;
@@ -42,6 +51,9 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
 
     public static final int GET_STRUCTURE_TIMEOUT_SECONDS = 15;
 
+    // Minimum time between two background checks of a cached structure against the datasource
+    public static final Duration STRUCTURE_REFRESH_INTERVAL = Duration.ofMinutes(10);
+
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
     private final PluginExecutorHelper pluginExecutorHelper;
@@ -53,6 +65,11 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
     private final EnvironmentPermission environmentPermission;
     private final FeatureFlagService featureFlagService;
 
+    // Time of the last background check of every cached structure, keyed by datasource and environment. An entry is
+    // dropped once the refresh interval has passed, which lets the structure be checked again.
+    private final Cache<String, Instant> structureCheckedAt =
+            Caffeine.newBuilder().expireAfterWrite(STRUCTURE_REFRESH_INTERVAL).build();
+
     @Override
     public Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache, String environmentId) {
         return datasourceService
@@ -84,6 +101,47 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                 });
     }
 
+    @Override
+    public Mono<DatasourceStructure> getStructure(
+            String datasourceId,
+            boolean ignoreCache,
+            String environmentId,
+            String schema,
+            Integer offset,
+            Integer limit) {
+        if (offset != null && offset < 0) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "offset"));
+        }
+        if (limit != null && limit < 1) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "limit"));
+        }
+
+        return getStructure(datasourceId, ignoreCache, environmentId)
+                .map(structure -> getStructurePage(structure, schema, offset, limit));
+    }
+
+    /**
+     * Returns the tables of the given schema, from the offset and up to the limit, out of a whole structure. The total
+     * number of tables of the schema is set on the returned structure, for the client to ask for the remaining ones.
+     */
+    private DatasourceStructure getStructurePage(
+            DatasourceStructure structure, String schema, Integer offset, Integer limit) {
+        if (structure.getTables() == null || (schema == null && offset == null && limit == null)) {
+            return structure;
+        }
+
+        List<Table> tables = structure.getTables().stream()
+                .filter(table -> schema == null || schema.equals(table.getSchema()))
+                .toList();
+        int fromIndex = offset == null ? 0 : Math.min(offset, tables.size());
+        int toIndex = limit == null ? tables.size() : (int) Math.min((long) fromIndex + limit, tables.size());
+
+        DatasourceStructure page = new DatasourceStructure(tables.subList(fromIndex, toIndex));
+        page.setTotalTables(tables.size());
+        page.setError(structure.getError());
+        return page;
+    }
+
     @Override
     public Mono<DatasourceStructure> getStructure(DatasourceStorage datasourceStorage, boolean ignoreCache) {
 
@@ -104,9 +162,76 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                 datasourceStructureService.getByDatasourceIdAndEnvironmentId(
                         datasourceStorage.getDatasourceId(), datasourceStorage.getEnvironmentId());
 
+        // This mono, when computed, will load the structure of the datasourceStorage by calling the plugin method.
+        return configurationStructureMono
+                // Stored documents without a structure are fetched again, like missing ones
+                .mapNotNull(DatasourceStorageStructure::getStructure)
+                .flatMap(cachedStructure -> {
+                    if (ignoreCache) {
+                        // The cached structure is only returned again if the plugin finds it still up-to-date
+                        return fetchAndStoreStructure(datasourceStorage, cachedStructure, environmentNameMonoCached);
+                    }
+
+                    // Return the cached structure if available.
+                    return Mono.deferContextual(contextView -> {
+                        refreshStructureInBackground(
+                                datasourceStorage, cachedStructure, environmentNameMonoCached, contextView);
+                        return Mono.just(cachedStructure);
+                    });
+                })
+                .switchIfEmpty(
+                        Mono.defer(() -> fetchAndStoreStructure(datasourceStorage, null, environmentNameMonoCached)))
+                .defaultIfEmpty(new DatasourceStructure());
+    }
+
+    /**
+     * Checks a cached structure against the datasource without holding up the request it was returned for. Structures
+     * are only checked if their plugin reported a fingerprint for them, since that makes an unchanged structure cheap
+     * to detect, and at most once per refresh interval.
+     *
+     * @param contextView : context of the request, which the check is run with for analytics and permissions
+     */
+    private void refreshStructureInBackground(
+            DatasourceStorage datasourceStorage,
+            DatasourceStructure cachedStructure,
+            Mono<String> environmentNameMono,
+            ContextView contextView) {
+        if (cachedStructure.getFingerprint() == null || !hasText(datasourceStorage.getDatasourceId())) {
+            return;
+        }
+
+        String key = datasourceStorage.getDatasourceId() + "_" + datasourceStorage.getEnvironmentId();
+        if (structureCheckedAt.asMap().putIfAbsent(key, Instant.now()) != null) {
+            // The structure was checked within the refresh interval, or another request is checking it right now
+            return;
+        }
+
+        // The check is run outside the request, so the context of the request is written onto it
+        fetchAndStoreStructure(datasourceStorage, cachedStructure, environmentNameMono)
+                .contextWrite(contextView)
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(
+                        structure -> {},
+                        error -> log.debug(
+                                "Error refreshing the structure of datasource {} in the background",
+                                datasourceStorage.getDatasourceId(),
+                                error));
+    }
+
+    /**
+     * Loads the structure of the datasourceStorage by calling the plugin method, and stores it as the cached structure.
+     *
+     * If the plugin can tell what the structure looks like from a fingerprint, and it matches the one of the cached
+     * structure, the structure is not loaded again and the cached structure is returned as it is.
+     */
+    private Mono<DatasourceStructure> fetchAndStoreStructure(
+            DatasourceStorage datasourceStorage,
+            DatasourceStructure cachedStructure,
+            Mono<String> environmentNameMonoCached) {
+
         Mono<Boolean> flagMono = featureFlagService.check(FeatureFlagEnum.ab_mock_mongo_schema_enabled);
 
-        Mono<DatasourceStructure> fetchAndStoreNewStructureMono = pluginExecutorHelper
+        return pluginExecutorHelper
                 .getPluginExecutor(pluginService.findById(datasourceStorage.getPluginId()))
                 .switchIfEmpty(Mono.error(new AppsmithException(
                         AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN, datasourceStorage.getPluginId())))
@@ -114,15 +239,38 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                     return Mono.zip(Mono.just(pluginExecutor), flagMono);
                 })
                 .flatMap(tuple -> {
-                    PluginExecutor pluginExecutor = tuple.getT1();
+                    PluginExecutor<Object> pluginExecutor = tuple.getT1();
                     Boolean isMongoSchemaEnabledForMockDB = tuple.getT2();
-                    return datasourceContextService.retryOnce(
-                            datasourceStorage, resourceContext -> ((PluginExecutor<Object>) pluginExecutor)
-                                    .getStructure(
-                                            resourceContext.getConnection(),
-                                            datasourceStorage.getDatasourceConfiguration(),
-                                            datasourceStorage.getIsMock(),
-                                            isMongoSchemaEnabledForMockDB));
+                    return datasourceContextService.retryOnce(datasourceStorage, resourceContext -> {
+                        Object connection = resourceContext.getConnection();
+                        DatasourceConfiguration datasourceConfiguration =
+                                datasourceStorage.getDatasourceConfiguration();
+
+                        return pluginExecutor
+                                .getStructureFingerprint(connection, datasourceConfiguration)
+                                // The fingerprint is an optimisation, the structure is loaded if it can't be computed
+                                .onErrorResume(error -> !(error instanceof StaleConnectionException), error -> {
+                                    log.debug("Error computing the structure fingerprint of a datasource", error);
+                                    return Mono.empty();
+                                })
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty())
+                                .flatMap(fingerprint -> {
+                                    if (cachedStructure != null
+                                            && fingerprint.isPresent()
+                                            && fingerprint.get().equals(cachedStructure.getFingerprint())) {
+                                        return Mono.just(cachedStructure);
+                                    }
+
+                                    return pluginExecutor
+                                            .getStructure(
+                                                    connection,
+                                                    datasourceConfiguration,
+                                                    datasourceStorage.getIsMock(),
+                                                    isMongoSchemaEnabledForMockDB)
+                                            .doOnNext(structure -> structure.setFingerprint(fingerprint.orElse(null)));
+                                });
+                    });
                 })
                 .timeout(Duration.ofSeconds(GET_STRUCTURE_TIMEOUT_SECONDS))
                 .onErrorMap(
@@ -162,6 +310,11 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                     String datasourceId = datasourceStorage.getDatasourceId();
                     String environmentId = datasourceStorage.getEnvironmentId();
 
+                    if (structure == cachedStructure) {
+                        // The structure has not changed, the cached one is still up-to-date
+                        return Mono.just(structure);
+                    }
+
                     return environmentNameMonoCached
                             .zipWhen(environmentName -> analyticsService.sendObjectEvent(
                                     AnalyticsEvents.DS_SCHEMA_FETCH_EVENT,
@@ -175,18 +328,6 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                                                     .saveStructure(datasourceId, environmentId, structure)
                                                     .thenReturn(structure));
                 });
-
-        // This mono, when computed, will load the structure of the datasourceStorage by calling the plugin method.
-        return configurationStructureMono
-                .flatMap(configurationStructure -> {
-                    if (!ignoreCache && configurationStructure.getStructure() != null) {
-
-                        // Return the cached structure if available.
-                        return Mono.just(configurationStructure.getStructure());
-                    } else return Mono.empty();
-                })
-                .switchIfEmpty(fetchAndStoreNewStructureMono)
-                .defaultIfEmpty(new DatasourceStructure());
     }
 
     @Override
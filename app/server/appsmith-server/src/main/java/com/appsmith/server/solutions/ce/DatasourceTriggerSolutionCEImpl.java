@@ -99,12 +99,12 @@ public class DatasourceTriggerSolutionCEImpl implements DatasourceTriggerSolutio
                     final Plugin plugin = tuple.getT2();
                     final PluginExecutor pluginExecutor = tuple.getT3();
 
-                    return datasourceContextService
-                            .getDatasourceContext(datasourceStorage, plugin)
+                    return datasourceContextService.useDatasourceContext(
+                            datasourceContextService.getDatasourceContext(datasourceStorage, plugin),
                             // Now that we have the context (connection details), execute the action.
                             // datasource remains unevaluated for datasource of DBAuth Type Authentication,
                             // However the context comes from evaluated datasource.
-                            .flatMap(resourceContext -> ((PluginExecutor<Object>) pluginExecutor)
+                            resourceContext -> ((PluginExecutor<Object>) pluginExecutor)
                                     .trigger(
                                             resourceContext.getConnection(),
                                             datasourceStorage.getDatasourceConfiguration(),
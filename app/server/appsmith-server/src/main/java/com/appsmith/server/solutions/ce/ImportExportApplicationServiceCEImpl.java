@@ -45,7 +45,7 @@ import com.appsmith.server.dtos.ce.ImportActionResultDTO;
 import com.appsmith.server.dtos.ce.ImportedActionAndCollectionMapsDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
-import com.appsmith.server.helpers.DefaultResourcesUtils;
+import com.appsmith.server.helpers.GsonStreamUtils;
 import com.appsmith.server.helpers.ImportExportUtils;
 import com.appsmith.server.helpers.TextUtils;
 import com.appsmith.server.helpers.ce.ImportApplicationPermissionProvider;
@@ -74,26 +74,27 @@ import com.appsmith.server.solutions.ApplicationPermission;
 import com.appsmith.server.solutions.DatasourcePermission;
 import com.appsmith.server.solutions.PagePermission;
 import com.appsmith.server.solutions.WorkspacePermission;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.types.ObjectId;
-import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.multipart.Part;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
-import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -110,6 +111,12 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.GitConstants.NAME_SEPARATOR;
+import static com.appsmith.external.constants.spans.ApplicationSpan.IMPORT_ACTIONS;
+import static com.appsmith.external.constants.spans.ApplicationSpan.IMPORT_ACTION_COLLECTIONS;
+import static com.appsmith.external.constants.spans.ApplicationSpan.IMPORT_APPLICATION;
+import static com.appsmith.external.constants.spans.ApplicationSpan.IMPORT_DATASOURCES;
+import static com.appsmith.external.constants.spans.ApplicationSpan.IMPORT_PAGES;
+import static com.appsmith.external.constants.spans.ApplicationSpan.IMPORT_PAGE_LAYOUTS;
 import static com.appsmith.external.helpers.AppsmithBeanUtils.copyNestedNonNullProperties;
 import static com.appsmith.server.acl.AclPermission.READ_THEMES;
 import static com.appsmith.server.constants.ResourceModes.EDIT;
@@ -149,6 +156,7 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
     private final TransactionalOperator transactionalOperator;
     private final DatasourceStorageService datasourceStorageService;
     private final PermissionGroupRepository permissionGroupRepository;
+    private final ObservationRegistry observationRegistry;
 
     private static final Set<MediaType> ALLOWED_CONTENT_TYPES = Set.of(MediaType.APPLICATION_JSON);
     private static final String INVALID_JSON_FILE = "invalid json file";
@@ -702,9 +710,7 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
 
     public Mono<ExportFileDTO> getApplicationFile(String applicationId, String branchName) {
         return this.exportApplicationById(applicationId, branchName).map(applicationJson -> {
-            String stringifiedFile = gson.toJson(applicationJson);
             String applicationName = applicationJson.getExportedApplication().getName();
-            Object jsonObject = gson.fromJson(stringifiedFile, Object.class);
             HttpHeaders responseHeaders = new HttpHeaders();
             ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
                     .filename(applicationName + ".json", StandardCharsets.UTF_8)
@@ -712,8 +718,10 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
             responseHeaders.setContentDisposition(contentDisposition);
             responseHeaders.setContentType(MediaType.APPLICATION_JSON);
 
+            // Stream the file entity by entity instead of building the complete json in memory
             ExportFileDTO exportFileDTO = new ExportFileDTO();
-            exportFileDTO.setApplicationResource(jsonObject);
+            exportFileDTO.setApplicationResource(
+                    GsonStreamUtils.write(applicationJson, gson, DefaultDataBufferFactory.sharedInstance));
             exportFileDTO.setHttpHeaders(responseHeaders);
             return exportFileDTO;
         });
@@ -761,17 +769,11 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
             return Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE));
         }
 
-        return DataBufferUtils.join(filePart.content())
-                .map(dataBuffer -> {
-                    byte[] data = new byte[dataBuffer.readableByteCount()];
-                    dataBuffer.read(data);
-                    DataBufferUtils.release(dataBuffer);
-                    return new String(data);
-                })
-                .map(jsonString -> {
-                    Type fileType = new TypeToken<ApplicationJson>() {}.getType();
-                    ApplicationJson jsonFile = gson.fromJson(jsonString, fileType);
-                    return jsonFile;
+        // Parse the file as it is uploaded, one entity at a time, instead of reading it into a single string
+        return GsonStreamUtils.read(filePart.content(), gson, ApplicationJson.class)
+                .onErrorMap(JsonProcessingException.class, error -> {
+                    log.error("Error while parsing the application json file", error);
+                    return new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE);
                 });
     }
 
@@ -1104,7 +1106,9 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                 .map(tuple -> {
                     log.debug("Time taken to import datasources: {} ms", tuple.getT1());
                     return tuple.getT2();
-                });
+                })
+                .name(IMPORT_DATASOURCES)
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     private Mono<Application> getImportApplicationMono(
@@ -1215,7 +1219,9 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                 .onErrorResume(error -> {
                     log.error("Error while creating or updating application object", error);
                     return Mono.error(error);
-                });
+                })
+                .name(IMPORT_APPLICATION)
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     private Mono<Map<String, String>> getPluginMapMono() {
@@ -1335,25 +1341,44 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                     ImportActionResultDTO importActionResultDTO =
                             objects.getT1().getT2();
                     List<NewPage> newPages = objects.getT2().getT1();
-                    return Flux.fromIterable(newPages)
-                            .flatMap(newPage -> {
-                                if (newPage.getDefaultResources() != null) {
-                                    newPage.getDefaultResources().setBranchName(branchName);
-                                }
-                                return mapActionAndCollectionIdWithPageLayout(
-                                        newPage,
-                                        importActionResultDTO.getActionIdMap(),
-                                        actionAndCollectionMapsDTO.getUnpublishedActionIdToCollectionIdMap(),
-                                        actionAndCollectionMapsDTO.getPublishedActionIdToCollectionIdMap());
+
+                    // Collect the on load actions of all the pages so that they are fetched in a single query
+                    Set<String> layoutOnLoadActionIds = new HashSet<>();
+                    for (NewPage newPage : newPages) {
+                        if (newPage.getDefaultResources() != null) {
+                            newPage.getDefaultResources().setBranchName(branchName);
+                        }
+                        layoutOnLoadActionIds.addAll(getLayoutOnLoadActionsForPage(
+                                newPage,
+                                importActionResultDTO.getActionIdMap(),
+                                actionAndCollectionMapsDTO.getUnpublishedActionIdToCollectionIdMap(),
+                                actionAndCollectionMapsDTO.getPublishedActionIdToCollectionIdMap()));
+                    }
+
+                    return newActionService
+                            .findAllById(layoutOnLoadActionIds)
+                            .collectMap(NewAction::getId)
+                            .flatMap(savedActionsMap -> {
+                                newPages.forEach(
+                                        newPage -> mapActionAndCollectionIdWithPageLayout(newPage, savedActionsMap));
+                                return newPageRepository.bulkUpdate(newPages);
                             })
-                            .collectList()
-                            .flatMapMany(newPageService::saveAll)
-                            .collectList();
+                            .thenReturn(newPages);
                 })
                 .onErrorResume(throwable -> {
                     log.error("Failed to set action ids in pages", throwable);
                     return Mono.error(throwable);
-                });
+                })
+                .elapsed()
+                .map(tuple -> {
+                    log.debug(
+                            "time to update action ids in {} pages: {}",
+                            tuple.getT2().size(),
+                            tuple.getT1());
+                    return tuple.getT2();
+                })
+                .name(IMPORT_PAGE_LAYOUTS)
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     private Mono<ImportActionCollectionResultDTO> createImportActionCollectionMono(
@@ -1396,14 +1421,17 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                         pageNameMapMono)
                 .flatMap(objects -> {
                     log.info("Importing action collections");
-                    return actionCollectionService.importActionCollections(
-                            objects.getT1(),
-                            objects.getT2(),
-                            branchName,
-                            objects.getT3(),
-                            objects.getT4(),
-                            objects.getT5(),
-                            permissionProvider);
+                    return actionCollectionService
+                            .importActionCollections(
+                                    objects.getT1(),
+                                    objects.getT2(),
+                                    branchName,
+                                    objects.getT3(),
+                                    objects.getT4(),
+                                    objects.getT5(),
+                                    permissionProvider)
+                            .name(IMPORT_ACTION_COLLECTIONS)
+                            .tap(Micrometer.observation(observationRegistry));
                 })
                 .onErrorResume(throwable -> {
                     log.error("Error importing action collections", throwable);
@@ -1460,14 +1488,17 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
         }
 
         return Mono.zip(importedNewActionMono, importApplicationMono, pageNameMapMono, pluginMapMno, datasourceMapMono)
-                .flatMap(objects -> newActionService.importActions(
-                        objects.getT1(),
-                        objects.getT2(),
-                        branchName,
-                        objects.getT3(),
-                        objects.getT4(),
-                        objects.getT5(),
-                        permissionProvider))
+                .flatMap(objects -> newActionService
+                        .importActions(
+                                objects.getT1(),
+                                objects.getT2(),
+                                branchName,
+                                objects.getT3(),
+                                objects.getT4(),
+                                objects.getT5(),
+                                permissionProvider)
+                        .name(IMPORT_ACTIONS)
+                        .tap(Micrometer.observation(observationRegistry)))
                 .flatMap(importActionResultDTO -> {
                     log.info("Actions imported. result: {}", importActionResultDTO.getGist());
                     // Updating the existing application for git-sync
@@ -1582,7 +1613,9 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                 .map(objects -> {
                     log.debug("time to import {} pages: {}", objects.getT2().size(), objects.getT1());
                     return objects.getT2();
-                });
+                })
+                .name(IMPORT_PAGES)
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     Mono<Application> savePagesToApplicationMono(
@@ -2078,15 +2111,37 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
             }
         });
 
-        return existingPages
-                .flatMapMany(existingSavedPages -> {
+        // find the pages with the same gitSyncId in other branches of this application and put them in a map
+        Mono<Map<String, NewPage>> pagesInOtherBranchesMono;
+        if (application.getGitApplicationMetadata() != null) {
+            final String defaultApplicationId =
+                    application.getGitApplicationMetadata().getDefaultApplicationId();
+            Set<String> gitSyncIds = pages.stream()
+                    .map(NewPage::getGitSyncId)
+                    .filter(gitSyncId -> !StringUtils.isEmpty(gitSyncId))
+                    .collect(Collectors.toSet());
+            pagesInOtherBranchesMono = newPageRepository
+                    .findByGitSyncIdsAndDefaultApplicationId(defaultApplicationId, gitSyncIds, Optional.empty())
+                    .collectMap(NewPage::getGitSyncId);
+        } else {
+            pagesInOtherBranchesMono = Mono.just(Collections.emptyMap());
+        }
+
+        return Mono.zip(existingPages, pagesInOtherBranchesMono)
+                .flatMapMany(objects -> {
+                    List<NewPage> existingSavedPages = objects.getT1();
+                    Map<String, NewPage> pagesInOtherBranches = objects.getT2();
                     Map<String, NewPage> savedPagesGitIdToPageMap = new HashMap<>();
 
                     existingSavedPages.stream()
                             .filter(newPage -> !StringUtils.isEmpty(newPage.getGitSyncId()))
                             .forEach(newPage -> savedPagesGitIdToPageMap.put(newPage.getGitSyncId(), newPage));
 
-                    return Flux.fromIterable(pages).flatMap(newPage -> {
+                    List<NewPage> importedPages = new ArrayList<>();
+                    List<NewPage> newNewPageList = new ArrayList<>();
+                    List<NewPage> existingNewPageList = new ArrayList<>();
+
+                    for (NewPage newPage : pages) {
                         log.debug(
                                 "Importing page: {}",
                                 newPage.getUnpublishedPage().getName());
@@ -2098,8 +2153,8 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                             if (!permissionProvider.hasEditPermission(existingPage)) {
                                 log.error(
                                         "User does not have permission to edit page with id: {}", existingPage.getId());
-                                return Mono.error(new AppsmithException(
-                                        AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.PAGE, existingPage.getId()));
+                                throw new AppsmithException(
+                                        AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.PAGE, existingPage.getId());
                             }
                             Set<Policy> existingPagePolicy = existingPage.getPolicies();
                             copyNestedNonNullProperties(newPage, existingPage);
@@ -2112,54 +2167,80 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                             existingPage.setDeletedAt(newPage.getDeletedAt());
                             existingPage.setDeleted(newPage.getDeleted());
                             existingPage.setPolicies(existingPagePolicy);
-                            return newPageService.save(existingPage);
+                            existingPage.updateForBulkWriteOperation();
+
+                            // Add it to pages list that'll be updated in bulk
+                            existingNewPageList.add(existingPage);
+                            importedPages.add(existingPage);
+                            continue;
+                        }
+
+                        // check if user has permission to add new page to the application
+                        if (!permissionProvider.canCreatePage(application)) {
+                            log.error(
+                                    "User does not have permission to create page in application with id: {}",
+                                    application.getId());
+                            throw new AppsmithException(
+                                    AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.APPLICATION, application.getId());
+                        }
+
+                        // this will generate the id and other auto generated fields e.g. createdAt
+                        newPage.updateForBulkWriteOperation();
+
+                        if (application.getGitApplicationMetadata() != null
+                                && newPage.getGitSyncId() != null
+                                && pagesInOtherBranches.containsKey(newPage.getGitSyncId())) {
+                            // Create new page but keep defaultApplicationId and defaultPageId same for both the pages
+                            NewPage branchedPage = pagesInOtherBranches.get(newPage.getGitSyncId());
+                            DefaultResources defaultResources = branchedPage.getDefaultResources();
+                            defaultResources.setBranchName(branchName);
+                            newPage.setDefaultResources(defaultResources);
+                            newPage.getUnpublishedPage()
+                                    .setDeletedAt(
+                                            branchedPage.getUnpublishedPage().getDeletedAt());
+                            newPage.setDeletedAt(branchedPage.getDeletedAt());
+                            newPage.setDeleted(branchedPage.getDeleted());
+                            // Set policies from existing branch object
+                            newPage.setPolicies(branchedPage.getPolicies());
                         } else {
-                            // check if user has permission to add new page to the application
-                            if (!permissionProvider.canCreatePage(application)) {
-                                log.error(
-                                        "User does not have permission to create page in application with id: {}",
-                                        application.getId());
-                                return Mono.error(new AppsmithException(
-                                        AppsmithError.ACL_NO_RESOURCE_FOUND,
-                                        FieldName.APPLICATION,
-                                        application.getId()));
-                            }
+                            DefaultResources defaultResources = newPage.getDefaultResources();
                             if (application.getGitApplicationMetadata() != null) {
-                                final String defaultApplicationId =
-                                        application.getGitApplicationMetadata().getDefaultApplicationId();
-                                return newPageService
-                                        .findByGitSyncIdAndDefaultApplicationId(
-                                                defaultApplicationId, newPage.getGitSyncId(), Optional.empty())
-                                        .switchIfEmpty(Mono.defer(() -> {
-                                            // This is the first page we are saving with given gitSyncId in this
-                                            // instance
-                                            DefaultResources defaultResources = new DefaultResources();
-                                            defaultResources.setApplicationId(defaultApplicationId);
-                                            defaultResources.setBranchName(branchName);
-                                            newPage.setDefaultResources(defaultResources);
-                                            return saveNewPageAndUpdateDefaultResources(newPage, branchName);
-                                        }))
-                                        .flatMap(branchedPage -> {
-                                            DefaultResources defaultResources = branchedPage.getDefaultResources();
-                                            // Create new page but keep defaultApplicationId and defaultPageId same for
-                                            // both the
-                                            // pages
-                                            defaultResources.setBranchName(branchName);
-                                            newPage.setDefaultResources(defaultResources);
-                                            newPage.getUnpublishedPage()
-                                                    .setDeletedAt(branchedPage
-                                                            .getUnpublishedPage()
-                                                            .getDeletedAt());
-                                            newPage.setDeletedAt(branchedPage.getDeletedAt());
-                                            newPage.setDeleted(branchedPage.getDeleted());
-                                            // Set policies from existing branch object
-                                            newPage.setPolicies(branchedPage.getPolicies());
-                                            return newPageService.save(newPage);
-                                        });
+                                // This is the first page we are saving with given gitSyncId in this instance
+                                defaultResources = new DefaultResources();
+                                defaultResources.setApplicationId(
+                                        application.getGitApplicationMetadata().getDefaultApplicationId());
+                            } else if (defaultResources == null) {
+                                defaultResources = new DefaultResources();
+                            }
+                            if (StringUtils.isEmpty(defaultResources.getApplicationId())) {
+                                defaultResources.setApplicationId(application.getId());
+                            }
+                            if (StringUtils.isEmpty(defaultResources.getPageId())) {
+                                defaultResources.setPageId(newPage.getId());
                             }
-                            return saveNewPageAndUpdateDefaultResources(newPage, branchName);
+                            defaultResources.setBranchName(branchName);
+                            newPage.setDefaultResources(defaultResources);
                         }
-                    });
+
+                        // gitSyncId will be used to sync resource across instances
+                        if (newPage.getGitSyncId() == null) {
+                            newPage.setGitSyncId(newPage.getApplicationId() + "_" + new ObjectId());
+                        }
+
+                        // Add it to pages list that'll be inserted in bulk
+                        newNewPageList.add(newPage);
+                        importedPages.add(newPage);
+                    }
+
+                    log.info(
+                            "Saving pages in bulk. New: {}, Updated: {}",
+                            newNewPageList.size(),
+                            existingNewPageList.size());
+
+                    return newPageRepository
+                            .bulkInsert(newNewPageList)
+                            .then(newPageRepository.bulkUpdate(existingNewPageList))
+                            .thenMany(Flux.fromIterable(importedPages));
                 })
                 .onErrorResume(error -> {
                     log.error("Error importing page", error);
@@ -2167,16 +2248,6 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
                 });
     }
 
-    private Mono<NewPage> saveNewPageAndUpdateDefaultResources(NewPage newPage, String branchName) {
-        NewPage update = new NewPage();
-        return newPageService.save(newPage).flatMap(page -> {
-            update.setDefaultResources(
-                    DefaultResourcesUtils.createDefaultIdsOrUpdateWithGivenResourceIds(page, branchName)
-                            .getDefaultResources());
-            return newPageService.update(page.getId(), update);
-        });
-    }
-
     private Set<String> getLayoutOnLoadActionsForPage(
             NewPage page,
             Map<String, String> actionIdMap,
@@ -2227,76 +2298,50 @@ public class ImportExportApplicationServiceCEImpl implements ImportExportApplica
         return layoutOnLoadActions;
     }
 
-    // This method will update the action id in saved page for layoutOnLoadAction
-    private Mono<NewPage> mapActionAndCollectionIdWithPageLayout(
-            NewPage newPage,
-            Map<String, String> actionIdMap,
-            Map<String, List<String>> unpublishedActionIdToCollectionIdsMap,
-            Map<String, List<String>> publishedActionIdToCollectionIdsMap) {
-
-        return Mono.just(newPage)
-                .flatMap(page -> {
-                    return newActionService
-                            .findAllById(getLayoutOnLoadActionsForPage(
-                                    page,
-                                    actionIdMap,
-                                    unpublishedActionIdToCollectionIdsMap,
-                                    publishedActionIdToCollectionIdsMap))
-                            .map(newAction -> {
-                                final String defaultActionId =
-                                        newAction.getDefaultResources().getActionId();
-                                if (page.getUnpublishedPage().getLayouts() != null) {
-                                    final String defaultCollectionId = newAction
-                                            .getUnpublishedAction()
-                                            .getDefaultResources()
-                                            .getCollectionId();
-                                    page.getUnpublishedPage().getLayouts().forEach(layout -> {
-                                        if (layout.getLayoutOnLoadActions() != null) {
-                                            layout.getLayoutOnLoadActions()
-                                                    .forEach(onLoadAction -> onLoadAction.stream()
-                                                            .filter(actionDTO -> StringUtils.equals(
-                                                                    actionDTO.getId(), newAction.getId()))
-                                                            .forEach(actionDTO -> {
-                                                                actionDTO.setDefaultActionId(defaultActionId);
-                                                                actionDTO.setDefaultCollectionId(defaultCollectionId);
-                                                            }));
-                                        }
-                                    });
+    // This method will update the default action and collection ids in the page layout for layoutOnLoadAction
+    private void mapActionAndCollectionIdWithPageLayout(NewPage page, Map<String, NewAction> savedActionsMap) {
+        if (page.getUnpublishedPage().getLayouts() != null) {
+            page.getUnpublishedPage().getLayouts().forEach(layout -> {
+                if (layout.getLayoutOnLoadActions() != null) {
+                    layout.getLayoutOnLoadActions()
+                            .forEach(onLoadAction -> onLoadAction.forEach(actionDTO -> {
+                                NewAction newAction = savedActionsMap.get(actionDTO.getId());
+                                if (newAction == null) {
+                                    return;
                                 }
+                                actionDTO.setDefaultActionId(
+                                        newAction.getDefaultResources().getActionId());
+                                actionDTO.setDefaultCollectionId(newAction
+                                        .getUnpublishedAction()
+                                        .getDefaultResources()
+                                        .getCollectionId());
+                            }));
+                }
+            });
+        }
 
-                                if (page.getPublishedPage() != null
-                                        && page.getPublishedPage().getLayouts() != null) {
-                                    page.getPublishedPage().getLayouts().forEach(layout -> {
-                                        if (layout.getLayoutOnLoadActions() != null) {
-                                            layout.getLayoutOnLoadActions()
-                                                    .forEach(onLoadAction -> onLoadAction.stream()
-                                                            .filter(actionDTO -> StringUtils.equals(
-                                                                    actionDTO.getId(), newAction.getId()))
-                                                            .forEach(actionDTO -> {
-                                                                actionDTO.setDefaultActionId(defaultActionId);
-                                                                if (newAction.getPublishedAction() != null
-                                                                        && newAction
-                                                                                        .getPublishedAction()
-                                                                                        .getDefaultResources()
-                                                                                != null) {
-                                                                    actionDTO.setDefaultCollectionId(newAction
-                                                                            .getPublishedAction()
-                                                                            .getDefaultResources()
-                                                                            .getCollectionId());
-                                                                }
-                                                            }));
-                                        }
-                                    });
+        if (page.getPublishedPage() != null && page.getPublishedPage().getLayouts() != null) {
+            page.getPublishedPage().getLayouts().forEach(layout -> {
+                if (layout.getLayoutOnLoadActions() != null) {
+                    layout.getLayoutOnLoadActions()
+                            .forEach(onLoadAction -> onLoadAction.forEach(actionDTO -> {
+                                NewAction newAction = savedActionsMap.get(actionDTO.getId());
+                                if (newAction == null) {
+                                    return;
                                 }
-                                return newAction;
-                            })
-                            .collectList()
-                            .thenReturn(page);
-                })
-                .onErrorResume(error -> {
-                    log.error("Error while updating action collection id in page layout", error);
-                    return Mono.error(error);
-                });
+                                actionDTO.setDefaultActionId(
+                                        newAction.getDefaultResources().getActionId());
+                                if (newAction.getPublishedAction() != null
+                                        && newAction.getPublishedAction().getDefaultResources() != null) {
+                                    actionDTO.setDefaultCollectionId(newAction
+                                            .getPublishedAction()
+                                            .getDefaultResources()
+                                            .getCollectionId());
+                                }
+                            }));
+                }
+            });
+        }
     }
 
     /**
@@ -4,6 +4,7 @@ import com.appsmith.server.configurations.RedisTestContainerConfig;
 import com.appsmith.server.configurations.SecurityTestConfig;
 import com.appsmith.server.constants.Url;
 import com.appsmith.server.dtos.ApplicationImportDTO;
+import com.appsmith.server.dtos.PublishedViewBundleDTO;
 import com.appsmith.server.exceptions.AppsmithErrorCode;
 import com.appsmith.server.fork.internal.ApplicationForkingService;
 import com.appsmith.server.helpers.GitFileUtils;
@@ -12,6 +13,7 @@ import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.ApplicationSnapshotService;
+import com.appsmith.server.services.PublishedViewBundleService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.ThemeService;
 import com.appsmith.server.services.UserDataService;
@@ -25,6 +27,7 @@ import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -34,6 +37,7 @@ import org.springframework.web.reactive.function.BodyInserters;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.util.List;
 
 @ExtendWith(SpringExtension.class)
 @WebFluxTest(ApplicationController.class)
@@ -60,6 +64,9 @@ public class ApplicationControllerTest {
     @MockBean
     ThemeService themeService;
 
+    @MockBean
+    PublishedViewBundleService publishedViewBundleService;
+
     @MockBean
     UserDataService userDataService;
 
@@ -149,4 +156,39 @@ public class ApplicationControllerTest {
                 .expectStatus()
                 .isEqualTo(200);
     }
+
+    @Test
+    @WithMockUser
+    public void getViewBundle_whenETagMatches_thenNotModified() {
+        PublishedViewBundleDTO bundle = new PublishedViewBundleDTO();
+        bundle.setPages(List.of());
+        bundle.setActions(List.of());
+        bundle.setEtag("bundle-etag");
+        Mockito.when(publishedViewBundleService.getViewBundle(Mockito.eq("appId"), Mockito.any()))
+                .thenReturn(Mono.just(bundle));
+
+        webTestClient
+                .get()
+                .uri(Url.APPLICATION_URL + "/view/appId/bundle")
+                .exchange()
+                .expectStatus()
+                .isEqualTo(200)
+                .expectHeader()
+                .valueEquals(HttpHeaders.ETAG, "\"bundle-etag\"")
+                .expectBody()
+                .jsonPath("$.data.pages")
+                .isArray()
+                .jsonPath("$.data.etag")
+                .doesNotExist();
+
+        webTestClient
+                .get()
+                .uri(Url.APPLICATION_URL + "/view/appId/bundle")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"bundle-etag\"")
+                .exchange()
+                .expectStatus()
+                .isEqualTo(304)
+                .expectBody()
+                .isEmpty();
+    }
 }
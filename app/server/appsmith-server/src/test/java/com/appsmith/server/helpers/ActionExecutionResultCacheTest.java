@@ -0,0 +1,232 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.model.CachePolicy;
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.Param;
+import com.appsmith.external.models.ResultCacheStatus;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.ActionExecutionResultCacheConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActionExecutionResultCacheTest {
+
+    private CacheManager cacheManager;
+
+    private PluginExecutor<?> pluginExecutor;
+
+    private ActionExecutionResultCache resultCache;
+
+    private ActionDTO actionDTO;
+
+    private DatasourceStorage datasourceStorage;
+
+    private AtomicInteger executions;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager = mock(CacheManager.class);
+        when(cacheManager.get(anyString(), anyString(), any(CachePolicy.class))).thenReturn(Mono.empty());
+        when(cacheManager.put(anyString(), anyString(), any(), any(CachePolicy.class)))
+                .thenReturn(Mono.just(true));
+        pluginExecutor = mock(PluginExecutor.class);
+        when(pluginExecutor.isReadOnlyAction(any())).thenReturn(true);
+
+        ActionExecutionResultCacheConfig config = new ActionExecutionResultCacheConfig();
+        config.setMaxEntries(100);
+        config.setMaxResultSize(1024);
+        config.setMaxTtl(Duration.ofMinutes(5));
+        resultCache = new ActionExecutionResultCache(cacheManager, new ObjectMapper(), config);
+
+        actionDTO = new ActionDTO();
+        actionDTO.setId("actionId");
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT * FROM users WHERE id = {{Input1.text}}");
+        actionDTO.setActionConfiguration(actionConfiguration);
+        datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId("datasourceId");
+        datasourceStorage.setEnvironmentId("environmentId");
+        executions = new AtomicInteger();
+    }
+
+    private static ExecuteActionDTO executeActionDTO(String paramValue) {
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        Param param = new Param();
+        param.setKey("Input1.text");
+        param.setValue(paramValue);
+        executeActionDTO.setParams(List.of(param));
+        return executeActionDTO;
+    }
+
+    private Supplier<Mono<ActionExecutionResult>> execution(Mono<?> completion) {
+        return () -> {
+            executions.incrementAndGet();
+            return completion.then(Mono.fromCallable(() -> {
+                ActionExecutionResult result = new ActionExecutionResult();
+                result.setIsExecutionSuccess(true);
+                result.setBody(List.of(Map.of("id", 1)));
+                return result;
+            }));
+        };
+    }
+
+    private Mono<ActionExecutionResult> execute(ExecuteActionDTO executeActionDTO, Mono<?> completion) {
+        return resultCache.execute(
+                executeActionDTO, actionDTO, datasourceStorage, pluginExecutor, execution(completion));
+    }
+
+    @Test
+    public void execute_concurrentIdenticalExecutions_callsPluginOnce() {
+        actionDTO.getActionConfiguration().setDeduplicateExecutions(true);
+        Sinks.Empty<Void> pluginResponse = Sinks.empty();
+
+        Mono<List<ActionExecutionResult>> results = Flux.range(0, 10)
+                .flatMap(i -> execute(executeActionDTO("1"), pluginResponse.asMono()))
+                .collectList();
+
+        StepVerifier.create(results)
+                .then(pluginResponse::tryEmitEmpty)
+                .assertNext(list -> {
+                    assertThat(list).hasSize(10);
+                    assertThat(list)
+                            .allSatisfy(result -> assertThat(result.getBody()).isEqualTo(List.of(Map.of("id", 1))));
+                    assertThat(list)
+                            .filteredOn(result -> result.getResultCacheStatus() == ResultCacheStatus.MISS)
+                            .hasSize(1);
+                    assertThat(list)
+                            .filteredOn(result -> result.getResultCacheStatus() == ResultCacheStatus.COALESCED)
+                            .hasSize(9);
+                    // Every caller gets its own result
+                    assertThat(list.stream().distinct()).hasSize(10);
+                })
+                .verifyComplete();
+        assertThat(executions.get()).isEqualTo(1);
+
+        // Executions that are not concurrent are not coalesced
+        StepVerifier.create(execute(executeActionDTO("1"), Mono.empty()))
+                .assertNext(result -> assertThat(result.getResultCacheStatus()).isEqualTo(ResultCacheStatus.MISS))
+                .verifyComplete();
+        assertThat(executions.get()).isEqualTo(2);
+        verify(cacheManager, never()).put(anyString(), anyString(), any(), any(CachePolicy.class));
+    }
+
+    @Test
+    public void execute_cachedResult_doesNotCallPlugin() {
+        actionDTO.getActionConfiguration().setResultCacheTtlInSeconds(30);
+        when(cacheManager.get(anyString(), anyString(), any(CachePolicy.class)))
+                .thenReturn(Mono.just("{\"isExecutionSuccess\":true,\"body\":[{\"id\":2}]}"));
+
+        StepVerifier.create(execute(executeActionDTO("1"), Mono.empty()))
+                .assertNext(result -> {
+                    assertThat(result.getResultCacheStatus()).isEqualTo(ResultCacheStatus.HIT);
+                    assertThat(result.getBody()).isEqualTo(List.of(Map.of("id", 2)));
+                    assertThat(result.getRequest().getActionId()).isEqualTo("actionId");
+                })
+                .verifyComplete();
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    public void execute_missedResult_isCachedUnderKeyOfItsParameters() throws Exception {
+        actionDTO.getActionConfiguration().setResultCacheTtlInSeconds(30);
+        String key = resultCache.getKey(executeActionDTO("1"), actionDTO, datasourceStorage);
+
+        StepVerifier.create(execute(executeActionDTO("1"), Mono.empty()))
+                .assertNext(result -> assertThat(result.getResultCacheStatus()).isEqualTo(ResultCacheStatus.MISS))
+                .verifyComplete();
+
+        verify(cacheManager)
+                .put(
+                        eq(ActionExecutionResultCache.CACHE_NAME),
+                        eq(key),
+                        argThat(json -> json instanceof String string
+                                && string.contains("\"body\":[{\"id\":1}]")
+                                && !string.contains("request")),
+                        any(CachePolicy.class));
+        assertThat(resultCache.getKey(executeActionDTO("2"), actionDTO, datasourceStorage))
+                .isNotEqualTo(key);
+
+        ExecuteActionDTO nextPage = executeActionDTO("1");
+        nextPage.setContinuationToken("token");
+        assertThat(resultCache.getKey(nextPage, actionDTO, datasourceStorage)).isNotEqualTo(key);
+    }
+
+    @Test
+    public void execute_mutatingAction_isRefused() {
+        actionDTO.getActionConfiguration().setDeduplicateExecutions(true);
+        actionDTO.getActionConfiguration().setResultCacheTtlInSeconds(30);
+        when(pluginExecutor.isReadOnlyAction(any())).thenReturn(false);
+
+        StepVerifier.create(execute(executeActionDTO("1"), Mono.empty()))
+                .assertNext(result -> assertThat(result.getResultCacheStatus()).isEqualTo(ResultCacheStatus.REFUSED))
+                .verifyComplete();
+        StepVerifier.create(execute(executeActionDTO("1"), Mono.empty()))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(executions.get()).isEqualTo(2);
+        verify(cacheManager, never()).get(anyString(), anyString(), any(CachePolicy.class));
+        verify(cacheManager, never()).put(anyString(), anyString(), any(), any(CachePolicy.class));
+    }
+
+    @Test
+    public void execute_twoViewersPagingSameQuery_eachGetTheirOwnCursor() {
+        actionDTO.getActionConfiguration().setDeduplicateExecutions(true);
+        actionDTO.getActionConfiguration().setResultCacheTtlInSeconds(30);
+        Sinks.Empty<Void> pluginResponse = Sinks.empty();
+        Supplier<Mono<ActionExecutionResult>> pagedExecution = () -> {
+            int cursor = executions.incrementAndGet();
+            return pluginResponse.asMono().then(Mono.fromCallable(() -> {
+                ActionExecutionResult result = new ActionExecutionResult();
+                result.setIsExecutionSuccess(true);
+                result.setBody(List.of(Map.of("id", 1)));
+                result.setContinuationToken("token" + cursor);
+                return result;
+            }));
+        };
+
+        Mono<List<ActionExecutionResult>> firstPages = Flux.range(0, 2)
+                .flatMap(viewer -> {
+                    ExecuteActionDTO firstPage = executeActionDTO("1");
+                    firstPage.setPageSize(10);
+                    return resultCache.execute(firstPage, actionDTO, datasourceStorage, pluginExecutor, pagedExecution);
+                })
+                .collectList();
+
+        StepVerifier.create(firstPages)
+                .then(pluginResponse::tryEmitEmpty)
+                .assertNext(list -> assertThat(list)
+                        .extracting(ActionExecutionResult::getContinuationToken)
+                        .containsExactlyInAnyOrder("token1", "token2"))
+                .verifyComplete();
+        assertThat(executions.get()).isEqualTo(2);
+        verify(cacheManager, never()).get(anyString(), anyString(), any(CachePolicy.class));
+        verify(cacheManager, never()).put(anyString(), anyString(), any(), any(CachePolicy.class));
+    }
+}
@@ -0,0 +1,108 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GsonStreamUtilsTest {
+
+    private final Gson gson = createGson();
+
+    private static Gson createGson() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        SerializationUtils.typeAdapterRegistration().customize(gsonBuilder);
+        return gsonBuilder.create();
+    }
+
+    private static String readApplicationFile() throws IOException {
+        return new ClassPathResource("test_assets/ImportExportServiceTest/valid-application.json")
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private static Flux<DataBuffer> toChunks(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return Flux.range(0, (bytes.length + chunkSize - 1) / chunkSize)
+                .map(index -> DefaultDataBufferFactory.sharedInstance.wrap(
+                        Arrays.copyOfRange(bytes, index * chunkSize, Math.min(bytes.length, (index + 1) * chunkSize))));
+    }
+
+    @Test
+    void read_applicationJsonInSmallChunks_sameAsReadingTheString() throws IOException {
+        String json = readApplicationFile();
+        ApplicationJson expected = gson.fromJson(json, ApplicationJson.class);
+
+        StepVerifier.create(GsonStreamUtils.read(toChunks(json, 7), gson, ApplicationJson.class))
+                .assertNext(applicationJson -> {
+                    assertThat(applicationJson.getPageList())
+                            .hasSize(expected.getPageList().size());
+                    assertThat(applicationJson.getActionList())
+                            .hasSize(expected.getActionList().size());
+                    assertThat(JsonParser.parseString(gson.toJson(applicationJson)))
+                            .isEqualTo(JsonParser.parseString(gson.toJson(expected)));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void write_applicationJson_sameAsWritingTheString() throws IOException {
+        ApplicationJson applicationJson = gson.fromJson(readApplicationFile(), ApplicationJson.class);
+
+        StepVerifier.create(DataBufferUtils.join(
+                                GsonStreamUtils.write(applicationJson, gson, DefaultDataBufferFactory.sharedInstance))
+                        .map(dataBuffer -> dataBuffer.toString(StandardCharsets.UTF_8)))
+                .assertNext(json -> assertThat(JsonParser.parseString(json))
+                        .isEqualTo(JsonParser.parseString(gson.toJson(applicationJson))))
+                .verifyComplete();
+    }
+
+    @Test
+    void read_writtenApplicationJson_sameAsOriginal() throws IOException {
+        ApplicationJson applicationJson = gson.fromJson(readApplicationFile(), ApplicationJson.class);
+
+        StepVerifier.create(GsonStreamUtils.read(
+                        GsonStreamUtils.write(applicationJson, gson, DefaultDataBufferFactory.sharedInstance),
+                        gson,
+                        ApplicationJson.class))
+                .assertNext(readApplicationJson -> assertThat(JsonParser.parseString(gson.toJson(readApplicationJson)))
+                        .isEqualTo(JsonParser.parseString(gson.toJson(applicationJson))))
+                .verifyComplete();
+    }
+
+    @Test
+    void read_invalidJson_throwsParseException() throws IOException {
+        String json = readApplicationFile();
+
+        StepVerifier.create(GsonStreamUtils.read(toChunks("[]", 1), gson, ApplicationJson.class))
+                .expectError(JsonParseException.class)
+                .verify();
+
+        StepVerifier.create(GsonStreamUtils.read(
+                        toChunks(json.substring(0, json.length() / 2), 64), gson, ApplicationJson.class))
+                .expectError(JsonParseException.class)
+                .verify();
+
+        StepVerifier.create(GsonStreamUtils.read(toChunks(json + "{}", 64), gson, ApplicationJson.class))
+                .expectError(JsonParseException.class)
+                .verify();
+
+        StepVerifier.create(GsonStreamUtils.read(toChunks("{\"pageList\": [}", 64), gson, ApplicationJson.class))
+                .expectError(JsonParseException.class)
+                .verify();
+    }
+}
@@ -2,6 +2,7 @@ package com.appsmith.server.helpers;
 
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
+import com.appsmith.caching.codec.SmileCacheCodec;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ce.FeaturesRequestDTO;
 import com.appsmith.server.dtos.ce.FeaturesResponseDTO;
@@ -22,7 +23,7 @@ import java.util.HashMap;
 @Component
 public class MockCacheableFeatureFlagHelper implements CacheableFeatureFlagHelper {
 
-    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}")
+    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}", codec = SmileCacheCodec.class, ttl = "7d")
     @Override
     public Mono<CachedFlags> fetchUserCachedFlags(String userIdentifier, User user) {
         CachedFlags cachedFlags = new CachedFlags();
@@ -31,7 +32,7 @@ public class MockCacheableFeatureFlagHelper implements CacheableFeatureFlagHelpe
         return Mono.just(cachedFlags);
     }
 
-    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}")
+    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}", codec = SmileCacheCodec.class, ttl = "7d")
     @Override
     public Mono<CachedFlags> updateUserCachedFlags(String userIdentifier, CachedFlags cachedFlags) {
         return Mono.just(cachedFlags);
@@ -43,7 +44,7 @@ public class MockCacheableFeatureFlagHelper implements CacheableFeatureFlagHelpe
         return Mono.empty();
     }
 
-    @Cache(cacheName = "tenantNewFeatures", key = "{#tenantId}")
+    @Cache(cacheName = "tenantNewFeatures", key = "{#tenantId}", codec = SmileCacheCodec.class)
     @Override
     public Mono<CachedFeatures> fetchCachedTenantFeatures(String tenantId) {
         return getRemoteFeaturesForTenant(new FeaturesRequestDTO()).map(responseDTO -> {
@@ -54,7 +55,7 @@ public class MockCacheableFeatureFlagHelper implements CacheableFeatureFlagHelpe
         });
     }
 
-    @Cache(cacheName = "tenantNewFeatures", key = "{#tenantId}")
+    @Cache(cacheName = "tenantNewFeatures", key = "{#tenantId}", codec = SmileCacheCodec.class)
     @Override
     public Mono<CachedFeatures> updateCachedTenantFeatures(String tenantId, CachedFeatures cachedFeatures) {
         return Mono.just(cachedFeatures);
@@ -0,0 +1,186 @@
+package com.appsmith.server.ratelimiting;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.server.configurations.ActionExecutionGovernorConfig;
+import com.appsmith.server.constants.RateLimitConstants;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActionExecutionGovernorTest {
+
+    private static final String DATASOURCE_ID = "datasource";
+
+    private static final String WORKSPACE_ID = "workspace";
+
+    private ActionExecutionGovernorConfig config;
+
+    private RateLimitConfig rateLimitConfig;
+
+    private RateLimitService rateLimitService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        config = new ActionExecutionGovernorConfig();
+        config.setMaxInFlightPerDatasource(1);
+        config.setMaxQueuedPerDatasource(1);
+        config.setMaxInFlightPerWorkspace(10);
+        config.setMaxQueuedPerWorkspace(10);
+        rateLimitConfig = mock(RateLimitConfig.class);
+        rateLimitService = mock(RateLimitService.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private ActionExecutionGovernor createGovernor() {
+        return new ActionExecutionGovernor(config, rateLimitConfig, rateLimitService, meterRegistry);
+    }
+
+    private static void assertShed(Throwable error) {
+        assertThat(error).isInstanceOf(AppsmithException.class);
+        assertThat(((AppsmithException) error).getError()).isEqualTo(AppsmithError.TOO_MANY_ACTION_EXECUTIONS);
+    }
+
+    @Test
+    public void execute_overQueueDepth_shedsAndRunsQueuedExecutionWithWaitTime() {
+        ActionExecutionGovernor governor = createGovernor();
+        Sinks.One<ActionExecutionResult> running = Sinks.one();
+        AtomicInteger executions = new AtomicInteger();
+
+        Disposable first = governor.execute(DATASOURCE_ID, WORKSPACE_ID, () -> {
+                    executions.incrementAndGet();
+                    return running.asMono();
+                })
+                .subscribe();
+        Mono<ActionExecutionResult> queued = governor.execute(DATASOURCE_ID, WORKSPACE_ID, () -> {
+            executions.incrementAndGet();
+            return Mono.just(new ActionExecutionResult());
+        });
+
+        StepVerifier.create(queued)
+                .then(() -> StepVerifier.create(governor.execute(
+                                DATASOURCE_ID, WORKSPACE_ID, () -> Mono.just(new ActionExecutionResult())))
+                        .expectErrorSatisfies(ActionExecutionGovernorTest::assertShed)
+                        .verify())
+                .then(() -> assertThat(executions.get()).isEqualTo(1))
+                .thenAwait(Duration.ofMillis(20))
+                .then(() -> running.tryEmitValue(new ActionExecutionResult()))
+                .assertNext(result ->
+                        assertThat(result.getQueueWaitTimeInMillisecond()).isGreaterThanOrEqualTo(20))
+                .verifyComplete();
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(meterRegistry
+                        .counter("appsmith.action.execution.shed", "scope", "datasource", "reason", "queue_full")
+                        .count())
+                .isEqualTo(1);
+        first.dispose();
+    }
+
+    @Test
+    public void execute_cancelledWhileQueued_freesItsPlaceInQueue() {
+        ActionExecutionGovernor governor = createGovernor();
+        Sinks.One<ActionExecutionResult> running = Sinks.one();
+
+        governor.execute(DATASOURCE_ID, WORKSPACE_ID, running::asMono).subscribe();
+        governor.execute(DATASOURCE_ID, WORKSPACE_ID, () -> Mono.just(new ActionExecutionResult()))
+                .subscribe()
+                .dispose();
+
+        StepVerifier.create(governor.execute(DATASOURCE_ID, WORKSPACE_ID, () -> Mono.just(new ActionExecutionResult())))
+                .then(() -> running.tryEmitValue(new ActionExecutionResult()))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    public void execute_limitersKeptUntilLastExecutionIsDone() {
+        ActionExecutionGovernor governor = createGovernor();
+        Sinks.One<ActionExecutionResult> running = Sinks.one();
+
+        Disposable first =
+                governor.execute(DATASOURCE_ID, WORKSPACE_ID, running::asMono).subscribe();
+        StepVerifier.create(governor.execute(DATASOURCE_ID, WORKSPACE_ID, Mono::never))
+                .then(() -> {
+                    // Shed by the limiter that the running and the queued executions hold on to
+                    StepVerifier.create(governor.execute(
+                                    DATASOURCE_ID, WORKSPACE_ID, () -> Mono.just(new ActionExecutionResult())))
+                            .expectErrorSatisfies(ActionExecutionGovernorTest::assertShed)
+                            .verify();
+                    assertThat(governor.getLimiterCount()).isEqualTo(2);
+                })
+                .thenCancel()
+                .verify();
+
+        running.tryEmitValue(new ActionExecutionResult());
+        assertThat(governor.getLimiterCount()).isZero();
+        first.dispose();
+    }
+
+    @Test
+    public void execute_withoutDatasource_onlyLimitedByWorkspace() {
+        config.setMaxInFlightPerWorkspace(1);
+        config.setMaxQueuedPerWorkspace(0);
+        ActionExecutionGovernor governor = createGovernor();
+
+        governor.execute(null, WORKSPACE_ID, Mono::never).subscribe();
+        StepVerifier.create(governor.execute(null, WORKSPACE_ID, () -> Mono.just(new ActionExecutionResult())))
+                .expectErrorSatisfies(ActionExecutionGovernorTest::assertShed)
+                .verify();
+        StepVerifier.create(governor.execute(null, "another workspace", () -> Mono.just(new ActionExecutionResult())))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    public void execute_overRateLimit_shedsWithoutExecuting() {
+        config.setMaxRequestsPerSecondPerDatasource(100);
+        ActionExecutionGovernor governor = createGovernor();
+        verify(rateLimitConfig)
+                .addApiRateLimit(
+                        eq(RateLimitConstants.BUCKET_KEY_FOR_DATASOURCE_ACTION_EXECUTIONS),
+                        argThat(apiRateLimit -> apiRateLimit.configurationVersion() == 100L));
+        when(rateLimitService.tryIncreaseCounter(
+                        RateLimitConstants.BUCKET_KEY_FOR_DATASOURCE_ACTION_EXECUTIONS, DATASOURCE_ID))
+                .thenReturn(Mono.just(false));
+        AtomicInteger executions = new AtomicInteger();
+
+        StepVerifier.create(governor.execute(DATASOURCE_ID, WORKSPACE_ID, () -> {
+                    executions.incrementAndGet();
+                    return Mono.just(new ActionExecutionResult());
+                }))
+                .expectErrorSatisfies(ActionExecutionGovernorTest::assertShed)
+                .verify();
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    public void execute_redisUnavailable_doesNotLimitRate() {
+        config.setMaxRequestsPerSecondPerDatasource(100);
+        ActionExecutionGovernor governor = createGovernor();
+        when(rateLimitService.tryIncreaseCounter(anyString(), anyString()))
+                .thenReturn(Mono.error(new IllegalStateException("Redis is down")));
+
+        StepVerifier.create(governor.execute(DATASOURCE_ID, WORKSPACE_ID, () -> Mono.just(new ActionExecutionResult())))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,100 @@
+package com.appsmith.server.ratelimiting;
+
+import com.appsmith.server.constants.RateLimitConstants;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitServiceTest {
+
+    private static final String API = RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API;
+
+    private static final int CONCURRENT_REQUESTS = 1000;
+
+    private RateLimitConfig rateLimitConfig;
+
+    private AsyncBucketProxy bucket;
+
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    public void setUp() {
+        rateLimitConfig = mock(RateLimitConfig.class);
+        bucket = mock(AsyncBucketProxy.class);
+        when(rateLimitConfig.isRateLimited(API)).thenReturn(true);
+        when(rateLimitConfig.getOrCreateAPIUserSpecificBucket(anyString(), anyString()))
+                .thenReturn(bucket);
+        rateLimitService = new RateLimitService(rateLimitConfig);
+    }
+
+    @Test
+    public void tryIncreaseCounter_underLoad_neverBlocksNonBlockingThreads() {
+        // Redis doesn't answer until all the requests have been sent
+        CompletableFuture<Boolean> redisResponse = new CompletableFuture<>();
+        when(bucket.tryConsume(anyLong())).thenReturn(redisResponse);
+
+        Mono<List<Boolean>> resultsMono = Flux.range(0, CONCURRENT_REQUESTS)
+                .flatMap(
+                        i -> rateLimitService
+                                .tryIncreaseCounter(API, "user" + i)
+                                .subscribeOn(Schedulers.parallel()),
+                        CONCURRENT_REQUESTS)
+                .collectList();
+
+        // The parallel scheduler only has a few threads, if any of them waited on Redis the other requests would not be
+        // sent before Redis answers
+        StepVerifier.create(resultsMono)
+                .then(() ->
+                        verify(bucket, timeout(5000).times(CONCURRENT_REQUESTS)).tryConsume(1))
+                .then(() -> redisResponse.complete(true))
+                .assertNext(results ->
+                        assertThat(results).hasSize(CONCURRENT_REQUESTS).containsOnly(true))
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void tryIncreaseCounter_bucketEmpty_returnsFalse() {
+        when(bucket.tryConsume(anyLong())).thenReturn(CompletableFuture.completedFuture(false));
+
+        StepVerifier.create(rateLimitService.tryIncreaseCounter(API, "user"))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    public void tryIncreaseCounter_apiNotRateLimited_doesNotCallRedis() {
+        StepVerifier.create(rateLimitService.tryIncreaseCounter("notRateLimited", "user"))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(rateLimitConfig, never()).getOrCreateAPIUserSpecificBucket(anyString(), anyString());
+    }
+
+    @Test
+    public void resetCounter_doesNotWaitForRedis() {
+        when(bucket.reset()).thenReturn(new CompletableFuture<>());
+
+        rateLimitService.resetCounter(API, "user");
+
+        verify(bucket, times(1)).reset();
+    }
+}
@@ -1,5 +1,7 @@
 package com.appsmith.server.services;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.helpers.restApiUtils.connections.OAuth2ClientCredentials;
 import com.appsmith.external.models.ApiKeyAuth;
 import com.appsmith.external.models.AuthenticationDTO;
@@ -13,6 +15,7 @@ import com.appsmith.external.models.OAuth2;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.services.EncryptionService;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.DatasourceContext;
@@ -42,9 +45,13 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -56,6 +63,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -101,6 +110,9 @@ public class DatasourceContextServiceTest {
     @Autowired
     EnvironmentPermission environmentPermission;
 
+    @Autowired
+    DatasourceContextConfig datasourceContextConfig;
+
     String defaultEnvironmentId;
 
     String workspaceId;
@@ -146,10 +158,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), null);
 
-        Object monitor = new Object();
         // Create one instance of datasource connection
         Mono<DatasourceContext<?>> dsContextMono1 = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier);
 
         Datasource datasource = new Datasource();
         datasource.setId("id1");
@@ -177,7 +188,7 @@ public class DatasourceContextServiceTest {
         Mono<DatasourceContext<?>> dsContextMono2 = datasourceService
                 .archiveById("id1")
                 .flatMap(deleted -> datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier));
+                        datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier));
 
         StepVerifier.create(dsContextMono1)
                 .assertNext(dsContext1 -> {
@@ -346,14 +357,11 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
         DatasourceContext<?> dsContext1 = (DatasourceContext<?>) datasourceContextService
-                .getCachedDatasourceContextMono(
-                        datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                .getCachedDatasourceContextMono(datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         DatasourceContext<?> dsContext2 = (DatasourceContext<?>) datasourceContextService
-                .getCachedDatasourceContextMono(
-                        datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                .getCachedDatasourceContextMono(datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
 
         /* They can only be equal if the `datasourceCreate` method was called only once */
@@ -361,6 +369,286 @@ public class DatasourceContextServiceTest {
         assertEquals("connection_1", dsContext1.getConnection());
     }
 
+    /**
+     * This test checks that concurrent requests for the context of the same datasource share a single creation.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testConcurrentDatasourceCreate_createsConnectionOnce() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1").delayElement(Duration.ofMillis(200)))
+                .doReturn(Mono.just("connection_2"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId("concurrent_datasource");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        Mono<DatasourceContext<?>> dsContextMono = datasourceContextService.getCachedDatasourceContextMono(
+                datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier);
+
+        StepVerifier.create(Flux.range(0, 10)
+                        .flatMap(i -> dsContextMono.subscribeOn(Schedulers.parallel()))
+                        .map(DatasourceContext::getConnection)
+                        .distinct()
+                        .collectList())
+                .assertNext(connections -> assertEquals(List.of("connection_1"), connections))
+                .verifyComplete();
+
+        verify(spyMockPluginExecutor, times(1)).datasourceCreate(any());
+    }
+
+    /**
+     * This test checks that a datasource creation that hangs fails for its own requests once the create timeout has
+     * passed, and doesn't keep the creation of other datasources waiting for its slot.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testHungDatasourceCreate_timesOutAndFreesItsSlot() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+
+        MockPluginExecutor hungMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.never()).when(hungMockPluginExecutor).datasourceCreate(any());
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_after_hung_creates"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        Duration createTimeout = datasourceContextConfig.getCreateTimeout();
+        datasourceContextConfig.setCreateTimeout(Duration.ofMillis(500));
+        try {
+            // Every slot for concurrent creations is taken by a creation that never completes
+            Mono<List<Throwable>> hungCreateErrorsMono = Flux.range(
+                            0, datasourceContextConfig.getMaxConcurrentCreates())
+                    .flatMap(i -> getDatasourceContextMono("hung_datasource_" + i, hungMockPluginExecutor)
+                            .then(Mono.<Throwable>empty())
+                            .onErrorResume(Mono::just))
+                    .collectList();
+            Mono<DatasourceContext<?>> otherContextMono = getDatasourceContextMono(
+                            "datasource_after_hung_creates", spyMockPluginExecutor)
+                    .delaySubscription(Duration.ofMillis(100));
+
+            StepVerifier.create(Mono.zip(hungCreateErrorsMono, otherContextMono))
+                    .assertNext(tuple -> {
+                        assertEquals(
+                                datasourceContextConfig.getMaxConcurrentCreates(),
+                                tuple.getT1().size());
+                        assertThat(tuple.getT1())
+                                .allMatch(error -> error instanceof AppsmithPluginException pluginException
+                                        && pluginException.getError()
+                                                == AppsmithPluginError.PLUGIN_DATASOURCE_TIMEOUT_ERROR);
+                        assertEquals(
+                                "connection_after_hung_creates", tuple.getT2().getConnection());
+                    })
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(10));
+        } finally {
+            datasourceContextConfig.setCreateTimeout(createTimeout);
+        }
+    }
+
+    private Mono<DatasourceContext<?>> getDatasourceContextMono(
+            String datasourceId, PluginExecutor<Object> pluginExecutor) {
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId(datasourceId);
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        return datasourceContextService.getCachedDatasourceContextMono(
+                datasourceStorage,
+                pluginExecutor,
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId));
+    }
+
+    /**
+     * This test checks that a datasource context that hasn't been used for longer than the idle timeout is closed.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testCloseIdleDatasourceContexts_destroysIdleConnection() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("idle_connection")).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId("idle_datasource");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        datasourceContextService
+                .getCachedDatasourceContextMono(datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier)
+                .block();
+        assertTrue(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+
+        // Still in use within the last hour
+        assertEquals(0, datasourceContextService.closeIdleDatasourceContexts(Duration.ofHours(1)));
+
+        assertTrue(datasourceContextService.closeIdleDatasourceContexts(Duration.ZERO) >= 1);
+        verify(spyMockPluginExecutor, times(1)).datasourceDestroy("idle_connection");
+        assertFalse(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+    }
+
+    /**
+     * This test checks that the least recently used datasource contexts are closed beyond the maximum number of open
+     * contexts.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testCloseLeastRecentlyUsedDatasourceContexts_keepsRecentlyUsedConnection() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("old_connection"))
+                .doReturn(Mono.just("recent_connection"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage oldDatasourceStorage = new DatasourceStorage();
+        oldDatasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        oldDatasourceStorage.setDatasourceId("lru_datasource_old");
+        oldDatasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier oldIdentifier =
+                new DatasourceContextIdentifier(oldDatasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        DatasourceStorage recentDatasourceStorage = new DatasourceStorage();
+        recentDatasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        recentDatasourceStorage.setDatasourceId("lru_datasource_recent");
+        recentDatasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier recentIdentifier =
+                new DatasourceContextIdentifier(recentDatasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        datasourceContextService
+                .getCachedDatasourceContextMono(oldDatasourceStorage, spyMockPluginExecutor, oldIdentifier)
+                .block();
+        datasourceContextService
+                .getCachedDatasourceContextMono(recentDatasourceStorage, spyMockPluginExecutor, recentIdentifier)
+                .block();
+
+        // Other tests may have left contexts open, only the recently used one is expected to be kept
+        datasourceContextService.closeLeastRecentlyUsedDatasourceContexts(1);
+
+        verify(spyMockPluginExecutor, times(1)).datasourceDestroy("old_connection");
+        assertFalse(datasourceContextService.isValidDatasourceContextAvailable(oldDatasourceStorage, oldIdentifier));
+        assertTrue(
+                datasourceContextService.isValidDatasourceContextAvailable(recentDatasourceStorage, recentIdentifier));
+    }
+
+    /**
+     * This test checks that a datasource context that is in use by a long running task is neither closed for being
+     * least recently used nor for being idle, and that it can be closed once the task is done.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testCloseDatasourceContexts_skipsContextInUse() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("busy_connection"))
+                .doReturn(Mono.just("recent_connection"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage busyDatasourceStorage = new DatasourceStorage();
+        busyDatasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        busyDatasourceStorage.setDatasourceId("in_use_datasource_busy");
+        busyDatasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier busyIdentifier =
+                new DatasourceContextIdentifier(busyDatasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        DatasourceStorage recentDatasourceStorage = new DatasourceStorage();
+        recentDatasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        recentDatasourceStorage.setDatasourceId("in_use_datasource_recent");
+        recentDatasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier recentIdentifier =
+                new DatasourceContextIdentifier(recentDatasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        datasourceContextService
+                .getCachedDatasourceContextMono(busyDatasourceStorage, spyMockPluginExecutor, busyIdentifier)
+                .block();
+
+        // The query running on the busy context only completes when the test says so
+        Sinks.One<String> queryResult = Sinks.one();
+        Mono<String> runningQueryMono = datasourceContextService
+                .useDatasourceContext(
+                        datasourceContextService.getCachedDatasourceContextMono(
+                                busyDatasourceStorage, spyMockPluginExecutor, busyIdentifier),
+                        datasourceContext -> queryResult.asMono())
+                .cache();
+        runningQueryMono.subscribe();
+
+        datasourceContextService
+                .getCachedDatasourceContextMono(recentDatasourceStorage, spyMockPluginExecutor, recentIdentifier)
+                .block();
+
+        // The busy context is the least recently used one, yet only the idle ones are closed to respect the cap
+        datasourceContextService.closeLeastRecentlyUsedDatasourceContexts(1);
+        assertEquals(0, datasourceContextService.closeIdleDatasourceContexts(Duration.ZERO));
+
+        verify(spyMockPluginExecutor, times(0)).datasourceDestroy("busy_connection");
+        verify(spyMockPluginExecutor, times(1)).datasourceDestroy("recent_connection");
+        assertTrue(datasourceContextService.isValidDatasourceContextAvailable(busyDatasourceStorage, busyIdentifier));
+
+        queryResult.tryEmitValue("query_result");
+        StepVerifier.create(runningQueryMono).expectNext("query_result").verifyComplete();
+
+        datasourceContextService.closeLeastRecentlyUsedDatasourceContexts(0);
+        verify(spyMockPluginExecutor, times(1)).datasourceDestroy("busy_connection");
+    }
+
+    /**
+     * This test checks that a datasource context deleted while in use keeps its connection until the task using it is
+     * done.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testDeleteDatasourceContext_whileInUse_destroysConnectionOnRelease() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("deleted_in_use_connection"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId("deleted_in_use_datasource");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+        doReturn(datasourceContextIdentifier)
+                .when(datasourceContextService)
+                .initializeDatasourceContextIdentifier(datasourceStorage);
+
+        Sinks.One<String> queryResult = Sinks.one();
+        Mono<String> runningQueryMono = datasourceContextService
+                .useDatasourceContext(
+                        datasourceContextService.getCachedDatasourceContextMono(
+                                datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier),
+                        datasourceContext -> queryResult.asMono())
+                .cache();
+        runningQueryMono.subscribe();
+
+        datasourceContextService.deleteDatasourceContext(datasourceStorage).block();
+        verify(spyMockPluginExecutor, times(0)).datasourceDestroy("deleted_in_use_connection");
+
+        queryResult.tryEmitValue("query_result");
+        StepVerifier.create(runningQueryMono).expectNext("query_result").verifyComplete();
+        verify(spyMockPluginExecutor, times(1)).datasourceDestroy("deleted_in_use_connection");
+    }
+
     /**
      * This test checks that if `getCachedDatasourceCreate` method is called two times for the same datasource id, then
      * the datasource creation happens again and again for UpdatableConnection types
@@ -429,10 +717,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(createdDatasource.getId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
         final DatasourceContext<?> dsc1 = (DatasourceContext) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        createdDatasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        createdDatasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc1);
         assertTrue(dsc1.getConnection() instanceof UpdatableConnection);
@@ -441,7 +728,7 @@ public class DatasourceContextServiceTest {
 
         final DatasourceContext<?> dsc2 = (DatasourceContext) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        createdDatasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        createdDatasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc2);
         assertTrue(dsc2.getConnection() instanceof UpdatableConnection);
@@ -475,11 +762,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
@@ -492,7 +777,7 @@ public class DatasourceContextServiceTest {
     /**
      * This test verifies that if a cached datasource context Mono goes to an error state, then that Mono is invalidated
      * and a new datasource context mono is created on calling
-     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, PluginExecutor, Object, DatasourceContextIdentifier)}
+     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, PluginExecutor, DatasourceContextIdentifier)}
      * and not fetched from the cache.
      */
     @Test
@@ -517,17 +802,15 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier);
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
                 .verify();
 
         Mono<DatasourceContext<?>> validDatasourceContextMono = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(validDatasourceContextMono)
                 .assertNext(validDatasourceContext ->
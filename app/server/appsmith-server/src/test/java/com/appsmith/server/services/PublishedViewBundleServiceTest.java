@@ -0,0 +1,240 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.PublishedViewBundle;
+import com.appsmith.server.domains.Workspace;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.PageNameIdDTO;
+import com.appsmith.server.dtos.PublishedViewBundleDTO;
+import com.appsmith.server.helpers.MockPluginExecutor;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.PluginRepository;
+import com.appsmith.server.repositories.PublishedViewBundleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@DirtiesContext
+public class PublishedViewBundleServiceTest {
+
+    @Autowired
+    PublishedViewBundleService publishedViewBundleService;
+
+    @Autowired
+    PublishedViewBundleRepository publishedViewBundleRepository;
+
+    @Autowired
+    ApplicationPageService applicationPageService;
+
+    @Autowired
+    ApplicationRepository applicationRepository;
+
+    @Autowired
+    WorkspaceService workspaceService;
+
+    @Autowired
+    LayoutActionService layoutActionService;
+
+    @Autowired
+    NewActionService newActionService;
+
+    @Autowired
+    NewPageRepository newPageRepository;
+
+    @Autowired
+    NewActionRepository newActionRepository;
+
+    @Autowired
+    PluginRepository pluginRepository;
+
+    @MockBean
+    PluginExecutorHelper pluginExecutorHelper;
+
+    String workspaceId;
+
+    @BeforeEach
+    @WithUserDetails(value = "api_user")
+    public void setup() {
+        Workspace workspace = new Workspace();
+        workspace.setName("PublishedViewBundleServiceTest");
+        workspaceId = workspaceService.create(workspace).block().getId();
+
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any()))
+                .thenReturn(Mono.just(new MockPluginExecutor()));
+    }
+
+    private Application createApplication() {
+        Application application = new Application();
+        application.setName(UUID.randomUUID().toString());
+        return applicationPageService
+                .createApplication(application, workspaceId)
+                .block();
+    }
+
+    private PageDTO createPage(Application application, String name) {
+        PageDTO page = new PageDTO();
+        page.setName(name);
+        page.setApplicationId(application.getId());
+        return applicationPageService.createPage(page).block();
+    }
+
+    private ActionDTO createAction(String pageId, String name) {
+        Plugin plugin = pluginRepository.findByPackageName("installed-plugin").block();
+        Datasource datasource = new Datasource();
+        datasource.setName("Default Database");
+        datasource.setWorkspaceId(workspaceId);
+        datasource.setPluginId(plugin.getId());
+
+        ActionDTO action = new ActionDTO();
+        action.setName(name);
+        action.setPageId(pageId);
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        action.setActionConfiguration(actionConfiguration);
+        action.setDatasource(datasource);
+        return layoutActionService.createSingleAction(action, Boolean.FALSE).block();
+    }
+
+    private static List<String> getPageNames(PublishedViewBundleDTO bundle) {
+        return bundle.getPages().stream().map(PageNameIdDTO::getName).toList();
+    }
+
+    private static List<String> getActionNames(PublishedViewBundleDTO bundle) {
+        return bundle.getActions().stream().map(ActionViewDTO::getName).toList();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void publish_buildsAndStoresBundle() {
+        Application application = createApplication();
+        ActionDTO action = createAction(application.getPages().get(0).getId(), "query1");
+
+        applicationPageService.publish(application.getId(), true).block();
+
+        PublishedViewBundle storedBundle = publishedViewBundleRepository
+                .findByApplicationId(application.getId())
+                .block();
+        assertThat(storedBundle).isNotNull();
+        assertThat(storedBundle.getContentHash()).isNotNull();
+        assertThat(storedBundle.getActionPolicies()).containsKey(action.getId());
+
+        PublishedViewBundleDTO bundle = publishedViewBundleService
+                .getViewBundle(application.getId(), null)
+                .block();
+        assertThat(getPageNames(bundle)).containsExactly("Page1");
+        assertThat(getActionNames(bundle)).containsExactly("query1");
+        assertThat(bundle.getPages().get(0).getIsDefault()).isTrue();
+        assertThat(bundle.getEtag()).isNotNull();
+
+        // Reading the bundle again doesn't rebuild it
+        publishedViewBundleService.getViewBundle(application.getId(), null).block();
+        PublishedViewBundle bundleAfterRead = publishedViewBundleRepository
+                .findByApplicationId(application.getId())
+                .block();
+        assertThat(bundleAfterRead.getFingerprint()).isEqualTo(storedBundle.getFingerprint());
+        assertThat(bundleAfterRead.getUpdatedAt()).isEqualTo(storedBundle.getUpdatedAt());
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getViewBundle_whenPublishFinishes_replacesBundleReadDuringPublish() {
+        Application application = createApplication();
+        applicationPageService.publish(application.getId(), true).block();
+        createAction(application.getPages().get(0).getId(), "query1");
+
+        // Publishing saves the application before the actions are published, a read in between builds a bundle
+        // without the new action
+        applicationRepository
+                .findById(application.getId())
+                .flatMap(applicationRepository::save)
+                .block();
+        PublishedViewBundleDTO bundleDuringPublish = publishedViewBundleService
+                .getViewBundle(application.getId(), null)
+                .block();
+        assertThat(getActionNames(bundleDuringPublish)).isEmpty();
+
+        // The end of the publish, as seen by a node other than the one that published, which keeps the bundle it
+        // read during the publish
+        newActionService
+                .publishActions(application.getId(), AclPermission.MANAGE_ACTIONS)
+                .block();
+        applicationRepository
+                .setLastDeployedAt(application.getId(), Instant.now(), AclPermission.MANAGE_APPLICATIONS)
+                .block();
+
+        PublishedViewBundleDTO bundleAfterPublish = publishedViewBundleService
+                .getViewBundle(application.getId(), null)
+                .block();
+        assertThat(getActionNames(bundleAfterPublish)).containsExactly("query1");
+        assertThat(bundleAfterPublish.getEtag()).isNotEqualTo(bundleDuringPublish.getEtag());
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getViewBundle_returnsOnlyPagesAndActionsTheUserCanUse() {
+        Application application = createApplication();
+        PageDTO hiddenPage = createPage(application, "Page2");
+        createAction(application.getPages().get(0).getId(), "query1");
+        ActionDTO hiddenAction = createAction(hiddenPage.getId(), "query2");
+        applicationPageService.publish(application.getId(), true).block();
+
+        PublishedViewBundleDTO bundle = publishedViewBundleService
+                .getViewBundle(application.getId(), null)
+                .block();
+        assertThat(getPageNames(bundle)).containsExactly("Page1", "Page2");
+        assertThat(getActionNames(bundle)).containsExactlyInAnyOrder("query1", "query2");
+        assertThat(bundle.getPages().get(0).getUserPermissions()).isNotEmpty();
+
+        // Take away the permissions of the user on the second page and its action
+        newPageRepository
+                .findById(hiddenPage.getId())
+                .flatMap(page -> {
+                    page.setPolicies(new HashSet<>());
+                    return newPageRepository.save(page);
+                })
+                .block();
+        newActionRepository
+                .findById(hiddenAction.getId())
+                .flatMap(action -> {
+                    action.setPolicies(new HashSet<>());
+                    return newActionRepository.save(action);
+                })
+                .block();
+        publishedViewBundleService.buildBundle(application.getId()).block();
+
+        PublishedViewBundleDTO userBundle = publishedViewBundleService
+                .getViewBundle(application.getId(), null)
+                .block();
+        assertThat(getPageNames(userBundle)).containsExactly("Page1");
+        assertThat(getActionNames(userBundle)).containsExactly("query1");
+        assertThat(userBundle.getEtag()).isNotEqualTo(bundle.getEtag());
+    }
+}
@@ -1409,7 +1409,9 @@ public class ApplicationForkingServiceTests {
                                     new PEMCertificate(
                                             new UploadedFile("pemCertFile", "pem cert file content"),
                                             "pem cert file password")),
-                            "default db"));
+                            "default db",
+                            null,
+                            null));
 
                     dc.setEndpoints(List.of(new Endpoint("host1", 1L), new Endpoint("host2", 2L)));
 
@@ -1637,7 +1639,9 @@ public class ApplicationForkingServiceTests {
                                     new PEMCertificate(
                                             new UploadedFile("pemCertFile", "pem cert file content"),
                                             "pem cert file password")),
-                            "default db"));
+                            "default db",
+                            null,
+                            null));
 
                     dc.setEndpoints(List.of(new Endpoint("host1", 1L), new Endpoint("host2", 2L)));
 
@@ -196,6 +196,25 @@ public class DatasourceStructureSolutionTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void verifyGenerateNewStructureWhenStoredStructureIsNull() {
+        doReturn(Mono.just(generateDatasourceStructureObject()))
+                .when(datasourceContextService)
+                .retryOnce(any(), any());
+        datasourceStructureService
+                .save(new DatasourceStorageStructure(datasourceId, defaultEnvironmentId, null))
+                .block();
+
+        Mono<DatasourceStructure> datasourceStructureMono =
+                datasourceStructureSolution.getStructure(datasourceId, Boolean.FALSE, defaultEnvironmentId);
+
+        StepVerifier.create(datasourceStructureMono)
+                .assertNext(datasourceStructure ->
+                        assertThat(datasourceStructure.getTables().size()).isEqualTo(2))
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void verifyUseCachedStructureWhenStructurePresent() {
@@ -223,6 +242,33 @@ public class DatasourceStructureSolutionTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void verifyStructurePageWhenOffsetAndLimitPresent() {
+        doReturn(Mono.just(generateDatasourceStructureObject()))
+                .when(datasourceContextService)
+                .retryOnce(any(), any());
+
+        Mono<DatasourceStructure> datasourceStructureMono =
+                datasourceStructureSolution.getStructure(datasourceId, Boolean.FALSE, defaultEnvironmentId, null, 1, 5);
+
+        StepVerifier.create(datasourceStructureMono)
+                .assertNext(datasourceStructure -> {
+                    assertThat(datasourceStructure.getTotalTables()).isEqualTo(2);
+                    assertThat(datasourceStructure.getTables().size()).isEqualTo(1);
+                    assertThat(datasourceStructure.getTables().get(0).getName()).isEqualTo("Table2");
+                })
+                .verifyComplete();
+
+        StepVerifier.create(datasourceStructureSolution.getStructure(
+                        datasourceId, Boolean.FALSE, defaultEnvironmentId, "public", null, null))
+                .assertNext(datasourceStructure -> {
+                    assertThat(datasourceStructure.getTotalTables()).isEqualTo(0);
+                    assertThat(datasourceStructure.getTables()).isEmpty();
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void verifyUseNewStructureWhenIgnoreCacheSetTrue() {
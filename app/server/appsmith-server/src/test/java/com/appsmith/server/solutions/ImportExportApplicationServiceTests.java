@@ -69,6 +69,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
 import org.apache.commons.lang.StringUtils;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -1071,6 +1072,103 @@ public class ImportExportApplicationServiceTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void importApplication_withFiveHundredPages_pagesAndOnLoadActionsImported() {
+        ApplicationJson applicationJson = createAppJson("test_assets/ImportExportServiceTest/valid-application.json")
+                .block();
+
+        // Copy the first page along with its queries to build an application with 500 pages
+        NewPage templatePage = applicationJson.getPageList().get(0);
+        String templatePageName = templatePage.getUnpublishedPage().getName();
+        List<NewAction> templateActions = applicationJson.getActionList().stream()
+                .filter(newAction ->
+                        templatePageName.equals(newAction.getUnpublishedAction().getPageId())
+                                && !PluginType.JS.equals(newAction.getPluginType()))
+                .collect(Collectors.toList());
+
+        final int pageCount = 500;
+        for (int i = applicationJson.getPageList().size() + 1; i <= pageCount; i++) {
+            String pageName = "Page" + i;
+            NewPage page = gson.fromJson(gson.toJson(templatePage), NewPage.class);
+            page.setGitSyncId(null);
+            page.setPublishedPage(null);
+            page.getUnpublishedPage().setName(pageName);
+
+            Map<String, String> actionIds = new HashMap<>();
+            for (NewAction templateAction : templateActions) {
+                NewAction action = gson.fromJson(gson.toJson(templateAction), NewAction.class);
+                action.setId(new ObjectId().toString());
+                action.setGitSyncId(null);
+                action.getUnpublishedAction().setPageId(pageName);
+                actionIds.put(templateAction.getId(), action.getId());
+                applicationJson.getActionList().add(action);
+            }
+            page.getUnpublishedPage().getLayouts().forEach(layout -> layout.getLayoutOnLoadActions()
+                    .forEach(onLoadActions ->
+                            onLoadActions.forEach(actionDTO -> actionDTO.setId(actionIds.get(actionDTO.getId())))));
+            applicationJson.getPageList().add(page);
+
+            ApplicationPage applicationPage = new ApplicationPage();
+            applicationPage.setId(pageName);
+            applicationPage.setIsDefault(false);
+            applicationJson.getExportedApplication().getPages().add(applicationPage);
+        }
+
+        Workspace workspace = createTemplateWorkspace();
+
+        long startTime = System.currentTimeMillis();
+        Application application = importExportApplicationService
+                .importNewApplicationInWorkspaceFromJson(workspace.getId(), applicationJson)
+                .block();
+        log.info(
+                "Time taken to import an application with {} pages: {} ms",
+                pageCount,
+                System.currentTimeMillis() - startTime);
+
+        Mono<Tuple3<List<NewPage>, List<NewAction>, Application>> resultMono = Mono.zip(
+                newPageService
+                        .findNewPagesByApplicationId(application.getId(), MANAGE_PAGES)
+                        .collectList(),
+                newActionService
+                        .findAllByApplicationIdAndViewMode(application.getId(), false, READ_ACTIONS, null)
+                        .collectList(),
+                applicationRepository.findById(application.getId()));
+
+        StepVerifier.create(resultMono)
+                .assertNext(tuple -> {
+                    List<NewPage> pages = tuple.getT1();
+                    Map<String, NewAction> actionsById =
+                            tuple.getT2().stream().collect(Collectors.toMap(NewAction::getId, newAction -> newAction));
+                    Application savedApplication = tuple.getT3();
+
+                    assertThat(pages).hasSize(pageCount);
+                    assertThat(savedApplication.getPages()).hasSize(pageCount);
+                    assertThat(actionsById)
+                            .hasSize(applicationJson.getActionList().size());
+
+                    pages.forEach(page -> {
+                        assertThat(page.getGitSyncId()).isNotNull();
+                        assertThat(page.getPolicies()).isNotEmpty();
+                        assertThat(page.getDefaultResources().getPageId()).isEqualTo(page.getId());
+                        assertThat(page.getDefaultResources().getApplicationId())
+                                .isEqualTo(application.getId());
+
+                        page.getUnpublishedPage().getLayouts().forEach(layout -> layout.getLayoutOnLoadActions()
+                                .forEach(onLoadActions -> onLoadActions.forEach(actionDTO -> {
+                                    NewAction onLoadAction = actionsById.get(actionDTO.getId());
+                                    assertThat(onLoadAction).isNotNull();
+                                    assertThat(onLoadAction
+                                                    .getUnpublishedAction()
+                                                    .getPageId())
+                                            .isEqualTo(page.getId());
+                                    assertThat(actionDTO.getDefaultActionId()).isEqualTo(onLoadAction.getId());
+                                })));
+                    });
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void importApplicationInWorkspace_WhenCustomizedThemes_ThemesCreated() {
@@ -13,8 +13,10 @@ import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionResultCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.ratelimiting.ActionExecutionGovernor;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationService;
@@ -130,6 +132,12 @@ class ActionExecutionSolutionCEImplTest {
     @Autowired
     EnvironmentPermission environmentPermission;
 
+    @Autowired
+    ActionExecutionGovernor actionExecutionGovernor;
+
+    @Autowired
+    ActionExecutionResultCache actionExecutionResultCache;
+
     private BodyExtractor.Context context;
 
     private Map<String, Object> hints;
@@ -153,7 +161,9 @@ class ActionExecutionSolutionCEImplTest {
                 datasourcePermission,
                 analyticsService,
                 datasourceStorageService,
-                environmentPermission);
+                environmentPermission,
+                actionExecutionGovernor,
+                actionExecutionResultCache);
 
         ObservationRegistry.ObservationConfig mockObservationConfig =
                 Mockito.mock(ObservationRegistry.ObservationConfig.class);
@@ -1,5 +1,7 @@
 package com.appsmith.caching.annotations;
 
+import com.appsmith.caching.codec.CacheCodec;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -22,4 +24,36 @@ public @interface Cache {
      * All method arguments can be used in the expression
      */
     String key() default "";
+
+    /**
+     * When true, a cache hit may reload the item in the background shortly before it expires, so that hot items are
+     * refreshed by a single caller instead of being missed by all callers at once. The closer the item is to its
+     * expiry and the longer the method takes to run, the more likely a refresh is. Items without an expiry are never
+     * refreshed early.
+     */
+    boolean earlyRefresh() default false;
+
+    /**
+     * The codec used to store the items in Redis, which must be a Spring bean. By default, items are stored with the
+     * serializer of the ReactiveRedisTemplate.
+     */
+    Class<? extends CacheCodec> codec() default CacheCodec.class;
+
+    /**
+     * Time to live of the items, such as "30m" or "PT30M". By default, items never expire and are only removed when
+     * evicted.
+     */
+    String ttl() default "";
+
+    /**
+     * Maximum number of items in the cache, the least recently used items are evicted beyond it. By default, the
+     * number of items is not limited.
+     */
+    int maxEntries() default 0;
+
+    /**
+     * When set, such as "1m", a cache hit reloads the item in the background once its remaining time to live is below
+     * this duration, so that items in use are refreshed before they expire. Requires a ttl.
+     */
+    String refreshAhead() default "";
 }
@@ -2,24 +2,37 @@ package com.appsmith.caching.aspects;
 
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
+import com.appsmith.caching.codec.CacheCodec;
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.model.CachePolicy;
+import com.appsmith.caching.model.CacheStats;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * CacheAspect is an aspect that is used to cache the results of a method call annotated with Cache.
@@ -34,9 +47,147 @@ public class CacheAspect {
 
     public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
 
-    @Autowired
+    // Weight given to the load time when deciding on an early refresh, 1 is the value recommended for XFetch
+    private static final double EARLY_REFRESH_BETA = 1.0;
+
+    // Loads in progress by method and cache path, shared by all the callers of a method that miss the same item at the
+    // same time. Different methods caching to the same path, e.g. a fetch and an update, each run their own load.
+    private final Map<InFlightLoadKey, Mono<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    // Upper bound on the number of items whose expiry is kept locally
+    private static final long MAX_KNOWN_EXPIRIES = 10_000;
+
+    // Duration of the last load of each cache, used for items loaded elsewhere
+    private final Map<String, Long> loadDurationsNanos = new ConcurrentHashMap<>();
+
+    // Expiry and load duration of the items cached by the aspect, so that early refreshes are decided without asking
+    // the cache for the time to live of an item on every hit. Items missing from here, e.g. loaded by another node, are
+    // looked up once.
+    private final Map<CachePathKey, CachedItemExpiry> expiries = Caffeine.newBuilder()
+            .maximumSize(MAX_KNOWN_EXPIRIES)
+            .<CachePathKey, CachedItemExpiry>build()
+            .asMap();
+
+    // Codec beans by class, as referenced by the codec attribute of the Cache annotation
+    private final Map<Class<?>, CacheCodec> codecs;
+
+    // Policies by annotated method, so that the annotation is only parsed on the first call
+    private final Map<Method, CachePolicy> policies = new ConcurrentHashMap<>();
+
     public CacheAspect(CacheManager cacheManager) {
+        this(cacheManager, List.of());
+    }
+
+    @Autowired
+    public CacheAspect(CacheManager cacheManager, List<CacheCodec> codecs) {
         this.cacheManager = cacheManager;
+        this.codecs =
+                codecs.stream().collect(Collectors.toMap(codec -> ClassUtils.getUserClass(codec), Function.identity()));
+    }
+
+    /**
+     * This method is used to find the codec bean selected by the Cache annotation.
+     *
+     * @param annotation The Cache annotation of the method
+     * @return The codec, null if the annotation does not select one
+     */
+    private CacheCodec getCodec(Cache annotation) {
+        Class<? extends CacheCodec> codecClass = annotation.codec();
+        if (codecClass == CacheCodec.class) {
+            return null;
+        }
+
+        CacheCodec codec = codecs.get(codecClass);
+        if (codec == null) {
+            throw new IllegalStateException("Invalid usage of @Cache annotation. No CacheCodec bean found of class "
+                    + codecClass.getName() + " for cache " + annotation.cacheName());
+        }
+        return codec;
+    }
+
+    /**
+     * This method is used to parse a duration attribute of the Cache annotation.
+     *
+     * @param annotation The Cache annotation of the method
+     * @param attribute  The name of the attribute, for the error message
+     * @param value      The value of the attribute
+     * @return The duration, null if the attribute is not set
+     */
+    private static Duration parseDuration(Cache annotation, String attribute, String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+
+        Duration duration;
+        try {
+            duration = DurationStyle.detectAndParse(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid usage of @Cache annotation. Invalid " + attribute + " " + value
+                    + " for cache " + annotation.cacheName());
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalStateException("Invalid usage of @Cache annotation. The " + attribute
+                    + " must be positive for cache " + annotation.cacheName());
+        }
+        return duration;
+    }
+
+    /**
+     * This method is used to build the policy of the cache from the Cache annotation.
+     *
+     * @param annotation The Cache annotation of the method
+     * @return The policy of the cache
+     */
+    private CachePolicy buildPolicy(Cache annotation) {
+        Duration ttl = parseDuration(annotation, "ttl", annotation.ttl());
+        Duration refreshAhead = parseDuration(annotation, "refreshAhead", annotation.refreshAhead());
+        if (refreshAhead != null && ttl == null) {
+            throw new IllegalStateException("Invalid usage of @Cache annotation. refreshAhead requires a ttl for cache "
+                    + annotation.cacheName());
+        }
+        if (annotation.maxEntries() < 0) {
+            throw new IllegalStateException("Invalid usage of @Cache annotation. maxEntries must not be negative for "
+                    + "cache " + annotation.cacheName());
+        }
+
+        return CachePolicy.builder()
+                .codec(getCodec(annotation))
+                .ttl(ttl)
+                .maxEntries(annotation.maxEntries())
+                .refreshAhead(refreshAhead)
+                .build();
+    }
+
+    private Mono<Object> getFromCache(String cacheName, String key, CachePolicy policy) {
+        return policy.isDefault() ? cacheManager.get(cacheName, key) : cacheManager.get(cacheName, key, policy);
+    }
+
+    private Mono<Boolean> putInCache(
+            String cacheName, String key, Object value, CachePolicy policy, long loadDurationNanos) {
+        return (policy.isDefault()
+                        ? cacheManager.put(cacheName, key, value)
+                        : cacheManager.put(cacheName, key, value, policy))
+                .doOnSuccess(stored -> rememberExpiry(cacheName, key, policy, loadDurationNanos));
+    }
+
+    /**
+     * This method is used to keep the expiry of an item the aspect just cached. Without a ttl in the policy the expiry
+     * is set by the cache, and is looked up on the next hit instead.
+     *
+     * @param cacheName         The name of the cache
+     * @param key               The key of the item
+     * @param policy            The policy of the cache
+     * @param loadDurationNanos The time it took to load the item
+     */
+    private void rememberExpiry(String cacheName, String key, CachePolicy policy, long loadDurationNanos) {
+        CachePathKey path = new CachePathKey(cacheName, key);
+        if (policy.getTtl() == null) {
+            expiries.remove(path);
+            return;
+        }
+
+        expiries.put(
+                path, new CachedItemExpiry(System.nanoTime() + policy.getTtl().toNanos(), loadDurationNanos));
     }
 
     /**
@@ -45,13 +196,20 @@ public class CacheAspect {
      * @param joinPoint The join point of the method call
      * @param cacheName The name of the cache
      * @param key       The key to be used for caching
+     * @param policy    The policy of the cache
      * @return The result of the method call
      */
-    private Mono<Object> callMonoMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Mono<Object> callMonoMethodAndCache(
+            ProceedingJoinPoint joinPoint, String cacheName, String key, CachePolicy policy) {
+        long startTime = System.nanoTime();
         try {
             return ((Mono<?>) joinPoint.proceed())
-                    .zipWhen(value ->
-                            cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the object
+                    .zipWhen(value -> putInCache(
+                            cacheName,
+                            key,
+                            value,
+                            policy,
+                            System.nanoTime() - startTime)) // Call CacheManager.put() to cache the object
                     .flatMap(value -> Mono.just(value.getT1())); // Maps to the original object
         } catch (Throwable e) {
             log.error(
@@ -68,14 +226,21 @@ public class CacheAspect {
      * @param joinPoint The join point
      * @param cacheName The name of the cache
      * @param key       The key to be used for caching
+     * @param policy    The policy of the cache
      * @return The result of the method call after caching
      */
-    private Flux<?> callFluxMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Flux<?> callFluxMethodAndCache(
+            ProceedingJoinPoint joinPoint, String cacheName, String key, CachePolicy policy) {
+        long startTime = System.nanoTime();
         try {
             return ((Flux<?>) joinPoint.proceed())
                     .collectList() // Collect Flux<T> into Mono<List<T>>
-                    .zipWhen(value ->
-                            cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the list
+                    .zipWhen(value -> putInCache(
+                            cacheName,
+                            key,
+                            value,
+                            policy,
+                            System.nanoTime() - startTime)) // Call CacheManager.put() to cache the list
                     .flatMap(value -> Mono.just(value.getT1())) // Maps to the original list
                     .flatMapMany(Flux::fromIterable); // Convert it back to Flux<T>
         } catch (Throwable e) {
@@ -87,6 +252,114 @@ public class CacheAspect {
         }
     }
 
+    /**
+     * This method is used to load an item once for all the concurrent callers that miss it. The first caller starts
+     * the load and the others subscribe to the same result until it completes.
+     *
+     * @param method    The annotated method that loads the item
+     * @param cacheName The name of the cache
+     * @param key       The key of the item
+     * @param loader    Supplies the Mono that calls the original method and caches its result
+     * @return The result of the load in progress for the item, or of a new one
+     */
+    private Mono<Object> loadOnce(Method method, String cacheName, String key, Supplier<Mono<Object>> loader) {
+        InFlightLoadKey path = new InFlightLoadKey(method, cacheName, key);
+        CacheStats stats = cacheManager.getStats(cacheName);
+
+        Mono<Object> inFlightLoad = inFlightLoads.get(path);
+        if (inFlightLoad != null) {
+            stats.getCoalescedLoads().incrementAndGet();
+            return inFlightLoad;
+        }
+
+        AtomicReference<Mono<Object>> loadReference = new AtomicReference<>();
+        Mono<Object> load = Mono.defer(() -> {
+                    long startTime = System.nanoTime();
+                    return loader.get()
+                            .doOnSuccess(value -> loadDurationsNanos.put(cacheName, System.nanoTime() - startTime));
+                })
+                // Removed before the result is emitted, so that callers that come after the load completes start a
+                // new one instead of getting the completed load
+                .doOnEach(signal -> inFlightLoads.remove(path, loadReference.get()))
+                .doOnCancel(() -> inFlightLoads.remove(path, loadReference.get()))
+                .cache();
+        loadReference.set(load);
+
+        inFlightLoad = inFlightLoads.putIfAbsent(path, load);
+        if (inFlightLoad != null) {
+            stats.getCoalescedLoads().incrementAndGet();
+            return inFlightLoad;
+        }
+
+        stats.getLoads().incrementAndGet();
+        return load;
+    }
+
+    /**
+     * This method is used to find the expiry of a cached item. The expiry kept when the aspect cached the item is used
+     * while it is in the future. Otherwise, e.g. when the item was cached by another node or after a restart, its time
+     * to live is asked to the cache once and kept for the next hits.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key of the item
+     * @return The expiry of the item, with no expiry time if the item does not expire
+     */
+    private Mono<CachedItemExpiry> getExpiry(String cacheName, String key) {
+        CachePathKey path = new CachePathKey(cacheName, key);
+        CachedItemExpiry expiry = expiries.get(path);
+        if (expiry != null && (expiry.expiresAtNanos() == null || expiry.expiresAtNanos() - System.nanoTime() > 0)) {
+            return Mono.just(expiry);
+        }
+
+        return cacheManager
+                .getTimeToLive(cacheName, key)
+                .map(timeToLive -> System.nanoTime() + timeToLive.toNanos())
+                .map(expiresAtNanos -> new CachedItemExpiry(expiresAtNanos, loadDurationsNanos.get(cacheName)))
+                .defaultIfEmpty(new CachedItemExpiry(null, null))
+                .doOnNext(lookedUpExpiry -> expiries.put(path, lookedUpExpiry));
+    }
+
+    /**
+     * This method is used to get an item from the cache, and to reload it in the background if it is about to expire.
+     * A refresh is started when the remaining time to live is below the refreshAhead duration of the policy. With
+     * earlyRefresh, it also follows the XFetch algorithm: a refresh is started when the load time scaled by a random
+     * factor exceeds the remaining time to live, so that only a few callers refresh an item and only close to its
+     * expiry. The refresh runs in the background with the context of the caller.
+     *
+     * @param cacheName    The name of the cache
+     * @param key          The key of the item
+     * @param policy       The policy of the cache
+     * @param earlyRefresh Whether the XFetch algorithm is enabled
+     * @param load         The Mono that loads the item once for all concurrent callers
+     * @return The cached item, Mono.empty() if not found
+     */
+    private Mono<Object> getWithEarlyRefresh(
+            String cacheName, String key, CachePolicy policy, boolean earlyRefresh, Mono<Object> load) {
+        return Mono.deferContextual(contextView -> getFromCache(cacheName, key, policy)
+                .flatMap(value -> getExpiry(cacheName, key).map(expiry -> {
+                    if (expiry.expiresAtNanos() == null) {
+                        return value;
+                    }
+
+                    long timeToLiveNanos = expiry.expiresAtNanos() - System.nanoTime();
+                    boolean refreshAhead = policy.getRefreshAhead() != null
+                            && timeToLiveNanos <= policy.getRefreshAhead().toNanos();
+                    boolean refreshEarly = earlyRefresh
+                            && expiry.loadDurationNanos() != null
+                            && expiry.loadDurationNanos() * EARLY_REFRESH_BETA * -Math.log(1 - Math.random())
+                                    >= timeToLiveNanos;
+                    if (refreshAhead || refreshEarly) {
+                        cacheManager.getStats(cacheName).getEarlyRefreshes().incrementAndGet();
+                        load.contextWrite(contextView)
+                                .subscribe(
+                                        refreshedValue -> {},
+                                        error -> log.error(
+                                                "Error occurred in refreshing cache {} early", cacheName, error));
+                    }
+                    return value;
+                })));
+    }
+
     /**
      * This method is used to derive the key name for caching the result of a method call based on method arguments.
      * This uses original strategy used by Spring's Cacheable annotation.
@@ -143,6 +416,24 @@ public class CacheAspect {
         return deriveKeyWithExpression(expression, parameterNames, args);
     }
 
+    /**
+     * This method is used to get an item from the cache, with a refresh ahead of expiry if the annotation enables it.
+     *
+     * @param annotation The Cache annotation of the method
+     * @param cacheName  The name of the cache
+     * @param key        The key of the item
+     * @param policy     The policy of the cache
+     * @param load       The Mono that loads the item once for all concurrent callers
+     * @return The cached item, Mono.empty() if not found
+     */
+    private Mono<Object> getCached(
+            Cache annotation, String cacheName, String key, CachePolicy policy, Mono<Object> load) {
+        if (annotation.earlyRefresh() || policy.getRefreshAhead() != null) {
+            return getWithEarlyRefresh(cacheName, key, policy, annotation.earlyRefresh(), load);
+        }
+        return getFromCache(cacheName, key, policy);
+    }
+
     /**
      * This method defines a Aspect to handle method calls annotated with Cache.
      *
@@ -161,22 +452,24 @@ public class CacheAspect {
         String[] parameterNames = signature.getParameterNames();
         Object[] args = joinPoint.getArgs();
         String key = deriveKey(annotation.key(), parameterNames, args);
+        CachePolicy policy = policies.computeIfAbsent(method, m -> buildPolicy(annotation));
 
         Class<?> returnType = method.getReturnType();
         if (returnType.isAssignableFrom(Mono.class)) { // If method returns Mono<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(
-                            joinPoint, cacheName,
-                            key))); // defer the creation of Mono until subscription as it will call original function
+            // defer the creation of Mono until subscription as it will call original function
+            Mono<Object> load = Mono.defer(() ->
+                    loadOnce(method, cacheName, key, () -> callMonoMethodAndCache(joinPoint, cacheName, key, policy)));
+            return getCached(annotation, cacheName, key, policy, load).switchIfEmpty(load);
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { // If method returns Flux<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key)
-                            .collectList())) // defer the creation of Flux until subscription as it will call original
-                    // function
+            // defer the creation of Flux until subscription as it will call original function
+            Mono<Object> load = Mono.defer(() ->
+                    loadOnce(method, cacheName, key, () -> callFluxMethodAndCache(joinPoint, cacheName, key, policy)
+                            .collectList()
+                            .map(value -> (Object) value)));
+            return getCached(annotation, cacheName, key, policy, load)
+                    .switchIfEmpty(load)
                     .map(value -> (List<?>) value)
                     .flatMapMany(Flux::fromIterable);
         }
@@ -209,6 +502,7 @@ public class CacheAspect {
         }
 
         if (all) { // If all is true, evict all keys from the cache
+            expiries.keySet().removeIf(path -> path.cacheName().equals(cacheName));
             return cacheManager.evictAll(cacheName).then((Mono<?>) joinPoint.proceed());
         }
 
@@ -217,6 +511,14 @@ public class CacheAspect {
         Object[] args = joinPoint.getArgs();
         String key = deriveKey(annotation.key(), parameterNames, args);
         // Evict key from the cache then call the original method
+        expiries.remove(new CachePathKey(cacheName, key));
         return cacheManager.evict(cacheName, key).then((Mono<?>) joinPoint.proceed());
     }
+
+    private record InFlightLoadKey(Method method, String cacheName, String key) {}
+
+    private record CachePathKey(String cacheName, String key) {}
+
+    // Expiry of a cached item on the System.nanoTime() clock, null if it does not expire, and the time it took to load
+    private record CachedItemExpiry(Long expiresAtNanos, Long loadDurationNanos) {}
 }
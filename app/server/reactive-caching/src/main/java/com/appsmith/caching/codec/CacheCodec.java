@@ -0,0 +1,26 @@
+package com.appsmith.caching.codec;
+
+/**
+ * CacheCodec is used to turn the values of a cache into the bytes stored in Redis, and back.
+ * Implementations are Spring beans, and are selected per method with the codec attribute of the Cache annotation.
+ * Methods that share a cache name should use the same codec.
+ */
+public interface CacheCodec {
+
+    /**
+     * This will encode a value of the cache.
+     * @param value The value to encode.
+     * @return The encoded value.
+     * @throws org.springframework.data.redis.serializer.SerializationException if the value cannot be encoded.
+     */
+    byte[] encode(Object value);
+
+    /**
+     * This will decode a value of the cache.
+     * @param bytes The encoded value.
+     * @return The decoded value.
+     * @throws org.springframework.data.redis.serializer.SerializationException if the bytes cannot be decoded, for
+     * example because they were written by another codec.
+     */
+    Object decode(byte[] bytes);
+}
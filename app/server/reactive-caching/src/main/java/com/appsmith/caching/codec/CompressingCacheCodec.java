@@ -0,0 +1,109 @@
+package com.appsmith.caching.codec;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * CompressingCacheCodec is a base class for codecs that compress large values with LZ4.
+ * Every encoded value starts with a header byte telling if the rest is compressed. Compressed values then hold the
+ * length of the uncompressed value, followed by the LZ4 block.
+ */
+public abstract class CompressingCacheCodec implements CacheCodec {
+
+    private static final byte UNCOMPRESSED = 0;
+    private static final byte LZ4_COMPRESSED = 1;
+
+    private static final int COMPRESSED_HEADER_LENGTH = 1 + Integer.BYTES;
+
+    private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+
+    private final int compressionThreshold;
+
+    /**
+     * @param compressionThreshold Values are compressed when their serialized size is at least this many bytes.
+     *                             A negative value disables compression.
+     */
+    protected CompressingCacheCodec(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * This will serialize a value, before compression.
+     * @param value The value to serialize.
+     * @return The serialized value.
+     * @throws IOException if the value cannot be serialized.
+     */
+    protected abstract byte[] serialize(Object value) throws IOException;
+
+    /**
+     * This will deserialize a value, after decompression.
+     * @param bytes  The buffer holding the serialized value.
+     * @param offset The offset of the serialized value in the buffer.
+     * @param length The length of the serialized value.
+     * @return The deserialized value.
+     * @throws IOException if the value cannot be deserialized.
+     */
+    protected abstract Object deserialize(byte[] bytes, int offset, int length) throws IOException;
+
+    @Override
+    public byte[] encode(Object value) {
+        byte[] serialized;
+        try {
+            serialized = serialize(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not serialize cache value", e);
+        }
+
+        if (compressionThreshold >= 0 && serialized.length >= compressionThreshold) {
+            LZ4Compressor compressor = LZ4_FACTORY.fastCompressor();
+            int maxCompressedLength = compressor.maxCompressedLength(serialized.length);
+            byte[] compressed = new byte[COMPRESSED_HEADER_LENGTH + maxCompressedLength];
+            compressed[0] = LZ4_COMPRESSED;
+            ByteBuffer.wrap(compressed, 1, Integer.BYTES).putInt(serialized.length);
+            int compressedLength = compressor.compress(
+                    serialized, 0, serialized.length, compressed, COMPRESSED_HEADER_LENGTH, maxCompressedLength);
+
+            // Values that do not compress well are stored as they are, so that reads do not pay for decompression
+            if (COMPRESSED_HEADER_LENGTH + compressedLength < 1 + serialized.length) {
+                return Arrays.copyOf(compressed, COMPRESSED_HEADER_LENGTH + compressedLength);
+            }
+        }
+
+        byte[] encoded = new byte[1 + serialized.length];
+        encoded[0] = UNCOMPRESSED;
+        System.arraycopy(serialized, 0, encoded, 1, serialized.length);
+        return encoded;
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            throw new SerializationException("Could not deserialize empty cache value");
+        }
+
+        try {
+            switch (bytes[0]) {
+                case UNCOMPRESSED:
+                    return deserialize(bytes, 1, bytes.length - 1);
+                case LZ4_COMPRESSED:
+                    if (bytes.length < COMPRESSED_HEADER_LENGTH) {
+                        throw new SerializationException("Could not deserialize truncated cache value");
+                    }
+                    int length = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+                    byte[] decompressed = new byte[length];
+                    LZ4_FACTORY.fastDecompressor().decompress(bytes, COMPRESSED_HEADER_LENGTH, decompressed, 0, length);
+                    return deserialize(decompressed, 0, length);
+                default:
+                    throw new SerializationException("Unknown cache value header " + bytes[0]);
+            }
+        } catch (IOException | LZ4Exception | NegativeArraySizeException e) {
+            throw new SerializationException("Could not deserialize cache value", e);
+        }
+    }
+}
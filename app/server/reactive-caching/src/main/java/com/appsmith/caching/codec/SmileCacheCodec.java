@@ -0,0 +1,63 @@
+package com.appsmith.caching.codec;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * SmileCacheCodec stores values in Smile, the binary form of JSON supported by Jackson.
+ * Like the JSON serializer, the class of values is written along with them so that they are read back with the same
+ * type. Only classes from the JDK and from the registered packages (`appsmith.cache.codec.registered-packages`) can be
+ * read back, other classes fail to decode. Class and property names that repeat within a value are written once and
+ * then referenced, which keeps collections of objects compact.
+ */
+@Component
+public class SmileCacheCodec extends CompressingCacheCodec {
+
+    private static final List<String> JDK_PACKAGES = List.of("java.lang.", "java.util.", "java.time.");
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public SmileCacheCodec(
+            @Value("${appsmith.cache.codec.compression-threshold:1024}") int compressionThreshold,
+            @Value("${appsmith.cache.codec.registered-packages:com.appsmith.}") List<String> registeredPackages) {
+        super(compressionThreshold);
+
+        BasicPolymorphicTypeValidator.Builder typeValidator = BasicPolymorphicTypeValidator.builder();
+        JDK_PACKAGES.forEach(typeValidator::allowIfSubType);
+        registeredPackages.forEach(typeValidator::allowIfSubType);
+
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        this.objectMapper = new ObjectMapper(smileFactory)
+                .registerModule(new JavaTimeModule())
+                // Fields removed from a cached class should not fail the reads of values cached before the change
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                // Same typing as the JSON serializer of Spring Data Redis, only the types that Jackson reads back as
+                // they are (String, Boolean, Integer and Double) are written without their class
+                .activateDefaultTyping(
+                        typeValidator.build(), ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+    }
+
+    @Override
+    protected byte[] serialize(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    protected Object deserialize(byte[] bytes, int offset, int length) throws IOException {
+        return objectMapper.readValue(bytes, offset, length, Object.class);
+    }
+}
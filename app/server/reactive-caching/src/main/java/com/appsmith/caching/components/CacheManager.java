@@ -1,13 +1,24 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.model.CachePolicy;
+import com.appsmith.caching.model.CacheStats;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 public interface CacheManager {
     /**
      * This will log the cache stats with INFO severity.
      */
     void logStats();
 
+    /**
+     * This will get the stats of the cache, creating them if needed.
+     * @param cacheName The name of the cache.
+     * @return The stats of the cache.
+     */
+    CacheStats getStats(String cacheName);
+
     /**
      * This will get item from the cache, Mono.empty() if not found.
      * @param cacheName The name of the cache.
@@ -16,6 +27,16 @@ public interface CacheManager {
      */
     Mono<Object> get(String cacheName, String key);
 
+    /**
+     * This will get the remaining time to live of an item, Mono.empty() if the item does not exist or never expires.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @return The Mono of the remaining time to live.
+     */
+    default Mono<Duration> getTimeToLive(String cacheName, String key) {
+        return Mono.empty();
+    }
+
     /**
      * This will put item into the cache.
      * @param cacheName The name of the cache.
@@ -25,6 +46,29 @@ public interface CacheManager {
      */
     Mono<Boolean> put(String cacheName, String key, Object value);
 
+    /**
+     * This will get item from the cache, read according to the given policy, Mono.empty() if not found.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @param policy The policy of the cache, the item must have been put with the same codec.
+     * @return The Mono of the item.
+     */
+    default Mono<Object> get(String cacheName, String key, CachePolicy policy) {
+        return get(cacheName, key);
+    }
+
+    /**
+     * This will put item into the cache, with the codec, time to live and size limit of the given policy.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @param value The value of the item.
+     * @param policy The policy of the cache.
+     * @return Mono<Boolean> true if put was successful, false otherwise.
+     */
+    default Mono<Boolean> put(String cacheName, String key, Object value, CachePolicy policy) {
+        return put(cacheName, key, value);
+    }
+
     /**
      * This will remove item from the cache.
      * @param cacheName The name of the cache.
@@ -39,4 +83,13 @@ public interface CacheManager {
      * @return Mono<Void> that will complete after the items are removed.
      */
     Mono<Void> evictAll(String cacheName);
+
+    /**
+     * This will measure the memory used by the items of the cache and record it in the stats of the cache.
+     * @param cacheName The name of the cache.
+     * @return The Mono of the memory used in bytes, Mono.empty() if it cannot be measured.
+     */
+    default Mono<Long> measureMemoryUsage(String cacheName) {
+        return Mono.empty();
+    }
 }
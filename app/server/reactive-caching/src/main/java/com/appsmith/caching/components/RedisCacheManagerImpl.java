@@ -1,15 +1,24 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.model.CachePolicy;
 import com.appsmith.caching.model.CacheStats;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
-import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -22,8 +31,24 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class RedisCacheManagerImpl implements CacheManager {
 
+    // Number of keys fetched per SCAN call and deleted per UNLINK call when evicting a whole cache
+    static final int EVICT_ALL_BATCH_SIZE = 1000;
+
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
-    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    // Used for the caches that have a codec, whose values are already encoded
+    private final ReactiveRedisTemplate<String, byte[]> reactiveRedisBytesTemplate;
+
+    // Used for the LRU indexes of the caches that have a maximum number of entries, whose members are the item keys
+    private final ReactiveRedisTemplate<String, String> reactiveRedisStringTemplate;
+
+    // Measures the memory used by a single key. The keys of a cache are spread over all the slots of a Redis Cluster,
+    // so they are measured one by one, as a script may only be given keys of the same slot.
+    private static final RedisScript<Long> MEMORY_USAGE_SCRIPT =
+            RedisScript.of("return redis.call('MEMORY', 'USAGE', KEYS[1]) or 0", Long.class);
+
+    // Number of keys measured at the same time, their commands are pipelined on the connection
+    private static final int MEMORY_USAGE_CONCURRENCY = 32;
 
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
@@ -32,9 +57,12 @@ public class RedisCacheManagerImpl implements CacheManager {
      * @param cacheName The name of the cache.
      */
     private void ensureStats(String cacheName) {
-        if (!statsMap.containsKey(cacheName)) {
-            statsMap.put(cacheName, CacheStats.newInstance());
-        }
+        getStats(cacheName);
+    }
+
+    @Override
+    public CacheStats getStats(String cacheName) {
+        return statsMap.computeIfAbsent(cacheName, name -> CacheStats.newInstance());
     }
 
     @Override
@@ -42,12 +70,29 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.keySet().forEach(key -> {
             CacheStats stats = statsMap.get(key);
             log.debug(
-                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
+                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}, "
+                            + "localHits = {}, localMisses = {}, remoteInvalidations = {}, loads = {}, "
+                            + "coalescedLoads = {}, earlyRefreshes = {}, encodedBytes = {}, decodes = {}, "
+                            + "decodedBytes = {}, decodeTimeNanos = {}, sizeEvictions = {}, entries = {}, "
+                            + "memoryBytes = {}",
                     key,
                     stats.getHits(),
                     stats.getMisses(),
                     stats.getSingleEvictions(),
-                    stats.getCompleteEvictions());
+                    stats.getCompleteEvictions(),
+                    stats.getLocalHits(),
+                    stats.getLocalMisses(),
+                    stats.getRemoteInvalidations(),
+                    stats.getLoads(),
+                    stats.getCoalescedLoads(),
+                    stats.getEarlyRefreshes(),
+                    stats.getEncodedBytes(),
+                    stats.getDecodes(),
+                    stats.getDecodedBytes(),
+                    stats.getDecodeTimeNanos(),
+                    stats.getSizeEvictions(),
+                    stats.getEntries(),
+                    stats.getMemoryBytes());
         });
     }
 
@@ -59,11 +104,25 @@ public class RedisCacheManagerImpl implements CacheManager {
     }
 
     @Autowired
-    public RedisCacheManagerImpl(
-            ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+    public RedisCacheManagerImpl(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
-        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.reactiveRedisBytesTemplate = new ReactiveRedisTemplate<>(
+                reactiveRedisTemplate.getConnectionFactory(),
+                RedisSerializationContext.<String, byte[]>newSerializationContext(RedisSerializer.byteArray())
+                        .key(RedisSerializer.string())
+                        .hashKey(RedisSerializer.string())
+                        .build());
+        this.reactiveRedisStringTemplate = new ReactiveRedisTemplate<>(
+                reactiveRedisTemplate.getConnectionFactory(), RedisSerializationContext.string());
+    }
+
+    /**
+     * The sorted set that indexes the items of a cache by their last access time, used to evict the least recently
+     * used items once the cache reaches its maximum number of entries. It is kept out of the prefix of the items, so
+     * that no item key can collide with it, and evictAll removes it explicitly.
+     */
+    static String getLruIndexKey(String cacheName) {
+        return "lru:" + cacheName;
     }
 
     @Override
@@ -86,6 +145,54 @@ public class RedisCacheManagerImpl implements CacheManager {
                 }));
     }
 
+    @Override
+    public Mono<Object> get(String cacheName, String key, CachePolicy policy) {
+        Mono<Object> value = policy.getCodec() == null ? get(cacheName, key) : getAndDecode(cacheName, key, policy);
+        if (policy.getMaxEntries() <= 0) {
+            return value;
+        }
+
+        // Hits move the item to the most recently used end of the LRU index
+        return value.flatMap(hit -> touchLruIndex(cacheName, key).thenReturn(hit));
+    }
+
+    private Mono<Object> getAndDecode(String cacheName, String key, CachePolicy policy) {
+        CacheStats stats = getStats(cacheName);
+        String path = cacheName + ":" + key;
+        return reactiveRedisBytesTemplate
+                .opsForValue()
+                .get(path)
+                .flatMap(bytes -> {
+                    long startTime = System.nanoTime();
+                    Object value;
+                    try {
+                        value = policy.getCodec().decode(bytes);
+                    } catch (SerializationException e) {
+                        // Most likely written with another codec before the codec of the cache changed, this is
+                        // treated as a miss so that the value gets loaded and written again
+                        log.warn("Could not decode cache entry for key {}, ignoring it", path, e);
+                        return Mono.empty();
+                    }
+                    stats.getDecodes().incrementAndGet();
+                    stats.getDecodedBytes().addAndGet(bytes.length);
+                    stats.getDecodeTimeNanos().addAndGet(System.nanoTime() - startTime);
+                    stats.getHits().incrementAndGet();
+                    return Mono.just(value);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    stats.getMisses().incrementAndGet();
+                    log.debug("Cache miss for key {}", path);
+                    return Mono.empty();
+                }));
+    }
+
+    @Override
+    public Mono<Duration> getTimeToLive(String cacheName, String key) {
+        String path = cacheName + ":" + key;
+        // Keys without an expiry are reported with a zero duration
+        return reactiveRedisTemplate.getExpire(path).filter(ttl -> !ttl.isZero() && !ttl.isNegative());
+    }
+
     @Override
     public Mono<Boolean> put(String cacheName, String key, Object value) {
         ensureStats(cacheName);
@@ -94,23 +201,172 @@ public class RedisCacheManagerImpl implements CacheManager {
         return reactiveRedisTemplate.opsForValue().set(path, value);
     }
 
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value, CachePolicy policy) {
+        CacheStats stats = getStats(cacheName);
+        String path = cacheName + ":" + key;
+        Duration ttl = policy.getTtl();
+        Mono<Boolean> set;
+        if (policy.getCodec() == null) {
+            set = ttl == null
+                    ? reactiveRedisTemplate.opsForValue().set(path, value)
+                    : reactiveRedisTemplate.opsForValue().set(path, value, ttl);
+        } else {
+            set = Mono.fromCallable(() -> policy.getCodec().encode(value)).flatMap(bytes -> {
+                stats.getEncodedBytes().addAndGet(bytes.length);
+                return ttl == null
+                        ? reactiveRedisBytesTemplate.opsForValue().set(path, bytes)
+                        : reactiveRedisBytesTemplate.opsForValue().set(path, bytes, ttl);
+            });
+        }
+        log.debug("Cache entry added for key {}", path);
+
+        if (policy.getMaxEntries() <= 0) {
+            return set;
+        }
+        return set.flatMap(success -> Boolean.TRUE.equals(success)
+                ? addToLruIndex(cacheName, key, policy).thenReturn(true)
+                : Mono.just(success));
+    }
+
+    private Mono<Boolean> touchLruIndex(String cacheName, String key) {
+        return reactiveRedisStringTemplate.opsForZSet().add(getLruIndexKey(cacheName), key, System.currentTimeMillis());
+    }
+
+    /**
+     * Adds the item to the LRU index of the cache, then evicts the least recently used items if the cache holds more
+     * than its maximum number of entries. The limit is enforced after the write, so a cache may briefly hold a few
+     * more items than its maximum when there are concurrent puts.
+     */
+    private Mono<Void> addToLruIndex(String cacheName, String key, CachePolicy policy) {
+        String indexKey = getLruIndexKey(cacheName);
+        ReactiveZSetOperations<String, String> zSetOps = reactiveRedisStringTemplate.opsForZSet();
+        // Every item expires at most one ttl after the last put, so the index can expire then as well
+        Mono<Boolean> expireIndex = policy.getTtl() == null
+                ? Mono.just(true)
+                : reactiveRedisStringTemplate.expire(indexKey, policy.getTtl());
+        return touchLruIndex(cacheName, key)
+                .then(expireIndex)
+                .then(zSetOps.size(indexKey))
+                .flatMap(size -> {
+                    long excess = size - policy.getMaxEntries();
+                    if (excess <= 0) {
+                        return Mono.empty();
+                    }
+                    return zSetOps.popMin(indexKey, excess)
+                            .map(tuple -> cacheName + ":" + tuple.getValue())
+                            .collectList()
+                            .filter(paths -> !paths.isEmpty())
+                            .flatMap(paths -> reactiveRedisTemplate
+                                    .unlink(paths.toArray(new String[0]))
+                                    .doOnNext(count -> {
+                                        getStats(cacheName).getSizeEvictions().addAndGet(paths.size());
+                                        log.debug(
+                                                "Cache entries evicted for cache {} over its size limit: {}",
+                                                cacheName,
+                                                paths.size());
+                                    }));
+                })
+                .then();
+    }
+
     @Override
     public Mono<Void> evict(String cacheName, String key) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
         String path = cacheName + ":" + key;
         log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        return reactiveRedisTemplate
+                .delete(path)
+                .then(reactiveRedisStringTemplate.opsForZSet().remove(getLruIndexKey(cacheName), key))
+                .then();
     }
 
     @Override
     public Mono<Void> evictAll(String cacheName) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        // Walk the matching keys with SCAN and delete them in batches with UNLINK. Unlike KEYS, this never blocks the
+        // Redis server for longer than one batch, so other clients keep being served while a large cache is evicted.
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(escapeGlob(cacheName) + ":*")
+                .count(EVICT_ALL_BATCH_SIZE)
+                .build();
+        return reactiveRedisTemplate
+                .scan(scanOptions)
+                .buffer(EVICT_ALL_BATCH_SIZE)
+                .concatMap(keys -> reactiveRedisTemplate.unlink(keys.toArray(new String[0])))
+                .reduce(0L, Long::sum)
+                .doOnNext(count -> log.debug("Cache entries evicted for cache {}: {}", cacheName, count))
+                .then(reactiveRedisTemplate.unlink(getLruIndexKey(cacheName)))
+                .then();
+    }
+
+    /**
+     * Measures the memory used by the items of the cache with SCAN and MEMORY USAGE, a few keys at a time, and records
+     * it in the stats of the cache along with the number of items. The memory of the LRU index of the cache is
+     * included.
+     */
+    @Override
+    public Mono<Long> measureMemoryUsage(String cacheName) {
+        CacheStats stats = getStats(cacheName);
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(escapeGlob(cacheName) + ":*")
+                .count(EVICT_ALL_BATCH_SIZE)
+                .build();
+        return reactiveRedisStringTemplate
+                .scan(scanOptions)
+                .flatMap(key -> measureKey(key).map(bytes -> new long[] {1, bytes}), MEMORY_USAGE_CONCURRENCY)
+                .concatWith(measureKey(getLruIndexKey(cacheName)).map(bytes -> new long[] {0, bytes}))
+                .reduce(new long[] {0, 0}, (total, batch) -> new long[] {total[0] + batch[0], total[1] + batch[1]})
+                .map(total -> {
+                    stats.getEntries().set(total[0]);
+                    stats.getMemoryBytes().set(total[1]);
+                    log.debug("Cache {} uses {} bytes for {} entries", cacheName, total[1], total[0]);
+                    return total[1];
+                });
+    }
+
+    private Mono<Long> measureKey(String key) {
+        return reactiveRedisStringTemplate
+                .execute(MEMORY_USAGE_SCRIPT, List.of(key), List.of())
+                .next()
+                .defaultIfEmpty(0L);
+    }
+
+    /**
+     * Measures the memory used by every cache used on this node, one cache at a time, then logs the stats of all of
+     * them.
+     * @return Mono<Void> that will complete once the stats are reported.
+     */
+    public Mono<Void> reportStats() {
+        return Flux.fromIterable(List.copyOf(statsMap.keySet()))
+                .concatMap(cacheName -> measureMemoryUsage(cacheName).onErrorResume(error -> {
+                    log.warn("Could not measure the memory used by cache {}", cacheName, error);
+                    return Mono.empty();
+                }))
+                .then(Mono.fromRunnable(this::logStats));
+    }
+
+    @Scheduled(initialDelay = 5 * 60 * 1000 /* five minutes */, fixedRate = 30 * 60 * 1000 /* thirty minutes */)
+    public void scheduledReportStats() {
+        reportStats().subscribe();
+    }
+
+    /**
+     * Escapes the characters that have a special meaning in Redis glob patterns, so that the cache name is matched
+     * literally.
+     * @param value The value to escape.
+     * @return The escaped value.
+     */
+    private static String escapeGlob(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
     }
 }
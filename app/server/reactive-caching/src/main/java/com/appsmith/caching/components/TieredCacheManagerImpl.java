@@ -0,0 +1,327 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CachePolicy;
+import com.appsmith.caching.model.CacheStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TieredCacheManagerImpl is a CacheManager that keeps a bounded in-process cache in front of RedisCacheManagerImpl.
+ * The local tier is only used for the cache names listed in `appsmith.cache.local.names`, all other caches go
+ * straight to Redis. Values in the local tier are shared between callers, so a cache should only be listed there if
+ * its callers do not mutate the returned objects.
+ *
+ * Evictions are published on a Redis channel so that every node drops its local copy of the evicted entries. Local
+ * entries also expire after `appsmith.cache.local.ttl`, or earlier if the ttl of the cache is shorter, which bounds
+ * staleness if an invalidation message is missed. Local hits do not update the LRU index of caches that have a
+ * maxEntries, so their items are evicted from Redis as if they were only used once per local ttl.
+ */
+@Component
+@Primary
+@ConditionalOnClass({ReactiveRedisTemplate.class})
+@Slf4j
+public class TieredCacheManagerImpl implements CacheManager {
+
+    public static final String INVALIDATION_CHANNEL = "appsmith:cache:invalidations";
+
+    // Message fields are separated by a new line as cache names and keys may contain any other character
+    private static final String MESSAGE_SEPARATOR = "\n";
+
+    private final RedisCacheManagerImpl redisCacheManager;
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private final Set<String> localCacheNames;
+    private final long localMaxWeight;
+    private final Duration localTtl;
+
+    // Used to ignore the invalidation messages published by this node
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, Cache<String, Object>> localCaches = new ConcurrentHashMap<>();
+
+    // Incremented on every eviction, so that a value read from Redis while an eviction is in progress is not put in
+    // the local tier where it would outlive the eviction.
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private Disposable invalidationSubscription;
+
+    @Autowired
+    public TieredCacheManagerImpl(
+            RedisCacheManagerImpl redisCacheManager,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            @Value("${appsmith.cache.local.names:}") Set<String> localCacheNames,
+            @Value("${appsmith.cache.local.max-weight:10000}") long localMaxWeight,
+            @Value("${appsmith.cache.local.ttl:PT1M}") Duration localTtl) {
+        this.redisCacheManager = redisCacheManager;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.localCacheNames = localCacheNames;
+        this.localMaxWeight = localMaxWeight;
+        this.localTtl = localTtl;
+    }
+
+    /**
+     * Subscribes to the invalidation channel. The subscription is retried forever, and the local tier is cleared
+     * whenever it is lost as invalidations may have been missed in the meantime.
+     */
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        if (localCacheNames.isEmpty()) {
+            return;
+        }
+
+        invalidationSubscription = reactiveRedisOperations
+                .listenToChannel(INVALIDATION_CHANNEL)
+                .doOnNext(message -> onInvalidation(message.getMessage()))
+                .doOnError(error -> {
+                    log.error("Lost subscription to cache invalidations, clearing local caches", error);
+                    localCaches.values().forEach(Cache::invalidateAll);
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    /**
+     * Estimates the weight of a value as the number of elements it holds, so that a cached list of thousands of
+     * items takes as much room in the local tier as thousands of single objects. Strings weigh one per kilobyte, as
+     * they are used to cache serialized documents.
+     */
+    private static int weigh(String key, Object value) {
+        if (value instanceof String string) {
+            return 1 + string.length() / 1024;
+        }
+        if (value instanceof Collection<?> collection) {
+            return 1 + collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return 1 + map.size();
+        }
+        return 1;
+    }
+
+    private Cache<String, Object> getLocalCache(String cacheName) {
+        if (!localCacheNames.contains(cacheName)) {
+            return null;
+        }
+
+        return localCaches.computeIfAbsent(cacheName, name -> Caffeine.newBuilder()
+                .maximumWeight(localMaxWeight)
+                .weigher(TieredCacheManagerImpl::weigh)
+                .expireAfter(new Expiry<String, Object>() {
+                    @Override
+                    public long expireAfterCreate(String key, Object value, long currentTime) {
+                        return localTtl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+                        return localTtl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                // Evictions are cheap as there is no removal listener, run them right away instead of on a pool
+                .executor(Runnable::run)
+                .build());
+    }
+
+    private AtomicLong getGeneration(String cacheName) {
+        return generations.computeIfAbsent(cacheName, name -> new AtomicLong());
+    }
+
+    /**
+     * Puts the value in the local tier, unless the cache was evicted since the given generation was read.
+     */
+    private void putLocal(
+            Cache<String, Object> localCache,
+            String cacheName,
+            String key,
+            Object value,
+            CachePolicy policy,
+            long generation) {
+        // Local entries must not outlive the Redis entry they were read from
+        Duration ttl = policy.getTtl() == null || policy.getTtl().compareTo(localTtl) > 0 ? localTtl : policy.getTtl();
+        localCache.policy().expireVariably().orElseThrow().put(key, value, ttl);
+        if (getGeneration(cacheName).get() != generation) {
+            localCache.invalidate(key);
+        }
+    }
+
+    private void invalidateLocal(String cacheName, String key) {
+        Cache<String, Object> localCache = localCaches.get(cacheName);
+        getGeneration(cacheName).incrementAndGet();
+        if (localCache == null) {
+            return;
+        }
+
+        if (key == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+
+    private Mono<Void> publishInvalidation(String cacheName, String key) {
+        if (!localCacheNames.contains(cacheName)) {
+            return Mono.empty();
+        }
+
+        String message = key == null
+                ? String.join(MESSAGE_SEPARATOR, nodeId, cacheName)
+                : String.join(MESSAGE_SEPARATOR, nodeId, cacheName, key);
+        return reactiveRedisOperations
+                .convertAndSend(INVALIDATION_CHANNEL, message)
+                .onErrorResume(error -> {
+                    // The eviction is already done in Redis, other nodes will catch up when their local entries expire
+                    log.error("Failed to publish cache invalidation for cache {}", cacheName, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Handles an invalidation message published by any node.
+     * @param message The message, made of the node id, the cache name and the key if a single entry was evicted.
+     */
+    void onInvalidation(String message) {
+        String[] parts = message.split(MESSAGE_SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        String cacheName = parts[1];
+        String key = parts.length == 3 ? parts[2] : null;
+        invalidateLocal(cacheName, key);
+        redisCacheManager.getStats(cacheName).getRemoteInvalidations().incrementAndGet();
+        log.debug("Local cache entry invalidated by node {} for cache {} and key {}", parts[0], cacheName, key);
+    }
+
+    @Override
+    public void logStats() {
+        redisCacheManager.logStats();
+    }
+
+    @Override
+    public CacheStats getStats(String cacheName) {
+        return redisCacheManager.getStats(cacheName);
+    }
+
+    @Override
+    public Mono<Long> measureMemoryUsage(String cacheName) {
+        return redisCacheManager.measureMemoryUsage(cacheName);
+    }
+
+    @Override
+    public Mono<Duration> getTimeToLive(String cacheName, String key) {
+        return redisCacheManager.getTimeToLive(cacheName, key);
+    }
+
+    private Mono<Object> getFromRedis(String cacheName, String key, CachePolicy policy) {
+        return policy.isDefault()
+                ? redisCacheManager.get(cacheName, key)
+                : redisCacheManager.get(cacheName, key, policy);
+    }
+
+    private Mono<Boolean> putInRedis(String cacheName, String key, Object value, CachePolicy policy) {
+        return policy.isDefault()
+                ? redisCacheManager.put(cacheName, key, value)
+                : redisCacheManager.put(cacheName, key, value, policy);
+    }
+
+    @Override
+    public Mono<Object> get(String cacheName, String key) {
+        return get(cacheName, key, CachePolicy.DEFAULT);
+    }
+
+    @Override
+    public Mono<Object> get(String cacheName, String key, CachePolicy policy) {
+        Cache<String, Object> localCache = getLocalCache(cacheName);
+        if (localCache == null) {
+            return getFromRedis(cacheName, key, policy);
+        }
+
+        return Mono.defer(() -> {
+            CacheStats stats = redisCacheManager.getStats(cacheName);
+            Object value = localCache.getIfPresent(key);
+            if (value != null) {
+                stats.getLocalHits().incrementAndGet();
+                return Mono.just(value);
+            }
+
+            stats.getLocalMisses().incrementAndGet();
+            long generation = getGeneration(cacheName).get();
+            return getFromRedis(cacheName, key, policy)
+                    .doOnNext(redisValue -> putLocal(localCache, cacheName, key, redisValue, policy, generation));
+        });
+    }
+
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value) {
+        return put(cacheName, key, value, CachePolicy.DEFAULT);
+    }
+
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value, CachePolicy policy) {
+        Cache<String, Object> localCache = getLocalCache(cacheName);
+        if (localCache == null) {
+            return putInRedis(cacheName, key, value, policy);
+        }
+
+        return Mono.defer(() -> {
+            long generation = getGeneration(cacheName).get();
+            return putInRedis(cacheName, key, value, policy).doOnNext(success -> {
+                if (Boolean.TRUE.equals(success)) {
+                    putLocal(localCache, cacheName, key, value, policy, generation);
+                }
+            });
+        });
+    }
+
+    @Override
+    public Mono<Void> evict(String cacheName, String key) {
+        // Local entries are dropped again once Redis is updated, in case a concurrent get put them back in between
+        return Mono.fromRunnable(() -> invalidateLocal(cacheName, key))
+                .then(redisCacheManager.evict(cacheName, key))
+                .then(Mono.fromRunnable(() -> invalidateLocal(cacheName, key)))
+                .then(publishInvalidation(cacheName, key));
+    }
+
+    @Override
+    public Mono<Void> evictAll(String cacheName) {
+        return Mono.fromRunnable(() -> invalidateLocal(cacheName, null))
+                .then(redisCacheManager.evictAll(cacheName))
+                .then(Mono.fromRunnable(() -> invalidateLocal(cacheName, null)))
+                .then(publishInvalidation(cacheName, null));
+    }
+}
@@ -0,0 +1,41 @@
+package com.appsmith.caching.model;
+
+import com.appsmith.caching.codec.CacheCodec;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * CachePolicy holds the settings of a cache, as declared by the Cache annotation.
+ */
+@Value
+@Builder
+public class CachePolicy {
+
+    public static final CachePolicy DEFAULT = CachePolicy.builder().build();
+
+    /**
+     * The codec used to store the items, null to use the serializer of the ReactiveRedisTemplate.
+     */
+    CacheCodec codec;
+
+    /**
+     * The time to live of the items, null if they never expire.
+     */
+    Duration ttl;
+
+    /**
+     * The maximum number of items in the cache, 0 if there is no limit.
+     */
+    int maxEntries;
+
+    /**
+     * Items are reloaded in the background when their remaining time to live is below this duration, null to disable.
+     */
+    Duration refreshAhead;
+
+    public boolean isDefault() {
+        return codec == null && ttl == null && maxEntries <= 0;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This is a CacheStats class that is used to store the stats of a cache.
@@ -31,4 +32,69 @@ public class CacheStats {
      * The number of times the cache was evicted (all keys).
      */
     private AtomicInteger completeEvictions = new AtomicInteger(0);
+
+    /**
+     * The number of times the local (in-process) tier was hit. Only updated for caches that have the local tier enabled.
+     */
+    private AtomicInteger localHits = new AtomicInteger(0);
+
+    /**
+     * The number of times the local (in-process) tier was missed and the lookup went to Redis.
+     */
+    private AtomicInteger localMisses = new AtomicInteger(0);
+
+    /**
+     * The number of local entries invalidated because of an eviction on another node.
+     */
+    private AtomicInteger remoteInvalidations = new AtomicInteger(0);
+
+    /**
+     * The number of times the cached method was called because of a cache miss.
+     */
+    private AtomicInteger loads = new AtomicInteger(0);
+
+    /**
+     * The number of cache misses that waited for a load already in progress instead of calling the cached method.
+     */
+    private AtomicInteger coalescedLoads = new AtomicInteger(0);
+
+    /**
+     * The number of loads started before the cached item expired.
+     */
+    private AtomicInteger earlyRefreshes = new AtomicInteger(0);
+
+    /**
+     * The number of bytes written to Redis by the codec of the cache. Only updated for caches that have a codec.
+     */
+    private AtomicLong encodedBytes = new AtomicLong(0);
+
+    /**
+     * The number of values read from Redis and decoded by the codec of the cache.
+     */
+    private AtomicInteger decodes = new AtomicInteger(0);
+
+    /**
+     * The number of bytes read from Redis and decoded by the codec of the cache.
+     */
+    private AtomicLong decodedBytes = new AtomicLong(0);
+
+    /**
+     * The total time spent decoding values read from Redis, in nanoseconds.
+     */
+    private AtomicLong decodeTimeNanos = new AtomicLong(0);
+
+    /**
+     * The number of items evicted because the cache reached its maximum number of entries.
+     */
+    private AtomicInteger sizeEvictions = new AtomicInteger(0);
+
+    /**
+     * The number of items found in Redis the last time the memory usage of the cache was measured.
+     */
+    private AtomicLong entries = new AtomicLong(0);
+
+    /**
+     * The memory used in Redis by the items of the cache, in bytes, the last time it was measured.
+     */
+    private AtomicLong memoryBytes = new AtomicLong(0);
 }
@@ -0,0 +1,149 @@
+package com.appsmith.testcaching.benchmark;
+
+import com.appsmith.caching.codec.SmileCacheCodec;
+import com.appsmith.testcaching.model.FlagsModel;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the size and the encode and decode times of cache values with the serializers used by the server
+ * (JDK serialization, which is what non session values fall back to, and Jackson JSON) and with SmileCacheCodec,
+ * with and without LZ4 compression. Values have the shape of the permission groups and feature flags cached by the
+ * server. Encoded sizes are logged when the benchmark starts.
+ *
+ * This is not run as part of the test suite. To run it, execute the main method of this class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Slf4j
+public class CacheCodecBenchmark {
+
+    @Param({"jdk", "json", "smile", "smileLz4"})
+    public String codec;
+
+    @Param({"permissionGroups", "flags", "flagsList"})
+    public String valueType;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] encoded;
+
+    private static RedisSerializer<Object> getSerializer(String codec) {
+        return switch (codec) {
+            case "jdk" -> new JdkSerializationRedisSerializer();
+            case "json" -> {
+                // Same typing as the default GenericJackson2JsonRedisSerializer, with support for java.time types
+                ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+                objectMapper.activateDefaultTyping(
+                        objectMapper.getPolymorphicTypeValidator(),
+                        ObjectMapper.DefaultTyping.EVERYTHING,
+                        JsonTypeInfo.As.PROPERTY);
+                yield new GenericJackson2JsonRedisSerializer(objectMapper);
+            }
+            case "smile" -> asSerializer(new SmileCacheCodec(-1, List.of("com.appsmith.")));
+            case "smileLz4" -> asSerializer(new SmileCacheCodec(1024, List.of("com.appsmith.")));
+            default -> throw new IllegalArgumentException(codec);
+        };
+    }
+
+    private static RedisSerializer<Object> asSerializer(SmileCacheCodec smileCacheCodec) {
+        return new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(Object value) {
+                return smileCacheCodec.encode(value);
+            }
+
+            @Override
+            public Object deserialize(byte[] bytes) {
+                return smileCacheCodec.decode(bytes);
+            }
+        };
+    }
+
+    private static FlagsModel flags() {
+        Map<String, Boolean> flags = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            flags.put("release_feature_" + i + "_enabled", i % 3 == 0);
+        }
+        return new FlagsModel(flags, Instant.now());
+    }
+
+    private static Object getValue(String valueType) {
+        return switch (valueType) {
+            case "permissionGroups" -> {
+                Set<String> permissionGroups = new HashSet<>();
+                for (int i = 0; i < 200; i++) {
+                    permissionGroups.add(String.format("64a7f%019x", i * 7919L));
+                }
+                yield permissionGroups;
+            }
+            case "flags" -> flags();
+            case "flagsList" -> {
+                List<FlagsModel> flagsList = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    flagsList.add(flags());
+                }
+                yield flagsList;
+            }
+            default -> throw new IllegalArgumentException(valueType);
+        };
+    }
+
+    @Setup
+    public void setup() {
+        serializer = getSerializer(codec);
+        value = getValue(valueType);
+        encoded = serializer.serialize(value);
+        log.info("Encoded size of {} with {}: {} bytes", valueType, codec, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CacheCodecBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
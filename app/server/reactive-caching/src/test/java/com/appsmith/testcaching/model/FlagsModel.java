@@ -0,0 +1,20 @@
+package com.appsmith.testcaching.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Same shape as the feature flags cached by the server, used to compare cache codecs.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlagsModel implements Serializable {
+    private Map<String, Boolean> flags;
+    private Instant refreshedAt;
+}
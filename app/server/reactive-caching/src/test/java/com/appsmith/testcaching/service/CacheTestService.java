@@ -2,6 +2,7 @@ package com.appsmith.testcaching.service;
 
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
+import com.appsmith.caching.codec.SmileCacheCodec;
 import com.appsmith.testcaching.model.ArgumentModel;
 import com.appsmith.testcaching.model.TestModel;
 import org.springframework.stereotype.Service;
@@ -31,6 +32,68 @@ public class CacheTestService {
         return Mono.just(model).delayElement(Duration.ofSeconds(2));
     }
 
+    /**
+     * This method is used to test that updating an item does not join a load of the same item by another method.
+     * @param id The id
+     * @param model The updated object
+     * @return The Mono<TestModel> object, the updated one
+     */
+    @Cache(cacheName = "objectcache", key = "#id")
+    public Mono<TestModel> updateObjectFor(String id, TestModel model) {
+        return Mono.just(model).delayElement(Duration.ofMillis(100));
+    }
+
+    /**
+     * This method is used to test that early refreshes run with the context of the caller.
+     * @param id The id
+     * @return The Mono<TestModel> object, with the user of the context as its string value
+     */
+    @Cache(cacheName = "contextcache", earlyRefresh = true)
+    public Mono<TestModel> getObjectWithContextFor(String id) {
+        return Mono.deferContextual(contextView -> {
+            TestModel model = factory.manufacturePojo(TestModel.class);
+            model.setId(id);
+            model.setStringValue(contextView.getOrDefault("user", "anonymous"));
+            return Mono.just(model).delayElement(Duration.ofMillis(100));
+        });
+    }
+
+    /**
+     * This method is used to test the early refresh of cached items.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "refreshcache", earlyRefresh = true)
+    public Mono<TestModel> getObjectWithEarlyRefreshFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofMillis(100));
+    }
+
+    /**
+     * This method is used to test the caching functionality with a codec.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "codeccache", codec = SmileCacheCodec.class)
+    public Mono<TestModel> getObjectWithCodecFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofMillis(100));
+    }
+
+    /**
+     * This method is used to test the expiry, size limit and refresh ahead of cached items.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "boundedcache", ttl = "10m", maxEntries = 2, refreshAhead = "1m")
+    public Mono<TestModel> getObjectWithPolicyFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofMillis(100));
+    }
+
     /**
      * This method is used to test the eviction functionality for Mono<T>.
      * @param id The id
@@ -0,0 +1,292 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.aspects.CacheAspect;
+import com.appsmith.caching.codec.SmileCacheCodec;
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.model.CachePolicy;
+import com.appsmith.caching.model.CacheStats;
+import com.appsmith.testcaching.model.TestModel;
+import com.appsmith.testcaching.service.CacheTestService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the loading of cache misses by CacheAspect, with the CacheManager mocked.
+ */
+public class TestCacheAspect {
+
+    private CacheManager cacheManager;
+    private Map<String, CacheStats> statsMap;
+    private CacheTestService cacheTestService;
+    private final SmileCacheCodec codec = new SmileCacheCodec(1024, List.of("com.appsmith."));
+
+    @BeforeEach
+    public void setup() {
+        cacheManager = mock(CacheManager.class);
+        statsMap = new ConcurrentHashMap<>();
+        when(cacheManager.getStats(anyString()))
+                .thenAnswer(invocation ->
+                        statsMap.computeIfAbsent(invocation.getArgument(0), name -> CacheStats.newInstance()));
+        when(cacheManager.get(anyString(), anyString())).thenReturn(Mono.empty());
+        when(cacheManager.getTimeToLive(anyString(), anyString())).thenReturn(Mono.empty());
+        when(cacheManager.put(anyString(), anyString(), any())).thenReturn(Mono.just(true));
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new CacheTestService());
+        proxyFactory.addAspect(new CacheAspect(cacheManager, List.of(codec)));
+        cacheTestService = proxyFactory.getProxy();
+    }
+
+    /**
+     * This Test is used to test that concurrent misses of the same Mono<T> item call the original method once
+     */
+    @Test
+    public void testConcurrentMisses_mono_loadedOnce() {
+        List<TestModel> models = Flux.range(0, 10)
+                .flatMap(i -> cacheTestService.getObjectFor("test1"))
+                .collectList()
+                .block();
+
+        assertEquals(10, models.size());
+        models.forEach(model -> assertEquals(models.get(0), model));
+        verify(cacheManager, times(1)).put(eq("objectcache"), eq("test1"), any());
+        assertEquals(1, statsMap.get("objectcache").getLoads().get());
+        assertEquals(9, statsMap.get("objectcache").getCoalescedLoads().get());
+
+        // Once the load is done, the next miss loads the item again
+        TestModel model = cacheTestService.getObjectFor("test1").block();
+        assertEquals(2, statsMap.get("objectcache").getLoads().get());
+        assertEquals("test1", model.getId());
+    }
+
+    /**
+     * This Test is used to test that concurrent misses of the same Flux<T> item call the original method once
+     */
+    @Test
+    public void testConcurrentMisses_flux_loadedOnce() {
+        List<List<TestModel>> lists = Flux.range(0, 10)
+                .flatMap(i -> cacheTestService.getListFor("test1").collectList())
+                .collectList()
+                .block();
+
+        lists.forEach(list -> assertEquals(lists.get(0), list));
+        verify(cacheManager, times(1)).put(eq("listcache"), eq("test1"), any());
+        assertEquals(1, statsMap.get("listcache").getLoads().get());
+        assertEquals(9, statsMap.get("listcache").getCoalescedLoads().get());
+    }
+
+    /**
+     * This Test is used to test that the codec selected by the annotation is used to get and put items
+     */
+    @Test
+    public void testCodec_usedForGetAndPut() {
+        when(cacheManager.get(anyString(), anyString(), any())).thenReturn(Mono.empty());
+        when(cacheManager.put(anyString(), anyString(), any(), any())).thenReturn(Mono.just(true));
+
+        TestModel model = cacheTestService.getObjectWithCodecFor("test1").block();
+
+        verify(cacheManager, times(1))
+                .get(eq("codeccache"), eq("test1"), argThat(policy -> policy.getCodec() == codec));
+        verify(cacheManager, times(1))
+                .put(eq("codeccache"), eq("test1"), eq(model), argThat(policy -> policy.getCodec() == codec));
+        verify(cacheManager, never()).put(eq("codeccache"), anyString(), any());
+    }
+
+    /**
+     * This Test is used to test that misses of different items are not coalesced
+     */
+    @Test
+    public void testConcurrentMisses_differentKeys_loadedSeparately() {
+        Flux.range(0, 4).flatMap(i -> cacheTestService.getObjectFor("test" + i)).blockLast();
+
+        assertEquals(4, statsMap.get("objectcache").getLoads().get());
+        assertEquals(0, statsMap.get("objectcache").getCoalescedLoads().get());
+    }
+
+    /**
+     * This Test is used to test that an update of an item that is being fetched runs its own load, instead of getting
+     * the result of the fetch
+     */
+    @Test
+    public void testConcurrentFetchAndUpdate_sameKey_loadedSeparately() {
+        TestModel update = new TestModel();
+        update.setId("updated");
+
+        Tuple2<TestModel, TestModel> results = Mono.zip(
+                        cacheTestService.getObjectFor("test1"),
+                        cacheTestService.updateObjectFor("test1", update).delaySubscription(Duration.ofMillis(200)))
+                .block();
+
+        assertEquals("test1", results.getT1().getId());
+        assertEquals(update, results.getT2());
+        verify(cacheManager, times(1)).put("objectcache", "test1", update);
+        assertEquals(2, statsMap.get("objectcache").getLoads().get());
+        assertEquals(0, statsMap.get("objectcache").getCoalescedLoads().get());
+    }
+
+    /**
+     * This Test is used to test that an early refresh in the background runs with the context of the caller
+     */
+    @Test
+    public void testEarlyRefresh_runsWithContextOfCaller() throws InterruptedException {
+        AtomicReference<TestModel> refreshedModel = new AtomicReference<>();
+        CountDownLatch refreshed = new CountDownLatch(1);
+        cacheTestService.getObjectWithContextFor("test1").block();
+        when(cacheManager.put(eq("contextcache"), eq("test1"), any())).thenAnswer(invocation -> {
+            refreshedModel.set(invocation.getArgument(2));
+            refreshed.countDown();
+            return Mono.just(true);
+        });
+
+        TestModel cached = new TestModel();
+        cached.setId("cached");
+        when(cacheManager.get("contextcache", "test1")).thenReturn(Mono.just(cached));
+        when(cacheManager.getTimeToLive("contextcache", "test1")).thenReturn(Mono.just(Duration.ofNanos(1)));
+
+        assertEquals(
+                cached,
+                cacheTestService
+                        .getObjectWithContextFor("test1")
+                        .contextWrite(Context.of("user", "user1"))
+                        .block());
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        assertEquals("user1", refreshedModel.get().getStringValue());
+    }
+
+    /**
+     * This Test is used to test that an item about to expire is refreshed in the background while the cached value is
+     * returned
+     */
+    @Test
+    public void testEarlyRefresh_itemAboutToExpire_refreshedInBackground() throws InterruptedException {
+        TestModel loaded =
+                cacheTestService.getObjectWithEarlyRefreshFor("test1").block();
+
+        CountDownLatch refreshed = new CountDownLatch(1);
+        when(cacheManager.put(eq("refreshcache"), eq("test1"), any())).thenAnswer(invocation -> {
+            refreshed.countDown();
+            return Mono.just(true);
+        });
+
+        TestModel cached = new TestModel();
+        cached.setId("cached");
+        when(cacheManager.get("refreshcache", "test1")).thenReturn(Mono.just(cached));
+        when(cacheManager.getTimeToLive("refreshcache", "test1")).thenReturn(Mono.just(Duration.ofNanos(1)));
+
+        assertEquals(
+                cached, cacheTestService.getObjectWithEarlyRefreshFor("test1").block());
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, statsMap.get("refreshcache").getEarlyRefreshes().get());
+        assertEquals("test1", loaded.getId());
+    }
+
+    /**
+     * This Test is used to test that an item far from its expiry is not refreshed
+     */
+    @Test
+    public void testEarlyRefresh_itemFarFromExpiry_notRefreshed() {
+        cacheTestService.getObjectWithEarlyRefreshFor("test1").block();
+
+        when(cacheManager.get("refreshcache", "test1")).thenReturn(Mono.just(new TestModel()));
+        when(cacheManager.getTimeToLive("refreshcache", "test1")).thenReturn(Mono.just(Duration.ofDays(1)));
+
+        for (int i = 0; i < 100; i++) {
+            cacheTestService.getObjectWithEarlyRefreshFor("test1").block();
+        }
+        assertEquals(0, statsMap.get("refreshcache").getEarlyRefreshes().get());
+        verify(cacheManager, times(1)).put(eq("refreshcache"), eq("test1"), any());
+        // The time to live is looked up on the first hit only
+        verify(cacheManager, times(1)).getTimeToLive("refreshcache", "test1");
+    }
+
+    /**
+     * This Test is used to test that the ttl and maxEntries of the annotation are passed to the CacheManager
+     */
+    @Test
+    public void testPolicy_passedToCacheManager() {
+        when(cacheManager.get(anyString(), anyString(), any())).thenReturn(Mono.empty());
+        when(cacheManager.put(anyString(), anyString(), any(), any())).thenReturn(Mono.just(true));
+
+        cacheTestService.getObjectWithPolicyFor("test1").block();
+
+        CachePolicy expected = CachePolicy.builder()
+                .ttl(Duration.ofMinutes(10))
+                .maxEntries(2)
+                .refreshAhead(Duration.ofMinutes(1))
+                .build();
+        verify(cacheManager, times(1)).get("boundedcache", "test1", expected);
+        verify(cacheManager, times(1)).put(eq("boundedcache"), eq("test1"), any(), eq(expected));
+    }
+
+    /**
+     * This Test is used to test that an item is refreshed in the background once its remaining time to live is below
+     * the refreshAhead duration, and not before
+     */
+    @Test
+    public void testRefreshAhead_refreshedOnlyBelowThreshold() throws InterruptedException {
+        CountDownLatch refreshed = new CountDownLatch(1);
+        when(cacheManager.get(eq("boundedcache"), anyString(), any())).thenReturn(Mono.just(new TestModel()));
+        when(cacheManager.put(eq("boundedcache"), eq("test2"), any(), any())).thenAnswer(invocation -> {
+            refreshed.countDown();
+            return Mono.just(true);
+        });
+
+        when(cacheManager.getTimeToLive("boundedcache", "test1")).thenReturn(Mono.just(Duration.ofMinutes(5)));
+        for (int i = 0; i < 10; i++) {
+            cacheTestService.getObjectWithPolicyFor("test1").block();
+        }
+        assertEquals(
+                0, cacheManager.getStats("boundedcache").getEarlyRefreshes().get());
+        verify(cacheManager, times(1)).getTimeToLive("boundedcache", "test1");
+
+        when(cacheManager.getTimeToLive("boundedcache", "test2")).thenReturn(Mono.just(Duration.ofSeconds(30)));
+        cacheTestService.getObjectWithPolicyFor("test2").block();
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        assertEquals(
+                1, cacheManager.getStats("boundedcache").getEarlyRefreshes().get());
+    }
+
+    /**
+     * This Test is used to test that the expiry of an item cached by the aspect is known without asking the cache
+     */
+    @Test
+    public void testRefreshAhead_itemCachedByAspect_timeToLiveNotLookedUp() {
+        when(cacheManager.get(eq("boundedcache"), eq("test1"), any())).thenReturn(Mono.empty());
+        when(cacheManager.put(eq("boundedcache"), eq("test1"), any(), any())).thenReturn(Mono.just(true));
+        cacheTestService.getObjectWithPolicyFor("test1").block();
+
+        when(cacheManager.get(eq("boundedcache"), eq("test1"), any())).thenReturn(Mono.just(new TestModel()));
+        for (int i = 0; i < 10; i++) {
+            cacheTestService.getObjectWithPolicyFor("test1").block();
+        }
+
+        verify(cacheManager, never()).getTimeToLive(anyString(), anyString());
+        assertEquals(
+                0, cacheManager.getStats("boundedcache").getEarlyRefreshes().get());
+        verify(cacheManager, times(1)).put(eq("boundedcache"), eq("test1"), any(), any());
+    }
+}
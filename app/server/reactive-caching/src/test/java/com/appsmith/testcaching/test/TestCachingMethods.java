@@ -1,6 +1,8 @@
 package com.appsmith.testcaching.test;
 
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import com.appsmith.caching.model.CacheStats;
 import com.appsmith.testcaching.model.ArgumentModel;
 import com.appsmith.testcaching.model.TestModel;
 import com.appsmith.testcaching.service.CacheTestService;
@@ -10,12 +12,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -28,6 +40,9 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private RedisCacheManagerImpl redisCacheManager;
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -81,6 +96,74 @@ public class TestCachingMethods {
         assertNotEquals(model2, model2_2);
     }
 
+    /**
+     * This Test is used to test caching with a codec
+     */
+    @Test
+    public void testCacheWithCodec() {
+        TestModel model = cacheTestService.getObjectWithCodecFor("test1").block();
+        TestModel model2 = cacheTestService.getObjectWithCodecFor("test1").block();
+        assertEquals(model, model2);
+
+        CacheStats stats = cacheManager.getStats("codeccache");
+        assertTrue(stats.getEncodedBytes().get() > 0);
+        assertTrue(stats.getDecodes().get() > 0);
+    }
+
+    /**
+     * This Test is used to test that items expire and that the least recently used items are evicted beyond
+     * maxEntries
+     */
+    @Test
+    public void testCacheWithPolicy() {
+        TestModel model1 = cacheTestService.getObjectWithPolicyFor("test1").block();
+        TestModel model2 = cacheTestService.getObjectWithPolicyFor("test2").block();
+
+        Duration ttl = cacheManager.getTimeToLive("boundedcache", "test1").block();
+        assertTrue(ttl.compareTo(Duration.ofMinutes(9)) > 0 && ttl.compareTo(Duration.ofMinutes(10)) <= 0);
+
+        // Reading test1 makes test2 the least recently used item, which is evicted when test3 is added
+        assertEquals(model1, cacheTestService.getObjectWithPolicyFor("test1").block());
+        cacheTestService.getObjectWithPolicyFor("test3").block();
+        assertEquals(model1, cacheTestService.getObjectWithPolicyFor("test1").block());
+        assertNotEquals(model2, cacheTestService.getObjectWithPolicyFor("test2").block());
+        assertTrue(cacheManager.getStats("boundedcache").getSizeEvictions().get() >= 1);
+
+        assertTrue(cacheManager.measureMemoryUsage("boundedcache").block() > 0);
+        assertEquals(2, cacheManager.getStats("boundedcache").getEntries().get());
+    }
+
+    /**
+     * This Test is used to test that an item whose key looks like the LRU index of its cache is cached like any other
+     */
+    @Test
+    public void testCacheWithPolicy_keyLikeLruIndex() {
+        cacheManager.evictAll("boundedcache").block();
+
+        TestModel model = cacheTestService.getObjectWithPolicyFor(":lru").block();
+        assertEquals(model, cacheTestService.getObjectWithPolicyFor(":lru").block());
+        cacheManager.measureMemoryUsage("boundedcache").block();
+        assertEquals(1, cacheManager.getStats("boundedcache").getEntries().get());
+
+        cacheManager.evictAll("boundedcache").block();
+    }
+
+    /**
+     * This Test is used to test that reporting the stats measures the memory used by every cache
+     */
+    @Test
+    public void testReportStats_fillsMemoryUsage() {
+        cacheTestService.getObjectFor("test1").block();
+        CacheStats stats = cacheManager.getStats("objectcache");
+        stats.getEntries().set(0);
+        stats.getMemoryBytes().set(0);
+
+        redisCacheManager.reportStats().block();
+
+        assertTrue(stats.getEntries().get() >= 1);
+        assertTrue(stats.getMemoryBytes().get() > 0);
+    }
+
     /**
      * This Test is used to test SPEL expression in key field.
      */
@@ -116,6 +199,64 @@ public class TestCachingMethods {
         log.info("Time taken for cache operation " + (timeTaken / count) + " nanos");
     }
 
+    /**
+     * This Test is used to test that evicting a large cache does not block other clients of Redis, by measuring the
+     * latency of gets on another cache while the eviction runs
+     */
+    @Test
+    public void testEvictAll_largeCache_doesNotBlockOtherGets() {
+        int entryCount = 50000;
+        Flux.range(0, entryCount)
+                .flatMap(i -> cacheManager.put("largecache", "key" + i, "value" + i), 64)
+                .blockLast();
+        cacheManager.put("othercache", "key", "value").block();
+
+        List<Long> baselineLatencies = measureGetLatencies(200);
+
+        AtomicBoolean evicting = new AtomicBoolean(true);
+        Mono<Void> eviction = cacheManager
+                .evictAll("largecache")
+                .doFinally(signalType -> evicting.set(false))
+                .subscribeOn(Schedulers.boundedElastic());
+        eviction.subscribe();
+
+        List<Long> evictionLatencies = new ArrayList<>();
+        do {
+            evictionLatencies.addAll(measureGetLatencies(10));
+        } while (evicting.get());
+
+        long baselineMax = Collections.max(baselineLatencies);
+        long evictionP99 = percentile(evictionLatencies, 0.99);
+        log.info(
+                "Get latency with {} entries being evicted: baseline max = {} micros, p99 during eviction = {} micros",
+                entryCount,
+                baselineMax / 1000,
+                evictionP99 / 1000);
+
+        // Eviction happens in batches, so no get should wait for the whole keyspace to be walked
+        assertTrue(evictionP99 < Math.max(baselineMax * 10, TimeUnit.MILLISECONDS.toNanos(50)));
+        for (int i = 0; i < entryCount; i += 1000) {
+            assertNull(cacheManager.get("largecache", "key" + i).block());
+        }
+        assertEquals("value", cacheManager.get("othercache", "key").block());
+    }
+
+    private List<Long> measureGetLatencies(int count) {
+        List<Long> latencies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            cacheManager.get("othercache", "key").block();
+            latencies.add(System.nanoTime() - start);
+        }
+        return latencies;
+    }
+
+    private static long percentile(List<Long> values, double percentile) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.ceil(percentile * sorted.size()) - 1));
+    }
+
     /**
      * Log stats in the end
      */
@@ -0,0 +1,92 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.codec.SmileCacheCodec;
+import com.appsmith.testcaching.model.FlagsModel;
+import com.appsmith.testcaching.model.TestModel;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the encoding of cache values with SmileCacheCodec.
+ */
+public class TestSmileCacheCodec {
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private final SmileCacheCodec codec = new SmileCacheCodec(1024, List.of("com.appsmith."));
+    private final SmileCacheCodec uncompressedCodec = new SmileCacheCodec(-1, List.of("com.appsmith."));
+
+    private Set<String> permissionGroups(int count) {
+        Set<String> permissionGroups = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            permissionGroups.add(String.format("64a7f%019d", i));
+        }
+        return permissionGroups;
+    }
+
+    /**
+     * This Test is used to test that values are read back with their original types
+     */
+    @Test
+    public void testEncodeDecode_keepsTypes() {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        Map<String, Boolean> flags = new HashMap<>(Map.of("release_feature_enabled", true, "other_feature", false));
+        FlagsModel flagsModel = new FlagsModel(flags, Instant.now());
+        List<TestModel> models = new ArrayList<>(List.of(model, factory.manufacturePojo(TestModel.class)));
+
+        for (Object value : List.of(model, flagsModel, models, permissionGroups(10), "value", 42L)) {
+            Object decoded = codec.decode(codec.encode(value));
+            assertEquals(value, decoded);
+            assertEquals(value.getClass(), decoded.getClass());
+        }
+    }
+
+    /**
+     * This Test is used to test that values above the threshold are compressed, and values below are not
+     */
+    @Test
+    public void testEncode_compressesAboveThreshold() {
+        Set<String> small = permissionGroups(5);
+        Set<String> large = permissionGroups(500);
+
+        assertEquals(uncompressedCodec.encode(small).length, codec.encode(small).length);
+        assertTrue(codec.encode(large).length < uncompressedCodec.encode(large).length / 2);
+        assertEquals(large, codec.decode(codec.encode(large)));
+        assertEquals(large, codec.decode(uncompressedCodec.encode(large)));
+    }
+
+    /**
+     * This Test is used to test that classes outside of the registered packages are not read back
+     */
+    @Test
+    public void testDecode_unregisteredClass_fails() {
+        SmileCacheCodec otherPackageCodec = new SmileCacheCodec(1024, List.of("com.example."));
+        byte[] encoded = codec.encode(factory.manufacturePojo(TestModel.class));
+
+        assertThrows(SerializationException.class, () -> otherPackageCodec.decode(encoded));
+    }
+
+    /**
+     * This Test is used to test that bytes not written by the codec fail to decode
+     */
+    @Test
+    public void testDecode_foreignBytes_fails() {
+        assertThrows(SerializationException.class, () -> codec.decode(new byte[0]));
+        assertThrows(SerializationException.class, () -> codec.decode("[\"java.util.HashSet\",[]]".getBytes()));
+        assertThrows(SerializationException.class, () -> codec.decode(new byte[] {1, 0, 0, 0, 10, 1}));
+    }
+}
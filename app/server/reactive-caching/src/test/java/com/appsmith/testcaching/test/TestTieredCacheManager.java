@@ -0,0 +1,210 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import com.appsmith.caching.components.TieredCacheManagerImpl;
+import com.appsmith.caching.model.CachePolicy;
+import com.appsmith.caching.model.CacheStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the local tier of TieredCacheManagerImpl, with Redis and the invalidation channel mocked.
+ */
+public class TestTieredCacheManager {
+
+    private static final String LOCAL_CACHE = "localcache";
+    private static final String REMOTE_CACHE = "remotecache";
+
+    private RedisCacheManagerImpl redisCacheManager;
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private Sinks.Many<ReactiveSubscription.Message<String, String>> invalidations;
+    private CacheStats stats;
+    private TieredCacheManagerImpl cacheManager;
+
+    @BeforeEach
+    public void setup() {
+        redisCacheManager = mock(RedisCacheManagerImpl.class);
+        reactiveRedisOperations = mock(ReactiveRedisOperations.class);
+        invalidations = Sinks.many().multicast().directBestEffort();
+        stats = CacheStats.newInstance();
+
+        when(redisCacheManager.getStats(anyString())).thenReturn(stats);
+        when(redisCacheManager.get(anyString(), anyString())).thenReturn(Mono.just("value"));
+        when(redisCacheManager.put(anyString(), anyString(), eq("value"))).thenReturn(Mono.just(true));
+        when(redisCacheManager.evict(anyString(), anyString())).thenReturn(Mono.empty());
+        when(redisCacheManager.evictAll(anyString())).thenReturn(Mono.empty());
+        when(reactiveRedisOperations.listenToChannel(TieredCacheManagerImpl.INVALIDATION_CHANNEL))
+                .thenAnswer(invocation -> invalidations.asFlux());
+        when(reactiveRedisOperations.convertAndSend(eq(TieredCacheManagerImpl.INVALIDATION_CHANNEL), anyString()))
+                .thenReturn(Mono.just(1L));
+
+        cacheManager = new TieredCacheManagerImpl(
+                redisCacheManager, reactiveRedisOperations, Set.of(LOCAL_CACHE), 100, Duration.ofMinutes(1));
+        cacheManager.subscribeToInvalidations();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cacheManager.unsubscribeFromInvalidations();
+    }
+
+    private void publishFromOtherNode(String message) {
+        invalidations.tryEmitNext(
+                new ReactiveSubscription.ChannelMessage<>(TieredCacheManagerImpl.INVALIDATION_CHANNEL, message));
+    }
+
+    /**
+     * This Test is used to test that only the first get of a locally cached entry goes to Redis
+     */
+    @Test
+    public void testGet_localCache_readsRedisOnce() {
+        assertEquals("value", cacheManager.get(LOCAL_CACHE, "key").block());
+        assertEquals("value", cacheManager.get(LOCAL_CACHE, "key").block());
+        assertEquals("value", cacheManager.get(LOCAL_CACHE, "key").block());
+
+        verify(redisCacheManager, times(1)).get(LOCAL_CACHE, "key");
+        assertEquals(2, stats.getLocalHits().get());
+        assertEquals(1, stats.getLocalMisses().get());
+    }
+
+    /**
+     * This Test is used to test that caches without the local tier always go to Redis
+     */
+    @Test
+    public void testGet_remoteOnlyCache_alwaysReadsRedis() {
+        cacheManager.get(REMOTE_CACHE, "key").block();
+        cacheManager.get(REMOTE_CACHE, "key").block();
+
+        verify(redisCacheManager, times(2)).get(REMOTE_CACHE, "key");
+        assertEquals(0, stats.getLocalHits().get());
+    }
+
+    /**
+     * This Test is used to test that a put is served from the local tier afterwards
+     */
+    @Test
+    public void testPut_localCache_servedLocally() {
+        cacheManager.put(LOCAL_CACHE, "key", "value").block();
+        assertEquals("value", cacheManager.get(LOCAL_CACHE, "key").block());
+
+        verify(redisCacheManager, never()).get(LOCAL_CACHE, "key");
+    }
+
+    /**
+     * This Test is used to test that evictions drop the local entry and are published to the other nodes
+     */
+    @Test
+    public void testEvict_localCache_invalidatesAndPublishes() {
+        cacheManager.get(LOCAL_CACHE, "key").block();
+        cacheManager.evict(LOCAL_CACHE, "key").block();
+        cacheManager.get(LOCAL_CACHE, "key").block();
+
+        verify(redisCacheManager, times(2)).get(LOCAL_CACHE, "key");
+        verify(reactiveRedisOperations, times(1))
+                .convertAndSend(eq(TieredCacheManagerImpl.INVALIDATION_CHANNEL), anyString());
+
+        cacheManager.evict(REMOTE_CACHE, "key").block();
+        verify(reactiveRedisOperations, times(1))
+                .convertAndSend(eq(TieredCacheManagerImpl.INVALIDATION_CHANNEL), anyString());
+    }
+
+    /**
+     * This Test is used to test that evictions published by other nodes drop the local entries
+     */
+    @Test
+    public void testInvalidationFromOtherNode_dropsLocalEntries() {
+        for (String key : List.of("key1", "key2", "key3")) {
+            cacheManager.get(LOCAL_CACHE, key).block();
+        }
+
+        publishFromOtherNode("other-node\n" + LOCAL_CACHE + "\nkey1");
+        cacheManager.get(LOCAL_CACHE, "key1").block();
+        cacheManager.get(LOCAL_CACHE, "key2").block();
+        verify(redisCacheManager, times(2)).get(LOCAL_CACHE, "key1");
+        verify(redisCacheManager, times(1)).get(LOCAL_CACHE, "key2");
+
+        publishFromOtherNode("other-node\n" + LOCAL_CACHE);
+        cacheManager.get(LOCAL_CACHE, "key2").block();
+        cacheManager.get(LOCAL_CACHE, "key3").block();
+        verify(redisCacheManager, times(2)).get(LOCAL_CACHE, "key2");
+        verify(redisCacheManager, times(2)).get(LOCAL_CACHE, "key3");
+
+        assertEquals(2, stats.getRemoteInvalidations().get());
+    }
+
+    /**
+     * This Test is used to test that large values are weighed by their size, so the local tier stays bounded
+     */
+    @Test
+    public void testPut_largeValues_boundedByWeight() {
+        List<Integer> largeValue = Collections.nCopies(60, 1);
+        when(redisCacheManager.put(anyString(), anyString(), eq(largeValue))).thenReturn(Mono.just(true));
+        when(redisCacheManager.get(LOCAL_CACHE, "large1")).thenReturn(Mono.just(largeValue));
+        when(redisCacheManager.get(LOCAL_CACHE, "large2")).thenReturn(Mono.just(largeValue));
+
+        cacheManager.put(LOCAL_CACHE, "large1", largeValue).block();
+        cacheManager.put(LOCAL_CACHE, "large2", largeValue).block();
+        cacheManager.get(LOCAL_CACHE, "large1").block();
+        cacheManager.get(LOCAL_CACHE, "large2").block();
+
+        // Both values do not fit in a max weight of 100, so at least one of them was read back from Redis
+        assertTrue(stats.getLocalMisses().get() >= 1);
+    }
+
+    /**
+     * This Test is used to test that large strings are weighed by their length, so the local tier stays bounded
+     */
+    @Test
+    public void testPut_largeStrings_boundedByWeight() {
+        String largeValue = "a".repeat(60 * 1024);
+        when(redisCacheManager.put(anyString(), anyString(), eq(largeValue))).thenReturn(Mono.just(true));
+        when(redisCacheManager.get(LOCAL_CACHE, "large1")).thenReturn(Mono.just(largeValue));
+        when(redisCacheManager.get(LOCAL_CACHE, "large2")).thenReturn(Mono.just(largeValue));
+
+        cacheManager.put(LOCAL_CACHE, "large1", largeValue).block();
+        cacheManager.put(LOCAL_CACHE, "large2", largeValue).block();
+        cacheManager.get(LOCAL_CACHE, "large1").block();
+        cacheManager.get(LOCAL_CACHE, "large2").block();
+
+        assertTrue(stats.getLocalMisses().get() >= 1);
+    }
+
+    /**
+     * This Test is used to test that local entries do not outlive the ttl of the cache when it is shorter than the
+     * ttl of the local tier
+     */
+    @Test
+    public void testPut_shortTtl_localEntryExpiresWithRedisEntry() throws InterruptedException {
+        CachePolicy policy = CachePolicy.builder().ttl(Duration.ofMillis(50)).build();
+        when(redisCacheManager.put(LOCAL_CACHE, "key", "value", policy)).thenReturn(Mono.just(true));
+        when(redisCacheManager.get(LOCAL_CACHE, "key", policy)).thenReturn(Mono.empty());
+
+        cacheManager.put(LOCAL_CACHE, "key", "value", policy).block();
+        assertEquals("value", cacheManager.get(LOCAL_CACHE, "key", policy).block());
+
+        Thread.sleep(100);
+        assertNull(cacheManager.get(LOCAL_CACHE, "key", policy).block());
+        verify(redisCacheManager, times(1)).get(LOCAL_CACHE, "key", policy);
+    }
+}